@@ -0,0 +1,52 @@
+package com.exchangerate.benchmarks;
+
+import java.io.File;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada del jar de benchmarks. Acepta los mismos argumentos que JMH y agrega
+ * por defecto el perfilador {@code gc} (tasa de asignación por operación y pausas de GC) y
+ * los resultados en JSON en {@value #DEFAULT_RESULT_FILE}, para comparar ejecuciones
+ * entre versiones. Los {@code -prof}, {@code -rf} y {@code -rff} indicados se respetan.
+ */
+public final class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        if (cmdOptions.shouldHelp() || cmdOptions.shouldList() || cmdOptions.shouldListWithParams()
+                || cmdOptions.shouldListProfilers() || cmdOptions.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(cmdOptions);
+
+        boolean gcRequested = cmdOptions.getProfilers().stream()
+            .anyMatch(profiler -> profiler.getKlass().equals("gc") || profiler.getKlass().equals(GCProfiler.class.getName()));
+        if (!gcRequested) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!cmdOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+            if (!cmdOptions.getResult().hasValue()) {
+                File result = new File(DEFAULT_RESULT_FILE);
+                result.getAbsoluteFile().getParentFile().mkdirs();
+                options.result(result.getPath());
+            }
+        }
+
+        new Runner(options.build()).run();
+    }
+}
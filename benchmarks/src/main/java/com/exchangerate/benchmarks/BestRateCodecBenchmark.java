@@ -0,0 +1,84 @@
+package com.exchangerate.benchmarks;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.models.response.ApiResponseWrapper;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.serialization.BestRateJsonWriter;
+import com.exchangerate.serialization.BestRateRequestParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Costo de interpretar la solicitud y escribir la respuesta de {@code best-rate}:
+ * la ruta rápida de Vert.x ({@link BestRateRequestParser} y {@link BestRateJsonWriter})
+ * frente a Jackson, como lo hace el recurso JAX-RS.
+ * Las solicitudes por núcleo de ambas rutas completas, con red y servidor incluidos,
+ * se miden con {@code benchmarks/wrk/compare-routes.sh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BestRateCodecBenchmark {
+
+    private static final String REQUEST_JSON =
+        "{\"sourceCurrency\":\"USD\",\"targetCurrency\":\"DOP\",\"amount\":100.00}";
+
+    private byte[] requestBytes;
+    private Buffer requestBuffer;
+    private ApiResponseWrapper<ExchangeRateResponse> response;
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() {
+        requestBytes = REQUEST_JSON.getBytes(StandardCharsets.UTF_8);
+        requestBuffer = Buffer.buffer(requestBytes);
+        response = ApiResponseWrapper.success(new ExchangeRateResponse(
+            new BigDecimal("58.9123"),
+            new BigDecimal("5891.23"),
+            "ADVANCED_FINTECH_PROVIDER",
+            187L,
+            3,
+            3));
+        mapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public ExchangeRateRequest parseFastRoute() {
+        return BestRateRequestParser.parse(requestBuffer);
+    }
+
+    @Benchmark
+    public ExchangeRateRequest parseJackson() throws IOException {
+        return mapper.readValue(requestBytes, ExchangeRateRequest.class);
+    }
+
+    @Benchmark
+    public Buffer writeFastRoute() {
+        return BestRateJsonWriter.write(response);
+    }
+
+    @Benchmark
+    public byte[] writeJackson() throws IOException {
+        return mapper.writeValueAsBytes(response);
+    }
+}
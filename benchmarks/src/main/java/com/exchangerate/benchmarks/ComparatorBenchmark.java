@@ -0,0 +1,86 @@
+package com.exchangerate.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.exchangerate.models.money.FixedDecimal;
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.services.implementations.ExchangeRateComparator;
+
+/**
+ * Compara la selección de la mejor respuesta en una sola pasada indexada
+ * con el enfoque anterior de dos pasadas con streams (filtrar a lista y luego max).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ComparatorBenchmark {
+
+    // Referencia fuerte: evita que JUL descarte el nivel configurado
+    private static final java.util.logging.Logger SERVICE_LOGGER = java.util.logging.Logger.getLogger("com.exchangerate");
+
+    @Param({"3", "30"})
+    public int providers;
+
+    private ExchangeRateComparator comparator;
+    private ExchangeRateRequest request;
+    private List<ApiResponse> responses;
+
+    @Setup
+    public void setUp() {
+        // El comparador registra a nivel INFO; se silencia para medir solo la selección
+        SERVICE_LOGGER.setLevel(Level.WARNING);
+
+        comparator = new ExchangeRateComparator();
+        request = new ExchangeRateRequest("USD", "DOP", new BigDecimal("100.00"));
+
+        Random random = new Random(3L);
+        responses = new ArrayList<>(providers);
+        for (int i = 0; i < providers; i++) {
+            if (i % 7 == 6) {
+                responses.add(ApiResponse.failure("API" + i, "Service unavailable", 100L));
+            } else {
+                long converted = 580_000L + random.nextInt(20_000);
+                responses.add(ApiResponse.success("API" + i,
+                    FixedDecimal.of(converted * 100L, 6), FixedDecimal.of(converted, 2), 100L + i));
+            }
+        }
+    }
+
+    @Benchmark
+    public ExchangeRateResponse singlePass() {
+        return comparator.selectBestRate(request, responses, 200L);
+    }
+
+    @Benchmark
+    public ApiResponse twoPassStreams() {
+        List<ApiResponse> successful = responses.stream()
+            .filter(ApiResponse::successful)
+            .toList();
+        return successful.stream()
+            .max(Comparator.comparing(ApiResponse::convertedAmount))
+            .orElse(null);
+    }
+}
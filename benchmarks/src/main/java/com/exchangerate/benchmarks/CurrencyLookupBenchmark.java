@@ -0,0 +1,110 @@
+package com.exchangerate.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.exchangerate.models.enums.SupportedCurrency;
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.utils.SparsePairMap;
+
+/**
+ * Costo de resolver códigos y pares, y de leer estado por par, según la
+ * cantidad de pares con estado. Con la tabla densa de códigos y el mapa
+ * disperso el costo debe mantenerse plano al crecer {@code populatedPairs};
+ * el {@link HashMap} con claves String se incluye como referencia.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CurrencyLookupBenchmark {
+
+    private static final int PROBES = 1024;
+
+    @Param({"16", "1024", "16384"})
+    public int populatedPairs;
+
+    private String[] sourceCodes;
+    private String[] targetCodes;
+    private int[] pairIndexes;
+    private SparsePairMap<Long> sparseState;
+    private Map<String, Long> stringKeyedState;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SupportedCurrency[] currencies = SupportedCurrency.values();
+        Random random = new Random(7L);
+
+        sparseState = new SparsePairMap<>();
+        stringKeyedState = new HashMap<>();
+        while (sparseState.size() < Math.min(populatedPairs, CurrencyPair.INDEX_SPACE - currencies.length)) {
+            CurrencyPair pair = CurrencyPair.of(
+                currencies[random.nextInt(currencies.length)],
+                currencies[random.nextInt(currencies.length)]);
+            if (pair != null) {
+                sparseState.put(pair, (long) pair.index());
+                stringKeyedState.put(pair.source().name() + "_" + pair.target().name(), (long) pair.index());
+            }
+        }
+
+        // Sondas sobre pares con estado; los códigos llegan en minúsculas como en solicitudes reales
+        sourceCodes = new String[PROBES];
+        targetCodes = new String[PROBES];
+        pairIndexes = new int[PROBES];
+        int[] populated = new int[sparseState.size()];
+        int[] next = {0};
+        sparseState.forEach((pair, value) -> populated[next[0]++] = pair.index());
+        for (int i = 0; i < PROBES; i++) {
+            CurrencyPair pair = CurrencyPair.fromIndex(populated[random.nextInt(populated.length)]);
+            sourceCodes[i] = pair.source().name().toLowerCase();
+            targetCodes[i] = pair.target().name().toLowerCase();
+            pairIndexes[i] = pair.index();
+        }
+    }
+
+    @Benchmark
+    public CurrencyPair pairLookup() {
+        int i = next();
+        return CurrencyPair.lookup(sourceCodes[i], targetCodes[i]);
+    }
+
+    @Benchmark
+    public Long sparseStateLookup() {
+        int i = next();
+        CurrencyPair pair = CurrencyPair.lookup(sourceCodes[i], targetCodes[i]);
+        return sparseState.get(pair);
+    }
+
+    @Benchmark
+    public Long stringKeyedStateLookup() {
+        int i = next();
+        return stringKeyedState.get(sourceCodes[i].toUpperCase() + "_" + targetCodes[i].toUpperCase());
+    }
+
+    @Benchmark
+    public Long sparseStateByIndex() {
+        return sparseState.get(pairIndexes[next()]);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (PROBES - 1);
+        return cursor;
+    }
+}
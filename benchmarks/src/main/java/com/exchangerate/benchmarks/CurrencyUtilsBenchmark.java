@@ -0,0 +1,83 @@
+package com.exchangerate.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.exchangerate.models.enums.SupportedCurrency;
+import com.exchangerate.models.money.FixedDecimal;
+import com.exchangerate.utils.CurrencyUtils;
+
+/**
+ * Costo de las utilidades que los proveedores y el comparador llaman en cada respuesta:
+ * {@link CurrencyUtils#calculateConvertedAmount} y {@link CurrencyUtils#calculateRate} en sus
+ * sobrecargas de {@link BigDecimal} y {@link FixedDecimal}, y {@link SupportedCurrency#isSupported}
+ * con códigos soportados, en minúsculas y no soportados.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CurrencyUtilsBenchmark {
+
+    private static final String[] CODES = {"USD", "dop", "EUR", "XYZ", "mxn", "US", "GBP", "ABC"};
+
+    private BigDecimal amount;
+    private BigDecimal rate;
+    private BigDecimal converted;
+
+    private FixedDecimal fixedAmount;
+    private FixedDecimal fixedRate;
+    private FixedDecimal fixedConverted;
+
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        amount = new BigDecimal("100.00");
+        rate = new BigDecimal("58.123456");
+        converted = new BigDecimal("5812.35");
+
+        fixedAmount = FixedDecimal.of(amount);
+        fixedRate = FixedDecimal.of(rate);
+        fixedConverted = FixedDecimal.of(converted);
+    }
+
+    @Benchmark
+    public BigDecimal convertedAmountBigDecimal() {
+        return CurrencyUtils.calculateConvertedAmount(amount, rate);
+    }
+
+    @Benchmark
+    public FixedDecimal convertedAmountFixed() {
+        return CurrencyUtils.calculateConvertedAmount(fixedAmount, fixedRate);
+    }
+
+    @Benchmark
+    public BigDecimal rateBigDecimal() {
+        return CurrencyUtils.calculateRate(amount, converted);
+    }
+
+    @Benchmark
+    public FixedDecimal rateFixed() {
+        return CurrencyUtils.calculateRate(fixedAmount, fixedConverted);
+    }
+
+    @Benchmark
+    public boolean isSupported() {
+        cursor = (cursor + 1) & (CODES.length - 1);
+        return SupportedCurrency.isSupported(CODES[cursor]);
+    }
+}
@@ -0,0 +1,84 @@
+package com.exchangerate.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.exchangerate.models.money.FixedDecimal;
+
+/**
+ * Compara el cálculo de conversión, tasa y comparación entre {@link BigDecimal}
+ * y el punto fijo {@link FixedDecimal} usado en el camino caliente del servicio.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FixedDecimalBenchmark {
+
+    private BigDecimal amount;
+    private BigDecimal rate;
+    private BigDecimal converted;
+    private BigDecimal otherConverted;
+
+    private FixedDecimal fixedAmount;
+    private FixedDecimal fixedRate;
+    private FixedDecimal fixedConverted;
+    private FixedDecimal fixedOtherConverted;
+
+    @Setup
+    public void setUp() {
+        amount = new BigDecimal("100.00");
+        rate = new BigDecimal("58.123456");
+        converted = new BigDecimal("5812.35");
+        otherConverted = new BigDecimal("5812.3");
+
+        fixedAmount = FixedDecimal.of(amount);
+        fixedRate = FixedDecimal.of(rate);
+        fixedConverted = FixedDecimal.of(converted);
+        fixedOtherConverted = FixedDecimal.of(otherConverted);
+    }
+
+    @Benchmark
+    public BigDecimal convertedAmountBigDecimal() {
+        return amount.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public FixedDecimal convertedAmountFixed() {
+        return fixedAmount.multiply(fixedRate, 2);
+    }
+
+    @Benchmark
+    public BigDecimal rateBigDecimal() {
+        return converted.divide(amount, 4, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public FixedDecimal rateFixed() {
+        return fixedConverted.divide(fixedAmount, 4);
+    }
+
+    @Benchmark
+    public int compareBigDecimal() {
+        return converted.compareTo(otherConverted);
+    }
+
+    @Benchmark
+    public int compareFixed() {
+        return fixedConverted.compareTo(fixedOtherConverted);
+    }
+}
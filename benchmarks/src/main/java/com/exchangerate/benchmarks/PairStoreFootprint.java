@@ -0,0 +1,57 @@
+package com.exchangerate.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.openjdk.jol.info.GraphLayout;
+
+import com.exchangerate.models.enums.SupportedCurrency;
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.utils.PairCounterTable;
+import com.exchangerate.utils.SparsePairMap;
+
+/**
+ * Reporta la huella de memoria (JOL) del estado por par al crecer la cantidad
+ * de pares usados, comparando las estructuras indexadas con un
+ * {@code HashMap<String, Long>}. Las estructuras indexadas guardan índices,
+ * no referencias a {@link CurrencyPair}, por lo que los pares internados no se cuentan.
+ *
+ * Uso: {@code java -cp target/benchmarks.jar com.exchangerate.benchmarks.PairStoreFootprint}
+ */
+public final class PairStoreFootprint {
+
+    private static final int[] POPULATED_PAIRS = {16, 256, 1024, 4096, 16384};
+
+    private PairStoreFootprint() {
+    }
+
+    public static void main(String[] args) {
+        SupportedCurrency[] currencies = SupportedCurrency.values();
+        System.out.printf("Monedas: %d, espacio de pares: %d%n", currencies.length, CurrencyPair.INDEX_SPACE);
+        System.out.printf("%10s %18s %18s %18s%n", "pares", "PairCounterTable", "SparsePairMap", "HashMap<String>");
+
+        for (int populated : POPULATED_PAIRS) {
+            Random random = new Random(11L);
+            PairCounterTable counters = new PairCounterTable();
+            SparsePairMap<Long> sparse = new SparsePairMap<>();
+            Map<String, Long> stringKeyed = new HashMap<>();
+
+            while (sparse.size() < populated) {
+                CurrencyPair pair = CurrencyPair.of(
+                    currencies[random.nextInt(currencies.length)],
+                    currencies[random.nextInt(currencies.length)]);
+                if (pair != null) {
+                    counters.increment(pair);
+                    sparse.put(pair, 1L);
+                    stringKeyed.put(pair.source().name() + "_" + pair.target().name(), 1L);
+                }
+            }
+
+            System.out.printf("%10d %18d %18d %18d%n", populated,
+                GraphLayout.parseInstance(counters).totalSize(),
+                GraphLayout.parseInstance(sparse).totalSize(),
+                GraphLayout.parseInstance(stringKeyed).totalSize());
+        }
+    }
+}
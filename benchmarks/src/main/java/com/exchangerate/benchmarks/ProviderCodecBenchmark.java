@@ -0,0 +1,145 @@
+package com.exchangerate.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.exchangerate.models.money.FixedDecimal;
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.services.implementations.AdvancedExchangeProvider;
+import com.exchangerate.services.implementations.SimpleExchangeProvider;
+import com.exchangerate.services.implementations.XmlExchangeProvider;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Costo de armar la solicitud e interpretar la respuesta de cada proveedor.
+ * Los métodos {@code *Encode}, {@code *ParseTree} y {@code xmlParseDom} llaman al código de
+ * los proveedores ({@code encodeRequest} y {@code parse*}); los {@code *Streaming} son las
+ * alternativas candidatas, con Jackson {@link JsonParser} y StAX.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProviderCodecBenchmark {
+
+    private static final String SIMPLE_BODY = "{\"rate\":58.912345}";
+
+    private static final String XML_BODY = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+        + "<XML>\n"
+        + "    <Result>5891.23</Result>\n"
+        + "</XML>";
+
+    private static final String ADVANCED_BODY =
+        "{\"statusCode\":200,\"message\":\"Conversión exitosa\",\"data\":{\"total\":5891.23}}";
+
+    private ExchangeRateRequest request;
+    private ObjectMapper mapper;
+    private XMLInputFactory xmlInputFactory;
+
+    @Setup
+    public void setUp() {
+        request = new ExchangeRateRequest("USD", "DOP", new BigDecimal("100.00"));
+        mapper = new ObjectMapper();
+        xmlInputFactory = XMLInputFactory.newFactory();
+    }
+
+    @Benchmark
+    public String simpleEncode() {
+        return SimpleExchangeProvider.encodeRequest(request);
+    }
+
+    @Benchmark
+    public FixedDecimal simpleParseTree() throws Exception {
+        return SimpleExchangeProvider.parseRate(SIMPLE_BODY);
+    }
+
+    @Benchmark
+    public FixedDecimal simpleParseStreaming() throws IOException {
+        try (JsonParser parser = mapper.createParser(SIMPLE_BODY)) {
+            while (parser.nextToken() != null) {
+                if (parser.currentToken() == JsonToken.FIELD_NAME && "rate".equals(parser.currentName())) {
+                    parser.nextToken();
+                    return FixedDecimal.parse(parser.getText());
+                }
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String xmlEncode() {
+        return XmlExchangeProvider.encodeRequest(request);
+    }
+
+    @Benchmark
+    public FixedDecimal xmlParseDom() throws Exception {
+        return XmlExchangeProvider.parseResult(XML_BODY);
+    }
+
+    @Benchmark
+    public FixedDecimal xmlParseStreaming() throws Exception {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(new StringReader(XML_BODY));
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && "Result".equals(reader.getLocalName())) {
+                    return FixedDecimal.parse(reader.getElementText());
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String advancedEncode() {
+        return AdvancedExchangeProvider.encodeRequest(request);
+    }
+
+    @Benchmark
+    public FixedDecimal advancedParseTree() throws Exception {
+        return AdvancedExchangeProvider.parseTotal(ADVANCED_BODY);
+    }
+
+    @Benchmark
+    public FixedDecimal advancedParseStreaming() throws IOException {
+        int statusCode = 0;
+        FixedDecimal total = null;
+        try (JsonParser parser = mapper.createParser(ADVANCED_BODY)) {
+            while (parser.nextToken() != null) {
+                if (parser.currentToken() != JsonToken.FIELD_NAME) {
+                    continue;
+                }
+                String name = parser.currentName();
+                parser.nextToken();
+                if ("statusCode".equals(name)) {
+                    statusCode = parser.getIntValue();
+                } else if ("total".equals(name)) {
+                    total = FixedDecimal.parse(parser.getText());
+                }
+            }
+        }
+        return statusCode == 200 ? total : null;
+    }
+}
@@ -0,0 +1,106 @@
+package com.exchangerate.benchmarks;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.SimpleFormatter;
+import java.util.logging.StreamHandler;
+
+import org.jboss.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.exchangerate.models.logging.RequestLogEvent;
+import com.exchangerate.models.money.FixedDecimal;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.utils.AsyncLogSink;
+
+/**
+ * Costo de logging por solicitud en el hilo que la atiende:
+ * las ~10 líneas INFO anteriores frente al evento de resumen encolado en
+ * {@link AsyncLogSink} (y frente a escribir ese resumen de forma síncrona).
+ * Los logs se formatean y se escriben a un flujo nulo mediante JUL.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.jboss.logging.provider=jdk")
+@State(Scope.Benchmark)
+public class RequestLoggingBenchmark {
+
+    private static final String CATEGORY = "com.exchangerate.benchmarks.requests";
+
+    private Logger log;
+    private AsyncLogSink<RequestLogEvent> sink;
+    private ExchangeRateResponse result;
+    private List<ApiResponse> responses;
+
+    @Setup
+    public void setUp() {
+        java.util.logging.Logger julLogger = java.util.logging.Logger.getLogger(CATEGORY);
+        julLogger.setUseParentHandlers(false);
+        julLogger.setLevel(Level.INFO);
+        julLogger.addHandler(new StreamHandler(OutputStream.nullOutputStream(), new SimpleFormatter()));
+
+        log = Logger.getLogger(CATEGORY);
+        sink = new AsyncLogSink<>("bench-log-writer", 8192, event -> log.info(event.summaryLine()), log);
+
+        responses = List.of(
+            ApiResponse.success("SIMPLE_JSON_PROVIDER", FixedDecimal.parse("58.8000"), FixedDecimal.parse("5880.00"), 120L),
+            ApiResponse.success("XML_BANKING_PROVIDER", FixedDecimal.parse("58.7000"), FixedDecimal.parse("5870.00"), 150L),
+            ApiResponse.success("ADVANCED_FINTECH_PROVIDER", FixedDecimal.parse("58.9123"), FixedDecimal.parse("5891.23"), 187L));
+        result = new ExchangeRateResponse(new BigDecimal("58.9123"), new BigDecimal("5891.23"),
+            "ADVANCED_FINTECH_PROVIDER", 187L, 3, 3);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sink.close();
+        System.out.printf("%nEventos descartados por cola llena: %d%n", sink.droppedCount());
+    }
+
+    /**
+     * Las líneas que escribían el recurso, el servicio, cada proveedor y el comparador.
+     */
+    @Benchmark
+    public void perLineLogging() {
+        log.infof("Solicitud de tipo de cambio recibida: %s %s a %s", "100.00", "USD", "DOP");
+        log.infof("Iniciando comparación de tipos de cambio para %s a %s, monto: %s", "USD", "DOP", "100.00");
+        for (ApiResponse response : responses) {
+            log.infof("Llamando a %s para %s a %s, monto: %s", response.provider(), "USD", "DOP", "100.00");
+            log.infof("%s éxito: tasa=%s, convertido=%s, tiempo=%dms",
+                response.provider(), response.rate(), response.convertedAmount(), response.responseTimeMs());
+        }
+        log.infof("Todas las llamadas a APIs completadas en %dms", 187L);
+        log.infof("Resumen de APIs: %d exitosas, %d fallidas de %d totales", 3L, 0L, 3);
+        log.infof("Mejor tasa encontrada: %s desde %s, convertido: %s",
+            result.bestRate(), result.provider(), result.convertedAmount());
+    }
+
+    @Benchmark
+    public void summaryEventSync() {
+        log.info(event().summaryLine());
+    }
+
+    @Benchmark
+    public boolean summaryEventAsync() {
+        return sink.offer(event());
+    }
+
+    private RequestLogEvent event() {
+        return new RequestLogEvent("USD", "DOP", new BigDecimal("100.00"), null, result, responses, 187L, false);
+    }
+}
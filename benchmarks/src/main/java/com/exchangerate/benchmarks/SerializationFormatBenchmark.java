@@ -0,0 +1,80 @@
+package com.exchangerate.benchmarks;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.exchangerate.models.response.ApiResponseWrapper;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.serialization.ExchangeRateProtobufCodec;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * Costo de codificar y decodificar la respuesta de {@code /best-rate} en cada formato
+ * negociable (JSON, CBOR, Smile, Protobuf). El tamaño del payload de cada formato se
+ * imprime al preparar el benchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationFormatBenchmark {
+
+    private static final TypeReference<ApiResponseWrapper<ExchangeRateResponse>> WRAPPER_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    public String format;
+
+    private ApiResponseWrapper<ExchangeRateResponse> wrapper;
+    private ObjectMapper mapper;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        wrapper = ApiResponseWrapper.success(new ExchangeRateResponse(
+            new BigDecimal("58.9123"),
+            new BigDecimal("5891.23"),
+            "ADVANCED_FINTECH_PROVIDER",
+            187L,
+            3,
+            3));
+
+        mapper = switch (format) {
+            case "json" -> new ObjectMapper();
+            case "cbor" -> new CBORMapper();
+            case "smile" -> new SmileMapper();
+            default -> null;
+        };
+
+        encoded = encode();
+        System.out.printf("%n[%s] tamaño del payload: %d bytes%n", format, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper == null ? ExchangeRateProtobufCodec.encode(wrapper) : mapper.writeValueAsBytes(wrapper);
+    }
+
+    @Benchmark
+    public ApiResponseWrapper<ExchangeRateResponse> decode() throws IOException {
+        return mapper == null ? ExchangeRateProtobufCodec.decode(encoded) : mapper.readValue(encoded, WRAPPER_TYPE);
+    }
+}
@@ -0,0 +1,144 @@
+package com.exchangerate.benchmarks;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.exchangerate.models.enums.CapturedEndpoint;
+import com.exchangerate.models.logging.CapturedRequest;
+import com.exchangerate.serialization.TrafficCaptureFormat;
+
+/**
+ * Reproduce una captura de tráfico ({@code exchange.capture.enabled=true}) contra una instancia
+ * del servicio, respetando los intervalos originales entre solicitudes divididos por la velocidad.
+ * Las solicitudes salen a su hora sin esperar respuestas anteriores (modelo abierto) y la latencia
+ * se mide desde la hora prevista, corrigiendo la omisión coordinada.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.exchangerate.benchmarks.TrafficReplay captura.bin [http://localhost:8080] [velocidad]
+ * </pre>
+ */
+public final class TrafficReplay {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final String BEST_RATE_PATH = "/api/v1/exchange/best-rate";
+
+    private TrafficReplay() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Uso: TrafficReplay <captura> [url-base] [velocidad]");
+            System.exit(2);
+        }
+        String baseUrl = args.length > 1 ? args[1] : "http://localhost:8080";
+        double speed = args.length > 2 ? Double.parseDouble(args[2]) : 1.0;
+        if (speed <= 0) {
+            throw new IllegalArgumentException("La velocidad debe ser mayor que 0");
+        }
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        Histogram corrected = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        Histogram uncorrected = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        AtomicLong errors = new AtomicLong();
+        long[] sentByEndpoint = new long[CapturedEndpoint.values().length];
+        AtomicLong completed = new AtomicLong();
+
+        long sent = 0;
+        long firstArrivalMicros = 0;
+        long lastArrivalMicros = 0;
+        long startNanos = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(args[0])))) {
+            TrafficCaptureFormat.readHeader(in);
+            CapturedRequest captured;
+            while ((captured = TrafficCaptureFormat.read(in)) != null) {
+                if (sent == 0) {
+                    firstArrivalMicros = captured.arrivalEpochMicros();
+                    startNanos = System.nanoTime();
+                }
+                lastArrivalMicros = captured.arrivalEpochMicros();
+                long intendedNanos = startNanos
+                    + (long) (TimeUnit.MICROSECONDS.toNanos(captured.arrivalEpochMicros() - firstArrivalMicros) / speed);
+                long waitNanos = intendedNanos - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+
+                HttpRequest request = toHttpRequest(baseUrl, captured);
+                long sentNanos = System.nanoTime();
+                client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long endNanos = System.nanoTime();
+                        corrected.recordValue(Math.min(endNanos - intendedNanos, HIGHEST_TRACKABLE_NANOS));
+                        uncorrected.recordValue(Math.min(endNanos - sentNanos, HIGHEST_TRACKABLE_NANOS));
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                        completed.incrementAndGet();
+                    });
+                sentByEndpoint[captured.endpoint().ordinal()]++;
+                sent++;
+            }
+        }
+        if (sent == 0) {
+            System.out.println("La captura no tiene solicitudes");
+            return;
+        }
+        while (completed.get() < sent) {
+            Thread.sleep(10);
+        }
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+        System.out.printf("captura: %d solicitudes en %.1fs; reproducidas a %.2fx en %.1fs (%.1f/s)%n",
+            sent, (lastArrivalMicros - firstArrivalMicros) / 1_000_000.0, speed, elapsedSeconds, sent / elapsedSeconds);
+        for (CapturedEndpoint endpoint : CapturedEndpoint.values()) {
+            System.out.printf("  %s: %d%n", endpoint, sentByEndpoint[endpoint.ordinal()]);
+        }
+        System.out.printf("errores: %d (%.2f%%)%n", errors.get(), sent == 0 ? 0.0 : errors.get() * 100.0 / sent);
+        print("corregida", corrected);
+        print("sin corregir", uncorrected);
+        System.out.println();
+        corrected.outputPercentileDistribution(System.out, 1_000_000.0);
+    }
+
+    private static HttpRequest toHttpRequest(String baseUrl, CapturedRequest captured) {
+        String source = captured.pair().source().name();
+        String target = captured.pair().target().name();
+        String amount = captured.amount().toPlainString();
+        if (captured.endpoint() == CapturedEndpoint.GET_BEST_RATE) {
+            return HttpRequest.newBuilder(URI.create(
+                    baseUrl + BEST_RATE_PATH + "?from=" + source + "&to=" + target + "&amount=" + amount))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        }
+        String body = "{\"sourceCurrency\":\"" + source + "\",\"targetCurrency\":\"" + target
+            + "\",\"amount\":" + amount + "}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + BEST_RATE_PATH))
+            .header("Content-Type", "application/json")
+            .timeout(Duration.ofSeconds(30))
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private static void print(String label, Histogram histogram) {
+        System.out.printf("%s: p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms%n", label,
+            histogram.getValueAtPercentile(50) / 1_000_000.0,
+            histogram.getValueAtPercentile(90) / 1_000_000.0,
+            histogram.getValueAtPercentile(99) / 1_000_000.0,
+            histogram.getValueAtPercentile(99.9) / 1_000_000.0,
+            histogram.getMaxValue() / 1_000_000.0);
+    }
+}
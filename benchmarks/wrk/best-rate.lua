@@ -0,0 +1,4 @@
+-- Cuerpo de POST /best-rate para wrk; el mismo para la ruta JAX-RS y la ruta rápida.
+wrk.method = "POST"
+wrk.headers["Content-Type"] = "application/json"
+wrk.body = '{"sourceCurrency":"USD","targetCurrency":"DOP","amount":100.00}'
@@ -0,0 +1,82 @@
+#!/usr/bin/env bash
+#
+# Compara solicitudes por núcleo de la ruta JAX-RS (/api/v1/exchange/best-rate) y de la
+# ruta rápida de Vert.x (/fast/v1/exchange/best-rate) con wrk.
+#
+# Arranca el servicio fijado a SERVICE_CPUS con la ruta rápida habilitada, calienta cada
+# ruta y luego la mide. El CPU consumido por el servicio se lee de /proc antes y después de
+# cada medición, así que el resultado es solicitudes por segundo de CPU del servicio aunque
+# no llegue a saturar los núcleos asignados. Los proveedores simulados deben estar corriendo
+# (docker-compose up -d); con la caché de cotizaciones casi todas las solicitudes se sirven
+# sin consultarlos, así que se compara el costo del front end.
+#
+# Uso (desde la raíz del repositorio, con el servicio empaquetado):
+#   benchmarks/wrk/compare-routes.sh
+#
+# Variables: SERVICE_CPUS (0), WRK_CPUS (1), THREADS (2), CONNECTIONS (32), WARMUP (15s),
+# DURATION (30s), PORT (8080), JAR (exchange-rate-main/target/quarkus-app/quarkus-run.jar),
+# SERVICE_LOG (/tmp/compare-routes-service.log).
+
+set -euo pipefail
+
+SERVICE_CPUS=${SERVICE_CPUS:-0}
+WRK_CPUS=${WRK_CPUS:-1}
+THREADS=${THREADS:-2}
+CONNECTIONS=${CONNECTIONS:-32}
+WARMUP=${WARMUP:-15s}
+DURATION=${DURATION:-30s}
+PORT=${PORT:-8080}
+JAR=${JAR:-exchange-rate-main/target/quarkus-app/quarkus-run.jar}
+SERVICE_LOG=${SERVICE_LOG:-/tmp/compare-routes-service.log}
+
+SCRIPT_DIR=$(cd "$(dirname "$0")" && pwd)
+LUA="$SCRIPT_DIR/best-rate.lua"
+BASE_URL="http://localhost:$PORT"
+CLK_TCK=$(getconf CLK_TCK)
+
+for tool in wrk taskset java curl; do
+  command -v "$tool" > /dev/null || { echo "Falta $tool en el PATH" >&2; exit 2; }
+done
+[ -f "$JAR" ] || { echo "No existe $JAR; empaquete con mvn package -DskipTests en exchange-rate-main" >&2; exit 2; }
+
+taskset -c "$SERVICE_CPUS" java -Dexchange.fast-route.enabled=true -Dquarkus.http.port="$PORT" \
+  -jar "$JAR" > "$SERVICE_LOG" 2>&1 &
+SERVICE_PID=$!
+trap 'kill "$SERVICE_PID" 2> /dev/null || true' EXIT
+
+for _ in $(seq 1 60); do
+  curl -fs "$BASE_URL/q/health/ready" > /dev/null && break
+  kill -0 "$SERVICE_PID" 2> /dev/null || { echo "El servicio terminó; ver $SERVICE_LOG" >&2; exit 1; }
+  sleep 1
+done
+curl -fs "$BASE_URL/q/health/ready" > /dev/null || { echo "El servicio no quedó listo" >&2; exit 1; }
+
+# Ticks de CPU (usuario + sistema) consumidos por el servicio hasta ahora.
+service_ticks() {
+  awk '{ print $14 + $15 }' "/proc/$SERVICE_PID/stat"
+}
+
+run_wrk() {
+  taskset -c "$WRK_CPUS" wrk -t"$THREADS" -c"$CONNECTIONS" -d"$1" -s "$LUA" "$BASE_URL$2"
+}
+
+SERVICE_CORES=$(taskset -cp "$SERVICE_PID" | awk -F': ' '{ print $2 }' \
+  | tr ',' '\n' | awk -F- '{ n += (NF == 2 ? $2 - $1 + 1 : 1) } END { print n }')
+
+printf '%-30s %12s %10s %14s %16s\n' "ruta" "solicitudes" "errores" "sol/s" "sol/s-CPU"
+for path in /api/v1/exchange/best-rate /fast/v1/exchange/best-rate; do
+  run_wrk "$WARMUP" "$path" > /dev/null
+
+  before=$(service_ticks)
+  output=$(run_wrk "$DURATION" "$path")
+  after=$(service_ticks)
+
+  requests=$(awk '/requests in/ { print $1 }' <<< "$output")
+  errors=$(awk -F': ' '/Non-2xx or 3xx responses/ { print $2 }' <<< "$output")
+  rps=$(awk '/Requests\/sec/ { print $2 }' <<< "$output")
+  cpu_seconds=$(awk -v t=$((after - before)) -v hz="$CLK_TCK" 'BEGIN { print t / hz }')
+  per_cpu=$(awk -v r="$requests" -v s="$cpu_seconds" 'BEGIN { printf "%.0f", (s > 0 ? r / s : 0) }')
+
+  printf '%-30s %12s %10s %14s %16s\n' "$path" "$requests" "${errors:-0}" "$rps" "$per_cpu"
+done
+echo "Servicio fijado a $SERVICE_CORES núcleo(s) ($SERVICE_CPUS); sol/s-CPU = solicitudes por segundo de CPU del servicio."
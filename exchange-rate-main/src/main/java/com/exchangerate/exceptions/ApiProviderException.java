@@ -37,6 +37,20 @@ public class ApiProviderException extends RuntimeException {
         this.provider = provider;
     }
     
+    /**
+     * Permite a las subclases omitir la captura de la traza de pila
+     * para fallos esperados y frecuentes.
+     *
+     * @param provider nombre del proveedor que generó el error
+     * @param message  mensaje detallado de la causa del error
+     * @param cause    excepción original, o null
+     * @param writableStackTrace si se captura la traza de pila
+     */
+    protected ApiProviderException(String provider, String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, false, writableStackTrace);
+        this.provider = provider;
+    }
+    
     /**
      * Obtiene el nombre del proveedor que originó la excepción.
      *
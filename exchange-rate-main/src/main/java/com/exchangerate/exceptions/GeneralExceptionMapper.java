@@ -1,10 +1,16 @@
 package com.exchangerate.exceptions;
 
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
+import com.exchangerate.services.contracts.IClock;
 import com.exchangerate.utils.ApiResponseConstants;
+import com.exchangerate.utils.LogRateLimiter;
 import com.exchangerate.models.response.ApiResponseWrapper;
 
+import jakarta.inject.Inject;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.ExceptionMapper;
@@ -13,6 +19,8 @@ import jakarta.ws.rs.ext.Provider;
 /**
  * Manejador global para excepciones no controladas.
  * Estandariza todas las respuestas de error utilizando el wrapper.
+ * Los errores del cliente (4xx) se registran en DEBUG sin traza; el resto se
+ * registra con traza, como máximo una vez por intervalo para cada tipo de excepción.
  * 
  * @author Dev. Domingo J. Ruiz
  */
@@ -21,12 +29,19 @@ public class GeneralExceptionMapper implements ExceptionMapper<Throwable> {
     
     private static final Logger LOG = Logger.getLogger(GeneralExceptionMapper.class);
     
+    @ConfigProperty(name = "exchange.logging.error-interval-ms", defaultValue = "10000")
+    long logIntervalMillis;
+    
+    @Inject
+    IClock clock;
+    
+    private final ConcurrentHashMap<Class<?>, LogRateLimiter> limiters = new ConcurrentHashMap<>();
+    
     @Override
     public Response toResponse(Throwable exception) {
-        LOG.error("Error no controlado en la aplicación", exception);
-        
         if (exception instanceof WebApplicationException webEx) {
             int statusCode = webEx.getResponse().getStatus();
+            logFailure(exception, statusCode);
             String message = webEx.getMessage();
             
             if (message == null || message.isEmpty()) {
@@ -39,9 +54,22 @@ public class GeneralExceptionMapper implements ExceptionMapper<Throwable> {
         }
         
         // Para excepciones no HTTP, usamos 500 Internal Server Error
+        logFailure(exception, ApiResponseConstants.HTTP_SERVER_ERROR);
         return Response.status(ApiResponseConstants.HTTP_SERVER_ERROR)
             .entity(ApiResponseWrapper.serverError(
                 "Error interno del servidor. Por favor, contacte al administrador."))
             .build();
     }
+    
+    private void logFailure(Throwable exception, int statusCode) {
+        if (statusCode < ApiResponseConstants.HTTP_SERVER_ERROR) {
+            LOG.debugf("Solicitud rechazada con estado %d: %s", statusCode, exception.getMessage());
+            return;
+        }
+        LogRateLimiter limiter = limiters.computeIfAbsent(exception.getClass(), ignored -> new LogRateLimiter(logIntervalMillis));
+        long suppressed = limiter.tryAcquire(clock.currentTimeMillis());
+        if (suppressed >= 0) {
+            LOG.errorf(exception, "Error no controlado en la aplicación; %d errores similares omitidos", suppressed);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.exchangerate.exceptions;
+
+import java.util.List;
+
+/**
+ * Estrategia de ranking desconocida en una solicitud.
+ * Lleva los nombres de las estrategias registradas para que el mensaje al cliente
+ * refleje las que realmente existen.
+ */
+public class InvalidRankingException extends IllegalArgumentException {
+
+    private final List<String> availableStrategies;
+
+    /**
+     * @param strategyName nombre solicitado
+     * @param availableStrategies nombres registrados, en el orden en que se deben mostrar
+     */
+    public InvalidRankingException(String strategyName, List<String> availableStrategies) {
+        super("Estrategia de ranking inválida: " + strategyName);
+        this.availableStrategies = List.copyOf(availableStrategies);
+    }
+
+    /**
+     * Estrategias registradas al momento del error.
+     *
+     * @return nombres de las estrategias
+     */
+    public List<String> getAvailableStrategies() {
+        return availableStrategies;
+    }
+}
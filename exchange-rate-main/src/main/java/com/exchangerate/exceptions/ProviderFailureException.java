@@ -0,0 +1,132 @@
+package com.exchangerate.exceptions;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+
+import com.exchangerate.models.enums.ProviderFailureType;
+
+/**
+ * Fallo esperado de un proveedor (respuesta HTTP inesperada o con formato inválido).
+ *
+ * No captura traza de pila: durante una caída del proveedor se crea una por
+ * solicitud y la traza no aporta información. El tipo de fallo viaja en la
+ * excepción para que nadie tenga que interpretar el mensaje.
+ */
+public class ProviderFailureException extends ApiProviderException {
+
+    private static final int MAX_CAUSE_DEPTH = 8;
+
+    private final ProviderFailureType type;
+    private final int httpStatus;
+
+    ProviderFailureException(String provider, ProviderFailureType type, int httpStatus,
+                                     String message, Throwable cause) {
+        super(provider, message, cause, false);
+        this.type = type;
+        this.httpStatus = httpStatus;
+    }
+
+    /**
+     * Crea un fallo por código de estado HTTP inesperado.
+     *
+     * @param provider nombre del proveedor
+     * @param httpStatus código de estado recibido
+     * @return excepción sin traza de pila; un {@link ProviderRejectedRequestException} si
+     *         el proveedor rechazó la solicitud
+     */
+    public static ProviderFailureException httpStatus(String provider, int httpStatus) {
+        if (ProviderRejectedRequestException.isRejection(httpStatus)) {
+            return new ProviderRejectedRequestException(provider, httpStatus);
+        }
+        return new ProviderFailureException(provider, ProviderFailureType.HTTP_STATUS, httpStatus,
+            ProviderFailureType.HTTP_STATUS.getDescription() + " (" + httpStatus + ")", null);
+    }
+
+    /**
+     * Crea un fallo por respuesta que no se pudo interpretar.
+     *
+     * @param provider nombre del proveedor
+     * @param cause error del intérprete
+     * @return excepción sin traza de pila
+     */
+    public static ProviderFailureException parse(String provider, Throwable cause) {
+        return new ProviderFailureException(provider, ProviderFailureType.PARSE, 0,
+            ProviderFailureType.PARSE.getDescription(), cause);
+    }
+
+    /**
+     * Clasifica un fallo por su tipo (y el de sus causas), sin mirar el mensaje.
+     *
+     * @param failure fallo a clasificar
+     * @return tipo de fallo, o {@link ProviderFailureType#UNKNOWN} si no es reconocible
+     */
+    public static ProviderFailureType classify(Throwable failure) {
+        Throwable current = failure;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof ProviderFailureException providerFailure) {
+                return providerFailure.type;
+            }
+            if (current instanceof CircuitBreakerOpenException) {
+                return ProviderFailureType.BREAKER_OPEN;
+            }
+            // HttpConnectTimeoutException es un HttpTimeoutException: se revisa antes
+            if (current instanceof HttpConnectTimeoutException
+                    || current instanceof ConnectException
+                    || current instanceof UnknownHostException
+                    || current instanceof NoRouteToHostException) {
+                return ProviderFailureType.CONNECT;
+            }
+            if (current instanceof TimeoutException
+                    || current instanceof HttpTimeoutException
+                    || current instanceof SocketTimeoutException
+                    || current instanceof org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException) {
+                return ProviderFailureType.TIMEOUT;
+            }
+            current = current.getCause();
+        }
+        return ProviderFailureType.UNKNOWN;
+    }
+
+    /**
+     * Quita los envoltorios de {@link CompletionException} y {@link ExecutionException}
+     * que agregan las etapas asíncronas.
+     *
+     * @param failure fallo recibido de un {@code CompletableFuture}, puede ser null
+     * @return fallo original
+     */
+    public static Throwable unwrap(Throwable failure) {
+        Throwable current = failure;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    /**
+     * Tipo de fallo, fijado al crear la excepción.
+     *
+     * @return tipo de fallo
+     */
+    public ProviderFailureType getType() {
+        return type;
+    }
+
+    /**
+     * Código HTTP recibido, o 0 si el fallo no es {@link ProviderFailureType#HTTP_STATUS}.
+     *
+     * @return código de estado HTTP
+     */
+    public int getHttpStatus() {
+        return httpStatus;
+    }
+}
@@ -0,0 +1,29 @@
+package com.exchangerate.exceptions;
+
+import com.exchangerate.models.enums.ProviderFailureType;
+
+/**
+ * El proveedor rechazó la solicitud con un 4xx (por ejemplo, un par que no cotiza).
+ *
+ * Es un {@link ProviderFailureType#HTTP_STATUS} como cualquier otro, pero dice algo de la
+ * solicitud y no de la salud del proveedor: los circuit breakers la excluyen con
+ * {@code skipOn} para que las solicitudes de un par no soportado no corten el tráfico
+ * de los demás. 408 y 429 no se consideran rechazos: indican un proveedor lento o saturado.
+ */
+public class ProviderRejectedRequestException extends ProviderFailureException {
+
+    ProviderRejectedRequestException(String provider, int httpStatus) {
+        super(provider, ProviderFailureType.HTTP_STATUS, httpStatus,
+            ProviderFailureType.HTTP_STATUS.getDescription() + " (" + httpStatus + ")", null);
+    }
+
+    /**
+     * Indica si un código de estado es un rechazo de la solicitud y no un fallo del proveedor.
+     *
+     * @param httpStatus código de estado recibido
+     * @return true para 4xx salvo 408 y 429
+     */
+    public static boolean isRejection(int httpStatus) {
+        return httpStatus >= 400 && httpStatus < 500 && httpStatus != 408 && httpStatus != 429;
+    }
+}
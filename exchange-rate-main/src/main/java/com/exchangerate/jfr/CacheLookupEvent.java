@@ -0,0 +1,72 @@
+package com.exchangerate.jfr;
+
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.response.CachedQuote;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de una consulta a las cachés de cotizaciones o de respuestas serializadas.
+ */
+@Name(CacheLookupEvent.NAME)
+@Label("Consulta a caché")
+@Description("Consulta a la caché de cotizaciones o de respuestas serializadas")
+@Category({ ExchangeEvents.CATEGORY, "Cachés" })
+@StackTrace(false)
+public class CacheLookupEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.exchangerate.CacheLookup";
+
+    /** Caché de cotizaciones. */
+    public static final String QUOTE_CACHE = "quote";
+
+    /** Caché de respuestas serializadas. */
+    public static final String RESPONSE_CACHE = "response-bytes";
+
+    @Label("Caché")
+    String cache;
+
+    @Label("Proveedor")
+    String provider;
+
+    @Label("Par")
+    String pair;
+
+    @Label("Acierto")
+    boolean hit;
+
+    /**
+     * Inicia el evento; sin una grabación activa que lo incluya no copia nada.
+     *
+     * @param cache nombre de la caché
+     * @param pair par consultado
+     * @return evento iniciado
+     */
+    public static CacheLookupEvent start(String cache, CurrencyPair pair) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        if (event.isEnabled()) {
+            event.cache = cache;
+            event.pair = pair.toString();
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Termina y emite el evento.
+     *
+     * @param quote cotización encontrada, o null si no hubo acierto
+     */
+    public void complete(CachedQuote quote) {
+        end();
+        if (shouldCommit()) {
+            hit = quote != null;
+            provider = quote != null ? quote.response().provider() : null;
+            commit();
+        }
+    }
+}
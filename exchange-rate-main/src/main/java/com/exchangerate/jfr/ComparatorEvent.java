@@ -0,0 +1,67 @@
+package com.exchangerate.jfr;
+
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.response.ExchangeRateResponse;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de la selección de la mejor tasa entre las respuestas de los proveedores.
+ */
+@Name(ComparatorEvent.NAME)
+@Label("Selección de mejor tasa")
+@Description("Selección de la mejor tasa con la estrategia de ranking solicitada")
+@Category({ ExchangeEvents.CATEGORY, "Solicitudes" })
+@StackTrace(false)
+public class ComparatorEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.exchangerate.Comparator";
+
+    @Label("Proveedor seleccionado")
+    String provider;
+
+    @Label("Par")
+    String pair;
+
+    @Label("Estrategia de ranking")
+    String ranking;
+
+    @Label("Respuestas")
+    int candidates;
+
+    /**
+     * Inicia el evento; sin una grabación activa que lo incluya no copia nada.
+     *
+     * @param pair par consultado
+     * @param ranking estrategia solicitada, null para la de por defecto
+     * @param candidates respuestas recibidas de los proveedores
+     * @return evento iniciado
+     */
+    public static ComparatorEvent start(CurrencyPair pair, String ranking, int candidates) {
+        ComparatorEvent event = new ComparatorEvent();
+        if (event.isEnabled()) {
+            event.pair = pair.toString();
+            event.ranking = ranking == null ? "default" : ranking;
+            event.candidates = candidates;
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Termina y emite el evento con el proveedor seleccionado.
+     *
+     * @param result respuesta seleccionada, o null si la selección falló
+     */
+    public void complete(ExchangeRateResponse result) {
+        end();
+        if (shouldCommit()) {
+            provider = result != null ? result.provider() : null;
+            commit();
+        }
+    }
+}
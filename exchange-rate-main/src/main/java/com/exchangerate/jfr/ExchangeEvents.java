@@ -0,0 +1,59 @@
+package com.exchangerate.jfr;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jdk.jfr.Configuration;
+
+/**
+ * Eventos JFR propios del servicio y perfil de grabación ajustado a ellos.
+ *
+ * Los eventos están siempre compilados en el camino de la solicitud; mientras ninguna
+ * grabación los incluya, crearlos y cerrarlos no copia datos ni lee el reloj.
+ */
+public final class ExchangeEvents {
+
+    /** Categoría raíz de los eventos del servicio en JDK Mission Control. */
+    public static final String CATEGORY = "Exchange Rate";
+
+    /** Nombres de todos los eventos propios. */
+    public static final List<String> EVENT_NAMES = List.of(
+        ProviderCallEvent.NAME, FanOutEvent.NAME, ComparatorEvent.NAME, CacheLookupEvent.NAME);
+
+    private ExchangeEvents() {
+    }
+
+    /**
+     * Perfil {@code default} del JDK (bajo costo, apto para producción) con los eventos
+     * propios sin umbral y con más detalle en lo que domina el camino de la solicitud:
+     * muestreo de CPU y de asignaciones, E/S de sockets hacia los proveedores, hilos
+     * estacionados esperando respuestas y contención en monitores. Se desactivan las
+     * variables de entorno y propiedades del sistema iniciales, que pueden contener secretos.
+     *
+     * @return configuración de eventos para {@link jdk.jfr.Recording}
+     */
+    public static Map<String, String> recordingSettings() {
+        Map<String, String> settings;
+        try {
+            settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        } catch (IOException | ParseException e) {
+            settings = new HashMap<>();
+        }
+        for (String event : EVENT_NAMES) {
+            settings.put(event + "#enabled", "true");
+            settings.put(event + "#threshold", "0 ms");
+        }
+        settings.put("jdk.InitialEnvironmentVariable#enabled", "false");
+        settings.put("jdk.InitialSystemProperty#enabled", "false");
+        settings.put("jdk.ExecutionSample#period", "10 ms");
+        settings.put("jdk.ObjectAllocationSample#throttle", "300/s");
+        settings.put("jdk.SocketRead#threshold", "10 ms");
+        settings.put("jdk.SocketWrite#threshold", "10 ms");
+        settings.put("jdk.ThreadPark#threshold", "10 ms");
+        settings.put("jdk.JavaMonitorEnter#threshold", "1 ms");
+        return settings;
+    }
+}
@@ -0,0 +1,73 @@
+package com.exchangerate.jfr;
+
+import com.exchangerate.models.enums.RequestOutcome;
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.response.ExchangeRateResponse;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de una solicitud de mejor tasa completa: la consulta en paralelo a todos
+ * los proveedores y la selección del resultado.
+ */
+@Name(FanOutEvent.NAME)
+@Label("Consulta a proveedores")
+@Description("Consulta en paralelo a todos los proveedores hasta obtener la mejor tasa")
+@Category({ ExchangeEvents.CATEGORY, "Solicitudes" })
+@StackTrace(false)
+public class FanOutEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.exchangerate.FanOut";
+
+    @Label("Proveedor seleccionado")
+    String provider;
+
+    @Label("Par")
+    String pair;
+
+    @Label("Resultado")
+    String outcome;
+
+    @Label("Proveedores exitosos")
+    int successfulProviders;
+
+    @Label("Proveedores consultados")
+    int totalProviders;
+
+    /**
+     * Inicia el evento; sin una grabación activa que lo incluya no copia nada.
+     *
+     * @param pair par consultado
+     * @return evento iniciado
+     */
+    public static FanOutEvent start(CurrencyPair pair) {
+        FanOutEvent event = new FanOutEvent();
+        if (event.isEnabled()) {
+            event.pair = pair.toString();
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Termina y emite el evento con el resultado de la solicitud.
+     *
+     * @param result respuesta seleccionada, o null si la solicitud se canceló
+     */
+    public void complete(ExchangeRateResponse result) {
+        end();
+        if (shouldCommit()) {
+            outcome = RequestOutcome.of(result).getTag();
+            if (result != null) {
+                provider = result.provider();
+                successfulProviders = result.successfulProviders() != null ? result.successfulProviders() : 0;
+                totalProviders = result.totalProviders() != null ? result.totalProviders() : 0;
+            }
+            commit();
+        }
+    }
+}
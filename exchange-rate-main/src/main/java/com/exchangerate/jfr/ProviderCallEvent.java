@@ -0,0 +1,68 @@
+package com.exchangerate.jfr;
+
+import com.exchangerate.models.enums.CallOutcome;
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.response.ApiResponse;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de una llamada a un proveedor, desde la suscripción hasta su resultado
+ * (incluidos los reintentos).
+ */
+@Name(ProviderCallEvent.NAME)
+@Label("Llamada a proveedor")
+@Description("Llamada a un proveedor de tipos de cambio, incluidos los reintentos")
+@Category({ ExchangeEvents.CATEGORY, "Proveedores" })
+@StackTrace(false)
+public class ProviderCallEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.exchangerate.ProviderCall";
+
+    @Label("Proveedor")
+    String provider;
+
+    @Label("Par")
+    String pair;
+
+    @Label("Resultado")
+    String outcome;
+
+    @Label("Tipo de fallo")
+    String failureType;
+
+    /**
+     * Inicia el evento; sin una grabación activa que lo incluya no copia nada.
+     *
+     * @param provider nombre del proveedor
+     * @param pair par consultado
+     * @return evento iniciado
+     */
+    public static ProviderCallEvent start(String provider, CurrencyPair pair) {
+        ProviderCallEvent event = new ProviderCallEvent();
+        if (event.isEnabled()) {
+            event.provider = provider;
+            event.pair = pair.toString();
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Termina y emite el evento con el resultado de la llamada.
+     *
+     * @param response respuesta del proveedor, o null si la llamada se canceló
+     */
+    public void complete(ApiResponse response) {
+        end();
+        if (shouldCommit()) {
+            outcome = CallOutcome.of(response).getTag();
+            failureType = response != null && response.failureType() != null ? response.failureType().name() : null;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.exchangerate.models.enums;
+
+import com.exchangerate.models.response.ApiResponse;
+
+/**
+ * Resultado de una llamada a un proveedor, usado como etiqueta de métricas.
+ * Agrupa los {@link ProviderFailureType} en pocas categorías para acotar la cardinalidad.
+ */
+public enum CallOutcome {
+    SUCCESS("success"),
+    TIMEOUT("timeout"),
+    ERROR("error"),
+    BREAKER_OPEN("breaker-open"),
+    CANCELLED("cancelled");
+
+    private final String tag;
+
+    CallOutcome(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * Valor de la etiqueta {@code outcome}.
+     *
+     * @return valor de etiqueta
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Resultado de una respuesta de proveedor.
+     *
+     * @param response respuesta, o null si la llamada se canceló
+     * @return resultado de la llamada
+     */
+    public static CallOutcome of(ApiResponse response) {
+        if (response == null) {
+            return CANCELLED;
+        }
+        if (response.successful()) {
+            return SUCCESS;
+        }
+        if (response.failureType() == null) {
+            return ERROR;
+        }
+        switch (response.failureType()) {
+            case TIMEOUT:
+                return TIMEOUT;
+            case BREAKER_OPEN:
+                return BREAKER_OPEN;
+            default:
+                return ERROR;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.exchangerate.models.enums;
+
+/**
+ * Endpoint por el que llegó una solicitud capturada, con su código en el archivo de captura.
+ */
+public enum CapturedEndpoint {
+    POST_BEST_RATE(0),
+    GET_BEST_RATE(1);
+
+    private static final CapturedEndpoint[] BY_CODE = values();
+
+    private final int code;
+
+    CapturedEndpoint(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Código del endpoint en el archivo de captura.
+     *
+     * @return código
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Endpoint a partir de su código en el archivo de captura.
+     *
+     * @param code código leído
+     * @return endpoint
+     * @throws IllegalArgumentException si el código no corresponde a ningún endpoint
+     */
+    public static CapturedEndpoint fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Endpoint capturado desconocido: " + code);
+        }
+        return BY_CODE[code];
+    }
+}
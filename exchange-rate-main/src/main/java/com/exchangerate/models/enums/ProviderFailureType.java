@@ -0,0 +1,29 @@
+package com.exchangerate.models.enums;
+
+/**
+ * Clasificación tipada de los fallos de un proveedor de tipo de cambio.
+ * Reemplaza la búsqueda de palabras en los mensajes de las excepciones.
+ */
+public enum ProviderFailureType {
+    TIMEOUT("Tiempo de espera agotado"),
+    CONNECT("Servicio no disponible"),
+    BREAKER_OPEN("Circuito abierto por fallos repetidos"),
+    HTTP_STATUS("Respuesta HTTP inesperada del proveedor"),
+    PARSE("Respuesta del proveedor con formato inválido"),
+    UNKNOWN("Error de proveedor");
+
+    private final String description;
+
+    ProviderFailureType(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Descripción en español, usada como mensaje de error del proveedor.
+     *
+     * @return descripción del tipo de fallo
+     */
+    public String getDescription() {
+        return description;
+    }
+}
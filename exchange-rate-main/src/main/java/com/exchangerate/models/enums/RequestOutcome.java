@@ -0,0 +1,47 @@
+package com.exchangerate.models.enums;
+
+import com.exchangerate.models.response.ExchangeRateResponse;
+
+/**
+ * Resultado de una solicitud de mejor tasa, usado como etiqueta de métricas y atributo de trazas.
+ */
+public enum RequestOutcome {
+    SUCCESS("success"),
+    NO_PROVIDER("no-provider"),
+    ERROR("error"),
+    CANCELLED("cancelled");
+
+    /** Proveedor con que el servicio marca una respuesta de error interno. */
+    public static final String SERVICE_ERROR_PROVIDER = "ERROR_SERVICIO";
+
+    private final String tag;
+
+    RequestOutcome(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * Valor de la etiqueta {@code outcome}.
+     *
+     * @return valor de etiqueta
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Resultado de una respuesta del servicio.
+     *
+     * @param result respuesta entregada, o null si la solicitud se canceló
+     * @return resultado de la solicitud
+     */
+    public static RequestOutcome of(ExchangeRateResponse result) {
+        if (result == null) {
+            return CANCELLED;
+        }
+        if (result.bestRate() != null) {
+            return SUCCESS;
+        }
+        return SERVICE_ERROR_PROVIDER.equals(result.provider()) ? ERROR : NO_PROVIDER;
+    }
+}
@@ -2,15 +2,170 @@ package com.exchangerate.models.enums;
 
 /**
  * Enumeración de monedas soportadas por el sistema.
- * Solo incluye las monedas más comunes para intercambio.
+ * Incluye las monedas ISO 4217 vigentes; se excluyen los códigos de fondos,
+ * metales preciosos y pruebas (X**), salvo las monedas regionales reales.
+ * Las cuatro monedas originales conservan sus ordinales al inicio.
  * 
  * @author Dev. Domingo J. Ruiz
  */
 public enum SupportedCurrency {
     USD("Dólar Estadounidense", "$"),
-    EUR("Euro", "€"), 
+    EUR("Euro", "€"),
     MXN("Peso Mexicano", "$"),
-    DOP("Peso Dominicano", "RD$");
+    DOP("Peso Dominicano", "RD$"),
+    
+    // Resto de monedas ISO 4217 vigentes en orden alfabético
+    AED("Dírham de los Emiratos Árabes Unidos", "د.إ"),
+    AFN("Afgani Afgano", "؋"),
+    ALL("Lek Albanés", "L"),
+    AMD("Dram Armenio", "֏"),
+    AOA("Kwanza Angoleño", "Kz"),
+    ARS("Peso Argentino", "$"),
+    AUD("Dólar Australiano", "A$"),
+    AWG("Florín Arubeño", "ƒ"),
+    AZN("Manat Azerbaiyano", "₼"),
+    BAM("Marco Convertible de Bosnia y Herzegovina", "KM"),
+    BBD("Dólar de Barbados", "Bds$"),
+    BDT("Taka Bangladesí", "৳"),
+    BHD("Dinar Bareiní", ".د.ب"),
+    BIF("Franco Burundés", "FBu"),
+    BMD("Dólar Bermudeño", "$"),
+    BND("Dólar de Brunéi", "B$"),
+    BOB("Boliviano", "Bs."),
+    BRL("Real Brasileño", "R$"),
+    BSD("Dólar Bahameño", "B$"),
+    BTN("Ngultrum Butanés", "Nu."),
+    BWP("Pula de Botsuana", "P"),
+    BYN("Rublo Bielorruso", "Br"),
+    BZD("Dólar Beliceño", "BZ$"),
+    CAD("Dólar Canadiense", "C$"),
+    CDF("Franco Congoleño", "FC"),
+    CHF("Franco Suizo", "CHF"),
+    CLP("Peso Chileno", "$"),
+    CNY("Yuan Renminbi Chino", "¥"),
+    COP("Peso Colombiano", "$"),
+    CRC("Colón Costarricense", "₡"),
+    CUP("Peso Cubano", "$"),
+    CVE("Escudo Caboverdiano", "Esc"),
+    CZK("Corona Checa", "Kč"),
+    DJF("Franco Yibutiano", "Fdj"),
+    DKK("Corona Danesa", "kr"),
+    DZD("Dinar Argelino", "دج"),
+    EGP("Libra Egipcia", "E£"),
+    ERN("Nakfa Eritreo", "Nfk"),
+    ETB("Birr Etíope", "Br"),
+    FJD("Dólar Fiyiano", "FJ$"),
+    FKP("Libra Malvinense", "£"),
+    GBP("Libra Esterlina", "£"),
+    GEL("Lari Georgiano", "₾"),
+    GHS("Cedi Ghanés", "₵"),
+    GIP("Libra de Gibraltar", "£"),
+    GMD("Dalasi Gambiano", "D"),
+    GNF("Franco Guineano", "FG"),
+    GTQ("Quetzal Guatemalteco", "Q"),
+    GYD("Dólar Guyanés", "G$"),
+    HKD("Dólar de Hong Kong", "HK$"),
+    HNL("Lempira Hondureño", "L"),
+    HTG("Gourde Haitiano", "G"),
+    HUF("Forinto Húngaro", "Ft"),
+    IDR("Rupia Indonesia", "Rp"),
+    ILS("Nuevo Séquel Israelí", "₪"),
+    INR("Rupia India", "₹"),
+    IQD("Dinar Iraquí", "ع.د"),
+    IRR("Rial Iraní", "﷼"),
+    ISK("Corona Islandesa", "kr"),
+    JMD("Dólar Jamaicano", "J$"),
+    JOD("Dinar Jordano", "JD"),
+    JPY("Yen Japonés", "¥"),
+    KES("Chelín Keniano", "KSh"),
+    KGS("Som Kirguís", "с"),
+    KHR("Riel Camboyano", "៛"),
+    KMF("Franco Comorense", "CF"),
+    KPW("Won Norcoreano", "₩"),
+    KRW("Won Surcoreano", "₩"),
+    KWD("Dinar Kuwaití", "KD"),
+    KYD("Dólar de las Islas Caimán", "CI$"),
+    KZT("Tenge Kazajo", "₸"),
+    LAK("Kip Laosiano", "₭"),
+    LBP("Libra Libanesa", "ل.ل"),
+    LKR("Rupia de Sri Lanka", "Rs"),
+    LRD("Dólar Liberiano", "L$"),
+    LSL("Loti de Lesoto", "L"),
+    LYD("Dinar Libio", "LD"),
+    MAD("Dírham Marroquí", "DH"),
+    MDL("Leu Moldavo", "L"),
+    MGA("Ariary Malgache", "Ar"),
+    MKD("Denar Macedonio", "ден"),
+    MMK("Kyat Birmano", "K"),
+    MNT("Tugrik Mongol", "₮"),
+    MOP("Pataca de Macao", "MOP$"),
+    MRU("Uguiya Mauritana", "UM"),
+    MUR("Rupia Mauriciana", "₨"),
+    MVR("Rufiyaa Maldiva", "Rf"),
+    MWK("Kwacha Malauí", "MK"),
+    MYR("Ringgit Malayo", "RM"),
+    MZN("Metical Mozambiqueño", "MT"),
+    NAD("Dólar Namibio", "N$"),
+    NGN("Naira Nigeriano", "₦"),
+    NIO("Córdoba Nicaragüense", "C$"),
+    NOK("Corona Noruega", "kr"),
+    NPR("Rupia Nepalí", "Rs"),
+    NZD("Dólar Neozelandés", "NZ$"),
+    OMR("Rial Omaní", "ر.ع."),
+    PAB("Balboa Panameño", "B/."),
+    PEN("Sol Peruano", "S/"),
+    PGK("Kina de Papúa Nueva Guinea", "K"),
+    PHP("Peso Filipino", "₱"),
+    PKR("Rupia Pakistaní", "Rs"),
+    PLN("Esloti Polaco", "zł"),
+    PYG("Guaraní Paraguayo", "₲"),
+    QAR("Rial Catarí", "ر.ق"),
+    RON("Leu Rumano", "lei"),
+    RSD("Dinar Serbio", "дин."),
+    RUB("Rublo Ruso", "₽"),
+    RWF("Franco Ruandés", "FRw"),
+    SAR("Riyal Saudí", "ر.س"),
+    SBD("Dólar de las Islas Salomón", "SI$"),
+    SCR("Rupia Seychellense", "SR"),
+    SDG("Libra Sudanesa", "ج.س."),
+    SEK("Corona Sueca", "kr"),
+    SGD("Dólar de Singapur", "S$"),
+    SHP("Libra de Santa Elena", "£"),
+    SLE("Leone de Sierra Leona", "Le"),
+    SOS("Chelín Somalí", "Sh"),
+    SRD("Dólar Surinamés", "Sr$"),
+    SSP("Libra Sursudanesa", "£"),
+    STN("Dobra Santotomense", "Db"),
+    SVC("Colón Salvadoreño", "₡"),
+    SYP("Libra Siria", "£S"),
+    SZL("Lilangeni Suazi", "E"),
+    THB("Baht Tailandés", "฿"),
+    TJS("Somoni Tayiko", "SM"),
+    TMT("Manat Turcomano", "m"),
+    TND("Dinar Tunecino", "DT"),
+    TOP("Paʻanga Tongano", "T$"),
+    TRY("Lira Turca", "₺"),
+    TTD("Dólar de Trinidad y Tobago", "TT$"),
+    TWD("Nuevo Dólar Taiwanés", "NT$"),
+    TZS("Chelín Tanzano", "TSh"),
+    UAH("Grivna Ucraniana", "₴"),
+    UGX("Chelín Ugandés", "USh"),
+    UYU("Peso Uruguayo", "$U"),
+    UZS("Som Uzbeko", "soʻm"),
+    VED("Bolívar Digital Venezolano", "Bs.D"),
+    VES("Bolívar Soberano Venezolano", "Bs.S"),
+    VND("Dong Vietnamita", "₫"),
+    VUV("Vatu de Vanuatu", "VT"),
+    WST("Tala Samoano", "WS$"),
+    XAF("Franco CFA de África Central", "FCFA"),
+    XCD("Dólar del Caribe Oriental", "EC$"),
+    XCG("Florín del Caribe", "Cg"),
+    XOF("Franco CFA de África Occidental", "CFA"),
+    XPF("Franco CFP", "₣"),
+    YER("Rial Yemení", "﷼"),
+    ZAR("Rand Sudafricano", "R"),
+    ZMW("Kwacha Zambiano", "ZK"),
+    ZWG("Oro de Zimbabue", "ZiG");
     
     private final String description;
     private final String symbol;
@@ -28,6 +183,18 @@ public enum SupportedCurrency {
         return symbol;
     }
     
+    /**
+     * Tabla densa indexada por el código de tres letras (base 26), construida una sola vez.
+     * Permite resolver códigos sin asignaciones ni excepciones en el camino normal.
+     */
+    private static final SupportedCurrency[] BY_CODE = new SupportedCurrency[26 * 26 * 26];
+    
+    static {
+        for (SupportedCurrency currency : values()) {
+            BY_CODE[codeIndex(currency.name())] = currency;
+        }
+    }
+    
     /**
      * Valida si un código de moneda está soportado.
      * 
@@ -35,14 +202,40 @@ public enum SupportedCurrency {
      * @return true si está soportado
      */
     public static boolean isSupported(String currencyCode) {
-        if (currencyCode == null) return false;
-        
-        try {
-            valueOf(currencyCode.toUpperCase());
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
+        return lookup(currencyCode) != null;
+    }
+    
+    /**
+     * Busca una moneda por código sin distinguir mayúsculas y sin asignar memoria.
+     * 
+     * @param currencyCode código de moneda (puede ser null)
+     * @return moneda encontrada o null si el código no está soportado
+     */
+    public static SupportedCurrency lookup(CharSequence currencyCode) {
+        if (currencyCode == null) {
+            return null;
         }
+        int index = codeIndex(currencyCode);
+        return index < 0 ? null : BY_CODE[index];
+    }
+    
+    /**
+     * Busca una moneda a partir de los tres caracteres ASCII de su código,
+     * para lectores que interpretan la solicitud directamente desde bytes.
+     * 
+     * @param first primer carácter del código
+     * @param second segundo carácter del código
+     * @param third tercer carácter del código
+     * @return moneda encontrada o null si el código no está soportado
+     */
+    public static SupportedCurrency lookup(int first, int second, int third) {
+        int a = letterOrdinal((char) first);
+        int b = letterOrdinal((char) second);
+        int c = letterOrdinal((char) third);
+        if (a < 0 || b < 0 || c < 0) {
+            return null;
+        }
+        return BY_CODE[(a * 26 + b) * 26 + c];
     }
     
     /**
@@ -50,8 +243,38 @@ public enum SupportedCurrency {
      * 
      * @param currencyCode código de moneda
      * @return instancia de SupportedCurrency
+     * @throws IllegalArgumentException si el código no está soportado
      */
     public static SupportedCurrency fromCode(String currencyCode) {
-        return valueOf(currencyCode.toUpperCase());
+        SupportedCurrency currency = lookup(currencyCode);
+        if (currency == null) {
+            throw new IllegalArgumentException("Moneda no soportada: " + currencyCode);
+        }
+        return currency;
+    }
+    
+    private static int codeIndex(CharSequence code) {
+        if (code.length() != 3) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < 3; i++) {
+            int letter = letterOrdinal(code.charAt(i));
+            if (letter < 0) {
+                return -1;
+            }
+            index = index * 26 + letter;
+        }
+        return index;
+    }
+    
+    private static int letterOrdinal(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        return -1;
     }
 }
\ No newline at end of file
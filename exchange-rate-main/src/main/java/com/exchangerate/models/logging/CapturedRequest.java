@@ -0,0 +1,22 @@
+package com.exchangerate.models.logging;
+
+import java.math.BigDecimal;
+
+import com.exchangerate.models.enums.CapturedEndpoint;
+import com.exchangerate.models.money.CurrencyPair;
+
+/**
+ * Solicitud de mejor tasa registrada en un archivo de captura de tráfico.
+ *
+ * @param arrivalEpochMicros llegada al recurso, en microsegundos desde la época
+ * @param endpoint endpoint por el que llegó
+ * @param pair par solicitado
+ * @param amount monto solicitado
+ */
+public record CapturedRequest(
+    long arrivalEpochMicros,
+    CapturedEndpoint endpoint,
+    CurrencyPair pair,
+    BigDecimal amount
+) {
+}
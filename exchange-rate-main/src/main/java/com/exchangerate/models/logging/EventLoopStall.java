@@ -0,0 +1,24 @@
+package com.exchangerate.models.logging;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Bloqueo detectado en un hilo de eventos de Vert.x, con la pila muestreada mientras
+ * el hilo seguía ocupado.
+ *
+ * @param detectedAtMillis instante de la detección (epoch ms)
+ * @param thread nombre del hilo de eventos
+ * @param stalledMs tiempo que el hilo llevaba sin atender la sonda al muestrear
+ * @param frame primer marco de la aplicación en la pila (o el superior si no hay ninguno)
+ * @param stack pila muestreada, del marco superior hacia abajo
+ */
+@RegisterForReflection
+public record EventLoopStall(
+    long detectedAtMillis,
+    String thread,
+    long stalledMs,
+    String frame,
+    List<String> stack
+) {}
@@ -0,0 +1,45 @@
+package com.exchangerate.models.logging;
+
+import com.exchangerate.models.enums.CallOutcome;
+import com.exchangerate.models.response.ApiResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Resultado de un proveedor dentro de una solicitud lenta capturada.
+ *
+ * @param provider nombre del proveedor
+ * @param outcome resultado de la llamada ({@code success}, {@code timeout}, ...)
+ * @param failureType tipo de fallo, null en respuestas exitosas
+ * @param errorMessage mensaje del fallo, null en respuestas exitosas
+ * @param rate tasa ofrecida, null en respuestas fallidas
+ * @param responseTimeMs tiempo de respuesta del proveedor
+ */
+@RegisterForReflection
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProviderExemplar(
+    String provider,
+    String outcome,
+    String failureType,
+    String errorMessage,
+    String rate,
+    Long responseTimeMs
+) {
+
+    /**
+     * Copia los datos relevantes de la respuesta de un proveedor.
+     *
+     * @param response respuesta del proveedor
+     * @return resultado del proveedor
+     */
+    public static ProviderExemplar of(ApiResponse response) {
+        return new ProviderExemplar(
+            response.provider(),
+            CallOutcome.of(response).getTag(),
+            response.failureType() != null ? response.failureType().name() : null,
+            response.errorMessage(),
+            response.rate() != null ? response.rate().toString() : null,
+            response.responseTimeMs());
+    }
+}
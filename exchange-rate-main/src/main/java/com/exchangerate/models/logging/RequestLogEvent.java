@@ -0,0 +1,87 @@
+package com.exchangerate.models.logging;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.models.response.ExchangeRateResponse;
+
+/**
+ * Evento de log estructurado con el resumen de una solicitud de {@code best-rate}.
+ * Se construye en el hilo de la solicitud con referencias a datos ya existentes;
+ * el texto se genera después, en el hilo de escritura del log.
+ *
+ * @param sourceCurrency moneda de origen
+ * @param targetCurrency moneda de destino
+ * @param amount monto solicitado
+ * @param ranking estrategia solicitada (null para la de por defecto)
+ * @param result respuesta seleccionada
+ * @param providers respuestas de todos los proveedores
+ * @param totalResponseTimeMs tiempo total de la solicitud
+ * @param detailed si se escriben también las líneas de detalle por proveedor
+ */
+public record RequestLogEvent(
+    String sourceCurrency,
+    String targetCurrency,
+    BigDecimal amount,
+    String ranking,
+    ExchangeRateResponse result,
+    List<ApiResponse> providers,
+    long totalResponseTimeMs,
+    boolean detailed
+) {
+
+    /**
+     * Línea de resumen en formato {@code clave=valor}.
+     *
+     * @return línea de resumen
+     */
+    public String summaryLine() {
+        StringBuilder line = new StringBuilder(192)
+            .append("best-rate source=").append(sourceCurrency)
+            .append(" target=").append(targetCurrency)
+            .append(" amount=").append(amount)
+            .append(" ranking=").append(ranking == null ? "default" : ranking)
+            .append(" provider=").append(result.provider())
+            .append(" rate=").append(result.bestRate())
+            .append(" converted=").append(result.convertedAmount())
+            .append(" ok=").append(result.successfulProviders()).append('/').append(result.totalProviders())
+            .append(" ms=").append(totalResponseTimeMs);
+
+        boolean first = true;
+        for (int i = 0, size = providers.size(); i < size; i++) {
+            ApiResponse response = providers.get(i);
+            if (!response.successful()) {
+                line.append(first ? " failed=" : ",").append(response.provider());
+                first = false;
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * Líneas de detalle, una por proveedor.
+     *
+     * @return líneas de detalle en formato {@code clave=valor}
+     */
+    public List<String> detailLines() {
+        List<String> lines = new ArrayList<>(providers.size());
+        for (ApiResponse response : providers) {
+            StringBuilder line = new StringBuilder(128)
+                .append("best-rate.provider source=").append(sourceCurrency)
+                .append(" target=").append(targetCurrency)
+                .append(" provider=").append(response.provider())
+                .append(" ok=").append(response.successful())
+                .append(" ms=").append(response.responseTimeMs());
+            if (response.successful()) {
+                line.append(" rate=").append(response.rate())
+                    .append(" converted=").append(response.convertedAmount());
+            } else {
+                line.append(" error=\"").append(response.errorMessage()).append('"');
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+}
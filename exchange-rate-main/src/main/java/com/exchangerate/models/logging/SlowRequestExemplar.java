@@ -0,0 +1,37 @@
+package com.exchangerate.models.logging;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Solicitud de {@code best-rate} capturada por estar entre las más lentas de su ventana.
+ *
+ * @param capturedAtMillis instante de la captura (epoch ms)
+ * @param sourceCurrency moneda de origen
+ * @param targetCurrency moneda de destino
+ * @param amount monto solicitado
+ * @param ranking estrategia solicitada (null para la de por defecto)
+ * @param outcome resultado de la solicitud ({@code success}, {@code no-provider}, ...)
+ * @param provider proveedor seleccionado, null si ninguno respondió
+ * @param bestRate tasa seleccionada
+ * @param totalMs duración de la solicitud en milisegundos, con resolución de microsegundos
+ * @param providers resultado de cada proveedor
+ */
+@RegisterForReflection
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SlowRequestExemplar(
+    long capturedAtMillis,
+    String sourceCurrency,
+    String targetCurrency,
+    BigDecimal amount,
+    String ranking,
+    String outcome,
+    String provider,
+    BigDecimal bestRate,
+    double totalMs,
+    List<ProviderExemplar> providers
+) {}
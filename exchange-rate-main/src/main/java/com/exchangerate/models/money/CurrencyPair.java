@@ -0,0 +1,119 @@
+package com.exchangerate.models.money;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.exchangerate.models.enums.SupportedCurrency;
+
+/**
+ * Par de monedas dirigido (origen → destino) internado.
+ * Existe una única instancia por par, por lo que puede compararse por identidad,
+ * y cada par tiene un índice denso {@code origen.ordinal() * N + destino.ordinal()}
+ * que permite guardar estado por par en arreglos en lugar de mapas con claves String.
+ *
+ * Con el catálogo ISO 4217 completo hay decenas de miles de pares posibles,
+ * por lo que las instancias se crean la primera vez que se solicitan:
+ * la memoria crece con los pares usados, no con el tamaño del catálogo.
+ */
+public final class CurrencyPair {
+
+    private static final SupportedCurrency[] CURRENCIES = SupportedCurrency.values();
+    private static final int CURRENCY_COUNT = CURRENCIES.length;
+
+    /** Tamaño del espacio de índices (incluye la diagonal origen == destino, que no es un par válido). */
+    public static final int INDEX_SPACE = CURRENCY_COUNT * CURRENCY_COUNT;
+
+    private static final AtomicReferenceArray<CurrencyPair> PAIRS = new AtomicReferenceArray<>(INDEX_SPACE);
+
+    private final SupportedCurrency source;
+    private final SupportedCurrency target;
+    private final int index;
+    private final String key;
+
+    private CurrencyPair(SupportedCurrency source, SupportedCurrency target, int index) {
+        this.source = source;
+        this.target = target;
+        this.index = index;
+        this.key = source.name() + "/" + target.name();
+    }
+
+    /**
+     * Obtiene el par internado para dos monedas.
+     *
+     * @param source moneda de origen
+     * @param target moneda de destino
+     * @return par internado o null si las monedas son iguales
+     */
+    public static CurrencyPair of(SupportedCurrency source, SupportedCurrency target) {
+        if (source == target) {
+            return null;
+        }
+        int index = indexOf(source, target);
+        CurrencyPair pair = PAIRS.get(index);
+        if (pair != null) {
+            return pair;
+        }
+        CurrencyPair created = new CurrencyPair(source, target, index);
+        // Si otro hilo ganó la carrera se devuelve su instancia para conservar la identidad
+        return PAIRS.compareAndSet(index, null, created) ? created : PAIRS.get(index);
+    }
+
+    /**
+     * Resuelve un par a partir de los códigos recibidos en la solicitud,
+     * sin distinguir mayúsculas y sin asignar memoria.
+     *
+     * @param sourceCode código de moneda de origen
+     * @param targetCode código de moneda de destino
+     * @return par internado o null si algún código no es soportado o son iguales
+     */
+    public static CurrencyPair lookup(CharSequence sourceCode, CharSequence targetCode) {
+        SupportedCurrency source = SupportedCurrency.lookup(sourceCode);
+        if (source == null) {
+            return null;
+        }
+        SupportedCurrency target = SupportedCurrency.lookup(targetCode);
+        if (target == null) {
+            return null;
+        }
+        return of(source, target);
+    }
+
+    /**
+     * Obtiene el par correspondiente a un índice denso.
+     *
+     * @param index índice en el rango [0, INDEX_SPACE)
+     * @return par internado o null si el índice corresponde a la diagonal
+     */
+    public static CurrencyPair fromIndex(int index) {
+        return of(CURRENCIES[index / CURRENCY_COUNT], CURRENCIES[index % CURRENCY_COUNT]);
+    }
+
+    public static int indexOf(SupportedCurrency source, SupportedCurrency target) {
+        return source.ordinal() * CURRENCY_COUNT + target.ordinal();
+    }
+
+    public SupportedCurrency source() {
+        return source;
+    }
+
+    public SupportedCurrency target() {
+        return target;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Par inverso (destino → origen).
+     *
+     * @return par internado inverso
+     */
+    public CurrencyPair inverse() {
+        return of(target, source);
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
@@ -0,0 +1,283 @@
+package com.exchangerate.models.money;
+
+import java.math.BigDecimal;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Decimal de punto fijo representado como un {@code long} escalado.
+ * El valor numérico es {@code unscaledValue × 10^-scale}, igual que en
+ * {@link BigDecimal}, pero sin asignaciones adicionales en las operaciones
+ * del camino caliente (conversión, cálculo de tasa y comparación).
+ *
+ * Todas las operaciones que reducen la escala redondean con semántica
+ * {@code HALF_UP} y todo desbordamiento se reporta con {@link ArithmeticException},
+ * de modo que los resultados son idénticos a los que produciría {@link BigDecimal}.
+ * La conversión a {@link BigDecimal} solo debe ocurrir en el borde JSON.
+ */
+@RegisterForReflection
+public record FixedDecimal(long unscaledValue, int scale) implements Comparable<FixedDecimal> {
+
+    /** Escala máxima soportada (10^18 es la mayor potencia de diez que cabe en un long). */
+    public static final int MAX_SCALE = 18;
+
+    public static final FixedDecimal ZERO = new FixedDecimal(0L, 0);
+
+    /** Dígitos que siempre caben en un long sin comprobar desbordamiento (10^18 - 1 < 2^63). */
+    private static final int MAX_SAFE_DIGITS = 18;
+
+    private static final long[] POWERS_OF_TEN = {
+        1L,
+        10L,
+        100L,
+        1_000L,
+        10_000L,
+        100_000L,
+        1_000_000L,
+        10_000_000L,
+        100_000_000L,
+        1_000_000_000L,
+        10_000_000_000L,
+        100_000_000_000L,
+        1_000_000_000_000L,
+        10_000_000_000_000L,
+        100_000_000_000_000L,
+        1_000_000_000_000_000L,
+        10_000_000_000_000_000L,
+        100_000_000_000_000_000L,
+        1_000_000_000_000_000_000L
+    };
+
+    public FixedDecimal {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Escala fuera de rango: " + scale);
+        }
+    }
+
+    /**
+     * Crea un decimal a partir de su valor sin escala y su escala.
+     *
+     * @param unscaledValue valor entero sin escala
+     * @param scale número de decimales
+     * @return instancia de FixedDecimal
+     */
+    public static FixedDecimal of(long unscaledValue, int scale) {
+        return new FixedDecimal(unscaledValue, scale);
+    }
+
+    /**
+     * Convierte un {@link BigDecimal} sin pérdida de precisión.
+     *
+     * @param value valor a convertir
+     * @return instancia equivalente, con la misma escala cuando es posible
+     * @throws ArithmeticException si el valor no cabe en un long escalado
+     */
+    public static FixedDecimal of(BigDecimal value) {
+        BigDecimal normalized = value;
+        if (normalized.scale() < 0) {
+            normalized = normalized.setScale(0);
+        } else if (normalized.scale() > MAX_SCALE || normalized.unscaledValue().bitLength() >= Long.SIZE) {
+            // Los ceros finales pueden ser lo único que no cabe
+            normalized = normalized.stripTrailingZeros();
+            if (normalized.scale() > MAX_SCALE) {
+                throw new ArithmeticException("Escala excede el máximo soportado: " + value);
+            }
+            if (normalized.scale() < 0) {
+                normalized = normalized.setScale(0);
+            }
+        }
+        return new FixedDecimal(normalized.unscaledValue().longValueExact(), normalized.scale());
+    }
+
+    /**
+     * Interpreta un texto decimal ({@code [-+]digitos[.digitos]}) sin crear
+     * objetos intermedios. La notación científica y los textos de más de
+     * {@value #MAX_SAFE_DIGITS} dígitos se delegan a {@link BigDecimal}.
+     *
+     * @param text texto a interpretar
+     * @return instancia con la escala indicada por los decimales del texto
+     * @throws NumberFormatException si el texto no es un decimal válido
+     * @throws ArithmeticException si el valor no cabe en un long escalado
+     */
+    public static FixedDecimal parse(CharSequence text) {
+        int length = text.length();
+        int index = 0;
+        boolean negative = false;
+
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            index++;
+        }
+
+        long unscaled = 0L;
+        int scale = -1;
+        int digits = 0;
+
+        for (; index < length; index++) {
+            char c = text.charAt(index);
+            if (c >= '0' && c <= '9') {
+                if (digits == MAX_SAFE_DIGITS) {
+                    return of(new BigDecimal(text.toString()));
+                }
+                unscaled = Math.addExact(Math.multiplyExact(unscaled, 10L), c - '0');
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else if (c == 'e' || c == 'E') {
+                return of(new BigDecimal(text.toString()));
+            } else {
+                throw new NumberFormatException("Decimal inválido: " + text);
+            }
+        }
+
+        if (digits == 0) {
+            throw new NumberFormatException("Decimal inválido: " + text);
+        }
+        if (scale > MAX_SCALE) {
+            return of(new BigDecimal(text.toString()));
+        }
+        return new FixedDecimal(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    /**
+     * Multiplica y redondea el producto exacto a la escala indicada (HALF_UP).
+     * Equivale a {@code a.multiply(b).setScale(resultScale, HALF_UP)}.
+     *
+     * @param other factor
+     * @param resultScale escala del resultado
+     * @return producto redondeado
+     * @throws ArithmeticException si ocurre desbordamiento
+     */
+    public FixedDecimal multiply(FixedDecimal other, int resultScale) {
+        long product = Math.multiplyExact(unscaledValue, other.unscaledValue);
+        return new FixedDecimal(rescale(product, scale + other.scale, resultScale), resultScale);
+    }
+
+    /**
+     * Divide y redondea el cociente exacto a la escala indicada (HALF_UP).
+     * Equivale a {@code a.divide(b, resultScale, HALF_UP)}.
+     *
+     * @param divisor divisor distinto de cero
+     * @param resultScale escala del resultado
+     * @return cociente redondeado
+     * @throws ArithmeticException si el divisor es cero o hay desbordamiento
+     */
+    public FixedDecimal divide(FixedDecimal divisor, int resultScale) {
+        if (divisor.unscaledValue == 0L) {
+            throw new ArithmeticException("División por cero");
+        }
+        int exponent = divisor.scale + resultScale - scale;
+        long dividend = unscaledValue;
+        long denominator = divisor.unscaledValue;
+        if (exponent >= 0) {
+            dividend = scaleUp(dividend, exponent);
+        } else {
+            denominator = scaleUp(denominator, -exponent);
+        }
+        return new FixedDecimal(divideHalfUp(dividend, denominator), resultScale);
+    }
+
+    /**
+     * Cambia la escala redondeando con HALF_UP si se pierden decimales.
+     *
+     * @param newScale nueva escala
+     * @return instancia con la nueva escala
+     * @throws ArithmeticException si ocurre desbordamiento
+     */
+    public FixedDecimal setScale(int newScale) {
+        if (newScale == scale) {
+            return this;
+        }
+        return new FixedDecimal(rescale(unscaledValue, scale, newScale), newScale);
+    }
+
+    public int signum() {
+        return Long.signum(unscaledValue);
+    }
+
+    @Override
+    public int compareTo(FixedDecimal other) {
+        if (scale == other.scale) {
+            return Long.compare(unscaledValue, other.unscaledValue);
+        }
+        try {
+            int commonScale = Math.max(scale, other.scale);
+            return Long.compare(
+                scaleUp(unscaledValue, commonScale - scale),
+                scaleUp(other.unscaledValue, commonScale - other.scale));
+        } catch (ArithmeticException overflow) {
+            return toBigDecimal().compareTo(other.toBigDecimal());
+        }
+    }
+
+    /**
+     * Convierte a {@link BigDecimal} conservando la escala. Usar solo en el borde JSON.
+     *
+     * @return valor equivalente como BigDecimal
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(unscaledValue, scale);
+    }
+
+    /**
+     * Aproximación en punto flotante, útil para puntuaciones que no exigen exactitud.
+     *
+     * @return valor aproximado como double
+     */
+    public double toDouble() {
+        return (double) unscaledValue / POWERS_OF_TEN[scale];
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    private static long scaleUp(long value, int exponent) {
+        long result = value;
+        int remaining = exponent;
+        while (remaining > MAX_SCALE) {
+            result = Math.multiplyExact(result, POWERS_OF_TEN[MAX_SCALE]);
+            remaining -= MAX_SCALE;
+        }
+        return Math.multiplyExact(result, POWERS_OF_TEN[remaining]);
+    }
+
+    private static long rescale(long value, int fromScale, int toScale) {
+        if (toScale >= fromScale) {
+            return scaleUp(value, toScale - fromScale);
+        }
+        int drop = fromScale - toScale;
+        if (drop <= MAX_SCALE) {
+            return divideHalfUp(value, POWERS_OF_TEN[drop]);
+        }
+        // |value| < 10^19, por lo que solo una caída de 19 dígitos puede redondear a ±1
+        long half = 5 * POWERS_OF_TEN[MAX_SCALE];
+        if (drop == MAX_SCALE + 1 && (value >= half || value <= -half)) {
+            return Long.signum(value);
+        }
+        return 0L;
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        if (divisor == Long.MIN_VALUE || (dividend == Long.MIN_VALUE && divisor == -1L)) {
+            throw new ArithmeticException("Desbordamiento en división");
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0L) {
+            return quotient;
+        }
+        long absRemainder = Math.abs(remainder);
+        long absDivisor = Math.abs(divisor);
+        if (absRemainder >= absDivisor - absRemainder) {
+            return (dividend ^ divisor) < 0
+                ? Math.subtractExact(quotient, 1L)
+                : Math.addExact(quotient, 1L);
+        }
+        return quotient;
+    }
+}
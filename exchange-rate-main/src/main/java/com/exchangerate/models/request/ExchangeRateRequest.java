@@ -3,8 +3,10 @@ package com.exchangerate.models.request;
 import java.io.Serializable;
 import java.math.BigDecimal;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -14,6 +16,9 @@ import jakarta.validation.constraints.Size;
  * Solicitud para obtener el mejor tipo de cambio entre monedas.
  * Esta clase encapsula los datos necesarios para consultar múltiples
  * proveedores de APIs de tipo de cambio y obtener la mejor oferta.
+ * El campo opcional {@code ranking} selecciona la estrategia de comparación
+ * (highest-amount, latency-weighted, freshness-weighted); si se omite se usa
+ * la configurada por defecto.
  * 
  * @author Dev. Domingo J. Ruiz
  */
@@ -29,8 +34,28 @@ public record ExchangeRateRequest(
     
     @NotNull(message = "El monto es obligatorio")
     @DecimalMin(value = "0.01", message = "El monto debe ser mayor a cero")
-    @JsonProperty("amount") BigDecimal amount
+    @DecimalMax(value = "1000000000000", message = "El monto no puede ser mayor a 1000000000000")
+    @JsonProperty("amount") BigDecimal amount,
+    
+    @Size(max = 32, message = "El nombre de la estrategia de ranking es demasiado largo")
+    @JsonProperty("ranking") String ranking
 ) implements Serializable {
+    
+    @JsonCreator
+    public ExchangeRateRequest {
+    }
+    
+    /**
+     * Crea una solicitud que usa la estrategia de ranking por defecto.
+     * 
+     * @param sourceCurrency moneda de origen
+     * @param targetCurrency moneda de destino
+     * @param amount monto a convertir
+     */
+    public ExchangeRateRequest(String sourceCurrency, String targetCurrency, BigDecimal amount) {
+        this(sourceCurrency, targetCurrency, amount, null);
+    }
+    
     /**
      * Valida que las monedas de origen y destino no sean iguales.
      * Este método es usado por el framework de validación de Jakarta.
@@ -2,23 +2,32 @@ package com.exchangerate.models.response;
 
 import java.math.BigDecimal;
 
+import com.exchangerate.models.enums.ProviderFailureType;
+import com.exchangerate.models.money.FixedDecimal;
+
 import io.quarkus.runtime.annotations.RegisterForReflection;
 
 /**
  * Respuesta unificada de los proveedores de API de tipo de cambio.
  * Encapsula el resultado de cada proveedor incluyendo métricas
  * de rendimiento y manejo de errores para el sistema de comparación.
+ * Las tasas y montos se mantienen en punto fijo dentro del servicio.
+ * {@code quotedAtMillis} indica cuándo se obtuvo la cotización (epoch ms)
+ * y permite ponderar respuestas por frescura; vale 0 en respuestas fallidas.
+ * {@code failureType} clasifica el fallo y es null en respuestas exitosas.
  * 
  * @author Dev. Domingo J. Ruiz
  */
 @RegisterForReflection
 public record ApiResponse(
     String provider,
-    BigDecimal rate,
-    BigDecimal convertedAmount,
+    FixedDecimal rate,
+    FixedDecimal convertedAmount,
     Long responseTimeMs,
     boolean successful,
-    String errorMessage
+    String errorMessage,
+    long quotedAtMillis,
+    ProviderFailureType failureType
 ) {
      /**
      * Crea una respuesta exitosa de proveedor de API.
@@ -29,8 +38,37 @@ public record ApiResponse(
      * @param responseTimeMs tiempo de respuesta en milisegundos
      * @return instancia de ApiResponse para resultado exitoso
      */
+    public static ApiResponse success(String provider, FixedDecimal rate, FixedDecimal convertedAmount, Long responseTimeMs) {
+        return success(provider, rate, convertedAmount, responseTimeMs, System.currentTimeMillis());
+    }
+    
+     /**
+     * Crea una respuesta exitosa con la marca de tiempo de la cotización.
+     * 
+     * @param provider nombre del proveedor de API
+     * @param rate tasa de cambio calculada
+     * @param convertedAmount monto convertido final
+     * @param responseTimeMs tiempo de respuesta en milisegundos
+     * @param quotedAtMillis instante de la cotización en milisegundos epoch
+     * @return instancia de ApiResponse para resultado exitoso
+     */
+    public static ApiResponse success(String provider, FixedDecimal rate, FixedDecimal convertedAmount,
+                                      Long responseTimeMs, long quotedAtMillis) {
+        return new ApiResponse(provider, rate, convertedAmount, responseTimeMs, true, null, quotedAtMillis, null);
+    }
+    
+     /**
+     * Crea una respuesta exitosa a partir de valores {@link BigDecimal}.
+     * 
+     * @param provider nombre del proveedor de API
+     * @param rate tasa de cambio calculada
+     * @param convertedAmount monto convertido final
+     * @param responseTimeMs tiempo de respuesta en milisegundos
+     * @return instancia de ApiResponse para resultado exitoso
+     * @throws ArithmeticException si algún valor no cabe en punto fijo
+     */
     public static ApiResponse success(String provider, BigDecimal rate, BigDecimal convertedAmount, Long responseTimeMs) {
-        return new ApiResponse(provider, rate, convertedAmount, responseTimeMs, true, null);
+        return success(provider, FixedDecimal.of(rate), FixedDecimal.of(convertedAmount), responseTimeMs);
     }
     
      /**
@@ -42,6 +80,18 @@ public record ApiResponse(
      * @return instancia de ApiResponse para resultado fallido
      */
     public static ApiResponse failure(String provider, String errorMessage, Long responseTimeMs) {
-        return new ApiResponse(provider, null, null, responseTimeMs, false, errorMessage);
+        return new ApiResponse(provider, null, null, responseTimeMs, false, errorMessage, 0L, ProviderFailureType.UNKNOWN);
+    }
+    
+     /**
+     * Crea una respuesta de error clasificada; el mensaje es la descripción del tipo.
+     * 
+     * @param provider nombre del proveedor de API
+     * @param failureType tipo de fallo
+     * @param responseTimeMs tiempo de respuesta en milisegundos
+     * @return instancia de ApiResponse para resultado fallido
+     */
+    public static ApiResponse failure(String provider, ProviderFailureType failureType, Long responseTimeMs) {
+        return new ApiResponse(provider, null, null, responseTimeMs, false, failureType.getDescription(), 0L, failureType);
     }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.exchangerate.models.response;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Cotización almacenada para un par y monto, con la versión que la identifica.
+ * {@code etag} es un ETag fuerte (entre comillas) derivado del par y la versión;
+ * cambia cada vez que la cotización se vuelve a obtener de los proveedores.
+ */
+@RegisterForReflection
+public record CachedQuote(
+    ExchangeRateResponse response,
+    long version,
+    long quotedAtMillis,
+    long expiresAtMillis,
+    String etag
+) {
+
+    /**
+     * Indica si la cotización sigue vigente.
+     *
+     * @param nowMillis instante actual (epoch ms)
+     * @return true si no ha expirado
+     */
+    public boolean isFresh(long nowMillis) {
+        return nowMillis < expiresAtMillis;
+    }
+
+    /**
+     * Segundos de vigencia restantes, para {@code Cache-Control: max-age}.
+     *
+     * @param nowMillis instante actual (epoch ms)
+     * @return segundos restantes redondeados hacia abajo, nunca negativos
+     */
+    public long maxAgeSeconds(long nowMillis) {
+        return Math.max(0L, (expiresAtMillis - nowMillis) / 1000L);
+    }
+}
@@ -3,6 +3,7 @@ package com.exchangerate.models.response;
 import java.io.Serializable;
 import java.math.BigDecimal;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 
@@ -10,6 +11,7 @@ import io.quarkus.runtime.annotations.RegisterForReflection;
  * Respuesta final del sistema de comparación de tipos de cambio.
  * Contiene el mejor tipo de cambio encontrado entre todos los proveedores
  * consultados, incluyendo métricas completas de la operación.
+ * {@code timings} solo se incluye cuando el cliente solicita el desglose de tiempos.
  * 
  * @author Dev. Domingo J. Ruiz
  */
@@ -32,5 +34,26 @@ public record ExchangeRateResponse(
     Integer successfulProviders,
     
     @JsonProperty("totalProviders")
-    Integer totalProviders
-) implements Serializable {}
\ No newline at end of file
+    Integer totalProviders,
+    
+    @JsonProperty("timings")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    TimingBreakdown timings
+) implements Serializable {
+    
+    public ExchangeRateResponse(BigDecimal bestRate, BigDecimal convertedAmount, String provider,
+                                Long responseTimeMs, Integer successfulProviders, Integer totalProviders) {
+        this(bestRate, convertedAmount, provider, responseTimeMs, successfulProviders, totalProviders, null);
+    }
+    
+    /**
+     * Copia de la respuesta con el desglose de tiempos.
+     *
+     * @param timings desglose de tiempos
+     * @return nueva respuesta
+     */
+    public ExchangeRateResponse withTimings(TimingBreakdown timings) {
+        return new ExchangeRateResponse(bestRate, convertedAmount, provider, responseTimeMs,
+            successfulProviders, totalProviders, timings);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.exchangerate.models.response;
+
+import java.io.Serializable;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Desglose de tiempos de la llamada a un proveedor, en milisegundos.
+ * Los tiempos por fase corresponden al último intento; {@code totalMs} incluye los reintentos.
+ * {@code firstByteMs} incluye el establecimiento de la conexión: el cliente HTTP del JDK
+ * no expone ambos tiempos por separado.
+ *
+ * @param provider nombre del proveedor
+ * @param attempts intentos HTTP realizados
+ * @param firstByteMs desde el envío hasta recibir los encabezados de la respuesta
+ * @param bodyMs desde los encabezados hasta recibir el cuerpo completo
+ * @param parseMs interpretación del cuerpo
+ * @param totalMs desde la invocación del proveedor hasta su resultado
+ * @param outcome resultado de la llamada
+ */
+@RegisterForReflection
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProviderTiming(
+    String provider,
+    int attempts,
+    Double firstByteMs,
+    Double bodyMs,
+    Double parseMs,
+    Double totalMs,
+    String outcome
+) implements Serializable {}
@@ -0,0 +1,30 @@
+package com.exchangerate.models.response;
+
+import java.io.Serializable;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Desglose de tiempos de una solicitud de mejor tasa, en milisegundos.
+ * Solo se calcula cuando el cliente envía el encabezado de depuración.
+ *
+ * @param dispatchMs desde la llegada al servidor HTTP hasta la entrada al recurso
+ * @param providers tiempos de cada proveedor
+ * @param comparatorMs selección de la mejor tasa
+ * @param serviceMs desde el inicio de la comparación hasta su resultado
+ * @param serializationMs serialización de la respuesta sin este desglose, en el formato negociado
+ * @param totalMs desde la llegada (o la entrada al recurso) hasta la serialización
+ */
+@RegisterForReflection
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TimingBreakdown(
+    Double dispatchMs,
+    List<ProviderTiming> providers,
+    Double comparatorMs,
+    Double serviceMs,
+    Double serializationMs,
+    Double totalMs
+) implements Serializable {}
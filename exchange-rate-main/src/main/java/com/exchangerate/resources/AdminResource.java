@@ -0,0 +1,128 @@
+package com.exchangerate.resources;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.exchangerate.models.logging.EventLoopStall;
+import com.exchangerate.models.logging.SlowRequestExemplar;
+import com.exchangerate.models.response.ApiResponseWrapper;
+import com.exchangerate.services.contracts.IClock;
+import com.exchangerate.services.contracts.IEventLoopMonitor;
+import com.exchangerate.services.contracts.IFlightRecorder;
+import com.exchangerate.services.contracts.ISlowRequestRecorder;
+import com.exchangerate.utils.ApiResponseConstants;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Endpoints de diagnóstico del servicio de tipos de cambio.
+ *
+ * Exponen pilas de llamadas, detalle de solicitudes y grabaciones JFR, por lo que están
+ * deshabilitados por defecto ({@code exchange.admin.enabled}); mientras lo estén responden 404.
+ * Al habilitarlos, el acceso debe restringirse en la red o el proxy de entrada.
+ */
+@Path("/api/v1/admin")
+@ApplicationScoped
+public class AdminResource {
+
+    @Inject
+    ISlowRequestRecorder slowRequests;
+
+    @Inject
+    IFlightRecorder flightRecorder;
+
+    @Inject
+    IEventLoopMonitor eventLoopMonitor;
+
+    @Inject
+    IClock clock;
+
+    @ConfigProperty(name = "exchange.admin.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "exchange.jfr.default-duration-seconds", defaultValue = "30")
+    int defaultRecordingSeconds;
+
+    @ConfigProperty(name = "exchange.jfr.max-duration-seconds", defaultValue = "300")
+    int maxRecordingSeconds;
+
+    /**
+     * Solicitudes más lentas de la ventana actual y la anterior, con el detalle por proveedor.
+     *
+     * @return solicitudes lentas, de la más lenta a la más rápida
+     */
+    @GET
+    @Path("/slow-requests")
+    @Produces(MediaType.APPLICATION_JSON)
+    public ApiResponseWrapper<List<SlowRequestExemplar>> getSlowRequests() {
+        requireEnabled();
+        return ApiResponseWrapper.success(slowRequests.slowest());
+    }
+
+    /**
+     * Bloqueos recientes de hilos de eventos, con la pila del código que bloqueaba.
+     *
+     * @return bloqueos, del más reciente al más antiguo
+     */
+    @GET
+    @Path("/event-loop-stalls")
+    @Produces(MediaType.APPLICATION_JSON)
+    public ApiResponseWrapper<List<EventLoopStall>> getEventLoopStalls() {
+        requireEnabled();
+        return ApiResponseWrapper.success(eventLoopMonitor.recentStalls());
+    }
+
+    /**
+     * Graba con JDK Flight Recorder durante el tiempo indicado y devuelve el archivo {@code .jfr},
+     * listo para abrir en JDK Mission Control. Incluye los eventos propios del servicio.
+     *
+     * @param seconds duración en segundos; por defecto {@code exchange.jfr.default-duration-seconds}
+     * @return archivo {@code .jfr}, 400 si la duración no es válida o 409 si ya hay una grabación en curso
+     */
+    @POST
+    @Path("/jfr")
+    @Produces({ MediaType.APPLICATION_OCTET_STREAM, MediaType.APPLICATION_JSON })
+    public Uni<Response> recordFlight(@QueryParam("seconds") Integer seconds) {
+        requireEnabled();
+        int duration = seconds == null ? defaultRecordingSeconds : seconds;
+        if (duration < 1 || duration > maxRecordingSeconds) {
+            return Uni.createFrom().item(jsonError(ApiResponseConstants.HTTP_BAD_REQUEST,
+                "La duración de la grabación debe estar entre 1 y " + maxRecordingSeconds + " segundos"));
+        }
+
+        return flightRecorder.record(Duration.ofSeconds(duration))
+            .onItem().transform(content -> Response.ok(content, MediaType.APPLICATION_OCTET_STREAM)
+                .header("Content-Disposition",
+                    "attachment; filename=\"exchange-rate-" + clock.currentTimeMillis() + ".jfr\"")
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .build())
+            .onFailure(IllegalStateException.class).recoverWithItem(failure ->
+                jsonError(ApiResponseConstants.HTTP_CONFLICT, failure.getMessage()));
+    }
+
+    private void requireEnabled() {
+        if (!enabled) {
+            throw new NotFoundException(ApiResponseConstants.NOT_FOUND_ERROR);
+        }
+    }
+
+    private static Response jsonError(int status, String message) {
+        return Response.status(status)
+            .type(MediaType.APPLICATION_JSON)
+            .entity(ApiResponseWrapper.error(status, message))
+            .build();
+    }
+}
@@ -0,0 +1,281 @@
+package com.exchangerate.resources;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.exchangerate.grpc.BestRate;
+import com.exchangerate.grpc.BestRateBatchReply;
+import com.exchangerate.grpc.BestRateBatchRequest;
+import com.exchangerate.grpc.BestRateReply;
+import com.exchangerate.grpc.BestRateRequest;
+import com.exchangerate.grpc.Decimal;
+import com.exchangerate.grpc.WatchBestRateRequest;
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.services.contracts.IExchangeRateService;
+import com.exchangerate.utils.ApiResponseConstants;
+import com.exchangerate.utils.CurrencyUtils;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.quarkus.grpc.GrpcService;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+
+/**
+ * Front end gRPC del servicio de tipos de cambio.
+ * Expone la misma operación que {@link ExchangeRateResource} (unaria, por lotes
+ * y en streaming) sobre el mismo {@link IExchangeRateService}, servida en el
+ * puerto HTTP de la aplicación mediante HTTP/2.
+ *
+ * Las suscripciones con la misma solicitud e intervalo comparten una sola consulta
+ * periódica, y los lotes limitan cuántas consultas corren a la vez.
+ */
+@GrpcService
+public class BestRateGrpcResource implements BestRate {
+
+    private static final Logger LOG = Logger.getLogger(BestRateGrpcResource.class);
+
+    @Inject
+    IExchangeRateService exchangeRateService;
+
+    @ConfigProperty(name = "exchange.grpc.batch.max-size", defaultValue = "100")
+    int maxBatchSize;
+
+    @ConfigProperty(name = "exchange.grpc.batch.concurrency", defaultValue = "8")
+    int batchConcurrency;
+
+    @ConfigProperty(name = "exchange.grpc.watch.default-interval-ms", defaultValue = "1000")
+    long defaultWatchIntervalMs;
+
+    @ConfigProperty(name = "exchange.grpc.watch.min-interval-ms", defaultValue = "250")
+    long minWatchIntervalMs;
+
+    private final ConcurrentHashMap<WatchKey, SharedWatch> watches = new ConcurrentHashMap<>();
+
+    /**
+     * Identidad de una suscripción: las que coinciden comparten la consulta periódica.
+     * El monto se normaliza para que 100 y 100.00 coincidan.
+     */
+    private record WatchKey(String sourceCurrency, String targetCurrency, BigDecimal amount, String ranking,
+                            long intervalMs) {
+
+        static WatchKey of(ExchangeRateRequest request, Duration interval) {
+            return new WatchKey(request.sourceCurrency(), request.targetCurrency(),
+                request.amount().stripTrailingZeros(), request.ranking(), interval.toMillis());
+        }
+    }
+
+    /**
+     * Consulta periódica compartida por todas las suscripciones de una {@link WatchKey}.
+     * Empieza con el primer suscriptor y se cancela cuando se va el último; guarda la
+     * última respuesta para entregarla de inmediato a quien se suscribe después.
+     */
+    private final class SharedWatch {
+        final AtomicReference<BestRateReply> latest = new AtomicReference<>();
+        final Multi<BestRateReply> replies;
+
+        SharedWatch(WatchKey key, ExchangeRateRequest request, Duration interval) {
+            replies = Multi.createFrom().ticks().startingAfter(Duration.ZERO).every(interval)
+                .onOverflow().drop()
+                .onItem().transformToUniAndConcatenate(tick -> exchangeRateService.getBestExchangeRate(request))
+                .map(response -> toReply(request, response))
+                .invoke(latest::set)
+                .onTermination().invoke(() -> watches.remove(key, this))
+                .broadcast().withCancellationAfterLastSubscriberDeparture().toAllSubscribers();
+        }
+
+        Multi<BestRateReply> subscribe() {
+            BestRateReply current = latest.get();
+            return current == null
+                ? replies
+                : Multi.createBy().concatenating().streams(Multi.createFrom().item(current), replies);
+        }
+    }
+
+    /**
+     * Obtiene la mejor tasa para una solicitud.
+     */
+    @Override
+    public Uni<BestRateReply> getBestRate(BestRateRequest request) {
+        LOG.debugf("Solicitud gRPC de tipo de cambio: %s a %s", request.getSourceCurrency(), request.getTargetCurrency());
+
+        return quote(request)
+            .onFailure().transform(BestRateGrpcResource::toStatus);
+    }
+
+    /**
+     * Obtiene la mejor tasa para varias solicitudes en paralelo, con a lo sumo
+     * {@code exchange.grpc.batch.concurrency} consultas en curso a la vez.
+     * Un elemento inválido o fallido no hace fallar el lote: se reporta en su campo {@code error}.
+     */
+    @Override
+    public Uni<BestRateBatchReply> getBestRates(BestRateBatchRequest batch) {
+        int count = batch.getRequestsCount();
+        LOG.debugf("Solicitud gRPC por lotes con %d elementos", count);
+
+        if (count > maxBatchSize) {
+            return Uni.createFrom().failure(Status.INVALID_ARGUMENT
+                .withDescription("El lote excede el máximo de " + maxBatchSize + " solicitudes")
+                .asRuntimeException());
+        }
+        if (count == 0) {
+            return Uni.createFrom().item(BestRateBatchReply.getDefaultInstance());
+        }
+
+        List<Uni<BestRateReply>> quotes = new ArrayList<>(count);
+        for (BestRateRequest request : batch.getRequestsList()) {
+            quotes.add(quote(request)
+                .onFailure().recoverWithItem(throwable -> errorReply(request, throwable)));
+        }
+
+        return Uni.join().all(quotes).usingConcurrencyOf(batchConcurrency).andFailFast()
+            .map(replies -> BestRateBatchReply.newBuilder().addAllReplies(replies).build());
+    }
+
+    /**
+     * Consulta periódicamente la mejor tasa y emite solo cuando cambia
+     * el proveedor, la tasa, el monto convertido o la disponibilidad.
+     * Las suscripciones iguales comparten la consulta (ver {@link SharedWatch}).
+     */
+    @Override
+    public Multi<BestRateReply> watchBestRate(WatchBestRateRequest watch) {
+        ExchangeRateRequest request;
+        try {
+            request = toExchangeRequest(watch.getRequest());
+        } catch (IllegalArgumentException e) {
+            return Multi.createFrom().failure(toStatus(e));
+        }
+
+        long requestedMs = watch.getIntervalMs();
+        Duration interval = Duration.ofMillis(requestedMs <= 0 ? defaultWatchIntervalMs : Math.max(minWatchIntervalMs, requestedMs));
+        LOG.infof("Suscripción gRPC a %s a %s cada %dms", request.sourceCurrency(), request.targetCurrency(), interval.toMillis());
+
+        SharedWatch shared = watches.computeIfAbsent(WatchKey.of(request, interval),
+            key -> new SharedWatch(key, request, interval));
+
+        AtomicReference<BestRateReply> lastEmitted = new AtomicReference<>();
+        return shared.subscribe()
+            .select().where(reply -> {
+                BestRateReply previous = lastEmitted.get();
+                if (previous != null && sameQuote(previous, reply)) {
+                    return false;
+                }
+                lastEmitted.set(reply);
+                return true;
+            })
+            .onFailure().transform(BestRateGrpcResource::toStatus)
+            .onTermination().invoke(() -> LOG.infof("Suscripción gRPC finalizada para %s a %s",
+                request.sourceCurrency(), request.targetCurrency()));
+    }
+
+    private Uni<BestRateReply> quote(BestRateRequest request) {
+        ExchangeRateRequest exchangeRequest;
+        try {
+            exchangeRequest = toExchangeRequest(request);
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().failure(e);
+        }
+        return exchangeRateService.getBestExchangeRate(exchangeRequest)
+            .map(response -> toReply(exchangeRequest, response));
+    }
+
+    /**
+     * Aplica las mismas validaciones que las anotaciones de {@link ExchangeRateRequest} en REST.
+     */
+    private static ExchangeRateRequest toExchangeRequest(BestRateRequest request) {
+        if (request.getSourceCurrency().isBlank()) {
+            throw new IllegalArgumentException("La moneda de origen es requerida");
+        }
+        if (request.getTargetCurrency().isBlank()) {
+            throw new IllegalArgumentException("La moneda de destino es requerida");
+        }
+        if (!request.hasAmount()) {
+            throw new IllegalArgumentException("El monto es requerido");
+        }
+        BigDecimal amount = BigDecimal.valueOf(request.getAmount().getUnscaled(), request.getAmount().getScale());
+        if (amount.compareTo(new BigDecimal("0.01")) < 0) {
+            throw new IllegalArgumentException("El monto debe ser mayor a cero");
+        }
+        if (amount.compareTo(CurrencyUtils.MAX_AMOUNT) > 0) {
+            throw new IllegalArgumentException(ApiResponseConstants.AMOUNT_TOO_LARGE);
+        }
+        String ranking = request.getRanking().isBlank() ? null : request.getRanking();
+        return new ExchangeRateRequest(request.getSourceCurrency(), request.getTargetCurrency(), amount, ranking);
+    }
+
+    private static BestRateReply toReply(ExchangeRateRequest request, ExchangeRateResponse response) {
+        BestRateReply.Builder reply = BestRateReply.newBuilder()
+            .setSourceCurrency(request.sourceCurrency())
+            .setTargetCurrency(request.targetCurrency())
+            .setAvailable(response.bestRate() != null);
+
+        if (response.bestRate() != null) {
+            reply.setBestRate(toDecimal(response.bestRate()));
+        }
+        if (response.convertedAmount() != null) {
+            reply.setConvertedAmount(toDecimal(response.convertedAmount()));
+        }
+        if (response.provider() != null) {
+            reply.setProvider(response.provider());
+        }
+        if (response.responseTimeMs() != null) {
+            reply.setResponseTimeMs(response.responseTimeMs());
+        }
+        if (response.successfulProviders() != null) {
+            reply.setSuccessfulProviders(response.successfulProviders());
+        }
+        if (response.totalProviders() != null) {
+            reply.setTotalProviders(response.totalProviders());
+        }
+        return reply.build();
+    }
+
+    /**
+     * El error de un elemento del lote usa la misma descripción saneada que {@link #toStatus(Throwable)}.
+     */
+    private static BestRateReply errorReply(BestRateRequest request, Throwable throwable) {
+        return BestRateReply.newBuilder()
+            .setSourceCurrency(request.getSourceCurrency())
+            .setTargetCurrency(request.getTargetCurrency())
+            .setAvailable(false)
+            .setError(toStatus(throwable).getStatus().getDescription())
+            .build();
+    }
+
+    private static Decimal toDecimal(BigDecimal value) {
+        return Decimal.newBuilder()
+            .setUnscaled(value.unscaledValue().longValueExact())
+            .setScale(value.scale())
+            .build();
+    }
+
+    /**
+     * Dos cotizaciones son iguales si coinciden en todo salvo los tiempos de respuesta.
+     */
+    private static boolean sameQuote(BestRateReply left, BestRateReply right) {
+        return left.getAvailable() == right.getAvailable()
+            && left.getProvider().equals(right.getProvider())
+            && left.getBestRate().equals(right.getBestRate())
+            && left.getConvertedAmount().equals(right.getConvertedAmount());
+    }
+
+    private static StatusRuntimeException toStatus(Throwable throwable) {
+        if (throwable instanceof StatusRuntimeException status) {
+            return status;
+        }
+        if (throwable instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(throwable.getMessage()).asRuntimeException();
+        }
+        LOG.errorf(throwable, "Error procesando solicitud gRPC: %s", throwable.getMessage());
+        return Status.INTERNAL.withDescription("Error procesando la solicitud").withCause(throwable).asRuntimeException();
+    }
+}
@@ -0,0 +1,105 @@
+package com.exchangerate.resources;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.models.response.ApiResponseWrapper;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.serialization.BestRateJsonWriter;
+import com.exchangerate.serialization.BestRateRequestParser;
+import com.exchangerate.services.contracts.IExchangeRateService;
+import com.exchangerate.utils.ApiResponseConstants;
+
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * Ruta Vert.x de bajo costo para {@code best-rate}, opcional y desactivada por defecto.
+ *
+ * Responde lo mismo que {@link ExchangeRateResource} (solo JSON) pero sin pasar por
+ * JAX-RS, Jackson ni Bean Validation: el cuerpo se interpreta directamente desde el
+ * buffer con {@link BestRateRequestParser} y la respuesta se escribe con
+ * {@link BestRateJsonWriter}.
+ */
+@ApplicationScoped
+public class BestRateRoute {
+
+    private static final Logger LOG = Logger.getLogger(BestRateRoute.class);
+
+    private static final String CONTENT_TYPE_JSON = "application/json";
+
+    @Inject
+    IExchangeRateService exchangeRateService;
+
+    @ConfigProperty(name = "exchange.fast-route.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "exchange.fast-route.path", defaultValue = "/fast/v1/exchange/best-rate")
+    String path;
+
+    @ConfigProperty(name = "exchange.fast-route.max-body-bytes", defaultValue = "4096")
+    long maxBodyBytes;
+
+    /**
+     * Registra la ruta en el router HTTP de la aplicación si está habilitada.
+     *
+     * @param router router de Vert.x de Quarkus
+     */
+    void registerRoute(@Observes Router router) {
+        if (!enabled) {
+            return;
+        }
+        LOG.infof("Ruta rápida de best-rate habilitada en %s", path);
+
+        router.post(path)
+            .consumes(CONTENT_TYPE_JSON)
+            .handler(BodyHandler.create().setBodyLimit(maxBodyBytes))
+            // Los proveedores no bloquean: la solicitud se atiende en el hilo de eventos
+            .handler(this::handle);
+    }
+
+    private void handle(RoutingContext context) {
+        ExchangeRateRequest request;
+        try {
+            request = BestRateRequestParser.parse(context.body().buffer());
+        } catch (IllegalArgumentException e) {
+            LOG.warnf("Solicitud rechazada en la ruta rápida: %s", e.getMessage());
+            send(context, ApiResponseConstants.HTTP_BAD_REQUEST, ApiResponseWrapper.badRequest(e.getMessage()));
+            return;
+        }
+
+        exchangeRateService.getBestExchangeRate(request).subscribe().with(
+            exchangeResponse -> {
+                if (exchangeResponse.bestRate() == null) {
+                    LOG.warn("No hay proveedores de tipo de cambio disponibles");
+                    send(context, ApiResponseConstants.HTTP_SERVICE_UNAVAILABLE, ApiResponseWrapper.serviceUnavailable(
+                        ApiResponseConstants.PROVIDER_NOT_AVAILABLE,
+                        exchangeResponse));
+                    return;
+                }
+                send(context, ApiResponseConstants.HTTP_OK, ApiResponseWrapper.success(exchangeResponse));
+            },
+            throwable -> {
+                LOG.errorf(throwable, "Error procesando solicitud de tipo de cambio: %s", throwable.getMessage());
+                send(context, ApiResponseConstants.HTTP_BAD_REQUEST,
+                    ApiResponseWrapper.badRequest(ExchangeRateResource.translateErrorMessage(throwable)));
+            });
+    }
+
+    private static void send(RoutingContext context, int status, ApiResponseWrapper<ExchangeRateResponse> body) {
+        HttpServerResponse response = context.response();
+        if (response.ended() || response.closed()) {
+            return;
+        }
+        response.setStatusCode(status)
+            .putHeader(HttpHeaders.CONTENT_TYPE, CONTENT_TYPE_JSON)
+            .end(BestRateJsonWriter.write(body));
+    }
+}
@@ -0,0 +1,44 @@
+package com.exchangerate.resources;
+
+import com.exchangerate.utils.RequestTimer;
+
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+/**
+ * Registra la llegada de las solicitudes que piden el desglose de tiempos.
+ *
+ * Se ejecuta antes que cualquier otra ruta, en el hilo de eventos, y solo lee el reloj
+ * cuando está presente el encabezado {@value RequestTimer#DEBUG_HEADER}; así el recurso
+ * puede informar cuánto tardó la solicitud en llegar hasta él.
+ */
+@ApplicationScoped
+public class DebugTimingFilter {
+
+    static final String ARRIVAL_NANOS = "exchange.arrival-nanos";
+
+    void registerFilter(@Observes Router router) {
+        router.route().order(Integer.MIN_VALUE).handler(context -> {
+            if (context.request().headers().contains(RequestTimer.DEBUG_HEADER)) {
+                context.put(ARRIVAL_NANOS, System.nanoTime());
+            }
+            context.next();
+        });
+    }
+
+    /**
+     * Llegada de la solicitud registrada por el filtro.
+     *
+     * @param context contexto Vert.x de la solicitud, puede ser null
+     * @return instante de {@link System#nanoTime()}, o 0 si no se registró
+     */
+    static long arrivalNanos(RoutingContext context) {
+        if (context == null) {
+            return 0L;
+        }
+        Long arrival = context.get(ARRIVAL_NANOS);
+        return arrival != null ? arrival : 0L;
+    }
+}
@@ -1,21 +1,44 @@
 package com.exchangerate.resources;
 
+import java.math.BigDecimal;
+
 import org.jboss.logging.Logger;
 
+import com.exchangerate.exceptions.InvalidRankingException;
+import com.exchangerate.exceptions.ProviderFailureException;
+import com.exchangerate.models.enums.CapturedEndpoint;
+import com.exchangerate.models.enums.ProviderFailureType;
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.money.FixedDecimal;
 import com.exchangerate.models.request.ExchangeRateRequest;
 import com.exchangerate.utils.ApiResponseConstants;
 import com.exchangerate.models.response.ApiResponseWrapper;
+import com.exchangerate.models.response.CachedQuote;
 import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.serialization.BinaryMediaType;
+import com.exchangerate.serialization.ResponseFormat;
+import com.exchangerate.services.contracts.IClock;
 import com.exchangerate.services.contracts.IExchangeRateService;
+import com.exchangerate.services.contracts.IQuoteCache;
+import com.exchangerate.services.contracts.IResponseByteCache;
+import com.exchangerate.services.contracts.ITrafficCapture;
+import com.exchangerate.utils.CurrencyUtils;
+import com.exchangerate.utils.RequestTimer;
 
 import io.smallrye.mutiny.Uni;
+import io.vertx.ext.web.RoutingContext;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
@@ -28,20 +51,53 @@ public class ExchangeRateResource {
     
     private static final Logger LOG = Logger.getLogger(ExchangeRateResource.class);
     
+    private static final String NO_STORE = "no-store";
+    
     @Inject
     IExchangeRateService exchangeRateService;
     
+    @Inject
+    IQuoteCache quoteCache;
+    
+    @Inject
+    IResponseByteCache responseByteCache;
+    
+    @Inject
+    ITrafficCapture trafficCapture;
+    
+    @Inject
+    IClock clock;
+    
     /**
      * Obtiene la mejor tasa de cambio entre los proveedores disponibles.
+     * El formato de la respuesta se negocia con {@code Accept}: JSON (por defecto),
+     * CBOR, Smile o Protobuf, todos con la misma estructura de datos.
+     * Con el encabezado {@value RequestTimer#DEBUG_HEADER} la respuesta incluye además
+     * el desglose de tiempos de la solicitud (excepto en Protobuf, cuyo esquema no lo contempla).
      *
      * @param request solicitud con datos de conversión
+     * @param debugTiming encabezado de depuración; cualquier valor activa el desglose
+     * @param headers encabezados de la solicitud, para negociar el formato
+     * @param routingContext contexto Vert.x, con la llegada registrada por {@link DebugTimingFilter}
      * @return respuesta con la mejor tasa encontrada
      */
     @POST
     @Path("/best-rate")
     @Consumes(MediaType.APPLICATION_JSON)
-    @Produces(MediaType.APPLICATION_JSON)
-    public Uni<Response> getBestExchangeRate(@Valid ExchangeRateRequest request) {
+    @Produces({
+        MediaType.APPLICATION_JSON,
+        BinaryMediaType.APPLICATION_CBOR,
+        BinaryMediaType.APPLICATION_SMILE,
+        BinaryMediaType.APPLICATION_PROTOBUF
+    })
+    public Uni<Response> getBestExchangeRate(@Valid ExchangeRateRequest request,
+                                             @HeaderParam(RequestTimer.DEBUG_HEADER) String debugTiming,
+                                             @Context HttpHeaders headers,
+                                             @Context RoutingContext routingContext) {
+        // Sin el encabezado de depuración no se mide nada
+        RequestTimer timer = debugTiming == null
+            ? RequestTimer.DISABLED
+            : RequestTimer.start(DebugTimingFilter.arrivalNanos(routingContext));
         
         if (request == null) {
             LOG.warn("Solicitud recibida con body nulo");
@@ -79,25 +135,33 @@ public class ExchangeRateResource {
             );
         }
     
-        LOG.infof("Solicitud de tipo de cambio recibida: %s %s a %s", 
+        LOG.debugf("Solicitud de tipo de cambio recibida: %s %s a %s", 
                  request.amount(), request.sourceCurrency(), request.targetCurrency());
+        trafficCapture.record(CapturedEndpoint.POST_BEST_RATE,
+                 request.sourceCurrency(), request.targetCurrency(), request.amount());
         
-        return exchangeRateService.getBestExchangeRate(request)
+        Uni<ExchangeRateResponse> result = timer.isEnabled()
+            ? exchangeRateService.getBestExchangeRate(request, timer)
+            : exchangeRateService.getBestExchangeRate(request);
+        return result
             .onItem().transform(exchangeResponse -> {
                 if (exchangeResponse.bestRate() == null) {
                     LOG.warn("No hay proveedores de tipo de cambio disponibles");
                     return Response.status(ApiResponseConstants.HTTP_SERVICE_UNAVAILABLE)
                         .entity(ApiResponseWrapper.serviceUnavailable(
                             ApiResponseConstants.PROVIDER_NOT_AVAILABLE,
-                            exchangeResponse))
+                            timer.isEnabled() ? withTimings(exchangeResponse, timer, headers) : exchangeResponse))
                         .build();
                 }
                 
-                LOG.infof("Mejor tasa encontrada: %s desde %s, convertido: %s", 
+                LOG.debugf("Mejor tasa encontrada: %s desde %s, convertido: %s", 
                          exchangeResponse.bestRate(), 
                          exchangeResponse.provider(), 
                          exchangeResponse.convertedAmount());
                 
+                if (timer.isEnabled()) {
+                    return Response.ok(ApiResponseWrapper.success(withTimings(exchangeResponse, timer, headers))).build();
+                }
                 return Response.ok(ApiResponseWrapper.success(exchangeResponse)).build();
             })
             .onFailure().invoke(throwable -> 
@@ -112,31 +176,211 @@ public class ExchangeRateResource {
     }
     
     /**
-     * Traduce mensajes técnicos a mensajes amigables en español.
+     * Variante GET cacheable de {@link #getBestExchangeRate(ExchangeRateRequest, String, HttpHeaders, RoutingContext)}.
+     * Responde con un ETag fuerte y {@code Cache-Control: max-age} igual a la vigencia
+     * restante de la cotización. Mientras la cotización está vigente, las solicitudes
+     * repetidas se sirven desde {@link IQuoteCache} y las condicionales
+     * ({@code If-None-Match}) reciben 304 sin consultar a los proveedores.
+     * El cuerpo se escribe desde {@link IResponseByteCache}, ya serializado en el formato negociado.
+     *
+     * @param from código de la moneda de origen
+     * @param to código de la moneda de destino
+     * @param amount monto a convertir
+     * @param ifNoneMatch ETags que el cliente ya tiene
+     * @param headers encabezados de la solicitud, para negociar el formato
+     * @return respuesta con la mejor tasa encontrada
      */
-    private String translateErrorMessage(Throwable throwable) {
-        String message = throwable.getMessage();
+    @GET
+    @Path("/best-rate")
+    @Produces({
+        MediaType.APPLICATION_JSON,
+        BinaryMediaType.APPLICATION_CBOR,
+        BinaryMediaType.APPLICATION_SMILE,
+        BinaryMediaType.APPLICATION_PROTOBUF
+    })
+    public Uni<Response> getBestExchangeRateCacheable(
+            @QueryParam("from") String from,
+            @QueryParam("to") String to,
+            @QueryParam("amount") String amount,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @Context HttpHeaders headers) {
         
-        if (message == null) {
-            return ApiResponseConstants.SERVER_ERROR;
+        if (from == null || from.isBlank()) {
+            return Uni.createFrom().item(badRequest("La moneda de origen es requerida"));
+        }
+        if (to == null || to.isBlank()) {
+            return Uni.createFrom().item(badRequest("La moneda de destino es requerida"));
+        }
+        if (amount == null || amount.isBlank()) {
+            return Uni.createFrom().item(badRequest("El monto es requerido"));
+        }
+        
+        String trimmedAmount = amount.trim();
+        BigDecimal parsedAmount;
+        try {
+            parsedAmount = new BigDecimal(trimmedAmount);
+        } catch (NumberFormatException e) {
+            return Uni.createFrom().item(badRequest("El monto debe ser un número válido"));
+        }
+        if (parsedAmount.compareTo(new BigDecimal("0.01")) < 0) {
+            return Uni.createFrom().item(badRequest(ApiResponseConstants.INVALID_AMOUNT));
+        }
+        if (parsedAmount.compareTo(CurrencyUtils.MAX_AMOUNT) > 0) {
+            return Uni.createFrom().item(badRequest(ApiResponseConstants.AMOUNT_TOO_LARGE));
+        }
+        
+        CurrencyPair pair = CurrencyPair.lookup(from.trim(), to.trim());
+        if (pair == null) {
+            return Uni.createFrom().item(badRequest(ApiResponseConstants.INVALID_CURRENCY_PAIR));
+        }
+        
+        trafficCapture.record(CapturedEndpoint.GET_BEST_RATE, pair.source().name(), pair.target().name(), parsedAmount);
+        
+        ResponseFormat format = ResponseFormat.negotiate(headers.getAcceptableMediaTypes());
+        CachedQuote cached = quoteCache.get(pair, parsedAmount, clock.currentTimeMillis());
+        if (cached != null) {
+            LOG.debugf("Cotización en caché para %s, versión %d", pair, cached.version());
+            return Uni.createFrom().item(cachedResponse(pair, trimmedAmount, cached, format, ifNoneMatch));
         }
         
-        if (message.contains("timed out") || message.contains("timeout")) {
-            return "El servicio está experimentando demoras. Por favor, intente nuevamente en unos momentos.";
+        LOG.debugf("Solicitud GET de tipo de cambio: %s %s", parsedAmount, pair);
+        
+        ExchangeRateRequest request = new ExchangeRateRequest(pair.source().name(), pair.target().name(), parsedAmount);
+        return exchangeRateService.getBestExchangeRate(request)
+            .onItem().transform(exchangeResponse -> {
+                if (exchangeResponse.bestRate() == null) {
+                    LOG.warn("No hay proveedores de tipo de cambio disponibles");
+                    return Response.status(ApiResponseConstants.HTTP_SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.CACHE_CONTROL, NO_STORE)
+                        .entity(ApiResponseWrapper.serviceUnavailable(
+                            ApiResponseConstants.PROVIDER_NOT_AVAILABLE,
+                            exchangeResponse))
+                        .build();
+                }
+                CachedQuote quote = quoteCache.put(pair, parsedAmount, exchangeResponse, clock.currentTimeMillis());
+                return cachedResponse(pair, trimmedAmount, quote, format, ifNoneMatch);
+            })
+            .onFailure().invoke(throwable -> 
+                LOG.errorf(throwable, "Error procesando solicitud de tipo de cambio: %s", throwable.getMessage())
+            )
+            .onFailure().recoverWithItem(throwable -> badRequest(translateErrorMessage(throwable)));
+    }
+    
+    /**
+     * Agrega el desglose de tiempos a la respuesta. La serialización se mide codificando
+     * la respuesta sin desglose en el formato negociado, igual que la escribiría el recurso.
+     */
+    private static ExchangeRateResponse withTimings(ExchangeRateResponse exchangeResponse, RequestTimer timer,
+                                                    HttpHeaders headers) {
+        ResponseFormat format = ResponseFormat.negotiate(headers.getAcceptableMediaTypes());
+        long serializationStart = System.nanoTime();
+        format.encode(ApiResponseWrapper.success(exchangeResponse));
+        long serializationNanos = System.nanoTime() - serializationStart;
+        return exchangeResponse.withTimings(timer.breakdown(serializationNanos));
+    }
+    
+    private Response cachedResponse(CurrencyPair pair, String amount, CachedQuote quote,
+                                    ResponseFormat format, String ifNoneMatch) {
+        long nowMillis = clock.currentTimeMillis();
+        String etag = format.etag(quote.etag());
+        Response.ResponseBuilder builder = matchesEtag(ifNoneMatch, etag)
+            ? Response.notModified()
+            : Response.ok(responseBytes(pair, amount, quote, format), format.mediaType());
+        return builder
+            .header(HttpHeaders.ETAG, etag)
+            .header(HttpHeaders.CACHE_CONTROL, "public, max-age=" + quote.maxAgeSeconds(nowMillis))
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+            .build();
+    }
+    
+    /**
+     * Bytes de la respuesta desde {@link IResponseByteCache}. Un monto que no se puede
+     * representar como {@link FixedDecimal} (más de 18 decimales) se serializa sin pasar por la caché.
+     */
+    private byte[] responseBytes(CurrencyPair pair, String amount, CachedQuote quote, ResponseFormat format) {
+        FixedDecimal fixedAmount;
+        try {
+            fixedAmount = FixedDecimal.parse(amount);
+        } catch (ArithmeticException | NumberFormatException e) {
+            return format.encode(ApiResponseWrapper.success(quote.response()));
+        }
+        return responseByteCache.getOrEncode(pair, fixedAmount, quote, format);
+    }
+    
+    /**
+     * Compara {@code If-None-Match} con el ETag actual (comparación débil, RFC 9110).
+     */
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static Response badRequest(String message) {
+        return Response.status(ApiResponseConstants.HTTP_BAD_REQUEST)
+            .header(HttpHeaders.CACHE_CONTROL, NO_STORE)
+            .entity(ApiResponseWrapper.badRequest(message))
+            .build();
+    }
+    
+    /**
+     * Traduce errores técnicos a mensajes amigables en español.
+     * Los errores de validación se distinguen por su mensaje; las fallas de
+     * infraestructura se distinguen por tipo mediante {@link ProviderFailureException#classify}.
+     * Compartido con {@link BestRateRoute} para que ambos caminos respondan igual.
+     */
+    static String translateErrorMessage(Throwable throwable) {
+        if (throwable instanceof IllegalArgumentException) {
+            return translateValidationMessage((IllegalArgumentException) throwable);
         }
         
-        if (message.contains("Connection") || message.contains("connection") || 
-            message.contains("Name or service not known") || message.contains("refused")) {
-            return "Servicio temporalmente no disponible. Por favor, intente nuevamente más tarde.";
+        ProviderFailureType type = ProviderFailureException.classify(throwable);
+        switch (type) {
+            case TIMEOUT:
+                return "El servicio está experimentando demoras. Por favor, intente nuevamente en unos momentos.";
+            case CONNECT:
+                return "Servicio temporalmente no disponible. Por favor, intente nuevamente más tarde.";
+            case BREAKER_OPEN:
+                return "El servicio está temporalmente suspendido por alta demanda. Por favor, intente nuevamente en unos minutos.";
+            default:
+                return throwable.getMessage() == null
+                    ? ApiResponseConstants.SERVER_ERROR
+                    : "Error procesando la solicitud. Por favor, verifique los datos e intente nuevamente.";
+        }
+    }
+    
+    private static String translateValidationMessage(IllegalArgumentException exception) {
+        if (exception instanceof InvalidRankingException invalidRanking) {
+            return "La estrategia de ranking especificada no es válida. Opciones: "
+                + String.join(", ", invalidRanking.getAvailableStrategies()) + ".";
         }
         
-        if (message.contains("CircuitBreaker") || message.contains("circuit breaker")) {
-            return "El servicio está temporalmente suspendido por alta demanda. Por favor, intente nuevamente en unos minutos.";
+        String message = exception.getMessage();
+        if (message == null) {
+            return ApiResponseConstants.SERVER_ERROR;
         }
         
         if (message.contains("inválidos") || message.contains("invalid") || 
             message.contains("Códigos de moneda")) {
-            return "Las monedas especificadas no son válidas. Monedas soportadas: USD, EUR, MXN, DOP.";
+            return ApiResponseConstants.INVALID_CURRENCY_PAIR;
+        }
+        
+        if (message.contains("ranking")) {
+            return message;
+        }
+        
+        if (message.equals(ApiResponseConstants.AMOUNT_TOO_LARGE)) {
+            return message;
         }
         
         if (message.contains("Amount") || message.contains("monto")) {
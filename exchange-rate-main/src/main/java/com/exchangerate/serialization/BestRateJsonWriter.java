@@ -0,0 +1,134 @@
+package com.exchangerate.serialization;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import com.exchangerate.models.response.ApiResponseWrapper;
+import com.exchangerate.models.response.ExchangeRateResponse;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Serializador JSON de la respuesta de {@code best-rate} escrito sobre un {@link Buffer}
+ * de Vert.x a partir de fragmentos UTF-8 precodificados.
+ *
+ * Produce el mismo documento que Jackson para {@link ApiResponseWrapper} con
+ * {@link ExchangeRateResponse} (mismos nombres y orden de campos, {@code null} explícito),
+ * sin reflexión ni árboles intermedios.
+ */
+public final class BestRateJsonWriter {
+
+    private static final byte[] CODE = ascii("{\"code\":");
+    private static final byte[] MESSAGE = ascii(",\"message\":");
+    private static final byte[] DATA = ascii(",\"data\":");
+    private static final byte[] BEST_RATE = ascii("{\"bestRate\":");
+    private static final byte[] CONVERTED_AMOUNT = ascii(",\"convertedAmount\":");
+    private static final byte[] PROVIDER = ascii(",\"provider\":");
+    private static final byte[] RESPONSE_TIME_MS = ascii(",\"responseTimeMs\":");
+    private static final byte[] SUCCESSFUL_PROVIDERS = ascii(",\"successfulProviders\":");
+    private static final byte[] TOTAL_PROVIDERS = ascii(",\"totalProviders\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] HEX = ascii("0123456789abcdef");
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private BestRateJsonWriter() {
+        throw new AssertionError("No debe instanciar esta clase de utilidad");
+    }
+
+    /**
+     * Serializa la respuesta a JSON.
+     *
+     * @param wrapper respuesta a serializar
+     * @return buffer con el documento JSON
+     */
+    public static Buffer write(ApiResponseWrapper<ExchangeRateResponse> wrapper) {
+        Buffer buffer = Buffer.buffer(INITIAL_CAPACITY);
+        buffer.appendBytes(CODE);
+        writeNumber(buffer, wrapper.code());
+        buffer.appendBytes(MESSAGE);
+        writeString(buffer, wrapper.message());
+        buffer.appendBytes(DATA);
+
+        ExchangeRateResponse data = wrapper.data();
+        if (data == null) {
+            buffer.appendBytes(NULL);
+        } else {
+            buffer.appendBytes(BEST_RATE);
+            writeDecimal(buffer, data.bestRate());
+            buffer.appendBytes(CONVERTED_AMOUNT);
+            writeDecimal(buffer, data.convertedAmount());
+            buffer.appendBytes(PROVIDER);
+            writeString(buffer, data.provider());
+            buffer.appendBytes(RESPONSE_TIME_MS);
+            writeNumber(buffer, data.responseTimeMs());
+            buffer.appendBytes(SUCCESSFUL_PROVIDERS);
+            writeNumber(buffer, data.successfulProviders());
+            buffer.appendBytes(TOTAL_PROVIDERS);
+            writeNumber(buffer, data.totalProviders());
+            buffer.appendByte((byte) '}');
+        }
+        return buffer.appendByte((byte) '}');
+    }
+
+    private static void writeNumber(Buffer buffer, Number value) {
+        if (value == null) {
+            buffer.appendBytes(NULL);
+        } else {
+            buffer.appendString(value.toString(), StandardCharsets.US_ASCII.name());
+        }
+    }
+
+    private static void writeDecimal(Buffer buffer, BigDecimal value) {
+        if (value == null) {
+            buffer.appendBytes(NULL);
+        } else {
+            // Igual que Jackson por defecto: notación de BigDecimal.toString()
+            buffer.appendString(value.toString(), StandardCharsets.US_ASCII.name());
+        }
+    }
+
+    private static void writeString(Buffer buffer, String value) {
+        if (value == null) {
+            buffer.appendBytes(NULL);
+            return;
+        }
+        buffer.appendByte((byte) '"');
+        int runStart = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                if (i > runStart) {
+                    buffer.appendString(value.substring(runStart, i), StandardCharsets.UTF_8.name());
+                }
+                writeEscaped(buffer, c);
+                runStart = i + 1;
+            }
+        }
+        if (runStart == 0) {
+            buffer.appendString(value, StandardCharsets.UTF_8.name());
+        } else if (runStart < value.length()) {
+            buffer.appendString(value.substring(runStart), StandardCharsets.UTF_8.name());
+        }
+        buffer.appendByte((byte) '"');
+    }
+
+    private static void writeEscaped(Buffer buffer, char c) {
+        buffer.appendByte((byte) '\\');
+        switch (c) {
+            case '"', '\\' -> buffer.appendByte((byte) c);
+            case '\n' -> buffer.appendByte((byte) 'n');
+            case '\r' -> buffer.appendByte((byte) 'r');
+            case '\t' -> buffer.appendByte((byte) 't');
+            default -> buffer.appendByte((byte) 'u')
+                .appendByte((byte) '0')
+                .appendByte((byte) '0')
+                .appendByte(HEX[c >> 4])
+                .appendByte(HEX[c & 0xF]);
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,360 @@
+package com.exchangerate.serialization;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import com.exchangerate.models.enums.SupportedCurrency;
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.utils.ApiResponseConstants;
+import com.exchangerate.utils.CurrencyUtils;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Intérprete del cuerpo JSON de {@code best-rate} que lee directamente del {@link Buffer}
+ * de Vert.x. Resuelve los códigos de moneda sobre los bytes (sin crear Strings),
+ * interpreta el monto como decimal escalado y valida toda la solicitud en una sola pasada.
+ *
+ * Acepta el mismo documento que la API REST; las claves desconocidas se ignoran.
+ * Todos los errores se reportan con {@link IllegalArgumentException} y un mensaje listo
+ * para el cliente.
+ */
+public final class BestRateRequestParser {
+
+    public static final String INVALID_JSON = "El cuerpo de la solicitud no es un JSON válido";
+
+    private static final byte[] SOURCE_KEY = "sourceCurrency".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TARGET_KEY = "targetCurrency".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] AMOUNT_KEY = "amount".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] RANKING_KEY = "ranking".getBytes(StandardCharsets.US_ASCII);
+
+    private static final BigDecimal MIN_AMOUNT = new BigDecimal("0.01");
+    private static final int MAX_RANKING_LENGTH = 32;
+    private static final int MAX_FAST_DIGITS = 18;
+
+    private final Buffer body;
+    private final int length;
+    private int pos;
+    private boolean lastStringEscaped;
+    // Indica si el último valor de moneda leído no era null ni una cadena vacía
+    private boolean lastValuePresent;
+
+    private boolean sourcePresent;
+    private SupportedCurrency source;
+    private boolean targetPresent;
+    private SupportedCurrency target;
+    private BigDecimal amount;
+    private String ranking;
+
+    private BestRateRequestParser(Buffer body) {
+        this.body = body;
+        this.length = body.length();
+    }
+
+    /**
+     * Interpreta y valida el cuerpo de la solicitud.
+     *
+     * @param body cuerpo recibido
+     * @return solicitud válida, con los códigos de moneda normalizados a mayúsculas
+     * @throws IllegalArgumentException si el JSON es inválido o algún campo no pasa la validación
+     */
+    public static ExchangeRateRequest parse(Buffer body) {
+        if (body == null || body.length() == 0) {
+            throw new IllegalArgumentException("El cuerpo de la solicitud es requerido");
+        }
+        BestRateRequestParser parser = new BestRateRequestParser(body);
+        parser.parseObject();
+        return parser.validate();
+    }
+
+    private void parseObject() {
+        skipWhitespace();
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+        } else {
+            while (true) {
+                skipWhitespace();
+                expect('"');
+                int keyStart = pos;
+                int keyEnd = scanString();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+
+                if (keyEquals(keyStart, keyEnd, SOURCE_KEY)) {
+                    source = readCurrency();
+                    sourcePresent = lastValuePresent;
+                } else if (keyEquals(keyStart, keyEnd, TARGET_KEY)) {
+                    target = readCurrency();
+                    targetPresent = lastValuePresent;
+                } else if (keyEquals(keyStart, keyEnd, AMOUNT_KEY)) {
+                    amount = readAmount();
+                } else if (keyEquals(keyStart, keyEnd, RANKING_KEY)) {
+                    ranking = readRanking();
+                } else {
+                    skipValue();
+                }
+
+                skipWhitespace();
+                byte separator = next();
+                if (separator == '}') {
+                    break;
+                }
+                if (separator != ',') {
+                    throw invalidJson();
+                }
+            }
+        }
+        skipWhitespace();
+        if (pos != length) {
+            throw invalidJson();
+        }
+    }
+
+    private ExchangeRateRequest validate() {
+        if (!sourcePresent) {
+            throw new IllegalArgumentException("La moneda de origen es requerida");
+        }
+        if (!targetPresent) {
+            throw new IllegalArgumentException("La moneda de destino es requerida");
+        }
+        if (amount == null) {
+            throw new IllegalArgumentException("El monto es requerido");
+        }
+        if (source == null || target == null || CurrencyPair.of(source, target) == null) {
+            throw new IllegalArgumentException(ApiResponseConstants.INVALID_CURRENCY_PAIR);
+        }
+        if (amount.compareTo(MIN_AMOUNT) < 0) {
+            throw new IllegalArgumentException(ApiResponseConstants.INVALID_AMOUNT);
+        }
+        if (amount.compareTo(CurrencyUtils.MAX_AMOUNT) > 0) {
+            throw new IllegalArgumentException(ApiResponseConstants.AMOUNT_TOO_LARGE);
+        }
+        return new ExchangeRateRequest(source.name(), target.name(), amount, ranking);
+    }
+
+    private SupportedCurrency readCurrency() {
+        lastValuePresent = false;
+        if (peek() == 'n') {
+            expectLiteral("null");
+            return null;
+        }
+        expect('"');
+        int start = pos;
+        int end = scanString();
+        if (end == start) {
+            return null;
+        }
+        lastValuePresent = true;
+        if (end - start != 3 || lastStringEscaped) {
+            return null;
+        }
+        return SupportedCurrency.lookup(body.getByte(start), body.getByte(start + 1), body.getByte(start + 2));
+    }
+
+    private BigDecimal readAmount() {
+        byte first = peek();
+        if (first == 'n') {
+            expectLiteral("null");
+            return null;
+        }
+        if (first == '"') {
+            // Igual que Jackson, se acepta el monto como texto numérico
+            pos++;
+            int start = pos;
+            int end = scanString();
+            return parseDecimal(start, end);
+        }
+        int start = pos;
+        while (pos < length && isNumberByte(body.getByte(pos))) {
+            pos++;
+        }
+        return parseDecimal(start, pos);
+    }
+
+    private String readRanking() {
+        if (peek() == 'n') {
+            expectLiteral("null");
+            return null;
+        }
+        expect('"');
+        int start = pos;
+        int end = scanString();
+        if (end - start > MAX_RANKING_LENGTH) {
+            throw new IllegalArgumentException("El nombre de la estrategia de ranking es demasiado largo");
+        }
+        return end == start ? null : body.getString(start, end, StandardCharsets.UTF_8.name());
+    }
+
+    /**
+     * Interpreta {@code [-+]digitos[.digitos]} como long escalado; la notación
+     * científica o más de 18 dígitos se delegan a {@link BigDecimal}.
+     */
+    private BigDecimal parseDecimal(int start, int end) {
+        int index = start;
+        boolean negative = false;
+        if (index < end && (body.getByte(index) == '-' || body.getByte(index) == '+')) {
+            negative = body.getByte(index) == '-';
+            index++;
+        }
+
+        long unscaled = 0L;
+        int scale = -1;
+        int digits = 0;
+        for (; index < end; index++) {
+            byte b = body.getByte(index);
+            if (b >= '0' && b <= '9') {
+                if (++digits > MAX_FAST_DIGITS) {
+                    return parseSlow(start, end);
+                }
+                unscaled = unscaled * 10 + (b - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (b == '.' && scale < 0) {
+                scale = 0;
+            } else if (b == 'e' || b == 'E') {
+                return parseSlow(start, end);
+            } else {
+                throw invalidAmount();
+            }
+        }
+        if (digits == 0) {
+            throw invalidAmount();
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    private BigDecimal parseSlow(int start, int end) {
+        try {
+            return new BigDecimal(body.getString(start, end, StandardCharsets.US_ASCII.name()));
+        } catch (NumberFormatException e) {
+            throw invalidAmount();
+        }
+    }
+
+    private void skipValue() {
+        byte first = peek();
+        switch (first) {
+            case '"' -> {
+                pos++;
+                scanString();
+            }
+            case '{', '[' -> skipContainer();
+            case 't' -> expectLiteral("true");
+            case 'f' -> expectLiteral("false");
+            case 'n' -> expectLiteral("null");
+            default -> {
+                int start = pos;
+                while (pos < length && isNumberByte(body.getByte(pos))) {
+                    pos++;
+                }
+                if (pos == start) {
+                    throw invalidJson();
+                }
+            }
+        }
+    }
+
+    private void skipContainer() {
+        int depth = 0;
+        do {
+            byte b = next();
+            if (b == '"') {
+                scanString();
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Avanza hasta la comilla de cierre de una cadena cuyo contenido empieza en {@code pos}.
+     *
+     * @return posición de la comilla de cierre (fin exclusivo del contenido)
+     */
+    private int scanString() {
+        lastStringEscaped = false;
+        while (pos < length) {
+            byte b = body.getByte(pos);
+            if (b == '"') {
+                return pos++;
+            }
+            if (b == '\\') {
+                lastStringEscaped = true;
+                pos += 2;
+            } else if (b >= 0 && b < 0x20) {
+                throw invalidJson();
+            } else {
+                pos++;
+            }
+        }
+        throw invalidJson();
+    }
+
+    private boolean keyEquals(int start, int end, byte[] key) {
+        if (end - start != key.length || lastStringEscaped) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (body.getByte(start + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void expectLiteral(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (next() != literal.charAt(i)) {
+                throw invalidJson();
+            }
+        }
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            throw invalidJson();
+        }
+    }
+
+    private byte peek() {
+        if (pos >= length) {
+            throw invalidJson();
+        }
+        return body.getByte(pos);
+    }
+
+    private byte next() {
+        byte b = peek();
+        pos++;
+        return b;
+    }
+
+    private void skipWhitespace() {
+        while (pos < length) {
+            byte b = body.getByte(pos);
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private static boolean isNumberByte(byte b) {
+        return (b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E';
+    }
+
+    private static IllegalArgumentException invalidJson() {
+        return new IllegalArgumentException(INVALID_JSON);
+    }
+
+    private static IllegalArgumentException invalidAmount() {
+        return new IllegalArgumentException("El monto debe ser un número válido");
+    }
+}
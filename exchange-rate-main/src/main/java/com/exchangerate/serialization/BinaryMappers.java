@@ -0,0 +1,27 @@
+package com.exchangerate.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * Mappers de los formatos binarios de Jackson, configurados una sola vez.
+ * Los comparten los escritores JAX-RS y {@link ResponseFormat} para que la
+ * respuesta pre-serializada y la escrita por JAX-RS tengan exactamente los mismos bytes.
+ */
+final class BinaryMappers {
+
+    static final ObjectMapper CBOR = configure(new CBORMapper());
+    static final ObjectMapper SMILE = configure(new SmileMapper());
+
+    private BinaryMappers() {
+    }
+
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        return mapper
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+}
@@ -0,0 +1,15 @@
+package com.exchangerate.serialization;
+
+/**
+ * Tipos de contenido binarios que el servicio puede producir además de JSON.
+ * JSON sigue siendo el formato por defecto cuando el cliente no indica otro en {@code Accept}.
+ */
+public final class BinaryMediaType {
+
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    public static final String APPLICATION_PROTOBUF = "application/x-protobuf";
+
+    private BinaryMediaType() {
+    }
+}
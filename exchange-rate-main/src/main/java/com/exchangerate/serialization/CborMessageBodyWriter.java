@@ -0,0 +1,16 @@
+package com.exchangerate.serialization;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Serializa respuestas en CBOR (RFC 8949) cuando el cliente lo solicita en {@code Accept}.
+ */
+@Provider
+@Produces(BinaryMediaType.APPLICATION_CBOR)
+public class CborMessageBodyWriter extends JacksonBinaryMessageBodyWriter {
+
+    public CborMessageBodyWriter() {
+        super(BinaryMappers.CBOR);
+    }
+}
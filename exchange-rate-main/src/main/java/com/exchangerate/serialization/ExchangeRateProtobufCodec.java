@@ -0,0 +1,233 @@
+package com.exchangerate.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import com.exchangerate.models.response.ApiResponseWrapper;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+/**
+ * Codificador Protobuf de {@link ApiResponseWrapper} con {@link ExchangeRateResponse}.
+ * Escribe directamente el formato de cable descrito en
+ * {@code META-INF/resources/proto/exchange_rate.proto} (publicado en {@code /proto/exchange_rate.proto}),
+ * sin clases generadas ni modelos intermedios.
+ *
+ * Los decimales se envían como {@code (unscaled, scale)}, igual que el punto fijo interno,
+ * y los campos nulos se omiten (campos {@code optional} de proto3).
+ */
+public final class ExchangeRateProtobufCodec {
+
+    // ApiResponseWrapper
+    private static final int WRAPPER_CODE = 1;
+    private static final int WRAPPER_MESSAGE = 2;
+    private static final int WRAPPER_DATA = 3;
+
+    // ExchangeRateResponse
+    private static final int RESPONSE_BEST_RATE = 1;
+    private static final int RESPONSE_CONVERTED_AMOUNT = 2;
+    private static final int RESPONSE_PROVIDER = 3;
+    private static final int RESPONSE_TIME_MS = 4;
+    private static final int RESPONSE_SUCCESSFUL_PROVIDERS = 5;
+    private static final int RESPONSE_TOTAL_PROVIDERS = 6;
+
+    // Decimal
+    private static final int DECIMAL_UNSCALED = 1;
+    private static final int DECIMAL_SCALE = 2;
+
+    private ExchangeRateProtobufCodec() {
+    }
+
+    /**
+     * Codifica el wrapper a un arreglo de bytes.
+     *
+     * @param wrapper respuesta a codificar
+     * @return mensaje Protobuf
+     */
+    public static byte[] encode(ApiResponseWrapper<?> wrapper) {
+        byte[] buffer = new byte[wrapperSize(wrapper)];
+        CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+        try {
+            writeWrapper(wrapper, output);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new IllegalStateException("Error codificando respuesta Protobuf", e);
+        }
+        return buffer;
+    }
+
+    /**
+     * Codifica el wrapper directamente sobre un flujo de salida.
+     *
+     * @param wrapper respuesta a codificar
+     * @param stream flujo de destino (no se cierra)
+     * @throws IOException si falla la escritura
+     */
+    public static void writeTo(ApiResponseWrapper<?> wrapper, OutputStream stream) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(stream, Math.max(64, wrapperSize(wrapper)));
+        writeWrapper(wrapper, output);
+        output.flush();
+    }
+
+    /**
+     * Decodifica un mensaje producido por {@link #encode(ApiResponseWrapper)}.
+     * Los campos desconocidos se ignoran para tolerar versiones futuras del esquema.
+     *
+     * @param bytes mensaje Protobuf
+     * @return wrapper decodificado
+     * @throws IOException si el mensaje está mal formado
+     */
+    public static ApiResponseWrapper<ExchangeRateResponse> decode(byte[] bytes) throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(bytes);
+        Integer code = null;
+        String message = null;
+        ExchangeRateResponse data = null;
+
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case WRAPPER_CODE -> code = input.readInt32();
+                case WRAPPER_MESSAGE -> message = input.readString();
+                case WRAPPER_DATA -> {
+                    int limit = input.pushLimit(input.readRawVarint32());
+                    data = readResponse(input);
+                    input.popLimit(limit);
+                }
+                default -> input.skipField(tag);
+            }
+        }
+        return new ApiResponseWrapper<>(code, message, data);
+    }
+
+    private static void writeWrapper(ApiResponseWrapper<?> wrapper, CodedOutputStream output) throws IOException {
+        if (wrapper.code() != null) {
+            output.writeInt32(WRAPPER_CODE, wrapper.code());
+        }
+        if (wrapper.message() != null) {
+            output.writeString(WRAPPER_MESSAGE, wrapper.message());
+        }
+        if (wrapper.data() instanceof ExchangeRateResponse response) {
+            output.writeTag(WRAPPER_DATA, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(responseSize(response));
+            writeResponse(response, output);
+        }
+    }
+
+    private static void writeResponse(ExchangeRateResponse response, CodedOutputStream output) throws IOException {
+        writeDecimal(RESPONSE_BEST_RATE, response.bestRate(), output);
+        writeDecimal(RESPONSE_CONVERTED_AMOUNT, response.convertedAmount(), output);
+        if (response.provider() != null) {
+            output.writeString(RESPONSE_PROVIDER, response.provider());
+        }
+        if (response.responseTimeMs() != null) {
+            output.writeInt64(RESPONSE_TIME_MS, response.responseTimeMs());
+        }
+        if (response.successfulProviders() != null) {
+            output.writeInt32(RESPONSE_SUCCESSFUL_PROVIDERS, response.successfulProviders());
+        }
+        if (response.totalProviders() != null) {
+            output.writeInt32(RESPONSE_TOTAL_PROVIDERS, response.totalProviders());
+        }
+    }
+
+    private static void writeDecimal(int field, BigDecimal value, CodedOutputStream output) throws IOException {
+        if (value == null) {
+            return;
+        }
+        output.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(decimalBodySize(value));
+        output.writeSInt64(DECIMAL_UNSCALED, value.unscaledValue().longValueExact());
+        output.writeSInt32(DECIMAL_SCALE, value.scale());
+    }
+
+    private static ExchangeRateResponse readResponse(CodedInputStream input) throws IOException {
+        BigDecimal bestRate = null;
+        BigDecimal convertedAmount = null;
+        String provider = null;
+        Long responseTimeMs = null;
+        Integer successfulProviders = null;
+        Integer totalProviders = null;
+
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case RESPONSE_BEST_RATE -> bestRate = readDecimal(input);
+                case RESPONSE_CONVERTED_AMOUNT -> convertedAmount = readDecimal(input);
+                case RESPONSE_PROVIDER -> provider = input.readString();
+                case RESPONSE_TIME_MS -> responseTimeMs = input.readInt64();
+                case RESPONSE_SUCCESSFUL_PROVIDERS -> successfulProviders = input.readInt32();
+                case RESPONSE_TOTAL_PROVIDERS -> totalProviders = input.readInt32();
+                default -> input.skipField(tag);
+            }
+        }
+        return new ExchangeRateResponse(bestRate, convertedAmount, provider,
+            responseTimeMs, successfulProviders, totalProviders);
+    }
+
+    private static BigDecimal readDecimal(CodedInputStream input) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        long unscaled = 0L;
+        int scale = 0;
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case DECIMAL_UNSCALED -> unscaled = input.readSInt64();
+                case DECIMAL_SCALE -> scale = input.readSInt32();
+                default -> input.skipField(tag);
+            }
+        }
+        input.popLimit(limit);
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    private static int wrapperSize(ApiResponseWrapper<?> wrapper) {
+        int size = 0;
+        if (wrapper.code() != null) {
+            size += CodedOutputStream.computeInt32Size(WRAPPER_CODE, wrapper.code());
+        }
+        if (wrapper.message() != null) {
+            size += CodedOutputStream.computeStringSize(WRAPPER_MESSAGE, wrapper.message());
+        }
+        if (wrapper.data() instanceof ExchangeRateResponse response) {
+            size += nestedSize(WRAPPER_DATA, responseSize(response));
+        }
+        return size;
+    }
+
+    private static int responseSize(ExchangeRateResponse response) {
+        int size = 0;
+        if (response.bestRate() != null) {
+            size += nestedSize(RESPONSE_BEST_RATE, decimalBodySize(response.bestRate()));
+        }
+        if (response.convertedAmount() != null) {
+            size += nestedSize(RESPONSE_CONVERTED_AMOUNT, decimalBodySize(response.convertedAmount()));
+        }
+        if (response.provider() != null) {
+            size += CodedOutputStream.computeStringSize(RESPONSE_PROVIDER, response.provider());
+        }
+        if (response.responseTimeMs() != null) {
+            size += CodedOutputStream.computeInt64Size(RESPONSE_TIME_MS, response.responseTimeMs());
+        }
+        if (response.successfulProviders() != null) {
+            size += CodedOutputStream.computeInt32Size(RESPONSE_SUCCESSFUL_PROVIDERS, response.successfulProviders());
+        }
+        if (response.totalProviders() != null) {
+            size += CodedOutputStream.computeInt32Size(RESPONSE_TOTAL_PROVIDERS, response.totalProviders());
+        }
+        return size;
+    }
+
+    private static int decimalBodySize(BigDecimal value) {
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() > 63) {
+            throw new ArithmeticException("Decimal fuera del rango de un long escalado: " + value);
+        }
+        return CodedOutputStream.computeSInt64Size(DECIMAL_UNSCALED, unscaled.longValue())
+            + CodedOutputStream.computeSInt32Size(DECIMAL_SCALE, value.scale());
+    }
+
+    private static int nestedSize(int field, int bodySize) {
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(bodySize) + bodySize;
+    }
+}
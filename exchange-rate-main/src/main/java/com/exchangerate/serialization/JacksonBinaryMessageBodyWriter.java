@@ -0,0 +1,48 @@
+package com.exchangerate.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+/**
+ * Base para los escritores de formatos binarios de Jackson (CBOR, Smile).
+ * Serializa los mismos modelos que la respuesta JSON, con las mismas anotaciones,
+ * por lo que la estructura del documento es idéntica en todos los formatos.
+ * Los mappers vienen ya configurados de {@link BinaryMappers}.
+ */
+public abstract class JacksonBinaryMessageBodyWriter implements MessageBodyWriter<Object> {
+
+    private final ObjectMapper mapper;
+
+    protected JacksonBinaryMessageBodyWriter(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return !String.class.equals(type) && !byte[].class.equals(type);
+    }
+
+    @Override
+    public void writeTo(Object value, Class<?> type, Type genericType, Annotation[] annotations,
+                        MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+                        OutputStream entityStream) throws IOException {
+        mapper.writeValue(entityStream, value);
+    }
+
+    /**
+     * Mapper configurado de este formato, útil para pruebas y benchmarks.
+     *
+     * @return ObjectMapper del formato
+     */
+    public ObjectMapper mapper() {
+        return mapper;
+    }
+}
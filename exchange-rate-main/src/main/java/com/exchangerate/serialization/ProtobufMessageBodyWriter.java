@@ -0,0 +1,35 @@
+package com.exchangerate.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import com.exchangerate.models.response.ApiResponseWrapper;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Serializa {@link ApiResponseWrapper} en Protobuf cuando el cliente lo solicita en {@code Accept}.
+ * El esquema se publica en {@code /proto/exchange_rate.proto}.
+ */
+@Provider
+@Produces(BinaryMediaType.APPLICATION_PROTOBUF)
+public class ProtobufMessageBodyWriter implements MessageBodyWriter<ApiResponseWrapper<?>> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return ApiResponseWrapper.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(ApiResponseWrapper<?> wrapper, Class<?> type, Type genericType, Annotation[] annotations,
+                        MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+                        OutputStream entityStream) throws IOException {
+        ExchangeRateProtobufCodec.writeTo(wrapper, entityStream);
+    }
+}
@@ -0,0 +1,106 @@
+package com.exchangerate.serialization;
+
+import java.util.List;
+
+import com.exchangerate.models.response.ApiResponseWrapper;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Formatos en los que se puede pre-serializar la respuesta de {@code best-rate}.
+ * Cada formato produce los mismos bytes que su escritor JAX-RS correspondiente.
+ */
+public enum ResponseFormat {
+
+    JSON(MediaType.APPLICATION_JSON, "") {
+        @Override
+        public byte[] encode(ApiResponseWrapper<ExchangeRateResponse> wrapper) {
+            return BestRateJsonWriter.write(wrapper).getBytes();
+        }
+    },
+    CBOR(BinaryMediaType.APPLICATION_CBOR, "-cbor") {
+        @Override
+        public byte[] encode(ApiResponseWrapper<ExchangeRateResponse> wrapper) {
+            return encodeWith(BinaryMappers.CBOR, wrapper);
+        }
+    },
+    SMILE(BinaryMediaType.APPLICATION_SMILE, "-smile") {
+        @Override
+        public byte[] encode(ApiResponseWrapper<ExchangeRateResponse> wrapper) {
+            return encodeWith(BinaryMappers.SMILE, wrapper);
+        }
+    },
+    PROTOBUF(BinaryMediaType.APPLICATION_PROTOBUF, "-protobuf") {
+        @Override
+        public byte[] encode(ApiResponseWrapper<ExchangeRateResponse> wrapper) {
+            return ExchangeRateProtobufCodec.encode(wrapper);
+        }
+    };
+
+    private static final ResponseFormat[] FORMATS = values();
+
+    private final String mediaType;
+    private final MediaType parsedMediaType;
+    private final String etagSuffix;
+
+    ResponseFormat(String mediaType, String etagSuffix) {
+        this.mediaType = mediaType;
+        this.parsedMediaType = MediaType.valueOf(mediaType);
+        this.etagSuffix = etagSuffix;
+    }
+
+    /**
+     * Serializa la respuesta en este formato.
+     *
+     * @param wrapper respuesta a serializar
+     * @return bytes listos para escribir
+     */
+    public abstract byte[] encode(ApiResponseWrapper<ExchangeRateResponse> wrapper);
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * ETag fuerte de esta representación: cada formato tiene el suyo para que
+     * un ETag nunca identifique bytes distintos.
+     *
+     * @param etag ETag de la cotización (entre comillas)
+     * @return ETag de la representación
+     */
+    public String etag(String etag) {
+        if (etagSuffix.isEmpty()) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + etagSuffix + "\"";
+    }
+
+    /**
+     * Elige el formato según los tipos aceptables del cliente, ya ordenados por preferencia.
+     * Sin {@code Accept} o con comodines se usa JSON.
+     *
+     * @param acceptable tipos aceptables ordenados por calidad
+     * @return formato elegido
+     */
+    public static ResponseFormat negotiate(List<MediaType> acceptable) {
+        for (MediaType candidate : acceptable) {
+            for (ResponseFormat format : FORMATS) {
+                if (candidate.isCompatible(format.parsedMediaType)) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+
+    private static byte[] encodeWith(ObjectMapper mapper, ApiResponseWrapper<ExchangeRateResponse> wrapper) {
+        try {
+            return mapper.writeValueAsBytes(wrapper);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializando respuesta", e);
+        }
+    }
+}
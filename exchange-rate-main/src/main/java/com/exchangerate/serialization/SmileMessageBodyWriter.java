@@ -0,0 +1,16 @@
+package com.exchangerate.serialization;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Serializa respuestas en Smile (JSON binario de Jackson) cuando el cliente lo solicita en {@code Accept}.
+ */
+@Provider
+@Produces(BinaryMediaType.APPLICATION_SMILE)
+public class SmileMessageBodyWriter extends JacksonBinaryMessageBodyWriter {
+
+    public SmileMessageBodyWriter() {
+        super(BinaryMappers.SMILE);
+    }
+}
@@ -0,0 +1,136 @@
+package com.exchangerate.serialization;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.exchangerate.models.enums.CapturedEndpoint;
+import com.exchangerate.models.logging.CapturedRequest;
+import com.exchangerate.models.money.CurrencyPair;
+
+/**
+ * Formato binario de los archivos de captura de tráfico.
+ *
+ * El archivo empieza con {@link #MAGIC} y {@link #VERSION}, seguidos de registros de
+ * {@value #RECORD_BYTES} bytes: llegada en microsegundos desde la época (8), endpoint (1),
+ * códigos ASCII de origen y destino (3 + 3), escala del monto (1) y su valor sin escala (8).
+ * Los pares se guardan por código para que una captura siga siendo legible si cambia el
+ * catálogo de monedas. Los registros solo se agregan al final, también entre reinicios.
+ */
+public final class TrafficCaptureFormat {
+
+    /** Marca de inicio de archivo ("EXCP"). */
+    public static final int MAGIC = 0x45584350;
+
+    public static final short VERSION = 1;
+
+    public static final int HEADER_BYTES = 6;
+
+    public static final int RECORD_BYTES = 24;
+
+    private TrafficCaptureFormat() {
+    }
+
+    public static void writeHeader(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+    }
+
+    /**
+     * Verifica el encabezado de un archivo de captura.
+     *
+     * @throws IOException si el archivo no es una captura o su versión no es compatible
+     */
+    public static void readHeader(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("El archivo no es una captura de tráfico");
+        }
+        short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Versión de captura no soportada: " + version);
+        }
+    }
+
+    /**
+     * Prepara un archivo de captura existente para agregarle registros: verifica el
+     * encabezado y descarta un registro final incompleto (de un corte a mitad de
+     * escritura), para que los registros nuevos queden alineados. Un archivo más corto
+     * que el encabezado se vacía por completo, para que se vuelva a escribir el encabezado.
+     *
+     * @param path archivo de captura no vacío
+     * @return bytes descartados del final
+     * @throws IOException si el archivo no es una captura o su versión no es compatible
+     */
+    public static long truncateToLastRecord(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                // Corte al escribir el encabezado
+                channel.truncate(0);
+                return size;
+            }
+            readHeader(new DataInputStream(Channels.newInputStream(channel)));
+            long aligned = HEADER_BYTES + (size - HEADER_BYTES) / RECORD_BYTES * RECORD_BYTES;
+            if (aligned < size) {
+                channel.truncate(aligned);
+            }
+            return size - aligned;
+        }
+    }
+
+    /**
+     * Indica si el monto cabe en un registro (valor sin escala de 64 bits y escala de un byte).
+     */
+    public static boolean fits(BigDecimal amount) {
+        return amount.unscaledValue().bitLength() < Long.SIZE
+            && amount.scale() >= Byte.MIN_VALUE && amount.scale() <= Byte.MAX_VALUE;
+    }
+
+    /**
+     * Escribe un registro. El monto debe cumplir {@link #fits(BigDecimal)}.
+     */
+    public static void write(DataOutput out, CapturedRequest request) throws IOException {
+        out.writeLong(request.arrivalEpochMicros());
+        out.writeByte(request.endpoint().getCode());
+        out.writeBytes(request.pair().source().name());
+        out.writeBytes(request.pair().target().name());
+        out.writeByte(request.amount().scale());
+        out.writeLong(request.amount().unscaledValue().longValue());
+    }
+
+    /**
+     * Lee el siguiente registro.
+     *
+     * @return registro leído, o null al llegar al final del archivo
+     * @throws IOException si el registro está incompleto o contiene un par no soportado
+     */
+    public static CapturedRequest read(DataInput in) throws IOException {
+        long arrivalEpochMicros;
+        try {
+            arrivalEpochMicros = in.readLong();
+        } catch (EOFException e) {
+            return null;
+        }
+        CapturedEndpoint endpoint = CapturedEndpoint.fromCode(in.readUnsignedByte());
+        byte[] codes = new byte[6];
+        in.readFully(codes);
+        int scale = in.readByte();
+        long unscaled = in.readLong();
+
+        CurrencyPair pair = CurrencyPair.lookup(
+            new String(codes, 0, 3, StandardCharsets.US_ASCII),
+            new String(codes, 3, 3, StandardCharsets.US_ASCII));
+        if (pair == null) {
+            throw new IOException("Par no soportado en la captura: " + new String(codes, StandardCharsets.US_ASCII));
+        }
+        return new CapturedRequest(arrivalEpochMicros, endpoint, pair, BigDecimal.valueOf(unscaled, scale));
+    }
+}
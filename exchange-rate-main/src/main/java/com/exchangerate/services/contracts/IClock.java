@@ -0,0 +1,35 @@
+package com.exchangerate.services.contracts;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Fuente de tiempo y planificador del servicio.
+ *
+ * Las latencias de proveedores y solicitudes, la frescura de las cotizaciones y las
+ * ventanas de solicitudes lentas se leen de aquí y no de {@link System}, de modo que
+ * las pruebas pueden reemplazarlo por un reloj virtual que avanza a voluntad.
+ */
+public interface IClock {
+
+    /**
+     * Instante monotónico para medir intervalos, como {@link System#nanoTime()}.
+     *
+     * @return instante en nanosegundos
+     */
+    long nanoTime();
+
+    /**
+     * Hora actual, como {@link System#currentTimeMillis()}.
+     *
+     * @return milisegundos desde epoch
+     */
+    long currentTimeMillis();
+
+    /**
+     * Planificador de las esperas del servicio, para usar con
+     * {@code onItem().delayIt().onExecutor(...)} de Mutiny.
+     *
+     * @return planificador asociado a este reloj
+     */
+    ScheduledExecutorService scheduler();
+}
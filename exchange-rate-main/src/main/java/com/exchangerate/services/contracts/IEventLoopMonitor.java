@@ -0,0 +1,18 @@
+package com.exchangerate.services.contracts;
+
+import java.util.List;
+
+import com.exchangerate.models.logging.EventLoopStall;
+
+/**
+ * Vigilancia continua de los hilos de eventos de Vert.x y del pool de workers.
+ */
+public interface IEventLoopMonitor {
+
+    /**
+     * Bloqueos recientes de hilos de eventos, del más reciente al más antiguo.
+     *
+     * @return bloqueos detectados
+     */
+    List<EventLoopStall> recentStalls();
+}
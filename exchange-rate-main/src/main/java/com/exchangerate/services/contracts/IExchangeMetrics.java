@@ -0,0 +1,47 @@
+package com.exchangerate.services.contracts;
+
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.models.response.ExchangeRateResponse;
+
+/**
+ * Métricas de la comparación de tipos de cambio: latencia por proveedor, par y
+ * resultado, proveedor ganador y llamadas en curso.
+ * Los tiempos se miden con {@link IClock#nanoTime()}.
+ */
+public interface IExchangeMetrics {
+
+    /**
+     * Marca el inicio de una solicitud de mejor tasa.
+     *
+     * @return instante de inicio en nanosegundos
+     */
+    long requestStarted();
+
+    /**
+     * Registra el fin de una solicitud de mejor tasa.
+     *
+     * @param pair par solicitado
+     * @param result respuesta entregada, o null si la solicitud se canceló
+     * @param startNanos valor devuelto por {@link #requestStarted()}
+     */
+    void requestCompleted(CurrencyPair pair, ExchangeRateResponse result, long startNanos);
+
+    /**
+     * Marca el inicio de una llamada a un proveedor.
+     *
+     * @param provider nombre del proveedor
+     * @return instante de inicio en nanosegundos
+     */
+    long providerCallStarted(String provider);
+
+    /**
+     * Registra el fin de una llamada a un proveedor.
+     *
+     * @param provider nombre del proveedor
+     * @param pair par solicitado
+     * @param response respuesta del proveedor, o null si la llamada se canceló
+     * @param startNanos valor devuelto por {@link #providerCallStarted(String)}
+     */
+    void providerCallCompleted(String provider, CurrencyPair pair, ApiResponse response, long startNanos);
+}
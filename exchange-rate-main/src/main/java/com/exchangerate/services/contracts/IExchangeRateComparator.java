@@ -8,4 +8,15 @@ import com.exchangerate.models.request.ExchangeRateRequest;
 
 public interface IExchangeRateComparator {
     ExchangeRateResponse selectBestRate(ExchangeRateRequest request, List<ApiResponse> responses, long totalResponseTime);
-}
\ No newline at end of file
+    
+    /**
+     * Indica si existe una estrategia de ranking con el nombre dado.
+     * Un nombre null selecciona la estrategia por defecto y siempre es válido.
+     */
+    boolean supportsRanking(String strategyName);
+    
+    /**
+     * Nombres de las estrategias de ranking registradas, en orden alfabético.
+     */
+    List<String> rankingNames();
+}
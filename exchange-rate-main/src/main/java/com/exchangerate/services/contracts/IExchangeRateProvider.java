@@ -7,5 +7,6 @@ import io.smallrye.mutiny.Uni;
 
 public interface IExchangeRateProvider {
     String getProviderName();
+    String getCircuitBreakerName();
     Uni<ApiResponse> getExchangeRate(ExchangeRateRequest request);
 }
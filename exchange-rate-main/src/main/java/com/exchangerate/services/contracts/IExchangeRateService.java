@@ -2,9 +2,18 @@ package com.exchangerate.services.contracts;
 
 import com.exchangerate.models.request.ExchangeRateRequest;
 import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.utils.RequestTimer;
 
 import io.smallrye.mutiny.Uni;
 
 public interface IExchangeRateService { 
     Uni<ExchangeRateResponse> getBestExchangeRate(ExchangeRateRequest request);
+
+    /**
+     * Igual que {@link #getBestExchangeRate(ExchangeRateRequest)}, registrando el desglose
+     * de tiempos en {@code timer}. Las implementaciones sin desglose lo ignoran.
+     */
+    default Uni<ExchangeRateResponse> getBestExchangeRate(ExchangeRateRequest request, RequestTimer timer) {
+        return getBestExchangeRate(request);
+    }
 }
\ No newline at end of file
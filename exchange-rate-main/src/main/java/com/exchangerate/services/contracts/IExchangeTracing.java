@@ -0,0 +1,86 @@
+package com.exchangerate.services.contracts;
+
+import java.math.BigDecimal;
+import java.net.http.HttpRequest;
+
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.models.response.ExchangeRateResponse;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+
+/**
+ * Trazas OpenTelemetry de la comparación de tipos de cambio.
+ *
+ * Cada solicitud de mejor tasa abre un span con spans hijos para cada proveedor
+ * y para el comparador; cada intento HTTP de un proveedor abre un span de cliente
+ * y propaga el contexto ({@code traceparent}) al servicio simulado.
+ */
+public interface IExchangeTracing {
+
+    /**
+     * Abre el span de una solicitud de mejor tasa como hijo del contexto actual.
+     *
+     * @param pair par solicitado
+     * @param amount monto solicitado
+     * @return span abierto
+     */
+    Span startRequest(CurrencyPair pair, BigDecimal amount);
+
+    /**
+     * Cierra el span de la solicitud con su resultado.
+     *
+     * @param span span de la solicitud
+     * @param result respuesta entregada, o null si la solicitud se canceló
+     */
+    void endRequest(Span span, ExchangeRateResponse result);
+
+    /**
+     * Abre el span de la llamada a un proveedor.
+     *
+     * @param parent span de la solicitud
+     * @param provider nombre del proveedor
+     * @param pair par solicitado
+     * @return contexto con el span del proveedor, para hacerlo actual mientras se invoca al proveedor
+     */
+    Context startProviderCall(Span parent, String provider, CurrencyPair pair);
+
+    /**
+     * Cierra el span de la llamada a un proveedor con su resultado, los intentos
+     * realizados y el estado del circuit breaker.
+     *
+     * @param context contexto devuelto por {@link #startProviderCall}
+     * @param breakerName nombre del circuit breaker del proveedor, o null
+     * @param response respuesta del proveedor, o null si la llamada se canceló
+     */
+    void endProviderCall(Context context, String breakerName, ApiResponse response);
+
+    /**
+     * Abre el span del comparador.
+     *
+     * @param parent span de la solicitud
+     * @return span abierto
+     */
+    Span startComparator(Span parent);
+
+    /**
+     * Abre el span de cliente de un intento HTTP y agrega al pedido los
+     * encabezados de propagación.
+     *
+     * @param parent contexto del proveedor, capturado al invocarlo
+     * @param provider nombre del proveedor
+     * @param builder pedido HTTP en construcción
+     * @return span abierto
+     */
+    Span startHttpAttempt(Context parent, String provider, HttpRequest.Builder builder);
+
+    /**
+     * Cierra el span de un intento HTTP.
+     *
+     * @param span span del intento
+     * @param statusCode código HTTP recibido, o 0 si no hubo respuesta
+     * @param failure fallo del intento, o null
+     */
+    void endHttpAttempt(Span span, int statusCode, Throwable failure);
+}
@@ -0,0 +1,21 @@
+package com.exchangerate.services.contracts;
+
+import java.time.Duration;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Grabaciones JDK Flight Recorder bajo demanda con el perfil del servicio.
+ */
+public interface IFlightRecorder {
+
+    /**
+     * Graba durante el tiempo indicado y devuelve el archivo {@code .jfr}.
+     * Solo se admite una grabación a la vez; si ya hay una en curso falla con
+     * {@link IllegalStateException}.
+     *
+     * @param duration duración de la grabación
+     * @return contenido del archivo {@code .jfr}
+     */
+    Uni<byte[]> record(Duration duration);
+}
@@ -0,0 +1,23 @@
+package com.exchangerate.services.contracts;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tiempo máximo por intento y reintentos de las llamadas a proveedores.
+ *
+ * Las esperas se programan en {@link IClock#scheduler()}, así que con un reloj virtual
+ * el vencimiento de un intento y la pausa antes de reintentar dependen solo de cuánto
+ * avanza la prueba el reloj.
+ */
+public interface IProviderCallPolicy {
+
+    /**
+     * Aplica la política a una llamada. Cada reintento vuelve a suscribirse a {@code attempt},
+     * por lo que debe producir una llamada nueva en cada suscripción.
+     *
+     * @param attempt llamada al proveedor
+     * @param <T> tipo de la respuesta
+     * @return llamada con tiempo máximo por intento y reintentos
+     */
+    <T> Uni<T> apply(Uni<T> attempt);
+}
@@ -0,0 +1,29 @@
+package com.exchangerate.services.contracts;
+
+import com.exchangerate.models.enums.ProviderFailureType;
+
+/**
+ * Cuenta los fallos de los proveedores por tipo y los registra en el log
+ * con frecuencia limitada, para que una caída no convierta el manejo de
+ * errores en el cuello de botella.
+ */
+public interface IProviderFailureTracker {
+
+    /**
+     * Registra un fallo ya clasificado.
+     *
+     * @param provider nombre del proveedor
+     * @param type tipo de fallo
+     * @param failure fallo original
+     */
+    void record(String provider, ProviderFailureType type, Throwable failure);
+
+    /**
+     * Fallos registrados de un proveedor y tipo.
+     *
+     * @param provider nombre del proveedor
+     * @param type tipo de fallo
+     * @return total de fallos
+     */
+    long count(String provider, ProviderFailureType type);
+}
@@ -0,0 +1,44 @@
+package com.exchangerate.services.contracts;
+
+import java.math.BigDecimal;
+
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.response.CachedQuote;
+import com.exchangerate.models.response.ExchangeRateResponse;
+
+/**
+ * Caché de la última cotización por par y monto, usada por la variante GET de
+ * {@code best-rate} para responder solicitudes repetidas y condicionales sin
+ * consultar a los proveedores.
+ */
+public interface IQuoteCache {
+
+    /**
+     * Obtiene la cotización vigente para el par y monto.
+     *
+     * @param pair par internado
+     * @param amount monto solicitado
+     * @param nowMillis instante actual (epoch ms)
+     * @return cotización vigente o null si no existe o expiró
+     */
+    CachedQuote get(CurrencyPair pair, BigDecimal amount, long nowMillis);
+
+    /**
+     * Almacena una cotización recién obtenida y le asigna una nueva versión del par.
+     *
+     * @param pair par internado
+     * @param amount monto solicitado
+     * @param response respuesta obtenida de los proveedores
+     * @param nowMillis instante en que se obtuvo (epoch ms)
+     * @return cotización almacenada
+     */
+    CachedQuote put(CurrencyPair pair, BigDecimal amount, ExchangeRateResponse response, long nowMillis);
+
+    /**
+     * Versión actual del par; aumenta con cada cotización almacenada.
+     *
+     * @param pair par internado
+     * @return versión actual, o 0 si el par nunca se ha cotizado
+     */
+    long version(CurrencyPair pair);
+}
@@ -0,0 +1,29 @@
+package com.exchangerate.services.contracts;
+
+import com.exchangerate.models.response.ApiResponse;
+
+/**
+ * Estrategia para decidir cuál de las respuestas exitosas es la mejor oferta.
+ * El comparador la evalúa en una sola pasada, comparando cada candidata con
+ * la mejor hasta el momento, por lo que las implementaciones no deben asignar
+ * memoria ni depender del orden más allá de preservar la primera en empates.
+ */
+public interface IRankingStrategy {
+
+    /**
+     * Nombre con el que se selecciona la estrategia por configuración o por solicitud.
+     *
+     * @return nombre de la estrategia (ej. "highest-amount")
+     */
+    String getName();
+
+    /**
+     * Compara dos respuestas exitosas.
+     *
+     * @param candidate respuesta candidata
+     * @param best mejor respuesta encontrada hasta el momento
+     * @param nowMillis instante de la comparación en milisegundos epoch
+     * @return valor positivo si la candidata es mejor, cero o negativo en caso contrario
+     */
+    int compare(ApiResponse candidate, ApiResponse best, long nowMillis);
+}
@@ -0,0 +1,32 @@
+package com.exchangerate.services.contracts;
+
+import java.util.List;
+
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.models.response.ExchangeRateResponse;
+
+/**
+ * Registro estructurado de solicitudes: un evento de resumen por solicitud y,
+ * según el muestreo configurado, el detalle por proveedor.
+ */
+public interface IRequestLogger {
+
+    /**
+     * Registra el resultado de una solicitud sin bloquear al llamador.
+     *
+     * @param request solicitud atendida
+     * @param responses respuestas de todos los proveedores
+     * @param result respuesta seleccionada
+     * @param totalResponseTimeMs tiempo total de la solicitud
+     */
+    void logRequest(ExchangeRateRequest request, List<ApiResponse> responses,
+                    ExchangeRateResponse result, long totalResponseTimeMs);
+
+    /**
+     * Eventos descartados por tener la cola de log llena.
+     *
+     * @return total de descartes
+     */
+    long droppedEvents();
+}
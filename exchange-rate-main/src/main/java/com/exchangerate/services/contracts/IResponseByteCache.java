@@ -0,0 +1,25 @@
+package com.exchangerate.services.contracts;
+
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.money.FixedDecimal;
+import com.exchangerate.models.response.CachedQuote;
+import com.exchangerate.serialization.ResponseFormat;
+
+/**
+ * Caché acotada de respuestas ya serializadas por par, monto, versión
+ * de la cotización y formato, para escribir los bytes sin volver a serializar.
+ */
+public interface IResponseByteCache {
+
+    /**
+     * Obtiene los bytes de la respuesta de una cotización, serializándola si no
+     * están en caché o si la versión de la cotización cambió.
+     *
+     * @param pair par internado
+     * @param amount monto solicitado; {@code 100} y {@code 100.00} comparten entrada
+     * @param quote cotización vigente
+     * @param format formato de la respuesta
+     * @return bytes listos para escribir (no deben modificarse)
+     */
+    byte[] getOrEncode(CurrencyPair pair, FixedDecimal amount, CachedQuote quote, ResponseFormat format);
+}
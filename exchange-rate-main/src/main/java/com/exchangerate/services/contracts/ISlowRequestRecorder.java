@@ -0,0 +1,34 @@
+package com.exchangerate.services.contracts;
+
+import java.util.List;
+
+import com.exchangerate.models.logging.SlowRequestExemplar;
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.models.response.ExchangeRateResponse;
+
+/**
+ * Captura de las solicitudes más lentas de cada ventana de tiempo, para diagnosticar
+ * los valores atípicos de latencia sin activar el log de depuración.
+ */
+public interface ISlowRequestRecorder {
+
+    /**
+     * Considera una solicitud terminada. Si no supera el umbral de la ventana actual
+     * no se copia nada.
+     *
+     * @param request solicitud atendida
+     * @param responses respuestas de todos los proveedores
+     * @param result respuesta seleccionada
+     * @param startNanos inicio de la solicitud, de {@link IClock#nanoTime()}
+     */
+    void record(ExchangeRateRequest request, List<ApiResponse> responses,
+                ExchangeRateResponse result, long startNanos);
+
+    /**
+     * Solicitudes capturadas en la ventana actual y la anterior, de la más lenta a la más rápida.
+     *
+     * @return solicitudes lentas
+     */
+    List<SlowRequestExemplar> slowest();
+}
@@ -0,0 +1,38 @@
+package com.exchangerate.services.contracts;
+
+import java.math.BigDecimal;
+
+import com.exchangerate.models.enums.CapturedEndpoint;
+
+/**
+ * Captura opcional del tráfico de best-rate a un archivo binario de solo agregado,
+ * para reproducirlo después contra otra instancia del servicio.
+ */
+public interface ITrafficCapture {
+
+    /**
+     * Registra la llegada de una solicitud sin bloquear al llamador.
+     * No hace nada si la captura está desactivada o el par no está soportado.
+     *
+     * @param endpoint endpoint por el que llegó la solicitud
+     * @param sourceCurrency código de la moneda de origen
+     * @param targetCurrency código de la moneda de destino
+     * @param amount monto solicitado
+     */
+    void record(CapturedEndpoint endpoint, String sourceCurrency, String targetCurrency, BigDecimal amount);
+
+    /**
+     * Solicitudes descartadas por tener la cola de captura llena.
+     *
+     * @return total de descartes
+     */
+    long droppedRequests();
+
+    /**
+     * Solicitudes que no llegaron al archivo por un error de escritura, incluidas las
+     * que estaban en cola cuando la captura se detuvo.
+     *
+     * @return total de registros perdidos
+     */
+    long writeFailures();
+}
@@ -0,0 +1,249 @@
+package com.exchangerate.services.implementations;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.exchangerate.models.logging.EventLoopStall;
+import com.exchangerate.services.contracts.IEventLoopMonitor;
+import com.exchangerate.utils.LogRateLimiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.concurrent.EventExecutor;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.Vertx;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * Mide continuamente la latencia de los hilos de eventos de Vert.x y la espera en cola
+ * del pool de workers, y detecta qué código bloquea un hilo de eventos.
+ *
+ * Un hilo dedicado envía cada {@code exchange.event-loop.probe-interval-ms} una sonda
+ * vacía a cada hilo de eventos y al pool de workers; el tiempo hasta que la sonda se
+ * ejecuta es la latencia. Si la sonda de un hilo de eventos lleva más de
+ * {@code exchange.event-loop.stall-threshold-ms} pendiente, el hilo está bloqueado:
+ * se muestrea su pila en ese momento, se cuenta por el primer marco de la aplicación
+ * y se registra con un WARN limitado por frecuencia.
+ *
+ * <ul>
+ *   <li>{@code exchange.event.loop.lag}: timer por hilo de eventos ({@code loop}).</li>
+ *   <li>{@code exchange.event.loop.stalls}: contador por hilo y marco bloqueante ({@code frame}).</li>
+ *   <li>{@code exchange.worker.pool.queue.delay}: timer de la espera en cola del pool de workers.</li>
+ *   <li>{@code exchange.worker.pool.pending}: sondas del pool de workers aún sin ejecutar.</li>
+ * </ul>
+ */
+@ApplicationScoped
+public class EventLoopMonitor implements IEventLoopMonitor {
+
+    private static final Logger LOG = Logger.getLogger(EventLoopMonitor.class);
+
+    static final String EVENT_LOOP_LAG = "exchange.event.loop.lag";
+    static final String EVENT_LOOP_STALLS = "exchange.event.loop.stalls";
+    static final String WORKER_QUEUE_DELAY = "exchange.worker.pool.queue.delay";
+    static final String WORKER_PENDING = "exchange.worker.pool.pending";
+
+    private static final String APPLICATION_PACKAGE = "com.exchangerate.";
+    private static final int MAX_STACK_DEPTH = 32;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "exchange.event-loop.monitor.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "exchange.event-loop.probe-interval-ms", defaultValue = "100")
+    long probeIntervalMillis;
+
+    @ConfigProperty(name = "exchange.event-loop.stall-threshold-ms", defaultValue = "200")
+    long stallThresholdMillis;
+
+    @ConfigProperty(name = "exchange.event-loop.max-recorded-stalls", defaultValue = "20")
+    int maxRecordedStalls;
+
+    @ConfigProperty(name = "exchange.logging.error-interval-ms", defaultValue = "10000")
+    long logIntervalMillis;
+
+    private final Deque<EventLoopStall> stalls = new ConcurrentLinkedDeque<>();
+    private final ConcurrentHashMap<String, LogRateLimiter> stallLogLimiters = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+    private List<LoopProbe> loopProbes;
+    private Timer workerQueueDelay;
+    private AtomicInteger workerPending;
+    private volatile long workerProbeSubmittedNanos;
+
+    /**
+     * Sonda de un hilo de eventos. Solo el hilo del monitor la envía; el hilo de eventos
+     * la marca como atendida.
+     */
+    private final class LoopProbe {
+        final EventExecutor executor;
+        final String name;
+        volatile Thread thread;
+        volatile long submittedNanos;
+        volatile boolean reported;
+        Timer lag;
+
+        LoopProbe(EventExecutor executor, int index) {
+            this.executor = executor;
+            this.name = "loop-" + index;
+        }
+
+        void check(long nowNanos) {
+            long submitted = submittedNanos;
+            if (submitted == 0L) {
+                submittedNanos = nowNanos;
+                executor.execute(this::handled);
+                return;
+            }
+            long pendingNanos = nowNanos - submitted;
+            if (!reported && pendingNanos > TimeUnit.MILLISECONDS.toNanos(stallThresholdMillis) && thread != null) {
+                reported = true;
+                stalled(this, TimeUnit.NANOSECONDS.toMillis(pendingNanos));
+            }
+        }
+
+        void handled() {
+            long lagNanos = System.nanoTime() - submittedNanos;
+            if (thread == null) {
+                thread = Thread.currentThread();
+                lag = Timer.builder(EVENT_LOOP_LAG)
+                    .description("Demora de los hilos de eventos en atender una tarea")
+                    .tags("loop", name)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            }
+            lag.record(lagNanos, TimeUnit.NANOSECONDS);
+            reported = false;
+            submittedNanos = 0L;
+        }
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        // Una sonda por cada hilo del grupo de eventos de Netty que usa Vert.x
+        List<LoopProbe> probes = new ArrayList<>();
+        for (EventExecutor executor : vertx.nettyEventLoopGroup()) {
+            probes.add(new LoopProbe(executor, probes.size()));
+        }
+        loopProbes = probes;
+        int loops = probes.size();
+
+        workerQueueDelay = Timer.builder(WORKER_QUEUE_DELAY)
+            .description("Espera en cola de las tareas del pool de workers")
+            .publishPercentileHistogram()
+            .register(registry);
+        workerPending = registry.gauge(WORKER_PENDING, Tags.empty(), new AtomicInteger());
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-loop-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::probe, probeIntervalMillis, probeIntervalMillis, TimeUnit.MILLISECONDS);
+        LOG.infof("Monitor de hilos de eventos activo: %d hilos, umbral de bloqueo %dms", loops, stallThresholdMillis);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public List<EventLoopStall> recentStalls() {
+        return new ArrayList<>(stalls);
+    }
+
+    private void probe() {
+        try {
+            long nowNanos = System.nanoTime();
+            for (LoopProbe probe : loopProbes) {
+                probe.check(nowNanos);
+            }
+            probeWorkerPool(nowNanos);
+        } catch (RuntimeException e) {
+            // Una excepción cancelaría la tarea periódica
+            LOG.debugf(e, "Error en la sonda de hilos de eventos");
+        }
+    }
+
+    private void probeWorkerPool(long nowNanos) {
+        if (workerProbeSubmittedNanos != 0L) {
+            return;
+        }
+        workerProbeSubmittedNanos = nowNanos;
+        workerPending.incrementAndGet();
+        Infrastructure.getDefaultWorkerPool().execute(() -> {
+            workerQueueDelay.record(System.nanoTime() - workerProbeSubmittedNanos, TimeUnit.NANOSECONDS);
+            workerPending.decrementAndGet();
+            workerProbeSubmittedNanos = 0L;
+        });
+    }
+
+    private void stalled(LoopProbe probe, long stalledMillis) {
+        StackTraceElement[] trace = probe.thread.getStackTrace();
+        String frame = blockingFrame(trace);
+        int depth = Math.min(trace.length, MAX_STACK_DEPTH);
+        List<String> stack = new ArrayList<>(depth);
+        for (int i = 0; i < depth; i++) {
+            stack.add(trace[i].toString());
+        }
+
+        EventLoopStall stall = new EventLoopStall(
+            System.currentTimeMillis(), probe.thread.getName(), stalledMillis, frame, List.copyOf(stack));
+        stalls.addFirst(stall);
+        while (stalls.size() > maxRecordedStalls) {
+            stalls.pollLast();
+        }
+
+        Counter.builder(EVENT_LOOP_STALLS)
+            .description("Bloqueos de hilos de eventos por marco bloqueante")
+            .tags("loop", probe.name, "frame", frame)
+            .register(registry)
+            .increment();
+
+        long suppressed = stallLogLimiters.computeIfAbsent(frame, ignored -> new LogRateLimiter(logIntervalMillis))
+            .tryAcquire(stall.detectedAtMillis());
+        if (suppressed >= 0) {
+            LOG.warnf("Hilo de eventos %s bloqueado por más de %dms en %s; %d bloqueos similares omitidos%n\tat %s",
+                stall.thread(), stalledMillis, frame, suppressed, String.join("\n\tat ", stack));
+        }
+    }
+
+    /**
+     * Primer marco de la aplicación en la pila, que es el que provocó el bloqueo;
+     * si no hay ninguno (por ejemplo, una biblioteca bloqueando), el marco superior.
+     */
+    static String blockingFrame(StackTraceElement[] trace) {
+        for (StackTraceElement element : trace) {
+            if (element.getClassName().startsWith(APPLICATION_PACKAGE)
+                    && !element.getClassName().startsWith(EventLoopMonitor.class.getName())) {
+                return element.getClassName() + "." + element.getMethodName();
+            }
+        }
+        return trace.length > 0 ? trace[0].getClassName() + "." + trace[0].getMethodName() : "unknown";
+    }
+}
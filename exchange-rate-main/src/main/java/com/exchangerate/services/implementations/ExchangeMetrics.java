@@ -0,0 +1,211 @@
+package com.exchangerate.services.implementations;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.exchangerate.models.enums.CallOutcome;
+import com.exchangerate.models.enums.RequestOutcome;
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.services.contracts.IClock;
+import com.exchangerate.services.contracts.IExchangeMetrics;
+import com.exchangerate.utils.PairCounterTable;
+import com.exchangerate.utils.SparsePairMap;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Métricas Micrometer de la comparación de tipos de cambio.
+ *
+ * <ul>
+ *   <li>{@code exchange.provider.latency}: timer por proveedor, par y resultado, con histograma de percentiles.</li>
+ *   <li>{@code exchange.best.rate.latency}: timer de la solicitud completa por par y resultado.</li>
+ *   <li>{@code exchange.best.rate.wins}: proveedor que ofreció la mejor tasa, por par.</li>
+ *   <li>{@code exchange.provider.in.flight} y {@code exchange.requests.in.flight}: llamadas en curso.</li>
+ * </ul>
+ *
+ * Los medidores se guardan por par en un {@link SparsePairMap} para no consultar el
+ * registro en cada solicitud. Con el catálogo ISO completo la etiqueta {@code pair}
+ * podría tener miles de valores, por eso solo los primeros
+ * {@code exchange.metrics.max-tagged-pairs} pares se etiquetan por nombre y el resto
+ * comparte la etiqueta {@code OTHER}.
+ *
+ * Las victorias se cuentan en un {@link PairCounterTable} por proveedor; cada contador
+ * Micrometer lee su celda de la tabla, así que el camino de la solicitud solo hace un
+ * incremento atómico indexado por par.
+ */
+@ApplicationScoped
+public class ExchangeMetrics implements IExchangeMetrics {
+
+    static final String PROVIDER_LATENCY = "exchange.provider.latency";
+    static final String REQUEST_LATENCY = "exchange.best.rate.latency";
+    static final String WINS = "exchange.best.rate.wins";
+    static final String PROVIDER_IN_FLIGHT = "exchange.provider.in.flight";
+    static final String REQUESTS_IN_FLIGHT = "exchange.requests.in.flight";
+
+    static final String OTHER_PAIR = "OTHER";
+
+    private static final CallOutcome[] OUTCOMES = CallOutcome.values();
+    private static final RequestOutcome[] REQUEST_OUTCOMES = RequestOutcome.values();
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    IClock clock;
+
+    @ConfigProperty(name = "exchange.metrics.max-tagged-pairs", defaultValue = "50")
+    int maxTaggedPairs;
+
+    @ConfigProperty(name = "exchange.metrics.histogram.max-expected-ms", defaultValue = "5000")
+    long maxExpectedMillis;
+
+    private final SparsePairMap<PairMeters> metersByPair = new SparsePairMap<>();
+    private final AtomicInteger taggedPairs = new AtomicInteger();
+    private final ConcurrentHashMap<String, AtomicInteger> providerInFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ProviderWins> winsByProvider = new ConcurrentHashMap<>();
+
+    private PairMeters otherPairMeters;
+    private AtomicInteger requestsInFlight;
+
+    /**
+     * Medidores de un par (o de todos los pares sin etiqueta propia).
+     * Se crean la primera vez que se usan; si dos hilos compiten, el registro
+     * devuelve la misma instancia a ambos.
+     */
+    private final class PairMeters {
+        final String tag;
+        final ConcurrentHashMap<String, Timer[]> providerTimers = new ConcurrentHashMap<>();
+        final Timer[] requestTimers = new Timer[REQUEST_OUTCOMES.length];
+
+        PairMeters(String tag) {
+            this.tag = tag;
+        }
+
+        Timer providerTimer(String provider, CallOutcome outcome) {
+            Timer[] timers = providerTimers.computeIfAbsent(provider, ignored -> new Timer[OUTCOMES.length]);
+            Timer timer = timers[outcome.ordinal()];
+            if (timer == null) {
+                timer = timer(PROVIDER_LATENCY, "Latencia de las llamadas a proveedores",
+                    Tags.of("provider", provider, "pair", tag, "outcome", outcome.getTag()));
+                timers[outcome.ordinal()] = timer;
+            }
+            return timer;
+        }
+
+        Timer requestTimer(RequestOutcome outcome) {
+            Timer timer = requestTimers[outcome.ordinal()];
+            if (timer == null) {
+                timer = timer(REQUEST_LATENCY, "Latencia de las solicitudes de mejor tasa",
+                    Tags.of("pair", tag, "outcome", outcome.getTag()));
+                requestTimers[outcome.ordinal()] = timer;
+            }
+            return timer;
+        }
+    }
+
+    /**
+     * Victorias de un proveedor: por par en los pares etiquetados y un total para {@code OTHER}.
+     * El contador Micrometer de cada celda se registra con la primera victoria.
+     */
+    private final class ProviderWins {
+        final String provider;
+        final PairCounterTable byPair = new PairCounterTable();
+        final AtomicLong otherPairs = new AtomicLong();
+
+        ProviderWins(String provider) {
+            this.provider = provider;
+        }
+
+        void increment(CurrencyPair pair, PairMeters meters) {
+            if (meters == otherPairMeters) {
+                if (otherPairs.getAndIncrement() == 0L) {
+                    register(OTHER_PAIR, otherPairs, AtomicLong::get);
+                }
+            } else if (byPair.increment(pair) == 1L) {
+                int index = pair.index();
+                register(meters.tag, byPair, table -> table.get(index));
+            }
+        }
+
+        private <T> void register(String pairTag, T state, ToDoubleFunction<T> count) {
+            FunctionCounter.builder(WINS, state, count)
+                .description("Solicitudes en que el proveedor ofreció la mejor tasa")
+                .tags("provider", provider, "pair", pairTag)
+                .register(registry);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        otherPairMeters = new PairMeters(OTHER_PAIR);
+        requestsInFlight = registry.gauge(REQUESTS_IN_FLIGHT, Tags.empty(), new AtomicInteger());
+    }
+
+    @Override
+    public long requestStarted() {
+        requestsInFlight.incrementAndGet();
+        return clock.nanoTime();
+    }
+
+    @Override
+    public void requestCompleted(CurrencyPair pair, ExchangeRateResponse result, long startNanos) {
+        long elapsedNanos = clock.nanoTime() - startNanos;
+        requestsInFlight.decrementAndGet();
+
+        PairMeters meters = metersFor(pair);
+        RequestOutcome outcome = RequestOutcome.of(result);
+        if (outcome == RequestOutcome.SUCCESS) {
+            winsByProvider.computeIfAbsent(result.provider(), ProviderWins::new).increment(pair, meters);
+        }
+        meters.requestTimer(outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public long providerCallStarted(String provider) {
+        inFlight(provider).incrementAndGet();
+        return clock.nanoTime();
+    }
+
+    @Override
+    public void providerCallCompleted(String provider, CurrencyPair pair, ApiResponse response, long startNanos) {
+        long elapsedNanos = clock.nanoTime() - startNanos;
+        inFlight(provider).decrementAndGet();
+        metersFor(pair).providerTimer(provider, CallOutcome.of(response)).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private PairMeters metersFor(CurrencyPair pair) {
+        // Los pares por encima del límite quedan asociados a los medidores compartidos
+        return metersByPair.computeIfAbsent(pair, created -> taggedPairs.incrementAndGet() <= maxTaggedPairs
+            ? new PairMeters(created.toString())
+            : otherPairMeters);
+    }
+
+    private AtomicInteger inFlight(String provider) {
+        return providerInFlight.computeIfAbsent(provider, name ->
+            registry.gauge(PROVIDER_IN_FLIGHT, Tags.of("provider", name), new AtomicInteger()));
+    }
+
+    private Timer timer(String name, String description, Tags tags) {
+        return Timer.builder(name)
+            .description(description)
+            .tags(tags)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofMillis(maxExpectedMillis))
+            .register(registry);
+    }
+}
@@ -1,55 +1,130 @@
 package com.exchangerate.services.implementations;
 
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
+import com.exchangerate.exceptions.InvalidRankingException;
 import com.exchangerate.models.request.ExchangeRateRequest;
 import com.exchangerate.models.response.ApiResponse;
 import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.services.contracts.IClock;
 import com.exchangerate.services.contracts.IExchangeRateComparator;
+import com.exchangerate.services.contracts.IRankingStrategy;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
 
 @ApplicationScoped
 public class ExchangeRateComparator implements IExchangeRateComparator {
     
     private static final Logger LOG = Logger.getLogger(ExchangeRateComparator.class);
     
+    // Used when the comparator is created outside CDI (no strategies injected)
+    private static final IRankingStrategy FALLBACK_STRATEGY = new HighestAmountRankingStrategy();
+    
+    @Inject
+    Instance<IRankingStrategy> strategies;
+    
+    // Replaced by the injected clock; kept for comparators created outside CDI
+    @Inject
+    IClock clock = SystemClock.INSTANCE;
+    
+    @ConfigProperty(name = "exchange.ranking.default-strategy", defaultValue = HighestAmountRankingStrategy.NAME)
+    String defaultStrategyName;
+    
+    private Map<String, IRankingStrategy> strategiesByName = Map.of(FALLBACK_STRATEGY.getName(), FALLBACK_STRATEGY);
+    private IRankingStrategy defaultStrategy = FALLBACK_STRATEGY;
+    private List<String> rankingNames = List.of(FALLBACK_STRATEGY.getName());
+    
+    @PostConstruct
+    void registerStrategies() {
+        Map<String, IRankingStrategy> byName = new HashMap<>();
+        for (IRankingStrategy strategy : strategies) {
+            byName.put(strategy.getName(), strategy);
+        }
+        
+        IRankingStrategy configured = byName.get(defaultStrategyName);
+        if (configured == null) {
+            throw new IllegalStateException("Estrategia de ranking por defecto desconocida: " + defaultStrategyName
+                + ". Disponibles: " + byName.keySet());
+        }
+        
+        strategiesByName = Map.copyOf(byName);
+        rankingNames = byName.keySet().stream().sorted().toList();
+        defaultStrategy = configured;
+        LOG.infof("Estrategias de ranking disponibles: %s, por defecto: %s", byName.keySet(), defaultStrategyName);
+    }
+    
+    @Override
+    public List<String> rankingNames() {
+        return rankingNames;
+    }
+    
+    @Override
+    public boolean supportsRanking(String strategyName) {
+        return strategyName == null || strategiesByName.containsKey(strategyName);
+    }
+    
     @Override
     public ExchangeRateResponse selectBestRate(ExchangeRateRequest request, List<ApiResponse> responses, long totalResponseTime) {
-        LOG.infof("Comparing %d API responses for best exchange rate", responses.size());
+        IRankingStrategy strategy = resolveStrategy(request == null ? null : request.ranking());
+        long now = clock.currentTimeMillis();
+        
+        LOG.debugf("Comparing %d API responses for best exchange rate using %s", responses.size(), strategy.getName());
         
-        List<ApiResponse> successfulResponses = responses.stream()
-            .filter(ApiResponse::successful)
-            .toList();
+        // Single indexed pass (the list comes from Uni.combine and is random access):
+        // counts successes and keeps the best so far; ties keep the first response
+        ApiResponse bestResponse = null;
+        int successfulCount = 0;
+        for (int i = 0, size = responses.size(); i < size; i++) {
+            ApiResponse candidate = responses.get(i);
+            if (!candidate.successful()) {
+                continue;
+            }
+            successfulCount++;
+            if (bestResponse == null || strategy.compare(candidate, bestResponse, now) > 0) {
+                bestResponse = candidate;
+            }
+        }
         
-        LOG.infof("Found %d successful responses out of %d total", successfulResponses.size(), responses.size());
+        LOG.debugf("Found %d successful responses out of %d total", successfulCount, responses.size());
         
-        if (successfulResponses.isEmpty()) {
-            LOG.warn("No successful API responses available");
+        if (bestResponse == null) {
+            LOG.debug("No successful API responses available");
             return createNoDataResponse(responses.size(), totalResponseTime);
         }
         
-        // Find the response with the highest converted amount (best deal for the customer)
-        ApiResponse bestResponse = successfulResponses.stream()
-            .max(Comparator.comparing(ApiResponse::convertedAmount))
-            .orElseThrow(() -> new IllegalStateException("Expected at least one successful response"));
-        
-        LOG.infof("Best rate found from %s: rate=%s, converted=%s", 
+        LOG.debugf("Best rate found from %s: rate=%s, converted=%s", 
                  bestResponse.provider(), bestResponse.rate(), bestResponse.convertedAmount());
         
+        // Conversión a BigDecimal solo en el borde de la respuesta JSON
         return new ExchangeRateResponse(
-            bestResponse.rate(),
-            bestResponse.convertedAmount(),
+            bestResponse.rate().toBigDecimal(),
+            bestResponse.convertedAmount().toBigDecimal(),
             bestResponse.provider(),
             totalResponseTime,
-            successfulResponses.size(),
+            successfulCount,
             responses.size()
         );
     }
     
+    private IRankingStrategy resolveStrategy(String strategyName) {
+        if (strategyName == null) {
+            return defaultStrategy;
+        }
+        IRankingStrategy strategy = strategiesByName.get(strategyName);
+        if (strategy == null) {
+            throw new InvalidRankingException(strategyName, rankingNames);
+        }
+        return strategy;
+    }
+    
     private ExchangeRateResponse createNoDataResponse(int totalProviders, long totalResponseTime) {
         return new ExchangeRateResponse(
             null,
@@ -60,4 +135,4 @@ public class ExchangeRateComparator implements IExchangeRateComparator {
             totalProviders
         );
     }
-}
\ No newline at end of file
+}
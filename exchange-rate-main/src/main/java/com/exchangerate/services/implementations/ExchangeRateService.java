@@ -1,16 +1,35 @@
 package com.exchangerate.services.implementations;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.logging.Logger;
 
+import com.exchangerate.exceptions.InvalidRankingException;
+import com.exchangerate.exceptions.ProviderFailureException;
+import com.exchangerate.jfr.ComparatorEvent;
+import com.exchangerate.jfr.FanOutEvent;
+import com.exchangerate.jfr.ProviderCallEvent;
+import com.exchangerate.models.enums.ProviderFailureType;
+import com.exchangerate.models.enums.RequestOutcome;
+import com.exchangerate.models.money.CurrencyPair;
 import com.exchangerate.models.request.ExchangeRateRequest;
 import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.services.contracts.IClock;
+import com.exchangerate.services.contracts.IExchangeMetrics;
 import com.exchangerate.services.contracts.IExchangeRateComparator;
 import com.exchangerate.services.contracts.IExchangeRateProvider;
 import com.exchangerate.services.contracts.IExchangeRateService;
-import com.exchangerate.utils.CurrencyUtils;
+import com.exchangerate.services.contracts.IExchangeTracing;
+import com.exchangerate.services.contracts.IProviderFailureTracker;
+import com.exchangerate.services.contracts.IRequestLogger;
+import com.exchangerate.services.contracts.ISlowRequestRecorder;
+import com.exchangerate.utils.ProviderTimer;
+import com.exchangerate.utils.RequestTimer;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -39,103 +58,139 @@ public class ExchangeRateService implements IExchangeRateService {
     @Inject
     IExchangeRateComparator comparator;
     
+    @Inject
+    IRequestLogger requestLogger;
+    
+    @Inject
+    IProviderFailureTracker failureTracker;
+    
+    @Inject
+    IExchangeMetrics metrics;
+    
+    @Inject
+    IExchangeTracing tracing;
+    
+    @Inject
+    ISlowRequestRecorder slowRequests;
+    
+    @Inject
+    IClock clock;
+    
     @Override
     public Uni<ExchangeRateResponse> getBestExchangeRate(ExchangeRateRequest request) {
-        long startTime = System.currentTimeMillis();
-        
-        LOG.infof("Iniciando comparación de tipos de cambio para %s a %s, monto: %s", 
-                 request.sourceCurrency(), request.targetCurrency(), request.amount());
-        
-        // Validar monedas
-        if (!CurrencyUtils.isValidCurrencyPair(request.sourceCurrency(), request.targetCurrency())) {
+        return getBestExchangeRate(request, RequestTimer.DISABLED);
+    }
+    
+    @Override
+    public Uni<ExchangeRateResponse> getBestExchangeRate(ExchangeRateRequest request, RequestTimer timer) {
+        // Validar monedas resolviendo el par internado
+        CurrencyPair pair = CurrencyPair.lookup(request.sourceCurrency(), request.targetCurrency());
+        if (pair == null) {
             return Uni.createFrom().failure(
                 new IllegalArgumentException("Códigos de moneda inválidos proporcionados")
             );
         }
         
+        if (request.ranking() != null && !comparator.supportsRanking(request.ranking())) {
+            return Uni.createFrom().failure(
+                new InvalidRankingException(request.ranking(), comparator.rankingNames())
+            );
+        }
+        
+        // El tiempo se mide por suscripción, no al ensamblar el Uni
+        return Uni.createFrom().deferred(() -> compareProviders(request, pair, timer));
+    }
+    
+    private Uni<ExchangeRateResponse> compareProviders(ExchangeRateRequest request, CurrencyPair pair, RequestTimer timer) {
+        timer.serviceStarted();
+        long startNanos = metrics.requestStarted();
+        Span requestSpan = tracing.startRequest(pair, request.amount());
+        FanOutEvent fanOutEvent = FanOutEvent.start(pair);
+        
         // Obtener todos los proveedores
         List<IExchangeRateProvider> providers = List.of(simpleProvider, xmlProvider, advancedProvider);
         
         // Llamar a todas las APIs en paralelo con mejor manejo de errores
         List<Uni<com.exchangerate.models.response.ApiResponse>> apiCalls = providers.stream()
-            .map(provider -> {
-                return provider.getExchangeRate(request)
+            .map(provider -> Uni.createFrom().deferred(() -> {
+                String providerName = provider.getProviderName();
+                long callStartNanos = metrics.providerCallStarted(providerName);
+                ProviderCallEvent callEvent = ProviderCallEvent.start(providerName, pair);
+                Context providerContext = timer.attachProvider(
+                    tracing.startProviderCall(requestSpan, providerName, pair), providerName);
+                
+                // El proveedor captura el contexto actual como padre de sus intentos HTTP
+                Uni<com.exchangerate.models.response.ApiResponse> call;
+                try (Scope ignored = providerContext.makeCurrent()) {
+                    call = provider.getExchangeRate(request);
+                }
+                return call
                     .onFailure().recoverWithItem(throwable -> {
-                        // Recuperar en caso de cualquier fallo
-                        long responseTime = System.currentTimeMillis() - startTime;
-                        String errorMsg = translateProviderError(throwable);
-                        
-                        LOG.warnf("Proveedor %s falló: %s", provider.getProviderName(), errorMsg);
+                        // Recuperar en caso de cualquier fallo, clasificado por tipo de excepción
+                        ProviderFailureType failureType = ProviderFailureException.classify(throwable);
+                        failureTracker.record(providerName, failureType, throwable);
                         
                         return com.exchangerate.models.response.ApiResponse.failure(
-                            provider.getProviderName(), errorMsg, responseTime
+                            providerName, failureType, elapsedMillis(callStartNanos)
                         );
+                    })
+                    .onTermination().invoke((response, failure, cancelled) -> {
+                        metrics.providerCallCompleted(providerName, pair, response, callStartNanos);
+                        callEvent.complete(response);
+                        tracing.endProviderCall(providerContext, provider.getCircuitBreakerName(), response);
+                        if (timer.isEnabled()) {
+                            ProviderTimer.from(providerContext).completed(response);
+                        }
                     });
-            })
+            }))
             .toList();
         
         return Uni.combine().all().unis(apiCalls)
             .combinedWith(responses -> {
-                long totalResponseTime = System.currentTimeMillis() - startTime;
+                long totalResponseTime = elapsedMillis(startNanos);
                 
                 @SuppressWarnings("unchecked")
                 List<com.exchangerate.models.response.ApiResponse> apiResponses = 
                     (List<com.exchangerate.models.response.ApiResponse>) responses;
                 
-                LOG.infof("Todas las llamadas a APIs completadas en %dms", totalResponseTime);
-                
-                // Logging detallado de respuestas
-                long successCount = apiResponses.stream().mapToLong(r -> r.successful() ? 1 : 0).sum();
-                LOG.infof("Resumen de APIs: %d exitosas, %d fallidas de %d totales", 
-                         successCount, apiResponses.size() - successCount, apiResponses.size());
-                
-                // Log individual de cada proveedor
-                apiResponses.forEach(response -> {
-                    if (response.successful()) {
-                        LOG.infof("%s: tasa=%s, convertido=%s, tiempo=%dms", 
-                                 response.provider(), response.rate(), 
-                                 response.convertedAmount(), response.responseTimeMs());
-                    } else {
-                        LOG.warnf("%s: error=%s, tiempo=%dms", 
-                                 response.provider(), response.errorMessage(), response.responseTimeMs());
-                    }
-                });
-                
                 // Buscar mejor tasa
-                return comparator.selectBestRate(request, apiResponses, totalResponseTime);
+                ExchangeRateResponse result = null;
+                Span comparatorSpan = tracing.startComparator(requestSpan);
+                ComparatorEvent comparatorEvent = ComparatorEvent.start(pair, request.ranking(), apiResponses.size());
+                timer.comparatorStarted();
+                try {
+                    result = comparator.selectBestRate(request, apiResponses, totalResponseTime);
+                } finally {
+                    timer.comparatorFinished();
+                    comparatorEvent.complete(result);
+                    comparatorSpan.end();
+                }
+                
+                // Un solo evento de resumen por solicitud, escrito fuera del hilo de la solicitud
+                requestLogger.logRequest(request, apiResponses, result, totalResponseTime);
+                slowRequests.record(request, apiResponses, result, startNanos);
+                return result;
             })
             .onFailure().recoverWithItem(throwable -> {
-                long totalResponseTime = System.currentTimeMillis() - startTime;
+                long totalResponseTime = elapsedMillis(startNanos);
                 LOG.errorf(throwable, "Error crítico en el servicio de tipos de cambio");
                 
                 return new ExchangeRateResponse(
-                    null, null, "ERROR_SERVICIO", totalResponseTime, 0, 3
+                    null, null, RequestOutcome.SERVICE_ERROR_PROVIDER, totalResponseTime, 0, 3
                 );
+            })
+            .onTermination().invoke((result, failure, cancelled) -> {
+                metrics.requestCompleted(pair, result, startNanos);
+                fanOutEvent.complete(result);
+                tracing.endRequest(requestSpan, result);
+                timer.serviceFinished();
             });
     }
     
     /**
-     * Traduce errores técnicos de providers a mensajes más descriptivos
+     * Milisegundos transcurridos desde un instante de {@link IClock#nanoTime()}.
      */
-    private String translateProviderError(Throwable throwable) {
-        String message = throwable.getMessage();
-        
-        if (message == null) {
-            return "Error de conexión";
-        }
-        
-        if (message.contains("timed out") || message.contains("timeout")) {
-            return "Tiempo de espera agotado";
-        }
-        
-        if (message.contains("Connection") || message.contains("service not known")) {
-            return "Servicio no disponible";
-        }
-        
-        if (message.contains("CircuitBreaker")) {
-            return "Circuito abierto por fallos repetidos";
-        }
-        
-        return "Error de proveedor";
+    private long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(clock.nanoTime() - startNanos);
     }
 }
\ No newline at end of file
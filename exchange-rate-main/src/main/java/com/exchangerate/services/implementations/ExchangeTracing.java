@@ -0,0 +1,194 @@
+package com.exchangerate.services.implementations;
+
+import java.math.BigDecimal;
+import java.net.http.HttpRequest;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.exchangerate.models.enums.CallOutcome;
+import com.exchangerate.models.enums.RequestOutcome;
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.services.contracts.IExchangeTracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import io.smallrye.faulttolerance.api.CircuitBreakerMaintenance;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Trazas OpenTelemetry de la comparación de tipos de cambio.
+ *
+ * Los spans de proveedor guardan en su contexto un contador de intentos: cada
+ * intento HTTP (incluidos los reintentos de {@code IProviderCallPolicy}, que conservan el
+ * contexto) lo incrementa, y el span del proveedor lo publica al cerrarse.
+ */
+@ApplicationScoped
+public class ExchangeTracing implements IExchangeTracing {
+
+    static final String REQUEST_SPAN = "exchange.best-rate";
+    static final String PROVIDER_SPAN = "exchange.provider";
+    static final String COMPARATOR_SPAN = "exchange.comparator";
+    static final String HTTP_ATTEMPT_SPAN = "exchange.provider.http";
+
+    static final AttributeKey<String> PAIR = AttributeKey.stringKey("exchange.pair");
+    static final AttributeKey<String> AMOUNT_BUCKET = AttributeKey.stringKey("exchange.amount.bucket");
+    static final AttributeKey<String> PROVIDER = AttributeKey.stringKey("exchange.provider");
+    static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("exchange.outcome");
+    static final AttributeKey<String> FAILURE_TYPE = AttributeKey.stringKey("exchange.failure.type");
+    static final AttributeKey<String> BREAKER_STATE = AttributeKey.stringKey("exchange.breaker.state");
+    static final AttributeKey<Long> RETRY_ATTEMPT = AttributeKey.longKey("exchange.retry.attempt");
+    static final AttributeKey<Long> RETRY_ATTEMPTS = AttributeKey.longKey("exchange.retry.attempts");
+    static final AttributeKey<Long> HTTP_STATUS = AttributeKey.longKey("http.response.status_code");
+    static final AttributeKey<String> ERROR_TYPE = AttributeKey.stringKey("error.type");
+
+    private static final ContextKey<AtomicInteger> ATTEMPTS = ContextKey.named("exchange.provider.attempts");
+
+    private static final TextMapSetter<HttpRequest.Builder> HEADER_SETTER = (builder, key, value) -> builder.header(key, value);
+
+    @Inject
+    OpenTelemetry openTelemetry;
+
+    @Inject
+    CircuitBreakerMaintenance breakers;
+
+    private Tracer tracer;
+
+    @PostConstruct
+    void init() {
+        tracer = openTelemetry.getTracer("com.exchangerate");
+    }
+
+    @Override
+    public Span startRequest(CurrencyPair pair, BigDecimal amount) {
+        return tracer.spanBuilder(REQUEST_SPAN)
+            .setAttribute(PAIR, pair.toString())
+            .setAttribute(AMOUNT_BUCKET, amountBucket(amount))
+            .startSpan();
+    }
+
+    @Override
+    public void endRequest(Span span, ExchangeRateResponse result) {
+        RequestOutcome outcome = RequestOutcome.of(result);
+        span.setAttribute(OUTCOME, outcome.getTag());
+        if (outcome == RequestOutcome.SUCCESS) {
+            span.setAttribute(PROVIDER, result.provider());
+        } else if (outcome == RequestOutcome.ERROR) {
+            span.setStatus(StatusCode.ERROR);
+        }
+        span.end();
+    }
+
+    @Override
+    public Context startProviderCall(Span parent, String provider, CurrencyPair pair) {
+        Context parentContext = Context.current().with(parent);
+        Span span = tracer.spanBuilder(PROVIDER_SPAN)
+            .setParent(parentContext)
+            .setAttribute(PROVIDER, provider)
+            .setAttribute(PAIR, pair.toString())
+            .startSpan();
+        return parentContext.with(span).with(ATTEMPTS, new AtomicInteger());
+    }
+
+    @Override
+    public void endProviderCall(Context context, String breakerName, ApiResponse response) {
+        Span span = Span.fromContext(context);
+        CallOutcome outcome = CallOutcome.of(response);
+        span.setAttribute(OUTCOME, outcome.getTag());
+        span.setAttribute(RETRY_ATTEMPTS, (long) context.get(ATTEMPTS).get());
+
+        String breakerState = breakerState(breakerName);
+        if (breakerState != null) {
+            span.setAttribute(BREAKER_STATE, breakerState);
+        }
+        if (response != null && !response.successful()) {
+            span.setStatus(StatusCode.ERROR, response.errorMessage());
+            if (response.failureType() != null) {
+                span.setAttribute(FAILURE_TYPE, response.failureType().name());
+            }
+        }
+        span.end();
+    }
+
+    @Override
+    public Span startComparator(Span parent) {
+        return tracer.spanBuilder(COMPARATOR_SPAN)
+            .setParent(Context.current().with(parent))
+            .startSpan();
+    }
+
+    @Override
+    public Span startHttpAttempt(Context parent, String provider, HttpRequest.Builder builder) {
+        AtomicInteger attempts = parent.get(ATTEMPTS);
+        int attempt = attempts != null ? attempts.incrementAndGet() : 1;
+
+        Span span = tracer.spanBuilder(HTTP_ATTEMPT_SPAN)
+            .setParent(parent)
+            .setSpanKind(SpanKind.CLIENT)
+            .setAttribute(PROVIDER, provider)
+            .setAttribute(RETRY_ATTEMPT, (long) attempt)
+            .startSpan();
+
+        // Encabezados traceparent/tracestate para que el servicio simulado continúe la traza
+        openTelemetry.getPropagators().getTextMapPropagator().inject(parent.with(span), builder, HEADER_SETTER);
+        return span;
+    }
+
+    @Override
+    public void endHttpAttempt(Span span, int statusCode, Throwable failure) {
+        if (statusCode > 0) {
+            span.setAttribute(HTTP_STATUS, (long) statusCode);
+        }
+        if (failure != null) {
+            // Solo la clase: la traza de pila no aporta en fallos esperados del proveedor
+            span.setAttribute(ERROR_TYPE, failure.getClass().getName());
+            span.setStatus(StatusCode.ERROR);
+        } else if (statusCode >= 400) {
+            span.setStatus(StatusCode.ERROR);
+        }
+        span.end();
+    }
+
+    /**
+     * Orden de magnitud del monto, para agrupar trazas sin registrar el monto exacto.
+     *
+     * @param amount monto solicitado
+     * @return rango del monto, por ejemplo {@code 100-999}
+     */
+    static String amountBucket(BigDecimal amount) {
+        if (amount == null) {
+            return "unknown";
+        }
+        int integerDigits = amount.precision() - amount.scale();
+        if (integerDigits <= 0 || amount.compareTo(BigDecimal.ONE) < 0) {
+            return "<1";
+        }
+        if (integerDigits > 6) {
+            return "1000000+";
+        }
+        BigDecimal lower = BigDecimal.TEN.pow(integerDigits - 1);
+        BigDecimal upper = BigDecimal.TEN.pow(integerDigits).subtract(BigDecimal.ONE);
+        return lower.toPlainString() + "-" + upper.toPlainString();
+    }
+
+    private String breakerState(String breakerName) {
+        if (breakerName == null) {
+            return null;
+        }
+        try {
+            return breakers.currentState(breakerName).name();
+        } catch (IllegalArgumentException e) {
+            // Circuit breaker desconocido (por ejemplo, con tolerancia a fallos deshabilitada)
+            return null;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.exchangerate.services.implementations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logging.Logger;
+
+import com.exchangerate.jfr.ExchangeEvents;
+import com.exchangerate.services.contracts.IClock;
+import com.exchangerate.services.contracts.IFlightRecorder;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jdk.jfr.Recording;
+
+/**
+ * Grabaciones JFR bajo demanda con {@link ExchangeEvents#recordingSettings()}.
+ *
+ * La espera no ocupa ningún hilo: la grabación se detiene con un {@code delayIt} de Mutiny
+ * sobre el planificador de {@link IClock} y el archivo se escribe en un temporal que se borra
+ * tras leerlo. Si el cliente cancela, la grabación se cierra igual.
+ */
+@ApplicationScoped
+public class FlightRecorder implements IFlightRecorder {
+
+    private static final Logger LOG = Logger.getLogger(FlightRecorder.class);
+
+    private static final String RECORDING_NAME = "exchange-rate-on-demand";
+
+    @Inject
+    IClock clock;
+
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    @Override
+    public Uni<byte[]> record(Duration duration) {
+        return Uni.createFrom().deferred(() -> {
+            if (!recording.compareAndSet(false, true)) {
+                return Uni.createFrom().failure(new IllegalStateException("Ya hay una grabación JFR en curso"));
+            }
+
+            Recording jfr;
+            try {
+                jfr = new Recording(ExchangeEvents.recordingSettings());
+                jfr.setName(RECORDING_NAME);
+                jfr.setToDisk(true);
+                jfr.start();
+            } catch (RuntimeException e) {
+                recording.set(false);
+                return Uni.createFrom().failure(e);
+            }
+            LOG.infof("Grabación JFR iniciada por %d s", duration.toSeconds());
+
+            return Uni.createFrom().voidItem()
+                .onItem().delayIt().onExecutor(clock.scheduler()).by(duration)
+                .onItem().transform(ignored -> dump(jfr))
+                .onTermination().invoke(() -> {
+                    jfr.close();
+                    recording.set(false);
+                });
+        });
+    }
+
+    private static byte[] dump(Recording jfr) {
+        jfr.stop();
+        Path file = null;
+        try {
+            file = Files.createTempFile("exchange-rate-", ".jfr");
+            jfr.dump(file);
+            byte[] content = Files.readAllBytes(file);
+            LOG.infof("Grabación JFR finalizada: %d bytes", content.length);
+            return content;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir la grabación JFR", e);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warnf("No se pudo borrar el archivo temporal %s", file);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.exchangerate.services.implementations;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.services.contracts.IRankingStrategy;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Pondera el monto convertido por la antigüedad de la cotización con decaimiento
+ * exponencial: una cotización de {@code half-life} milisegundos vale la mitad.
+ * Útil cuando las respuestas pueden provenir de caché o de proveedores con retraso.
+ */
+@ApplicationScoped
+public class FreshnessWeightedRankingStrategy implements IRankingStrategy {
+
+    public static final String NAME = "freshness-weighted";
+
+    private static final double LN_2 = Math.log(2.0);
+
+    @ConfigProperty(name = "exchange.ranking.freshness.half-life-ms", defaultValue = "30000")
+    long halfLifeMs;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int compare(ApiResponse candidate, ApiResponse best, long nowMillis) {
+        return Double.compare(score(candidate, nowMillis), score(best, nowMillis));
+    }
+
+    private double score(ApiResponse response, long nowMillis) {
+        double amount = response.convertedAmount().toDouble();
+        if (halfLifeMs <= 0L) {
+            return amount;
+        }
+        long ageMs = Math.max(0L, nowMillis - response.quotedAtMillis());
+        return amount * Math.exp(-LN_2 * ageMs / halfLifeMs);
+    }
+}
@@ -0,0 +1,26 @@
+package com.exchangerate.services.implementations;
+
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.services.contracts.IRankingStrategy;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Estrategia por defecto: gana el mayor monto convertido (mejor trato para el cliente).
+ * Compara en punto fijo, sin pérdida de precisión.
+ */
+@ApplicationScoped
+public class HighestAmountRankingStrategy implements IRankingStrategy {
+
+    public static final String NAME = "highest-amount";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int compare(ApiResponse candidate, ApiResponse best, long nowMillis) {
+        return candidate.convertedAmount().compareTo(best.convertedAmount());
+    }
+}
@@ -0,0 +1,37 @@
+package com.exchangerate.services.implementations;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.services.contracts.IRankingStrategy;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Pondera el monto convertido por la latencia del proveedor:
+ * {@code puntaje = monto / (1 + penalización × segundos)}.
+ * Favorece proveedores rápidos cuando las ofertas son similares.
+ */
+@ApplicationScoped
+public class LatencyWeightedRankingStrategy implements IRankingStrategy {
+
+    public static final String NAME = "latency-weighted";
+
+    @ConfigProperty(name = "exchange.ranking.latency.penalty-per-second", defaultValue = "0.05")
+    double penaltyPerSecond;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int compare(ApiResponse candidate, ApiResponse best, long nowMillis) {
+        return Double.compare(score(candidate), score(best));
+    }
+
+    private double score(ApiResponse response) {
+        long latencyMs = response.responseTimeMs() == null ? 0L : Math.max(0L, response.responseTimeMs());
+        return response.convertedAmount().toDouble() / (1.0 + penaltyPerSecond * latencyMs / 1000.0);
+    }
+}
@@ -0,0 +1,65 @@
+package com.exchangerate.services.implementations;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.exchangerate.exceptions.ProviderFailureException;
+import com.exchangerate.services.contracts.IClock;
+import com.exchangerate.services.contracts.IProviderCallPolicy;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Política de llamadas a proveedores sobre Mutiny y {@link IClock}.
+ *
+ * Un intento sin respuesta en {@code exchange.provider.timeout-ms} falla con un
+ * {@link TimeoutException}. Los errores de E/S y los vencimientos se reintentan hasta
+ * {@code exchange.provider.retry.max-retries} veces, esperando
+ * {@code exchange.provider.retry.backoff-ms} y duplicando la espera en cada reintento;
+ * los errores de conexión no, porque el proveedor no está disponible y reintentar
+ * solo alarga la solicitud.
+ */
+@ApplicationScoped
+public class ProviderCallPolicy implements IProviderCallPolicy {
+
+    @Inject
+    IClock clock;
+
+    @ConfigProperty(name = "exchange.provider.timeout-ms", defaultValue = "1000")
+    long timeoutMillis;
+
+    @ConfigProperty(name = "exchange.provider.retry.max-retries", defaultValue = "1")
+    int maxRetries;
+
+    @ConfigProperty(name = "exchange.provider.retry.backoff-ms", defaultValue = "100")
+    long backoffMillis;
+
+    @Override
+    public <T> Uni<T> apply(Uni<T> attempt) {
+        return attempt(attempt, 0);
+    }
+
+    private <T> Uni<T> attempt(Uni<T> call, int retry) {
+        return call
+            .ifNoItem().after(Duration.ofMillis(timeoutMillis)).on(clock.scheduler()).fail()
+            .onFailure(failure -> retry < maxRetries && isRetryable(failure))
+            .recoverWithUni(failure -> Uni.createFrom().voidItem()
+                .onItem().delayIt().onExecutor(clock.scheduler()).by(Duration.ofMillis(backoffMillis << retry))
+                .chain(() -> attempt(call, retry + 1)));
+    }
+
+    private static boolean isRetryable(Throwable failure) {
+        Throwable cause = ProviderFailureException.unwrap(failure);
+        if (cause instanceof ConnectException || cause instanceof UnknownHostException) {
+            return false;
+        }
+        return cause instanceof IOException || cause instanceof TimeoutException;
+    }
+}
@@ -0,0 +1,74 @@
+package com.exchangerate.services.implementations;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.exchangerate.models.enums.ProviderFailureType;
+import com.exchangerate.services.contracts.IClock;
+import com.exchangerate.services.contracts.IProviderFailureTracker;
+import com.exchangerate.utils.LogRateLimiter;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Contadores de fallos por proveedor y tipo, con un WARN como máximo por
+ * intervalo para cada combinación. Solo los fallos desconocidos incluyen
+ * la traza de pila.
+ */
+@ApplicationScoped
+public class ProviderFailureTracker implements IProviderFailureTracker {
+
+    private static final Logger LOG = Logger.getLogger(ProviderFailureTracker.class);
+    private static final ProviderFailureType[] TYPES = ProviderFailureType.values();
+
+    @ConfigProperty(name = "exchange.logging.error-interval-ms", defaultValue = "10000")
+    long logIntervalMillis;
+
+    @Inject
+    IClock clock;
+
+    private final ConcurrentHashMap<String, ProviderCounters> countersByProvider = new ConcurrentHashMap<>();
+
+    /**
+     * Contadores y limitadores de un proveedor, indexados por ordinal del tipo.
+     */
+    private final class ProviderCounters {
+        final LongAdder[] counts = new LongAdder[TYPES.length];
+        final LogRateLimiter[] limiters = new LogRateLimiter[TYPES.length];
+
+        ProviderCounters() {
+            for (int i = 0; i < TYPES.length; i++) {
+                counts[i] = new LongAdder();
+                limiters[i] = new LogRateLimiter(logIntervalMillis);
+            }
+        }
+    }
+
+    @Override
+    public void record(String provider, ProviderFailureType type, Throwable failure) {
+        ProviderCounters counters = countersByProvider.computeIfAbsent(provider, ignored -> new ProviderCounters());
+        counters.counts[type.ordinal()].increment();
+
+        long suppressed = counters.limiters[type.ordinal()].tryAcquire(clock.currentTimeMillis());
+        if (suppressed < 0) {
+            return;
+        }
+        if (type == ProviderFailureType.UNKNOWN) {
+            LOG.warnf(failure, "%s falló (%s): %s; %d fallos similares omitidos",
+                provider, type, failure.getMessage(), suppressed);
+        } else {
+            LOG.warnf("%s falló (%s): %s; %d fallos similares omitidos",
+                provider, type, failure.getMessage(), suppressed);
+        }
+    }
+
+    @Override
+    public long count(String provider, ProviderFailureType type) {
+        ProviderCounters counters = countersByProvider.get(provider);
+        return counters == null ? 0L : counters.counts[type.ordinal()].sum();
+    }
+}
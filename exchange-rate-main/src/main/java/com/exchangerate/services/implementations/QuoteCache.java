@@ -0,0 +1,115 @@
+package com.exchangerate.services.implementations;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.exchangerate.jfr.CacheLookupEvent;
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.response.CachedQuote;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.services.contracts.IQuoteCache;
+import com.exchangerate.utils.SparsePairMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Caché en memoria de cotizaciones por par y monto.
+ *
+ * El estado de cada par vive en un {@link SparsePairMap} indexado por
+ * {@link CurrencyPair#index()}. Cada par tiene un contador de versión que parte del
+ * instante de arranque, de modo que un ETag emitido antes de un reinicio nunca
+ * coincide con uno nuevo. Los montos se normalizan ({@code 100} y {@code 100.00}
+ * comparten entrada). Cuando un par llega a {@code max-amounts-per-pair} montos se
+ * descartan primero las cotizaciones vencidas y, si no hay, la más antigua.
+ */
+@ApplicationScoped
+public class QuoteCache implements IQuoteCache {
+
+    @ConfigProperty(name = "exchange.quote-cache.ttl-ms", defaultValue = "5000")
+    long ttlMillis;
+
+    @ConfigProperty(name = "exchange.quote-cache.max-amounts-per-pair", defaultValue = "256")
+    int maxAmountsPerPair;
+
+    private final long epochMillis = System.currentTimeMillis();
+    private final SparsePairMap<PairQuotes> pairs = new SparsePairMap<>();
+
+    /**
+     * Cotizaciones de un par, por monto normalizado.
+     */
+    private final class PairQuotes {
+        final AtomicLong version = new AtomicLong(epochMillis);
+        final ConcurrentHashMap<BigDecimal, CachedQuote> byAmount = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public CachedQuote get(CurrencyPair pair, BigDecimal amount, long nowMillis) {
+        CacheLookupEvent event = CacheLookupEvent.start(CacheLookupEvent.QUOTE_CACHE, pair);
+        CachedQuote quote = lookup(pair, amount, nowMillis);
+        event.complete(quote);
+        return quote;
+    }
+
+    private CachedQuote lookup(CurrencyPair pair, BigDecimal amount, long nowMillis) {
+        PairQuotes quotes = pairs.get(pair);
+        if (quotes == null) {
+            return null;
+        }
+        CachedQuote quote = quotes.byAmount.get(normalize(amount));
+        return quote != null && quote.isFresh(nowMillis) ? quote : null;
+    }
+
+    @Override
+    public CachedQuote put(CurrencyPair pair, BigDecimal amount, ExchangeRateResponse response, long nowMillis) {
+        PairQuotes quotes = pairs.computeIfAbsent(pair, ignored -> new PairQuotes());
+        long version = quotes.version.incrementAndGet();
+        CachedQuote quote = new CachedQuote(response, version, nowMillis, nowMillis + ttlMillis, etag(pair, version));
+
+        BigDecimal key = normalize(amount);
+        if (quotes.byAmount.size() >= maxAmountsPerPair && !quotes.byAmount.containsKey(key)) {
+            evict(quotes, nowMillis);
+        }
+        quotes.byAmount.put(key, quote);
+        return quote;
+    }
+
+    /**
+     * Libera espacio en un par lleno: descarta las cotizaciones vencidas o, si todas
+     * siguen vigentes, solo la más antigua. El recorrido es O(n) sobre un máximo de
+     * {@code maxAmountsPerPair} entradas y solo ocurre al insertar en un par lleno.
+     */
+    private static void evict(PairQuotes quotes, long nowMillis) {
+        if (quotes.byAmount.values().removeIf(cached -> !cached.isFresh(nowMillis))) {
+            return;
+        }
+        BigDecimal oldestKey = null;
+        long oldestQuotedAt = Long.MAX_VALUE;
+        for (Map.Entry<BigDecimal, CachedQuote> entry : quotes.byAmount.entrySet()) {
+            if (entry.getValue().quotedAtMillis() < oldestQuotedAt) {
+                oldestQuotedAt = entry.getValue().quotedAtMillis();
+                oldestKey = entry.getKey();
+            }
+        }
+        if (oldestKey != null) {
+            quotes.byAmount.remove(oldestKey);
+        }
+    }
+
+    @Override
+    public long version(CurrencyPair pair) {
+        PairQuotes quotes = pairs.get(pair);
+        return quotes == null ? 0L : quotes.version.get();
+    }
+
+    private static BigDecimal normalize(BigDecimal amount) {
+        return amount.stripTrailingZeros();
+    }
+
+    private static String etag(CurrencyPair pair, long version) {
+        return "\"" + pair.source().name() + pair.target().name() + "-" + Long.toHexString(version) + "\"";
+    }
+}
@@ -0,0 +1,86 @@
+package com.exchangerate.services.implementations;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.exchangerate.models.logging.RequestLogEvent;
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.services.contracts.IRequestLogger;
+import com.exchangerate.utils.AsyncLogSink;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Escribe un evento de resumen por solicitud a través de un {@link AsyncLogSink}.
+ * Las líneas de detalle por proveedor se escriben solo en la fracción de solicitudes
+ * indicada por {@code exchange.logging.provider-detail.sample-rate}.
+ */
+@ApplicationScoped
+public class RequestLogger implements IRequestLogger {
+
+    private static final Logger LOG = Logger.getLogger(RequestLogger.class);
+
+    @ConfigProperty(name = "exchange.logging.requests.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "exchange.logging.async.queue-capacity", defaultValue = "8192")
+    int queueCapacity;
+
+    @ConfigProperty(name = "exchange.logging.provider-detail.sample-rate", defaultValue = "0.01")
+    double detailSampleRate;
+
+    private AsyncLogSink<RequestLogEvent> sink;
+
+    @PostConstruct
+    void start() {
+        sink = new AsyncLogSink<>("request-log-writer", queueCapacity, RequestLogger::write, LOG);
+    }
+
+    @PreDestroy
+    void stop() {
+        sink.close();
+    }
+
+    @Override
+    public void logRequest(ExchangeRateRequest request, List<ApiResponse> responses,
+                           ExchangeRateResponse result, long totalResponseTimeMs) {
+        if (!enabled || !LOG.isInfoEnabled()) {
+            return;
+        }
+        sink.offer(new RequestLogEvent(
+            request.sourceCurrency(),
+            request.targetCurrency(),
+            request.amount(),
+            request.ranking(),
+            result,
+            responses,
+            totalResponseTimeMs,
+            sampleDetail()));
+    }
+
+    @Override
+    public long droppedEvents() {
+        return sink.droppedCount();
+    }
+
+    private boolean sampleDetail() {
+        return detailSampleRate >= 1.0
+            || (detailSampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < detailSampleRate);
+    }
+
+    private static void write(RequestLogEvent event) {
+        LOG.info(event.summaryLine());
+        if (event.detailed()) {
+            for (String line : event.detailLines()) {
+                LOG.info(line);
+            }
+        }
+    }
+}
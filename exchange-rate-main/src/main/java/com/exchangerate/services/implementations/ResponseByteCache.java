@@ -0,0 +1,238 @@
+package com.exchangerate.services.implementations;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.exchangerate.jfr.CacheLookupEvent;
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.money.FixedDecimal;
+import com.exchangerate.models.response.ApiResponseWrapper;
+import com.exchangerate.models.response.CachedQuote;
+import com.exchangerate.serialization.ResponseFormat;
+import com.exchangerate.services.contracts.IResponseByteCache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Caché de respuestas serializadas con descarte tipo CLOCK.
+ *
+ * La clave es (par, monto normalizado, formato) y cada entrada guarda la versión
+ * de la cotización con la que se serializó: cuando la versión cambia, la entrada se
+ * reemplaza en la siguiente lectura. La memoria se acota por número de entradas y
+ * por bytes totales.
+ *
+ * Las entradas viven en una tabla asociativa por conjuntos de {@value #WAYS} posiciones:
+ * la clave elige el conjunto a partir de sus campos primitivos, así que una lectura no
+ * crea objetos ni toma candados y solo marca la entrada como referenciada. Al almacenar
+ * en un conjunto lleno se reemplaza la primera entrada no referenciada (segunda
+ * oportunidad); si se excede algún límite, una manecilla global recorre la tabla
+ * limpiando marcas y descartando las entradas que no se leyeron desde la vuelta anterior.
+ */
+@ApplicationScoped
+public class ResponseByteCache implements IResponseByteCache {
+
+    private static final int WAYS = 8;
+
+    @ConfigProperty(name = "exchange.response-cache.max-entries", defaultValue = "1024")
+    int maxEntries;
+
+    @ConfigProperty(name = "exchange.response-cache.max-bytes", defaultValue = "1048576")
+    long maxBytes;
+
+    private static final class Entry {
+        final int pairIndex;
+        final long unscaledAmount;
+        final int amountScale;
+        final ResponseFormat format;
+        final long version;
+        final byte[] bytes;
+        volatile boolean referenced;
+
+        Entry(int pairIndex, long unscaledAmount, int amountScale, ResponseFormat format, long version, byte[] bytes) {
+            this.pairIndex = pairIndex;
+            this.unscaledAmount = unscaledAmount;
+            this.amountScale = amountScale;
+            this.format = format;
+            this.version = version;
+            this.bytes = bytes;
+        }
+
+        boolean matches(int pairIndex, long unscaledAmount, int amountScale, ResponseFormat format) {
+            return this.pairIndex == pairIndex && this.unscaledAmount == unscaledAmount
+                && this.amountScale == amountScale && this.format == format;
+        }
+    }
+
+    private AtomicReferenceArray<Entry> slots;
+    private int setMask;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicInteger hand = new AtomicInteger();
+
+    @PostConstruct
+    void allocateSlots() {
+        int sets = Integer.highestOneBit(Math.max(1, (maxEntries + WAYS - 1) / WAYS) * 2 - 1);
+        slots = new AtomicReferenceArray<>(sets * WAYS);
+        setMask = sets - 1;
+    }
+
+    @Override
+    public byte[] getOrEncode(CurrencyPair pair, FixedDecimal amount, CachedQuote quote, ResponseFormat format) {
+        // 100 y 100.00 comparten entrada
+        long unscaled = amount.unscaledValue();
+        int scale = amount.scale();
+        while (scale > 0 && unscaled % 10 == 0) {
+            unscaled /= 10;
+            scale--;
+        }
+
+        int first = firstSlot(pair.index(), unscaled, scale, format);
+        CacheLookupEvent event = CacheLookupEvent.start(CacheLookupEvent.RESPONSE_CACHE, pair);
+        Entry entry = find(first, pair.index(), unscaled, scale, format);
+        if (entry != null && entry.version == quote.version()) {
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            event.complete(quote);
+            return entry.bytes;
+        }
+        event.complete(null);
+
+        // Si dos hilos coinciden, ambos producen los mismos bytes y gana la versión mayor
+        byte[] bytes = format.encode(ApiResponseWrapper.success(quote.response()));
+        if (bytes.length <= maxBytes) {
+            store(first, new Entry(pair.index(), unscaled, scale, format, quote.version(), bytes));
+        }
+        return bytes;
+    }
+
+    private Entry find(int first, int pairIndex, long unscaled, int scale, ResponseFormat format) {
+        for (int i = first; i < first + WAYS; i++) {
+            Entry candidate = slots.get(i);
+            if (candidate != null && candidate.matches(pairIndex, unscaled, scale, format)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private void store(int first, Entry entry) {
+        while (!tryStore(first, entry)) {
+            // Otro hilo cambió la posición elegida; se vuelve a examinar el conjunto
+            Thread.onSpinWait();
+        }
+        while (size.get() > maxEntries || totalBytes.get() > maxBytes) {
+            if (!advanceHand()) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Reemplaza la entrada de la misma clave, ocupa una posición libre o desplaza a la
+     * primera entrada no referenciada del conjunto, en ese orden.
+     *
+     * @return false si otro hilo cambió la posición elegida y hay que reintentar
+     */
+    private boolean tryStore(int first, Entry entry) {
+        int free = -1;
+        for (int i = first; i < first + WAYS; i++) {
+            Entry current = slots.get(i);
+            if (current == null) {
+                if (free < 0) {
+                    free = i;
+                }
+            } else if (current.matches(entry.pairIndex, entry.unscaledAmount, entry.amountScale, entry.format)) {
+                return current.version > entry.version || replace(i, current, entry);
+            }
+        }
+        if (free >= 0) {
+            return replace(free, null, entry);
+        }
+
+        // Conjunto lleno: segunda oportunidad, limpiando marcas hasta dar con una víctima
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = first; i < first + WAYS; i++) {
+                Entry current = slots.get(i);
+                if (current == null) {
+                    return replace(i, null, entry);
+                }
+                if (!current.referenced) {
+                    return replace(i, current, entry);
+                }
+                current.referenced = false;
+            }
+        }
+        // Lecturas concurrentes volvieron a marcar todo el conjunto
+        return replace(first, slots.get(first), entry);
+    }
+
+    private boolean replace(int slot, Entry expected, Entry entry) {
+        if (!slots.compareAndSet(slot, expected, entry)) {
+            return false;
+        }
+        if (expected == null) {
+            size.incrementAndGet();
+        }
+        totalBytes.addAndGet(entry.bytes.length - (expected == null ? 0L : expected.bytes.length));
+        return true;
+    }
+
+    /**
+     * Avanza la manecilla hasta descartar una entrada no referenciada, limpiando
+     * las marcas que encuentra. A lo sumo da dos vueltas a la tabla.
+     *
+     * @return false si la tabla está vacía
+     */
+    private boolean advanceHand() {
+        int capacity = slots.length();
+        for (int step = 0; step < 2 * capacity; step++) {
+            int slot = Math.floorMod(hand.getAndIncrement(), capacity);
+            Entry current = slots.get(slot);
+            if (current == null) {
+                continue;
+            }
+            if (current.referenced) {
+                current.referenced = false;
+                continue;
+            }
+            if (slots.compareAndSet(slot, current, null)) {
+                size.decrementAndGet();
+                totalBytes.addAndGet(-current.bytes.length);
+                return true;
+            }
+        }
+        return size.get() > 0;
+    }
+
+    private int firstSlot(int pairIndex, long unscaled, int scale, ResponseFormat format) {
+        long hash = unscaled * 0x9E3779B97F4A7C15L
+            + ((long) pairIndex << 16 | (long) scale << 8 | format.ordinal());
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return ((int) hash & setMask) * WAYS;
+    }
+
+    /**
+     * Número de respuestas en caché.
+     *
+     * @return entradas actuales
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Bytes ocupados por las respuestas en caché.
+     *
+     * @return total de bytes
+     */
+    public long totalBytes() {
+        return totalBytes.get();
+    }
+}
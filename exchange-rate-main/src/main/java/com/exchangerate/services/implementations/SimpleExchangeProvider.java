@@ -1,7 +1,5 @@
 package com.exchangerate.services.implementations;
 
-import java.io.IOException;
-import java.math.BigDecimal;
 import java.net.ConnectException;
 import java.net.URI;
 import java.net.UnknownHostException;
@@ -10,26 +8,34 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.Base64;
-import java.util.concurrent.TimeoutException;
-
-import static java.time.temporal.ChronoUnit.SECONDS;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
-import org.eclipse.microprofile.faulttolerance.Retry;
-import org.eclipse.microprofile.faulttolerance.Timeout;
 import org.jboss.logging.Logger;
 
+import com.exchangerate.exceptions.ProviderFailureException;
+import com.exchangerate.exceptions.ProviderRejectedRequestException;
+import com.exchangerate.models.money.FixedDecimal;
 import com.exchangerate.models.request.ExchangeRateRequest;
 import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.services.contracts.IClock;
 import com.exchangerate.services.contracts.IExchangeRateProvider;
+import com.exchangerate.services.contracts.IExchangeTracing;
+import com.exchangerate.services.contracts.IProviderCallPolicy;
 import com.exchangerate.utils.CurrencyUtils;
+import com.exchangerate.utils.ProviderTimer;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.smallrye.faulttolerance.api.CircuitBreakerName;
 import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.core.MediaType;
 
 /**
@@ -43,6 +49,7 @@ public class SimpleExchangeProvider implements IExchangeRateProvider {
 
     private static final Logger LOG = Logger.getLogger(SimpleExchangeProvider.class);
     private static final String PROVIDER_NAME = "SIMPLE_JSON_PROVIDER";
+    private static final String BREAKER_NAME = "simple-exchange-provider";
 
     @ConfigProperty(name = "quarkus.rest-client.simple-exchange-client.url")
     String simpleServiceUrl;
@@ -56,77 +63,134 @@ public class SimpleExchangeProvider implements IExchangeRateProvider {
     @ConfigProperty(name = "api.simple.password")
     String password;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Inject
+    IExchangeTracing tracing;
+
+    @Inject
+    IClock clock;
+
+    @Inject
+    IProviderCallPolicy callPolicy;
+
+    private HttpClient client;
+    private String authorization;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @PostConstruct
+    void init() {
+        // Cliente compartido: reutiliza conexiones y espera las respuestas sin ocupar hilos
+        client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(100))
+                .build();
+        authorization = "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes());
+    }
 
     @Override
     public String getProviderName() {
         return PROVIDER_NAME;
     }
 
-    @Retry(maxRetries = 1, delay = 100, retryOn = { IOException.class, TimeoutException.class }, abortOn = {
-            ConnectException.class, UnknownHostException.class })
+    @Override
+    public String getCircuitBreakerName() {
+        return BREAKER_NAME;
+    }
+
+    @CircuitBreakerName(BREAKER_NAME)
     @CircuitBreaker(requestVolumeThreshold = 2, failureRatio = 0.5, delay = 200, skipOn = { ConnectException.class,
-            UnknownHostException.class })
-    @Timeout(value = 1, unit = SECONDS)
+            UnknownHostException.class, ArithmeticException.class, ProviderRejectedRequestException.class })
     public Uni<ApiResponse> getExchangeRate(ExchangeRateRequest request) {
-        long startTime = System.currentTimeMillis();
+        long startNanos = clock.nanoTime();
 
-        LOG.infof("Llamando a %s para %s a %s, monto: %s",
+        LOG.debugf("Llamando a %s para %s a %s, monto: %s",
                 PROVIDER_NAME, request.sourceCurrency(), request.targetCurrency(), request.amount());
 
-        // Crear el JSON para la solicitud
-        String jsonRequest = String.format(
+        String jsonRequest = encodeRequest(request);
+
+        // Contexto de traza del span del proveedor, capturado al invocar el método
+        Context traceContext = Context.current();
+        ProviderTimer timer = ProviderTimer.from(traceContext);
+
+        return callPolicy.apply(Uni.createFrom().completionStage(() -> {
+                    HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                            .uri(URI.create(simpleServiceUrl + simpleServicePath))
+                            .header("Content-Type", MediaType.APPLICATION_JSON)
+                            .header("Accept", MediaType.APPLICATION_JSON)
+                            .header("Authorization", authorization)
+                            .POST(HttpRequest.BodyPublishers.ofString(jsonRequest));
+
+                    Span attempt = tracing.startHttpAttempt(traceContext, PROVIDER_NAME, requestBuilder);
+                    timer.attemptStarted();
+                    // Los errores de conexión y tiempo de espera se propagan tal cual para los reintentos y @CircuitBreaker
+                    return client.sendAsync(requestBuilder.build(), timer.bodyHandler())
+                            .whenComplete((response, failure) -> {
+                                if (response != null) {
+                                    timer.bodyReceived();
+                                    tracing.endHttpAttempt(attempt, response.statusCode(), null);
+                                } else {
+                                    tracing.endHttpAttempt(attempt, 0, ProviderFailureException.unwrap(failure));
+                                }
+                            });
+                }))
+                .map(response -> toApiResponse(request, response, timer, startNanos));
+    }
+
+    /**
+     * Interpreta la respuesta HTTP del proveedor.
+     *
+     * @throws ProviderFailureException si el estado no es 200 o el cuerpo no se puede interpretar
+     * @throws ArithmeticException si el resultado para el monto solicitado no es representable;
+     *         se lanza fuera de la clasificación PARSE y {@code skipOn} evita que cuente para el circuito
+     */
+    private ApiResponse toApiResponse(ExchangeRateRequest request, HttpResponse<String> response,
+                                      ProviderTimer timer, long startNanos) {
+        if (response.statusCode() != 200) {
+            throw ProviderFailureException.httpStatus(PROVIDER_NAME, response.statusCode());
+        }
+
+        // Analizar respuesta JSON
+        FixedDecimal rate;
+        timer.parseStarted();
+        try {
+            rate = parseRate(response.body());
+        } catch (Exception e) {
+            throw ProviderFailureException.parse(PROVIDER_NAME, e);
+        } finally {
+            timer.parseFinished();
+        }
+        FixedDecimal convertedAmount = CurrencyUtils.calculateConvertedAmount(request.amount(), rate);
+
+        long responseTime = TimeUnit.NANOSECONDS.toMillis(clock.nanoTime() - startNanos);
+
+        LOG.debugf("%s éxito: tasa=%s, convertido=%s, tiempo=%dms",
+                PROVIDER_NAME, rate, convertedAmount, responseTime);
+
+        return ApiResponse.success(PROVIDER_NAME, rate, convertedAmount, responseTime, clock.currentTimeMillis());
+    }
+
+    /**
+     * Cuerpo JSON de la solicitud al proveedor.
+     *
+     * @param request solicitud de conversión
+     * @return JSON con origen, destino y monto
+     */
+    public static String encodeRequest(ExchangeRateRequest request) {
+        return String.format(
                 "{\"from\":\"%s\",\"to\":\"%s\",\"value\":%s}",
                 request.sourceCurrency(),
                 request.targetCurrency(),
                 request.amount());
+    }
 
-        return Uni.createFrom().emitter(emitter -> {
-            try {
-                HttpClient client = HttpClient.newBuilder()
-                        .connectTimeout(Duration.ofMillis(100))
-                        .build();
-
-                // Crear encabezado de autenticación básica
-                String auth = username + ":" + password;
-                String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes());
-
-                HttpRequest httpRequest = HttpRequest.newBuilder()
-                        .uri(URI.create(simpleServiceUrl + simpleServicePath))
-                        .header("Content-Type", MediaType.APPLICATION_JSON)
-                        .header("Accept", MediaType.APPLICATION_JSON)
-                        .header("Authorization", "Basic " + encodedAuth)
-                        .POST(HttpRequest.BodyPublishers.ofString(jsonRequest))
-                        .build();
-
-                HttpResponse<String> response = client.send(httpRequest,
-                        HttpResponse.BodyHandlers.ofString());
-
-                if (response.statusCode() == 200) {
-                    String jsonResponse = response.body();
-
-                    // Analizar respuesta JSON
-                    JsonNode rootNode = objectMapper.readTree(jsonResponse);
-                    BigDecimal rate = new BigDecimal(rootNode.get("rate").asText());
-                    BigDecimal convertedAmount = CurrencyUtils.calculateConvertedAmount(request.amount(), rate);
-
-                    long responseTime = System.currentTimeMillis() - startTime;
-
-                    LOG.infof("%s éxito: tasa=%s, convertido=%s, tiempo=%dms",
-                            PROVIDER_NAME, rate, convertedAmount, responseTime);
-
-                    emitter.complete(ApiResponse.success(PROVIDER_NAME, rate, convertedAmount, responseTime));
-                } else {
-                    long responseTime = System.currentTimeMillis() - startTime;
-                    String errorMsg = "HTTP error: " + response.statusCode() + " - " + response.body();
-                    LOG.errorf("%s falló: %s, tiempo=%dms", PROVIDER_NAME, errorMsg, responseTime);
-                    emitter.complete(ApiResponse.failure(PROVIDER_NAME, errorMsg, responseTime));
-                }
-            } catch (Exception e) {
-                long responseTime = System.currentTimeMillis() - startTime;
-                LOG.errorf("%s falló: %s, tiempo=%dms", PROVIDER_NAME, e.getMessage(), responseTime);
-                emitter.complete(ApiResponse.failure(PROVIDER_NAME, e.getMessage(), responseTime));
-            }
-        });
+    /**
+     * Extrae la tasa del cuerpo de la respuesta.
+     *
+     * @param body cuerpo JSON de la respuesta
+     * @return tasa informada por el proveedor
+     * @throws Exception si el cuerpo no es JSON o no trae una tasa válida
+     */
+    public static FixedDecimal parseRate(String body) throws Exception {
+        JsonNode rootNode = OBJECT_MAPPER.readTree(body);
+        return FixedDecimal.parse(rootNode.get("rate").asText());
     }
 }
\ No newline at end of file
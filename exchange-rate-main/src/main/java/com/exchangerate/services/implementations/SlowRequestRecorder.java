@@ -0,0 +1,190 @@
+package com.exchangerate.services.implementations;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.exchangerate.models.enums.RequestOutcome;
+import com.exchangerate.models.logging.ProviderExemplar;
+import com.exchangerate.models.logging.SlowRequestExemplar;
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.services.contracts.IClock;
+import com.exchangerate.services.contracts.ISlowRequestRecorder;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Conserva las {@code exchange.slow-requests.capacity} solicitudes más lentas de cada
+ * ventana de {@code exchange.slow-requests.window-ms}, sin bloqueos.
+ *
+ * Cada ventana tiene un arreglo fijo de casillas y un umbral: la duración más corta
+ * entre las capturadas una vez lleno el arreglo. Las solicitudes que no superan el
+ * umbral salen tras una comparación, sin copiar nada. Las que lo superan reemplazan
+ * con CAS a la más rápida de la ventana; si pierden la carrera vuelven a intentarlo.
+ * Al vencer la ventana, la primera solicitud que lo nota la reemplaza por una nueva
+ * y la anterior queda disponible para consulta.
+ */
+@ApplicationScoped
+public class SlowRequestRecorder implements ISlowRequestRecorder {
+
+    @ConfigProperty(name = "exchange.slow-requests.capacity", defaultValue = "10")
+    int capacity;
+
+    @ConfigProperty(name = "exchange.slow-requests.window-ms", defaultValue = "60000")
+    long windowMillis;
+
+    @Inject
+    IClock clock;
+
+    private final AtomicReference<Window> current = new AtomicReference<>();
+    private volatile Window previous;
+
+    private record Entry(long elapsedNanos, SlowRequestExemplar exemplar) {}
+
+    private static final class Window {
+        final long endNanos;
+        final AtomicReferenceArray<Entry> slots;
+        final AtomicLong thresholdNanos = new AtomicLong();
+
+        Window(long endNanos, int capacity) {
+            this.endNanos = endNanos;
+            this.slots = new AtomicReferenceArray<>(capacity);
+        }
+
+        boolean expired(long nowNanos) {
+            return nowNanos - endNanos >= 0;
+        }
+
+        void offer(Entry entry) {
+            while (true) {
+                int fastestIndex = -1;
+                Entry fastest = null;
+                for (int i = 0; i < slots.length(); i++) {
+                    Entry slot = slots.get(i);
+                    if (slot == null) {
+                        if (slots.compareAndSet(i, null, entry)) {
+                            updateThreshold();
+                            return;
+                        }
+                        slot = slots.get(i);
+                    }
+                    if (fastest == null || slot.elapsedNanos() < fastest.elapsedNanos()) {
+                        fastest = slot;
+                        fastestIndex = i;
+                    }
+                }
+                if (fastest == null || entry.elapsedNanos() <= fastest.elapsedNanos()) {
+                    return;
+                }
+                if (slots.compareAndSet(fastestIndex, fastest, entry)) {
+                    updateThreshold();
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Con el arreglo lleno, el umbral es la duración más corta capturada.
+         * Solo puede subir dentro de una ventana, por eso se conserva el máximo.
+         */
+        private void updateThreshold() {
+            long fastest = Long.MAX_VALUE;
+            for (int i = 0; i < slots.length(); i++) {
+                Entry slot = slots.get(i);
+                if (slot == null) {
+                    return;
+                }
+                fastest = Math.min(fastest, slot.elapsedNanos());
+            }
+            thresholdNanos.accumulateAndGet(fastest, Math::max);
+        }
+
+        void collect(List<Entry> into) {
+            for (int i = 0; i < slots.length(); i++) {
+                Entry slot = slots.get(i);
+                if (slot != null) {
+                    into.add(slot);
+                }
+            }
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        current.set(new Window(clock.nanoTime() + windowNanos(), capacity));
+    }
+
+    @Override
+    public void record(ExchangeRateRequest request, List<ApiResponse> responses,
+                       ExchangeRateResponse result, long startNanos) {
+        long nowNanos = clock.nanoTime();
+        long elapsedNanos = nowNanos - startNanos;
+        Window window = current.get();
+        if (window.expired(nowNanos)) {
+            window = rotate(window, nowNanos);
+        } else if (elapsedNanos <= window.thresholdNanos.get()) {
+            // Camino habitual: más rápida que todas las capturadas en la ventana
+            return;
+        }
+        window.offer(new Entry(elapsedNanos, exemplar(request, responses, result, elapsedNanos)));
+    }
+
+    @Override
+    public List<SlowRequestExemplar> slowest() {
+        List<Entry> entries = new ArrayList<>(capacity * 2);
+        current.get().collect(entries);
+        Window last = previous;
+        if (last != null) {
+            last.collect(entries);
+        }
+        entries.sort(Comparator.comparingLong(Entry::elapsedNanos).reversed());
+
+        List<SlowRequestExemplar> exemplars = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            exemplars.add(entry.exemplar());
+        }
+        return exemplars;
+    }
+
+    private Window rotate(Window expired, long nowNanos) {
+        Window next = new Window(nowNanos + windowNanos(), capacity);
+        if (current.compareAndSet(expired, next)) {
+            previous = expired;
+            return next;
+        }
+        return current.get();
+    }
+
+    private long windowNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    }
+
+    private SlowRequestExemplar exemplar(ExchangeRateRequest request, List<ApiResponse> responses,
+                                                ExchangeRateResponse result, long elapsedNanos) {
+        List<ProviderExemplar> providers = new ArrayList<>(responses.size());
+        for (ApiResponse response : responses) {
+            providers.add(ProviderExemplar.of(response));
+        }
+        return new SlowRequestExemplar(
+            clock.currentTimeMillis(),
+            request.sourceCurrency(),
+            request.targetCurrency(),
+            request.amount(),
+            request.ranking(),
+            RequestOutcome.of(result).getTag(),
+            result.provider(),
+            result.bestRate(),
+            Math.round(elapsedNanos / 1_000.0) / 1_000.0,
+            providers);
+    }
+}
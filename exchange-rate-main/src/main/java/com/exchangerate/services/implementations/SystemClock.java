@@ -0,0 +1,34 @@
+package com.exchangerate.services.implementations;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+import com.exchangerate.services.contracts.IClock;
+
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Reloj del sistema: {@link System#nanoTime()}, {@link System#currentTimeMillis()}
+ * y el pool de trabajadores por defecto de Mutiny como planificador.
+ */
+@ApplicationScoped
+public class SystemClock implements IClock {
+
+    /** Instancia para las clases creadas fuera de CDI. */
+    public static final SystemClock INSTANCE = new SystemClock();
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public ScheduledExecutorService scheduler() {
+        return Infrastructure.getDefaultWorkerPool();
+    }
+}
@@ -0,0 +1,162 @@
+package com.exchangerate.services.implementations;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.exchangerate.models.enums.CapturedEndpoint;
+import com.exchangerate.models.logging.CapturedRequest;
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.serialization.TrafficCaptureFormat;
+import com.exchangerate.services.contracts.IClock;
+import com.exchangerate.services.contracts.ITrafficCapture;
+import com.exchangerate.utils.AsyncLogSink;
+import com.exchangerate.utils.LogRateLimiter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Escribe las solicitudes capturadas en {@code exchange.capture.file} con
+ * {@link TrafficCaptureFormat}, desde el hilo de un {@link AsyncLogSink}.
+ *
+ * Desactivada ({@code exchange.capture.enabled=false}, por defecto) no abre el archivo y
+ * {@link #record} solo lee un campo. La hora de llegada se deriva de {@link System#nanoTime()}
+ * a partir de una referencia tomada al iniciar, sin leer el reloj del sistema por solicitud.
+ * Un archivo existente se valida al abrirlo y se recorta al último registro completo; si no
+ * es una captura compatible el servicio no arranca, en lugar de mezclar formatos.
+ *
+ * Tras el primer error de escritura la captura se detiene: el archivo podría haber quedado
+ * con un registro a medias, y seguir agregando detrás de él lo desalinearía. Los registros
+ * perdidos se cuentan en {@link #writeFailures()}.
+ */
+@ApplicationScoped
+public class TrafficCapture implements ITrafficCapture {
+
+    private static final Logger LOG = Logger.getLogger(TrafficCapture.class);
+
+    @ConfigProperty(name = "exchange.capture.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "exchange.capture.file", defaultValue = "exchange-traffic.capture")
+    String file;
+
+    @ConfigProperty(name = "exchange.capture.queue-capacity", defaultValue = "65536")
+    int queueCapacity;
+
+    @ConfigProperty(name = "exchange.logging.error-interval-ms", defaultValue = "10000")
+    long logIntervalMillis;
+
+    @Inject
+    IClock clock;
+
+    private long originEpochMicros;
+    private long originNanos;
+    private DataOutputStream out;
+    private AsyncLogSink<CapturedRequest> sink;
+    private LogRateLimiter failureLogLimiter;
+    private final LongAdder writeFailures = new LongAdder();
+    private volatile boolean failed;
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        originEpochMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        originNanos = System.nanoTime();
+        try {
+            Path path = Path.of(file);
+            boolean empty = !Files.exists(path) || Files.size(path) == 0;
+            if (!empty) {
+                long discarded = TrafficCaptureFormat.truncateToLastRecord(path);
+                if (discarded > 0) {
+                    LOG.warnf("Se descartaron %d bytes de un registro incompleto al final de %s", discarded, file);
+                }
+                empty = Files.size(path) == 0;
+            }
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path.toFile(), true)));
+            if (empty) {
+                TrafficCaptureFormat.writeHeader(out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el archivo de captura " + file, e);
+        }
+        failureLogLimiter = new LogRateLimiter(logIntervalMillis);
+        sink = new AsyncLogSink<>("traffic-capture-writer", queueCapacity, this::write, LOG);
+        LOG.infof("Captura de tráfico activa en %s", file);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (sink == null) {
+            return;
+        }
+        sink.close();
+        if (failed) {
+            LOG.warnf("La captura de tráfico perdió %d registros por errores de escritura", writeFailures.sum());
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            LOG.warnf("Error cerrando el archivo de captura: %s", e.getMessage());
+        }
+    }
+
+    @Override
+    public void record(CapturedEndpoint endpoint, String sourceCurrency, String targetCurrency, BigDecimal amount) {
+        if (!enabled || failed) {
+            return;
+        }
+        CurrencyPair pair = CurrencyPair.lookup(sourceCurrency, targetCurrency);
+        if (pair == null || amount == null || !TrafficCaptureFormat.fits(amount)) {
+            return;
+        }
+        long arrivalEpochMicros = originEpochMicros + TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - originNanos);
+        sink.offer(new CapturedRequest(arrivalEpochMicros, endpoint, pair, amount));
+    }
+
+    @Override
+    public long droppedRequests() {
+        return sink == null ? 0L : sink.droppedCount();
+    }
+
+    @Override
+    public long writeFailures() {
+        return writeFailures.sum();
+    }
+
+    private void write(CapturedRequest request) {
+        if (failed) {
+            // Encolado antes de detener la captura
+            writeFailures.increment();
+            return;
+        }
+        try {
+            TrafficCaptureFormat.write(out, request);
+            // Se vacía el búfer al quedar la cola vacía: un corte deja a lo sumo una ráfaga sin escribir
+            if (sink.pending() == 0) {
+                out.flush();
+            }
+        } catch (IOException e) {
+            failed = true;
+            writeFailures.increment();
+            long suppressed = failureLogLimiter.tryAcquire(clock.currentTimeMillis());
+            if (suppressed >= 0) {
+                LOG.warnf(e, "Error escribiendo en %s; la captura de tráfico se detiene", file);
+            }
+        }
+    }
+}
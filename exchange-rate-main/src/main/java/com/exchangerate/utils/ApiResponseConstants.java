@@ -30,6 +30,9 @@ public final class ApiResponseConstants {
     public static final String SAME_CURRENCY_ERROR = "No se puede convertir a la misma moneda";
     public static final String PROVIDER_NOT_AVAILABLE = "No hay proveedores de tipo de cambio disponibles";
     public static final String INVALID_AMOUNT = "El monto debe ser mayor a cero";
+    public static final String AMOUNT_TOO_LARGE = "El monto no puede ser mayor a 1000000000000";
+    public static final String INVALID_CURRENCY_PAIR =
+        "Las monedas especificadas no son válidas. Use códigos ISO 4217 distintos (ej. USD, EUR, MXN, DOP).";
     
     public static final String NO_PROVIDER_AVAILABLE = "NO_PROVIDER_AVAILABLE";
     
@@ -0,0 +1,150 @@
+package com.exchangerate.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Sumidero asíncrono de eventos de log con cola acotada.
+ *
+ * Los hilos de la solicitud solo encolan el evento; un hilo dedicado le da formato
+ * y lo escribe. Si la cola está llena el evento se descarta en lugar de bloquear,
+ * y el número de descartes se reporta con un WARN como máximo una vez por segundo.
+ * Los errores del escritor también se reportan con WARN, con el mismo límite.
+ *
+ * @param <E> tipo de evento
+ */
+public final class AsyncLogSink<E> implements AutoCloseable {
+
+    private static final long REPORT_INTERVAL_MS = 1000L;
+    private static final int BATCH_SIZE = 256;
+
+    private final ArrayBlockingQueue<E> queue;
+    private final Consumer<? super E> writer;
+    private final Logger logger;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread drainer;
+    private final LogRateLimiter writeErrorLimiter = new LogRateLimiter(REPORT_INTERVAL_MS);
+
+    private volatile boolean closed;
+    private long reportedDrops;
+    private long lastReportMillis;
+
+    /**
+     * Crea el sumidero e inicia su hilo de escritura.
+     *
+     * @param name nombre del hilo de escritura
+     * @param capacity capacidad máxima de la cola
+     * @param writer escribe un evento (se invoca solo desde el hilo de escritura)
+     * @param logger logger donde se reportan los descartes y los errores de escritura
+     */
+    public AsyncLogSink(String name, int capacity, Consumer<? super E> writer, Logger logger) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writer = writer;
+        this.logger = logger;
+        this.drainer = new Thread(this::drain, name);
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    /**
+     * Encola un evento sin bloquear.
+     *
+     * @param event evento a escribir
+     * @return false si el evento se descartó porque la cola estaba llena o el sumidero cerrado
+     */
+    public boolean offer(E event) {
+        if (closed || !queue.offer(event)) {
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Eventos descartados desde la creación del sumidero.
+     *
+     * @return total de descartes
+     */
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Eventos pendientes de escribir.
+     *
+     * @return tamaño actual de la cola
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    /**
+     * Deja de aceptar eventos y espera a que se escriban los pendientes.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        // Despierta al hilo de escritura si está esperando eventos
+        drainer.interrupt();
+        try {
+            drainer.join(REPORT_INTERVAL_MS * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        List<E> batch = new ArrayList<>(BATCH_SIZE);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                E first = closed ? queue.poll() : queue.poll(REPORT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, BATCH_SIZE - 1);
+                    for (int i = 0, size = batch.size(); i < size; i++) {
+                        write(batch.get(i));
+                    }
+                    batch.clear();
+                }
+                reportDrops(false);
+            } catch (InterruptedException e) {
+                if (!closed) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        reportDrops(true);
+    }
+
+    private void write(E event) {
+        try {
+            writer.accept(event);
+        } catch (RuntimeException e) {
+            long suppressed = writeErrorLimiter.tryAcquire(System.currentTimeMillis());
+            if (suppressed >= 0) {
+                logger.warnf(e, "Error escribiendo evento de log: %s; %d errores similares omitidos",
+                    e.getMessage(), suppressed);
+            }
+        }
+    }
+
+    private void reportDrops(boolean force) {
+        long now = System.currentTimeMillis();
+        if (!force && now - lastReportMillis < REPORT_INTERVAL_MS) {
+            return;
+        }
+        long total = dropped.sum();
+        if (total > reportedDrops) {
+            logger.warnf("Se descartaron %d eventos de log por cola llena (%d en total)", total - reportedDrops, total);
+            reportedDrops = total;
+        }
+        lastReportMillis = now;
+    }
+}
@@ -4,6 +4,8 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 
 import com.exchangerate.models.enums.SupportedCurrency;
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.money.FixedDecimal;
 
 
 /**
@@ -14,6 +16,28 @@ import com.exchangerate.models.enums.SupportedCurrency;
  */
 public class CurrencyUtils {
     
+    /** Escala de los montos convertidos. */
+    public static final int AMOUNT_SCALE = 2;
+    
+    /** Escala de las tasas calculadas a partir de montos. */
+    public static final int RATE_SCALE = 4;
+    
+    /**
+     * Monto máximo aceptado. El monto convertido a {@link #AMOUNT_SCALE} decimales cabe en
+     * punto fijo mientras la tasa no supere {@link #MAX_CONVERTIBLE_RATE}.
+     */
+    public static final BigDecimal MAX_AMOUNT = new BigDecimal("1000000000000");
+    
+    /**
+     * Mayor tasa con la que cualquier monto hasta {@link #MAX_AMOUNT} se puede convertir:
+     * {@code Long.MAX_VALUE / (10^AMOUNT_SCALE × MAX_AMOUNT)}, unas 92 233 unidades. Cubre las
+     * tasas más altas del catálogo ISO (USD→LBP ronda 89 500, USD→IRR 42 000, USD→VND 25 000);
+     * por encima, un monto cercano al máximo produce {@link ArithmeticException}.
+     */
+    public static final BigDecimal MAX_CONVERTIBLE_RATE = BigDecimal.valueOf(Long.MAX_VALUE)
+        .movePointLeft(AMOUNT_SCALE)
+        .divide(MAX_AMOUNT, RATE_SCALE, RoundingMode.DOWN);
+    
     /**
      * Valida si un código de moneda está soportado usando el enum.
      * 
@@ -35,7 +59,48 @@ public class CurrencyUtils {
         if (amount == null || rate == null) {
             return BigDecimal.ZERO;
         }
-        return amount.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+        try {
+            return calculateConvertedAmount(FixedDecimal.of(amount), FixedDecimal.of(rate)).toBigDecimal();
+        } catch (ArithmeticException e) {
+            // Fuera del rango de punto fijo: se conserva el cálculo exacto original
+            return amount.multiply(rate).setScale(AMOUNT_SCALE, RoundingMode.HALF_UP);
+        }
+    }
+    
+    /**
+     * Calcula el monto convertido en punto fijo, sin asignaciones intermedias.
+     * 
+     * @param amount monto original
+     * @param rate tasa de cambio
+     * @return monto convertido con 2 decimales (HALF_UP)
+     * @throws ArithmeticException si el producto desborda el rango de punto fijo
+     */
+    public static FixedDecimal calculateConvertedAmount(FixedDecimal amount, FixedDecimal rate) {
+        if (amount == null || rate == null) {
+            return FixedDecimal.ZERO;
+        }
+        return amount.multiply(rate, AMOUNT_SCALE);
+    }
+    
+    /**
+     * Calcula el monto convertido a partir del monto recibido en la solicitud. Si el monto no
+     * cabe en punto fijo (por ejemplo, más de 18 decimales) o el producto desborda, multiplica
+     * con {@link BigDecimal} y solo el resultado se lleva a punto fijo.
+     * 
+     * @param amount monto original, como máximo {@link #MAX_AMOUNT}
+     * @param rate tasa de cambio
+     * @return monto convertido con 2 decimales (HALF_UP)
+     * @throws ArithmeticException si el resultado no cabe en punto fijo
+     */
+    public static FixedDecimal calculateConvertedAmount(BigDecimal amount, FixedDecimal rate) {
+        if (amount == null || rate == null) {
+            return FixedDecimal.ZERO;
+        }
+        try {
+            return calculateConvertedAmount(FixedDecimal.of(amount), rate);
+        } catch (ArithmeticException e) {
+            return FixedDecimal.of(amount.multiply(rate.toBigDecimal()).setScale(AMOUNT_SCALE, RoundingMode.HALF_UP));
+        }
     }
     
     /**
@@ -49,7 +114,47 @@ public class CurrencyUtils {
         if (originalAmount == null || convertedAmount == null || originalAmount.compareTo(BigDecimal.ZERO) == 0) {
             return BigDecimal.ZERO;
         }
-        return convertedAmount.divide(originalAmount, 4, RoundingMode.HALF_UP);
+        try {
+            return calculateRate(FixedDecimal.of(originalAmount), FixedDecimal.of(convertedAmount)).toBigDecimal();
+        } catch (ArithmeticException e) {
+            return convertedAmount.divide(originalAmount, RATE_SCALE, RoundingMode.HALF_UP);
+        }
+    }
+    
+    /**
+     * Calcula la tasa de cambio en punto fijo a partir de montos originales y convertidos.
+     * 
+     * @param originalAmount monto original
+     * @param convertedAmount monto convertido
+     * @return tasa de cambio con 4 decimales (HALF_UP)
+     * @throws ArithmeticException si el cálculo desborda el rango de punto fijo
+     */
+    public static FixedDecimal calculateRate(FixedDecimal originalAmount, FixedDecimal convertedAmount) {
+        if (originalAmount == null || convertedAmount == null || originalAmount.signum() == 0) {
+            return FixedDecimal.ZERO;
+        }
+        return convertedAmount.divide(originalAmount, RATE_SCALE);
+    }
+    
+    /**
+     * Calcula la tasa de cambio a partir del monto recibido en la solicitud y el monto convertido
+     * por el proveedor, con el mismo respaldo en {@link BigDecimal} que
+     * {@link #calculateConvertedAmount(BigDecimal, FixedDecimal)}.
+     * 
+     * @param originalAmount monto original
+     * @param convertedAmount monto convertido
+     * @return tasa de cambio con 4 decimales (HALF_UP)
+     */
+    public static FixedDecimal calculateRate(BigDecimal originalAmount, FixedDecimal convertedAmount) {
+        if (originalAmount == null || convertedAmount == null || originalAmount.signum() == 0) {
+            return FixedDecimal.ZERO;
+        }
+        try {
+            return calculateRate(FixedDecimal.of(originalAmount), convertedAmount);
+        } catch (ArithmeticException e) {
+            return FixedDecimal.of(
+                convertedAmount.toBigDecimal().divide(originalAmount, RATE_SCALE, RoundingMode.HALF_UP));
+        }
     }
     
     /**
@@ -73,9 +178,7 @@ public class CurrencyUtils {
      * @return true si ambas son válidas y diferentes
      */
     public static boolean isValidCurrencyPair(String sourceCurrency, String targetCurrency) {
-        return isValidCurrency(sourceCurrency) && 
-               isValidCurrency(targetCurrency) && 
-               !sourceCurrency.equalsIgnoreCase(targetCurrency);
+        return CurrencyPair.lookup(sourceCurrency, targetCurrency) != null;
     }
     
     /**
@@ -85,10 +188,7 @@ public class CurrencyUtils {
      * @return símbolo de la moneda o código si no se encuentra
      */
     public static String getCurrencySymbol(String currencyCode) {
-        try {
-            return SupportedCurrency.fromCode(currencyCode).getSymbol();
-        } catch (IllegalArgumentException e) {
-            return currencyCode;
-        }
+        SupportedCurrency currency = SupportedCurrency.lookup(currencyCode);
+        return currency != null ? currency.getSymbol() : currencyCode;
     }
 }
@@ -0,0 +1,38 @@
+package com.exchangerate.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limita un mensaje de log a una escritura por intervalo.
+ * Las ocurrencias suprimidas se cuentan y se reportan en la siguiente escritura permitida.
+ */
+public final class LogRateLimiter {
+
+    private final long intervalMillis;
+    private final AtomicLong lastLoggedMillis = new AtomicLong(Long.MIN_VALUE);
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * @param intervalMillis intervalo mínimo entre escrituras
+     */
+    public LogRateLimiter(long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * Intenta obtener permiso para escribir.
+     *
+     * @param nowMillis instante actual (epoch ms)
+     * @return ocurrencias suprimidas desde la última escritura si se permite escribir, o -1 si no
+     */
+    public long tryAcquire(long nowMillis) {
+        long last = lastLoggedMillis.get();
+        if ((last == Long.MIN_VALUE || nowMillis - last >= intervalMillis)
+                && lastLoggedMillis.compareAndSet(last, nowMillis)) {
+            return suppressed.sumThenReset();
+        }
+        suppressed.increment();
+        return -1L;
+    }
+}
@@ -0,0 +1,83 @@
+package com.exchangerate.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.exchangerate.models.money.CurrencyPair;
+
+/**
+ * Tabla de contadores {@code long} indexada por {@link CurrencyPair#index()}.
+ * El espacio de índices se divide en páginas de arreglos primitivos que se
+ * crean al primer incremento, de modo que la memoria depende de los pares
+ * usados y no del tamaño del catálogo. Lecturas y escrituras no bloquean.
+ * La usa {@code ExchangeMetrics} para contar las victorias de cada proveedor por par.
+ */
+public final class PairCounterTable {
+
+    private static final int PAGE_SHIFT = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final AtomicReferenceArray<AtomicLongArray> pages =
+        new AtomicReferenceArray<>((CurrencyPair.INDEX_SPACE + PAGE_SIZE - 1) >>> PAGE_SHIFT);
+
+    /**
+     * Incrementa en uno el contador del par.
+     *
+     * @param pair par de monedas
+     * @return nuevo valor del contador
+     */
+    public long increment(CurrencyPair pair) {
+        return add(pair.index(), 1L);
+    }
+
+    /**
+     * Suma un valor al contador del índice indicado.
+     *
+     * @param pairIndex índice denso del par
+     * @param delta valor a sumar
+     * @return nuevo valor del contador
+     */
+    public long add(int pairIndex, long delta) {
+        return page(pairIndex >>> PAGE_SHIFT).addAndGet(pairIndex & PAGE_MASK, delta);
+    }
+
+    public long get(CurrencyPair pair) {
+        return get(pair.index());
+    }
+
+    /**
+     * Lee el contador sin crear páginas: un par nunca incrementado vale cero.
+     *
+     * @param pairIndex índice denso del par
+     * @return valor actual del contador
+     */
+    public long get(int pairIndex) {
+        AtomicLongArray page = pages.get(pairIndex >>> PAGE_SHIFT);
+        return page == null ? 0L : page.get(pairIndex & PAGE_MASK);
+    }
+
+    /**
+     * Número de páginas reservadas, para medir la huella de memoria.
+     *
+     * @return páginas reservadas
+     */
+    public int allocatedPages() {
+        int count = 0;
+        for (int i = 0; i < pages.length(); i++) {
+            if (pages.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private AtomicLongArray page(int pageIndex) {
+        AtomicLongArray page = pages.get(pageIndex);
+        if (page != null) {
+            return page;
+        }
+        AtomicLongArray created = new AtomicLongArray(PAGE_SIZE);
+        return pages.compareAndSet(pageIndex, null, created) ? created : pages.get(pageIndex);
+    }
+}
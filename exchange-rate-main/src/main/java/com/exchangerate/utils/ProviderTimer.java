@@ -0,0 +1,138 @@
+package com.exchangerate.utils;
+
+import java.net.http.HttpResponse;
+
+import com.exchangerate.models.enums.CallOutcome;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.models.response.ProviderTiming;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+
+/**
+ * Tiempos de la llamada a un proveedor durante una solicitud con desglose de tiempos.
+ *
+ * Viaja al proveedor en el mismo contexto que el span del proveedor. Sin desglose se usa
+ * {@link #DISABLED}, cuyos métodos no hacen nada (ni siquiera leen el reloj).
+ * Los intentos de un proveedor son secuenciales; los campos son volátiles porque
+ * cada intento puede ejecutarse en un hilo distinto.
+ */
+public final class ProviderTimer {
+
+    /** Instancia sin efecto para solicitudes sin desglose. */
+    public static final ProviderTimer DISABLED = new ProviderTimer(null, 0L);
+
+    static final ContextKey<ProviderTimer> CONTEXT_KEY = ContextKey.named("exchange.provider.timer");
+
+    private final String provider;
+    private final long startNanos;
+
+    private volatile int attempts;
+    private volatile long sentNanos;
+    private volatile long firstByteNanos;
+    private volatile long bodyNanos;
+    private volatile long parseStartNanos;
+    private volatile long parseEndNanos;
+    private volatile long endNanos;
+    private volatile CallOutcome outcome;
+
+    ProviderTimer(String provider, long startNanos) {
+        this.provider = provider;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Obtiene el temporizador del contexto del proveedor.
+     *
+     * @param context contexto capturado al invocar al proveedor
+     * @return temporizador, o {@link #DISABLED} si la solicitud no pidió desglose
+     */
+    public static ProviderTimer from(Context context) {
+        ProviderTimer timer = context.get(CONTEXT_KEY);
+        return timer != null ? timer : DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return this != DISABLED;
+    }
+
+    /**
+     * Marca el envío de un intento HTTP.
+     */
+    public void attemptStarted() {
+        if (this == DISABLED) {
+            return;
+        }
+        attempts++;
+        sentNanos = System.nanoTime();
+        firstByteNanos = 0L;
+        bodyNanos = 0L;
+        parseStartNanos = 0L;
+        parseEndNanos = 0L;
+    }
+
+    /**
+     * Manejador del cuerpo que registra la llegada de los encabezados.
+     *
+     * @return manejador de cuerpo como texto
+     */
+    public HttpResponse.BodyHandler<String> bodyHandler() {
+        if (this == DISABLED) {
+            return HttpResponse.BodyHandlers.ofString();
+        }
+        return responseInfo -> {
+            firstByteNanos = System.nanoTime();
+            return HttpResponse.BodyHandlers.ofString().apply(responseInfo);
+        };
+    }
+
+    /**
+     * Marca la recepción completa del cuerpo.
+     */
+    public void bodyReceived() {
+        if (this != DISABLED) {
+            bodyNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Marca el inicio de la interpretación del cuerpo.
+     */
+    public void parseStarted() {
+        if (this != DISABLED) {
+            parseStartNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Marca el fin de la interpretación del cuerpo.
+     */
+    public void parseFinished() {
+        if (this != DISABLED) {
+            parseEndNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Registra el resultado de la llamada.
+     *
+     * @param response respuesta del proveedor, o null si la llamada se canceló
+     */
+    public void completed(ApiResponse response) {
+        if (this != DISABLED) {
+            endNanos = System.nanoTime();
+            outcome = CallOutcome.of(response);
+        }
+    }
+
+    ProviderTiming toTiming() {
+        return new ProviderTiming(
+            provider,
+            attempts,
+            RequestTimer.millisBetween(sentNanos, firstByteNanos),
+            RequestTimer.millisBetween(firstByteNanos, bodyNanos),
+            RequestTimer.millisBetween(parseStartNanos, parseEndNanos),
+            RequestTimer.millisBetween(startNanos, endNanos),
+            outcome != null ? outcome.getTag() : null);
+    }
+}
@@ -0,0 +1,130 @@
+package com.exchangerate.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.exchangerate.models.response.ProviderTiming;
+import com.exchangerate.models.response.TimingBreakdown;
+
+import io.opentelemetry.context.Context;
+
+/**
+ * Recolector del desglose de tiempos de una solicitud de mejor tasa.
+ *
+ * Solo se crea cuando el cliente envía el encabezado de depuración; en cualquier
+ * otro caso se usa {@link #DISABLED} y no se lee el reloj ni se reserva memoria.
+ * Todos los tiempos se toman con {@link System#nanoTime()}.
+ */
+public final class RequestTimer {
+
+    /** Encabezado con que el cliente solicita el desglose de tiempos. */
+    public static final String DEBUG_HEADER = "X-Debug-Timing";
+
+    /** Instancia sin efecto para solicitudes sin desglose. */
+    public static final RequestTimer DISABLED = new RequestTimer(0L, 0L);
+
+    private final long arrivalNanos;
+    private final long dispatchNanos;
+    private final Queue<ProviderTimer> providers = new ConcurrentLinkedQueue<>();
+
+    private volatile long serviceStartNanos;
+    private volatile long serviceEndNanos;
+    private volatile long comparatorStartNanos;
+    private volatile long comparatorEndNanos;
+
+    private RequestTimer(long arrivalNanos, long dispatchNanos) {
+        this.arrivalNanos = arrivalNanos;
+        this.dispatchNanos = dispatchNanos;
+    }
+
+    /**
+     * Inicia el desglose al entrar al recurso.
+     *
+     * @param arrivalNanos llegada de la solicitud al servidor HTTP, o 0 si se desconoce
+     * @return recolector habilitado
+     */
+    public static RequestTimer start(long arrivalNanos) {
+        return new RequestTimer(arrivalNanos, System.nanoTime());
+    }
+
+    public boolean isEnabled() {
+        return this != DISABLED;
+    }
+
+    public void serviceStarted() {
+        if (this != DISABLED) {
+            serviceStartNanos = System.nanoTime();
+        }
+    }
+
+    public void serviceFinished() {
+        if (this != DISABLED) {
+            serviceEndNanos = System.nanoTime();
+        }
+    }
+
+    public void comparatorStarted() {
+        if (this != DISABLED) {
+            comparatorStartNanos = System.nanoTime();
+        }
+    }
+
+    public void comparatorFinished() {
+        if (this != DISABLED) {
+            comparatorEndNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Agrega al contexto del proveedor un temporizador para su llamada.
+     *
+     * @param context contexto con el span del proveedor
+     * @param provider nombre del proveedor
+     * @return contexto con el temporizador, o el mismo contexto si no hay desglose
+     */
+    public Context attachProvider(Context context, String provider) {
+        if (this == DISABLED) {
+            return context;
+        }
+        ProviderTimer timer = new ProviderTimer(provider, System.nanoTime());
+        providers.add(timer);
+        return context.with(ProviderTimer.CONTEXT_KEY, timer);
+    }
+
+    /**
+     * Arma el desglose con los tiempos registrados.
+     *
+     * @param serializationNanos duración de la serialización de la respuesta, o 0 si no se midió
+     * @return desglose de tiempos
+     */
+    public TimingBreakdown breakdown(long serializationNanos) {
+        List<ProviderTiming> providerTimings = new ArrayList<>(providers.size());
+        for (ProviderTimer timer : providers) {
+            providerTimings.add(timer.toTiming());
+        }
+        long origin = arrivalNanos != 0L ? arrivalNanos : dispatchNanos;
+        return new TimingBreakdown(
+            arrivalNanos != 0L ? millisBetween(arrivalNanos, dispatchNanos) : null,
+            List.copyOf(providerTimings),
+            millisBetween(comparatorStartNanos, comparatorEndNanos),
+            millisBetween(serviceStartNanos, serviceEndNanos),
+            serializationNanos > 0L ? toMillis(serializationNanos) : null,
+            millisBetween(origin, System.nanoTime()));
+    }
+
+    /**
+     * Milisegundos (con resolución de microsegundos) entre dos marcas, o null si falta alguna.
+     */
+    static Double millisBetween(long startNanos, long endNanos) {
+        if (startNanos == 0L || endNanos == 0L) {
+            return null;
+        }
+        return toMillis(endNanos - startNanos);
+    }
+
+    private static Double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
@@ -0,0 +1,176 @@
+package com.exchangerate.utils;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.exchangerate.models.money.CurrencyPair;
+
+/**
+ * Mapa disperso de estado por par con claves {@code int} ({@link CurrencyPair#index()})
+ * y direccionamiento abierto con sondeo lineal.
+ * Evita el boxing y las claves String de un {@code HashMap} y solo ocupa memoria
+ * proporcional a los pares presentes, para estado pesado que pocos pares usan
+ * (cachés, ventanas de latencia, etc.).
+ *
+ * Las lecturas no bloquean; las escrituras se serializan. No admite eliminaciones:
+ * el estado de un par se reemplaza, no se borra.
+ *
+ * @param <V> tipo del valor asociado a cada par
+ */
+public final class SparsePairMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Tabla inmutable en tamaño; al crecer se publica una nueva.
+     * Las claves se guardan como {@code índice + 1} para que 0 signifique vacío.
+     */
+    private static final class Table<V> {
+        final AtomicIntegerArray keys;
+        final AtomicReferenceArray<V> values;
+        final int mask;
+
+        Table(int capacity) {
+            this.keys = new AtomicIntegerArray(capacity);
+            this.values = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+    }
+
+    private volatile Table<V> table = new Table<>(DEFAULT_CAPACITY);
+    private int size;
+
+    public V get(CurrencyPair pair) {
+        return get(pair.index());
+    }
+
+    /**
+     * Busca el valor de un par sin bloquear.
+     *
+     * @param pairIndex índice denso del par
+     * @return valor asociado o null si el par no tiene estado
+     */
+    public V get(int pairIndex) {
+        Table<V> current = table;
+        int key = pairIndex + 1;
+        for (int slot = slot(pairIndex, current.mask); ; slot = (slot + 1) & current.mask) {
+            int stored = current.keys.get(slot);
+            if (stored == key) {
+                return current.values.get(slot);
+            }
+            if (stored == 0) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Asocia un valor al par, reemplazando el anterior.
+     *
+     * @param pair par de monedas
+     * @param value valor no nulo
+     */
+    public synchronized void put(CurrencyPair pair, V value) {
+        insert(pair.index(), value);
+    }
+
+    /**
+     * Obtiene el valor del par o lo crea una única vez si no existe.
+     *
+     * @param pair par de monedas
+     * @param factory función que crea el valor inicial
+     * @return valor existente o recién creado
+     */
+    public V computeIfAbsent(CurrencyPair pair, Function<CurrencyPair, V> factory) {
+        V existing = get(pair.index());
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (this) {
+            existing = get(pair.index());
+            if (existing != null) {
+                return existing;
+            }
+            V created = factory.apply(pair);
+            insert(pair.index(), created);
+            return created;
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Recorre los pares con estado. Refleja una instantánea de la tabla vigente.
+     *
+     * @param action acción a ejecutar por cada par y su valor
+     */
+    public void forEach(BiConsumer<CurrencyPair, V> action) {
+        Table<V> current = table;
+        for (int slot = 0; slot <= current.mask; slot++) {
+            int stored = current.keys.get(slot);
+            if (stored != 0) {
+                action.accept(CurrencyPair.fromIndex(stored - 1), current.values.get(slot));
+            }
+        }
+    }
+
+    private void insert(int pairIndex, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("El valor no puede ser null");
+        }
+        Table<V> current = table;
+        int key = pairIndex + 1;
+        int slot = slot(pairIndex, current.mask);
+        while (true) {
+            int stored = current.keys.get(slot);
+            if (stored == key) {
+                current.values.set(slot, value);
+                return;
+            }
+            if (stored == 0) {
+                break;
+            }
+            slot = (slot + 1) & current.mask;
+        }
+
+        // Factor de carga máximo de 0.5 para mantener sondeos cortos
+        if ((size + 1) * 2 > current.mask + 1) {
+            current = resize(current);
+            slot = slot(pairIndex, current.mask);
+            while (current.keys.get(slot) != 0) {
+                slot = (slot + 1) & current.mask;
+            }
+        }
+
+        // El valor se publica antes que la clave para que un lector nunca vea una clave sin valor
+        current.values.set(slot, value);
+        current.keys.set(slot, key);
+        size++;
+    }
+
+    private Table<V> resize(Table<V> current) {
+        Table<V> grown = new Table<>((current.mask + 1) * 2);
+        for (int slot = 0; slot <= current.mask; slot++) {
+            int stored = current.keys.get(slot);
+            if (stored != 0) {
+                int target = slot(stored - 1, grown.mask);
+                while (grown.keys.get(target) != 0) {
+                    target = (target + 1) & grown.mask;
+                }
+                grown.values.set(target, current.values.get(slot));
+                grown.keys.set(target, stored);
+            }
+        }
+        table = grown;
+        return grown;
+    }
+
+    private static int slot(int pairIndex, int mask) {
+        // Mezcla de Fibonacci: los índices densos consecutivos se reparten por la tabla
+        return (pairIndex * 0x9E3779B9 >>> 16) & mask;
+    }
+}
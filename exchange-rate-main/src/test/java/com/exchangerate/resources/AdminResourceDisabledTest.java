@@ -0,0 +1,35 @@
+package com.exchangerate.resources;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(AdminResourceDisabledTest.AdminDisabledProfile.class)
+class AdminResourceDisabledTest {
+
+    /**
+     * Configuración de producción: los endpoints de diagnóstico deshabilitados.
+     */
+    public static class AdminDisabledProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("exchange.admin.enabled", "false");
+        }
+    }
+
+    @Test
+    void testDiagnosticEndpointsAreHiddenByDefault() {
+        given().when().get("/api/v1/admin/slow-requests").then().statusCode(404).body("code", equalTo(404));
+        given().when().get("/api/v1/admin/event-loop-stalls").then().statusCode(404).body("code", equalTo(404));
+        given().when().post("/api/v1/admin/jfr?seconds=1").then().statusCode(404).body("code", equalTo(404));
+    }
+}
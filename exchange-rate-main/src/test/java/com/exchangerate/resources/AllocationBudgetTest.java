@@ -0,0 +1,164 @@
+package com.exchangerate.resources;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.utils.AllocationMeter;
+import com.exchangerate.utils.ProviderStandIns;
+import com.exchangerate.utils.TestConstants;
+
+import io.quarkus.test.common.ResourceArg;
+import io.quarkus.test.common.WithTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.http.ContentType;
+
+/**
+ * Bytes asignados por solicitud de best-rate en cada camino, contra servidores de prueba
+ * locales. Falla si alguno supera su presupuesto en {@code allocation-budget.properties}:
+ * lo medido en CI más {@code margin-percent}.
+ *
+ * Se mide en los hilos del servicio ({@link AllocationMeter#SERVICE_THREADS}), después de
+ * calentar cada camino para que el JIT haya compilado el código. Luego se mide el servicio
+ * en reposo durante el mismo tiempo, y ese ruido de fondo por solicitud se publica junto al
+ * resultado con {@link TestReporter} en el reporte de surefire. Con
+ * {@code -Dallocation.record=true} la prueba no falla y escribe lo medido en
+ * {@code target/allocation-measured.properties}.
+ */
+@Tag("allocation")
+@QuarkusTest
+@TestProfile(AllocationBudgetTest.PinnedQuoteProfile.class)
+@WithTestResource(value = ProviderStandIns.class, initArgs = @ResourceArg(name = "failing-currency", value = "CHF"))
+class AllocationBudgetTest {
+
+    private static final int WARMUP_REQUESTS = 1_000;
+    private static final int MEASURED_REQUESTS = 200;
+
+    private static final boolean RECORD = Boolean.getBoolean("allocation.record");
+    private static final Path RECORDED = Path.of("target", "allocation-measured.properties");
+
+    private static Properties budgets;
+
+    /**
+     * Vigencia de la caché de cotizaciones mayor que la prueba: el camino de acierto nunca
+     * vuelve a consultar a los proveedores aunque la medición tarde más de lo normal.
+     */
+    public static class PinnedQuoteProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("exchange.quote-cache.ttl-ms", "3600000");
+        }
+    }
+
+    private final AllocationMeter meter = new AllocationMeter(AllocationMeter.SERVICE_THREADS);
+
+    @BeforeAll
+    static void loadBudgets() throws IOException {
+        budgets = new Properties();
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream("/allocation-budget.properties")) {
+            budgets.load(in);
+        }
+    }
+
+    @Test
+    void testCacheHitStaysWithinBudget(TestReporter reporter) throws InterruptedException, IOException {
+        // Misma cotización en cada solicitud: se sirve siempre desde la caché
+        IntConsumer cachedGet = i -> given()
+            .queryParam("from", TestConstants.USD)
+            .queryParam("to", TestConstants.EUR)
+            .queryParam("amount", "100.00")
+        .when()
+            .get("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200);
+
+        assertWithinBudget(reporter, "best-rate.cache-hit", cachedGet);
+    }
+
+    @Test
+    void testFanOutStaysWithinBudget(TestReporter reporter) throws InterruptedException, IOException {
+        assertWithinBudget(reporter, "best-rate.fan-out", i -> postBestRate(TestConstants.EUR, i, 200));
+    }
+
+    @Test
+    void testErrorPathStaysWithinBudget(TestReporter reporter) throws InterruptedException, IOException {
+        assertWithinBudget(reporter, "best-rate.error", i -> postBestRate("CHF", i, 503));
+    }
+
+    private void assertWithinBudget(TestReporter reporter, String path, IntConsumer request)
+            throws InterruptedException, IOException {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            request.accept(i);
+        }
+
+        Map<Long, Long> before = meter.snapshot();
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            request.accept(i);
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long perRequest = meter.allocatedSince(before) / MEASURED_REQUESTS;
+
+        Map<Long, Long> idle = meter.snapshot();
+        TimeUnit.NANOSECONDS.sleep(elapsedNanos);
+        long noisePerRequest = meter.allocatedSince(idle) / MEASURED_REQUESTS;
+
+        long measured = Long.parseLong(budgets.getProperty(path + ".measured"));
+        long budget = Long.getLong("allocation.budget." + path,
+            measured * (100 + Long.parseLong(budgets.getProperty("margin-percent"))) / 100);
+        reporter.publishEntry(path, perRequest + " bytes/solicitud (ruido en reposo " + noisePerRequest
+            + ", presupuesto " + budget + ")");
+
+        if (RECORD) {
+            record(path + ".measured", perRequest);
+            return;
+        }
+        assertTrue(perRequest <= budget,
+            () -> path + " asigna " + perRequest + " bytes por solicitud; presupuesto " + budget);
+    }
+
+    private static synchronized void record(String key, long value) throws IOException {
+        Properties recorded = new Properties();
+        if (Files.exists(RECORDED)) {
+            try (InputStream in = Files.newInputStream(RECORDED)) {
+                recorded.load(in);
+            }
+        }
+        recorded.setProperty(key, Long.toString(value));
+        try (OutputStream out = Files.newOutputStream(RECORDED)) {
+            recorded.store(out, "Medido por AllocationBudgetTest");
+        }
+    }
+
+    /**
+     * POST best-rate con un monto distinto por solicitud, para no repetir respuestas.
+     */
+    private static void postBestRate(String target, int sequence, int expectedStatus) {
+        given()
+            .contentType(ContentType.JSON)
+            .body(new ExchangeRateRequest(TestConstants.USD, target, BigDecimal.valueOf(10_000 + sequence, 2)))
+        .when()
+            .post("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(expectedStatus);
+    }
+}
@@ -0,0 +1,200 @@
+package com.exchangerate.resources;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.grpc.BestRateBatchReply;
+import com.exchangerate.grpc.BestRateBatchRequest;
+import com.exchangerate.grpc.BestRateReply;
+import com.exchangerate.grpc.BestRateRequest;
+import com.exchangerate.grpc.Decimal;
+import com.exchangerate.grpc.WatchBestRateRequest;
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.services.contracts.IExchangeRateService;
+import com.exchangerate.utils.TestConstants;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.quarkus.grpc.GrpcService;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.mockito.InjectMock;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+
+@QuarkusTest
+class BestRateGrpcResourceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @InjectMock
+    IExchangeRateService exchangeRateService;
+
+    @Inject
+    @GrpcService
+    BestRateGrpcResource grpcResource;
+
+    @BeforeEach
+    void setUp() {
+        when(exchangeRateService.getBestExchangeRate(any(ExchangeRateRequest.class)))
+            .thenReturn(Uni.createFrom().item(response("58.9000", "5890.00", TestConstants.ADVANCED_PROVIDER)));
+    }
+
+    @Test
+    void testGetBestRate_Success() {
+        BestRateReply reply = grpcResource.getBestRate(request(TestConstants.USD, TestConstants.DOP))
+            .await().atMost(TIMEOUT);
+
+        assertTrue(reply.getAvailable());
+        assertEquals(TestConstants.ADVANCED_PROVIDER, reply.getProvider());
+        assertEquals(new BigDecimal("58.9000"), toBigDecimal(reply.getBestRate()));
+        assertEquals(new BigDecimal("5890.00"), toBigDecimal(reply.getConvertedAmount()));
+        assertEquals(TestConstants.TOTAL_PROVIDERS, reply.getTotalProviders());
+    }
+
+    @Test
+    void testGetBestRate_InvalidAmount() {
+        BestRateRequest request = BestRateRequest.newBuilder()
+            .setSourceCurrency(TestConstants.USD)
+            .setTargetCurrency(TestConstants.DOP)
+            .build();
+
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+            () -> grpcResource.getBestRate(request).await().atMost(TIMEOUT));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+    }
+
+    @Test
+    void testGetBestRate_InvalidCurrency() {
+        when(exchangeRateService.getBestExchangeRate(any(ExchangeRateRequest.class)))
+            .thenReturn(Uni.createFrom().failure(new IllegalArgumentException("Códigos de moneda inválidos proporcionados")));
+
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+            () -> grpcResource.getBestRate(request(TestConstants.USD, "XYZ")).await().atMost(TIMEOUT));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+        assertTrue(exception.getStatus().getDescription().contains("inválidos"));
+    }
+
+    @Test
+    void testGetBestRates_ReportsErrorsPerItem() {
+        when(exchangeRateService.getBestExchangeRate(argThat(r -> r != null && "XYZ".equals(r.targetCurrency()))))
+            .thenReturn(Uni.createFrom().failure(new IllegalArgumentException("Códigos de moneda inválidos proporcionados")));
+
+        BestRateBatchRequest batch = BestRateBatchRequest.newBuilder()
+            .addRequests(request(TestConstants.USD, TestConstants.DOP))
+            .addRequests(request(TestConstants.USD, "XYZ"))
+            .addRequests(request(TestConstants.EUR, TestConstants.MXN))
+            .build();
+
+        BestRateBatchReply reply = grpcResource.getBestRates(batch).await().atMost(TIMEOUT);
+
+        assertEquals(3, reply.getRepliesCount());
+        assertTrue(reply.getReplies(0).getAvailable());
+        assertFalse(reply.getReplies(1).getAvailable());
+        assertTrue(reply.getReplies(1).getError().contains("inválidos"));
+        assertEquals(TestConstants.MXN, reply.getReplies(2).getTargetCurrency());
+    }
+
+    @Test
+    void testGetBestRates_HidesInternalErrorDetails() {
+        when(exchangeRateService.getBestExchangeRate(any(ExchangeRateRequest.class)))
+            .thenReturn(Uni.createFrom().failure(new IllegalStateException("Conexión rechazada por 10.0.0.5:8081")));
+
+        BestRateBatchRequest batch = BestRateBatchRequest.newBuilder()
+            .addRequests(request(TestConstants.USD, TestConstants.DOP))
+            .build();
+
+        BestRateBatchReply reply = grpcResource.getBestRates(batch).await().atMost(TIMEOUT);
+
+        assertFalse(reply.getReplies(0).getAvailable());
+        assertEquals("Error procesando la solicitud", reply.getReplies(0).getError());
+    }
+
+    @Test
+    void testWatchBestRate_EmitsOnlyChanges() {
+        when(exchangeRateService.getBestExchangeRate(any(ExchangeRateRequest.class)))
+            .thenReturn(Uni.createFrom().item(response("58.9000", "5890.00", TestConstants.ADVANCED_PROVIDER)))
+            .thenReturn(Uni.createFrom().item(response("58.9000", "5890.00", TestConstants.ADVANCED_PROVIDER)))
+            .thenReturn(Uni.createFrom().item(response("59.1000", "5910.00", TestConstants.XML_PROVIDER)));
+
+        WatchBestRateRequest watch = WatchBestRateRequest.newBuilder()
+            .setRequest(request(TestConstants.USD, TestConstants.DOP))
+            .setIntervalMs(10)
+            .build();
+
+        List<BestRateReply> replies = grpcResource.watchBestRate(watch)
+            .select().first(2)
+            .collect().asList()
+            .await().atMost(TIMEOUT);
+
+        assertEquals(TestConstants.ADVANCED_PROVIDER, replies.get(0).getProvider());
+        assertEquals(TestConstants.XML_PROVIDER, replies.get(1).getProvider());
+        assertEquals(new BigDecimal("59.1000"), toBigDecimal(replies.get(1).getBestRate()));
+    }
+
+    @Test
+    void testWatchBestRate_SubscribersShareOneQuery() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        when(exchangeRateService.getBestExchangeRate(any(ExchangeRateRequest.class)))
+            .thenAnswer(invocation -> {
+                int call = calls.incrementAndGet();
+                return Uni.createFrom().item(response(call + ".0000", (call * 100) + ".00", TestConstants.SIMPLE_PROVIDER));
+            });
+
+        WatchBestRateRequest watch = WatchBestRateRequest.newBuilder()
+            .setRequest(request(TestConstants.EUR, TestConstants.MXN))
+            .setIntervalMs(10)
+            .build();
+
+        CompletableFuture<List<BestRateReply>> first = grpcResource.watchBestRate(watch)
+            .select().first(3).collect().asList().subscribeAsCompletionStage();
+        CompletableFuture<List<BestRateReply>> second = grpcResource.watchBestRate(watch)
+            .select().first(3).collect().asList().subscribeAsCompletionStage();
+
+        List<BigDecimal> firstRates = first.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).stream()
+            .map(reply -> toBigDecimal(reply.getBestRate())).toList();
+        List<BigDecimal> secondRates = second.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).stream()
+            .map(reply -> toBigDecimal(reply.getBestRate())).toList();
+
+        // Con una consulta por suscriptor cada uno vería llamadas distintas del mock
+        assertFalse(Collections.disjoint(firstRates, secondRates));
+    }
+
+    private static BestRateRequest request(String source, String target) {
+        return BestRateRequest.newBuilder()
+            .setSourceCurrency(source)
+            .setTargetCurrency(target)
+            .setAmount(Decimal.newBuilder().setUnscaled(10_000L).setScale(2))
+            .build();
+    }
+
+    private static ExchangeRateResponse response(String rate, String converted, String provider) {
+        return new ExchangeRateResponse(
+            new BigDecimal(rate),
+            new BigDecimal(converted),
+            provider,
+            TestConstants.RESPONSE_TIME,
+            TestConstants.SUCCESSFUL_PROVIDERS_ALL,
+            TestConstants.TOTAL_PROVIDERS
+        );
+    }
+
+    private static BigDecimal toBigDecimal(Decimal decimal) {
+        return BigDecimal.valueOf(decimal.getUnscaled(), decimal.getScale());
+    }
+}
@@ -0,0 +1,102 @@
+package com.exchangerate.resources;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import com.exchangerate.utils.FaultTolerantProfile;
+import com.exchangerate.utils.OpenLoadGenerator;
+import com.exchangerate.utils.ProviderStandIns;
+
+import io.quarkus.test.common.ResourceArg;
+import io.quarkus.test.common.WithTestResource;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+
+/**
+ * Prueba de carga de {@code POST /best-rate} con el servicio completo y los tres proveedores
+ * reemplazados por servidores locales con latencia log-normal y errores. No requiere red.
+ * Corre con {@link FaultTolerantProfile}: circuit breakers activos, como en producción, aunque el
+ * perfil {@code test} los deshabilite; los reintentos y tiempos máximos por intento siempre lo están.
+ *
+ * Solo corre con {@code mvn test -Pload}. Parámetros por propiedad del sistema:
+ * {@code load.rates} (solicitudes por segundo, separadas por coma), {@code load.duration-seconds},
+ * {@code load.warmup-seconds} y {@code load.max-error-rate}. Cada tasa publica sus percentiles con
+ * {@link TestReporter} en el reporte de surefire y deja la distribución corregida en
+ * {@code target/load/best-rate-<tasa>.hgrm}.
+ */
+@Tag("load")
+@QuarkusTest
+@TestProfile(FaultTolerantProfile.class)
+@WithTestResource(value = ProviderStandIns.class, initArgs = {
+    @ResourceArg(name = "simple.median-ms", value = "20"),
+    @ResourceArg(name = "simple.p99-ms", value = "80"),
+    @ResourceArg(name = "simple.error-rate", value = "0.01"),
+    @ResourceArg(name = "xml.median-ms", value = "40"),
+    @ResourceArg(name = "xml.p99-ms", value = "150"),
+    @ResourceArg(name = "xml.error-rate", value = "0.02"),
+    @ResourceArg(name = "advanced.median-ms", value = "30"),
+    @ResourceArg(name = "advanced.p99-ms", value = "120"),
+    @ResourceArg(name = "advanced.error-rate", value = "0.01")
+})
+class BestRateLoadTest {
+
+    private static final String[] PAIRS = {"USD:EUR", "USD:DOP", "EUR:MXN", "MXN:DOP"};
+
+    @TestHTTPResource("/api/v1/exchange/best-rate")
+    URI uri;
+
+    @Test
+    void testBestRateUnderFixedRates(TestReporter reporter) throws InterruptedException, IOException {
+        int[] rates = Arrays.stream(System.getProperty("load.rates", "50,100,200").split(","))
+            .mapToInt(rate -> Integer.parseInt(rate.trim()))
+            .toArray();
+        Duration duration = Duration.ofSeconds(Long.getLong("load.duration-seconds", 10L));
+        Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 3L));
+        double maxErrorRate = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        OpenLoadGenerator generator = new OpenLoadGenerator(client);
+
+        generator.run(rates[0], warmup, sequence -> request(uri, sequence), Duration.ofSeconds(10));
+
+        Path reports = Files.createDirectories(Path.of("target", "load"));
+        for (int rate : rates) {
+            OpenLoadGenerator.Report report =
+                generator.run(rate, duration, sequence -> request(uri, sequence), Duration.ofSeconds(30));
+            report.publish(reporter);
+            try (PrintStream out = new PrintStream(reports.resolve("best-rate-" + rate + ".hgrm").toFile())) {
+                report.printDistribution(out);
+            }
+            assertTrue(report.errorRate() <= maxErrorRate,
+                () -> "Tasa de error " + report.errorRate() + " a " + rate + "/s");
+        }
+    }
+
+    /**
+     * Solicitud número {@code sequence}: rota los pares y varía el monto.
+     */
+    private static HttpRequest request(URI uri, long sequence) {
+        String[] pair = PAIRS[(int) (sequence % PAIRS.length)].split(":");
+        String body = String.format("{\"sourceCurrency\":\"%s\",\"targetCurrency\":\"%s\",\"amount\":%d.%02d}",
+            pair[0], pair[1], 1 + sequence % 10_000, sequence % 100);
+        return HttpRequest.newBuilder(uri)
+            .header("Content-Type", "application/json")
+            .timeout(Duration.ofSeconds(10))
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+}
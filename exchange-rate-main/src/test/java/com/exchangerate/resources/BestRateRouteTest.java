@@ -0,0 +1,177 @@
+package com.exchangerate.resources;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.net.ConnectException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.services.contracts.IExchangeRateService;
+import com.exchangerate.utils.ApiResponseConstants;
+import com.exchangerate.utils.TestConstants;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.mockito.InjectMock;
+import io.restassured.http.ContentType;
+import io.smallrye.mutiny.Uni;
+
+@QuarkusTest
+class BestRateRouteTest {
+
+    private static final String FAST_PATH = "/fast/v1/exchange/best-rate";
+
+    @InjectMock
+    IExchangeRateService exchangeRateService;
+
+    @BeforeEach
+    void setUp() {
+        when(exchangeRateService.getBestExchangeRate(any(ExchangeRateRequest.class)))
+            .thenReturn(Uni.createFrom().item(new ExchangeRateResponse(
+                TestConstants.RATE_USD_EUR,
+                TestConstants.CONVERTED_USD_EUR,
+                TestConstants.SIMPLE_PROVIDER,
+                TestConstants.RESPONSE_TIME,
+                TestConstants.SUCCESSFUL_PROVIDERS_ALL,
+                TestConstants.TOTAL_PROVIDERS
+            )));
+    }
+
+    @Test
+    void testFastRoute_Success() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"sourceCurrency\":\"usd\",\"targetCurrency\":\"EUR\",\"amount\":100.00}")
+        .when()
+            .post(FAST_PATH)
+        .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("code", equalTo(200))
+            .body("message", equalTo(ApiResponseConstants.SUCCESS_MESSAGE))
+            .body("data.provider", equalTo(TestConstants.SIMPLE_PROVIDER))
+            .body("data.totalProviders", equalTo(TestConstants.TOTAL_PROVIDERS));
+
+        verify(exchangeRateService).getBestExchangeRate(argThat(request ->
+            TestConstants.USD.equals(request.sourceCurrency())
+                && TestConstants.EUR.equals(request.targetCurrency())
+                && new BigDecimal("100.00").equals(request.amount())));
+    }
+
+    @Test
+    void testFastRoute_SkipsUnknownFieldsAndReadsRanking() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"meta\":{\"tags\":[\"a\",\"}\"],\"n\":-1.5e3},\"amount\":\"25.5\","
+                + "\"sourceCurrency\":\"EUR\",\"ranking\":\"latency-weighted\",\"targetCurrency\":\"DOP\",\"ok\":true}")
+        .when()
+            .post(FAST_PATH)
+        .then()
+            .statusCode(200);
+
+        verify(exchangeRateService).getBestExchangeRate(argThat(request ->
+            TestConstants.DOP.equals(request.targetCurrency())
+                && new BigDecimal("25.5").equals(request.amount())
+                && "latency-weighted".equals(request.ranking())));
+    }
+
+    @Test
+    void testFastRoute_InvalidCurrencyPair() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"sourceCurrency\":\"USD\",\"targetCurrency\":\"XYZ\",\"amount\":100}")
+        .when()
+            .post(FAST_PATH)
+        .then()
+            .statusCode(400)
+            .body("code", equalTo(400))
+            .body("message", equalTo(ApiResponseConstants.INVALID_CURRENCY_PAIR))
+            .body("data", nullValue());
+
+        verify(exchangeRateService, never()).getBestExchangeRate(any(ExchangeRateRequest.class));
+    }
+
+    @Test
+    void testFastRoute_MissingAmount() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"sourceCurrency\":\"USD\",\"targetCurrency\":\"EUR\"}")
+        .when()
+            .post(FAST_PATH)
+        .then()
+            .statusCode(400)
+            .body("message", equalTo("El monto es requerido"));
+    }
+
+    @Test
+    void testFastRoute_AmountBelowMinimum() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"sourceCurrency\":\"USD\",\"targetCurrency\":\"EUR\",\"amount\":0.001}")
+        .when()
+            .post(FAST_PATH)
+        .then()
+            .statusCode(400)
+            .body("message", equalTo(ApiResponseConstants.INVALID_AMOUNT));
+    }
+
+    @Test
+    void testFastRoute_MalformedJson() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"sourceCurrency\":\"USD\",")
+        .when()
+            .post(FAST_PATH)
+        .then()
+            .statusCode(400)
+            .body("message", containsString("JSON"));
+    }
+
+    @Test
+    void testFastRoute_NoProvidersAvailable() {
+        when(exchangeRateService.getBestExchangeRate(any(ExchangeRateRequest.class)))
+            .thenReturn(Uni.createFrom().item(new ExchangeRateResponse(
+                null,
+                null,
+                TestConstants.NO_PROVIDER,
+                TestConstants.RESPONSE_TIME,
+                TestConstants.SUCCESSFUL_PROVIDERS_NONE,
+                TestConstants.TOTAL_PROVIDERS
+            )));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"sourceCurrency\":\"USD\",\"targetCurrency\":\"EUR\",\"amount\":100}")
+        .when()
+            .post(FAST_PATH)
+        .then()
+            .statusCode(503)
+            .body("message", equalTo(ApiResponseConstants.PROVIDER_NOT_AVAILABLE))
+            .body("data.provider", equalTo(TestConstants.NO_PROVIDER))
+            .body("data.bestRate", nullValue());
+    }
+
+    @Test
+    void testFastRoute_ServiceFailure() {
+        when(exchangeRateService.getBestExchangeRate(any(ExchangeRateRequest.class)))
+            .thenReturn(Uni.createFrom().failure(new ConnectException("Connection refused")));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"sourceCurrency\":\"USD\",\"targetCurrency\":\"EUR\",\"amount\":100}")
+        .when()
+            .post(FAST_PATH)
+        .then()
+            .statusCode(400)
+            .body("message", containsString("temporalmente no disponible"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.exchangerate.resources;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.net.ConnectException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.services.implementations.AdvancedExchangeProvider;
+import com.exchangerate.services.implementations.SimpleExchangeProvider;
+import com.exchangerate.services.implementations.XmlExchangeProvider;
+import com.exchangerate.utils.RequestTimer;
+import com.exchangerate.utils.TestConstants;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.mockito.InjectMock;
+import io.restassured.http.ContentType;
+import io.smallrye.mutiny.Uni;
+
+@QuarkusTest
+class DebugTimingTest {
+
+    @InjectMock
+    SimpleExchangeProvider simpleProvider;
+
+    @InjectMock
+    XmlExchangeProvider xmlProvider;
+
+    @InjectMock
+    AdvancedExchangeProvider advancedProvider;
+
+    @BeforeEach
+    void setUp() {
+        when(simpleProvider.getProviderName()).thenReturn(TestConstants.SIMPLE_PROVIDER);
+        when(xmlProvider.getProviderName()).thenReturn(TestConstants.XML_PROVIDER);
+        when(advancedProvider.getProviderName()).thenReturn(TestConstants.ADVANCED_PROVIDER);
+
+        when(simpleProvider.getExchangeRate(any(ExchangeRateRequest.class))).thenReturn(Uni.createFrom().item(
+            ApiResponse.success(TestConstants.SIMPLE_PROVIDER, TestConstants.RATE_USD_EUR, TestConstants.CONVERTED_USD_EUR, 100L)));
+        when(xmlProvider.getExchangeRate(any(ExchangeRateRequest.class)))
+            .thenReturn(Uni.createFrom().failure(new ConnectException("Connection refused")));
+        when(advancedProvider.getExchangeRate(any(ExchangeRateRequest.class))).thenReturn(Uni.createFrom().item(
+            ApiResponse.success(TestConstants.ADVANCED_PROVIDER, new BigDecimal("0.84"), new BigDecimal("84.00"), 120L)));
+    }
+
+    @Test
+    void testDebugHeaderAddsTimingBreakdown() {
+        given()
+            .contentType(ContentType.JSON)
+            .header(RequestTimer.DEBUG_HEADER, "1")
+            .body(new ExchangeRateRequest(TestConstants.USD, TestConstants.EUR, TestConstants.AMOUNT_100))
+        .when()
+            .post("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200)
+            .body("data.provider", equalTo(TestConstants.SIMPLE_PROVIDER))
+            .body("data.timings.dispatchMs", notNullValue())
+            .body("data.timings.comparatorMs", notNullValue())
+            .body("data.timings.serviceMs", notNullValue())
+            .body("data.timings.serializationMs", notNullValue())
+            .body("data.timings.totalMs", notNullValue())
+            .body("data.timings.providers", hasSize(3))
+            .body("data.timings.providers.provider", containsInAnyOrder(
+                TestConstants.SIMPLE_PROVIDER, TestConstants.XML_PROVIDER, TestConstants.ADVANCED_PROVIDER))
+            .body("data.timings.providers.find { it.provider == '" + TestConstants.XML_PROVIDER + "' }.outcome",
+                equalTo("error"))
+            .body("data.timings.providers.find { it.provider == '" + TestConstants.SIMPLE_PROVIDER + "' }.outcome",
+                equalTo("success"));
+    }
+
+    @Test
+    void testWithoutDebugHeaderResponseHasNoTimings() {
+        given()
+            .contentType(ContentType.JSON)
+            .body(new ExchangeRateRequest(TestConstants.USD, TestConstants.EUR, TestConstants.AMOUNT_100))
+        .when()
+            .post("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200)
+            .body("data.provider", equalTo(TestConstants.SIMPLE_PROVIDER))
+            .body("data", not(hasKey("timings")));
+    }
+}
@@ -0,0 +1,120 @@
+package com.exchangerate.resources;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.models.logging.EventLoopStall;
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.services.contracts.IEventLoopMonitor;
+import com.exchangerate.utils.ProviderStandIns;
+import com.exchangerate.utils.TestConstants;
+
+import io.quarkus.test.common.ResourceArg;
+import io.quarkus.test.common.WithTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import io.vertx.core.Vertx;
+import jakarta.inject.Inject;
+
+/**
+ * Con proveedores reales (servidores de prueba que tardan más que el umbral de bloqueo),
+ * ningún camino de la solicitud debe bloquear un hilo de eventos.
+ */
+@QuarkusTest
+@WithTestResource(value = ProviderStandIns.class, initArgs = @ResourceArg(name = "delay-ms", value = "400"))
+class EventLoopBlockingTest {
+
+    @Inject
+    IEventLoopMonitor monitor;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    void testRequestPathDoesNotBlockEventLoops() throws Exception {
+        // Calentamiento: la carga de clases de la primera solicitud no cuenta
+        postBestRate("/api/v1/exchange/best-rate", new BigDecimal("1.00"));
+        postBestRate("/fast/v1/exchange/best-rate", new BigDecimal("1.00"));
+        getBestRate(new BigDecimal("1.00"));
+
+        long since = System.currentTimeMillis();
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            BigDecimal amount = new BigDecimal(100 + i);
+            requests.add(CompletableFuture.runAsync(() -> postBestRate("/api/v1/exchange/best-rate", amount)));
+            requests.add(CompletableFuture.runAsync(() -> postBestRate("/fast/v1/exchange/best-rate", amount)));
+            requests.add(CompletableFuture.runAsync(() -> getBestRate(amount)));
+        }
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        List<EventLoopStall> stalls = monitor.recentStalls().stream()
+            .filter(stall -> stall.detectedAtMillis() >= since)
+            .toList();
+        assertTrue(stalls.isEmpty(), () -> "Un hilo de eventos se bloqueó en la solicitud: " + stalls);
+    }
+
+    @Test
+    void testMonitorReportsTheBlockingFrame() throws InterruptedException {
+        long since = System.currentTimeMillis();
+        vertx.runOnContext(ignored -> blockEventLoop());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        List<EventLoopStall> stalls = List.of();
+        while (stalls.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            stalls = monitor.recentStalls().stream()
+                .filter(stall -> stall.detectedAtMillis() >= since)
+                .filter(stall -> stall.frame().endsWith("EventLoopBlockingTest.blockEventLoop"))
+                .toList();
+        }
+        assertFalse(stalls.isEmpty(), "No se detectó el bloqueo del hilo de eventos");
+        assertTrue(stalls.get(0).stack().stream().anyMatch(frame -> frame.contains("Thread.sleep")));
+
+        given()
+        .when()
+            .get("/api/v1/admin/event-loop-stalls")
+        .then()
+            .statusCode(200)
+            .body("data.frame", hasItem(endsWith("EventLoopBlockingTest.blockEventLoop")));
+    }
+
+    private static void blockEventLoop() {
+        try {
+            Thread.sleep(600);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void postBestRate(String path, BigDecimal amount) {
+        given()
+            .contentType(ContentType.JSON)
+            .body(new ExchangeRateRequest(TestConstants.USD, TestConstants.EUR, amount))
+        .when()
+            .post(path)
+        .then()
+            .statusCode(200)
+            .body("data.successfulProviders", equalTo(3));
+    }
+
+    private static void getBestRate(BigDecimal amount) {
+        given()
+            .queryParam("from", TestConstants.USD)
+            .queryParam("to", TestConstants.EUR)
+            .queryParam("amount", amount.toPlainString())
+        .when()
+            .get("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200)
+            .body("data.successfulProviders", equalTo(3));
+    }
+}
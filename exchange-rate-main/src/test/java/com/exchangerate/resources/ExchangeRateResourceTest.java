@@ -3,18 +3,33 @@ package com.exchangerate.resources;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import java.math.BigDecimal;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.models.response.ApiResponseWrapper;
 import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.serialization.BinaryMediaType;
+import com.exchangerate.serialization.ExchangeRateProtobufCodec;
 import com.exchangerate.services.contracts.IExchangeRateService;
+import com.exchangerate.utils.ApiResponseConstants;
 import com.exchangerate.utils.TestConstants;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectMock;
 import io.restassured.http.ContentType;
@@ -214,6 +229,39 @@ class ExchangeRateResourceTest {
             .body("code", equalTo(400));
     }
 
+    @Test
+    void testGetBestExchangeRate_AmountAboveMaximum() {
+        ExchangeRateRequest request = new ExchangeRateRequest(
+            TestConstants.USD, 
+            TestConstants.EUR, 
+            new BigDecimal("1000000000000.01")
+        );
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(request)
+        .when()
+            .post("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(400)
+            .body("code", equalTo(400))
+            .body("message", containsString("El monto no puede ser mayor a 1000000000000"));
+    }
+
+    @Test
+    void testGetBestExchangeRateCacheable_AmountAboveMaximum() {
+        given()
+            .queryParam("from", TestConstants.USD)
+            .queryParam("to", TestConstants.EUR)
+            .queryParam("amount", "5e15")
+        .when()
+            .get("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(400)
+            .body("message", equalTo(ApiResponseConstants.AMOUNT_TOO_LARGE));
+        verify(exchangeRateService, never()).getBestExchangeRate(any(ExchangeRateRequest.class));
+    }
+
     @Test
     void testGetBestExchangeRate_AllSupportedPairs() {
         String[] currencies = {TestConstants.USD, TestConstants.EUR, TestConstants.MXN, TestConstants.DOP};
@@ -432,4 +480,208 @@ class ExchangeRateResourceTest {
             .body("code", equalTo(400))
             .body("message", notNullValue());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetBestExchangeRate_DefaultsToJson() {
+        given()
+            .contentType(ContentType.JSON)
+            .accept("*/*")
+            .body(validRequest())
+        .when()
+            .post("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("data.provider", equalTo(TestConstants.ADVANCED_PROVIDER));
+    }
+
+    @Test
+    void testGetBestExchangeRate_Cbor() throws Exception {
+        assertBinaryJacksonResponse(BinaryMediaType.APPLICATION_CBOR, new CBORMapper());
+    }
+
+    @Test
+    void testGetBestExchangeRate_Smile() throws Exception {
+        assertBinaryJacksonResponse(BinaryMediaType.APPLICATION_SMILE, new SmileMapper());
+    }
+
+    @Test
+    void testGetBestExchangeRate_Protobuf() throws Exception {
+        byte[] body = given()
+            .contentType(ContentType.JSON)
+            .accept(BinaryMediaType.APPLICATION_PROTOBUF)
+            .body(validRequest())
+        .when()
+            .post("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200)
+            .contentType(BinaryMediaType.APPLICATION_PROTOBUF)
+            .extract().asByteArray();
+
+        ApiResponseWrapper<ExchangeRateResponse> wrapper = ExchangeRateProtobufCodec.decode(body);
+        assertEquals(200, wrapper.code());
+        assertEquals(new BigDecimal("0.87"), wrapper.data().bestRate());
+        assertEquals(new BigDecimal("87.00"), wrapper.data().convertedAmount());
+        assertEquals(TestConstants.ADVANCED_PROVIDER, wrapper.data().provider());
+        assertEquals(TestConstants.TOTAL_PROVIDERS, wrapper.data().totalProviders());
+    }
+
+    @Test
+    void testGetBestExchangeRateCacheable_ReturnsEtagAndMaxAge() {
+        given()
+            .queryParam("from", TestConstants.USD)
+            .queryParam("to", TestConstants.EUR)
+            .queryParam("amount", "101")
+        .when()
+            .get("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200)
+            .header("ETag", startsWith("\"USDEUR-"))
+            .header("Cache-Control", matchesPattern("public, max-age=\\d+"))
+            .body("data.provider", equalTo(TestConstants.ADVANCED_PROVIDER));
+    }
+
+    @Test
+    void testGetBestExchangeRateCacheable_ConditionalRequestSkipsProviders() {
+        String etag = given()
+            .queryParam("from", TestConstants.USD)
+            .queryParam("to", TestConstants.DOP)
+            .queryParam("amount", "102.00")
+        .when()
+            .get("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200)
+            .extract().header("ETag");
+
+        given()
+            .queryParam("from", TestConstants.USD)
+            .queryParam("to", TestConstants.DOP)
+            .queryParam("amount", "102")
+            .header("If-None-Match", etag)
+        .when()
+            .get("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(304)
+            .header("ETag", equalTo(etag));
+
+        given()
+            .queryParam("from", TestConstants.USD)
+            .queryParam("to", TestConstants.DOP)
+            .queryParam("amount", "102")
+        .when()
+            .get("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200)
+            .header("ETag", equalTo(etag));
+
+        verify(exchangeRateService, times(1)).getBestExchangeRate(any(ExchangeRateRequest.class));
+    }
+
+    @Test
+    void testGetBestExchangeRateCacheable_ServesPreSerializedBytesPerFormat() throws Exception {
+        byte[] json = given()
+            .queryParam("from", TestConstants.EUR)
+            .queryParam("to", TestConstants.DOP)
+            .queryParam("amount", "104")
+        .when()
+            .get("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .header("Vary", equalTo("Accept"))
+            .extract().asByteArray();
+
+        byte[] jsonAgain = given()
+            .queryParam("from", TestConstants.EUR)
+            .queryParam("to", TestConstants.DOP)
+            .queryParam("amount", "104")
+        .when()
+            .get("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200)
+            .extract().asByteArray();
+
+        assertArrayEquals(json, jsonAgain);
+        JsonNode root = new ObjectMapper().readTree(json);
+        assertEquals(200, root.get("code").asInt());
+        assertEquals(TestConstants.ADVANCED_PROVIDER, root.get("data").get("provider").asText());
+
+        byte[] cbor = given()
+            .queryParam("from", TestConstants.EUR)
+            .queryParam("to", TestConstants.DOP)
+            .queryParam("amount", "104")
+            .accept(BinaryMediaType.APPLICATION_CBOR)
+        .when()
+            .get("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200)
+            .contentType(BinaryMediaType.APPLICATION_CBOR)
+            .header("ETag", endsWith("-cbor\""))
+            .extract().asByteArray();
+
+        assertEquals(TestConstants.ADVANCED_PROVIDER, new CBORMapper().readTree(cbor).get("data").get("provider").asText());
+        verify(exchangeRateService, times(1)).getBestExchangeRate(any(ExchangeRateRequest.class));
+    }
+
+    @Test
+    void testGetBestExchangeRateCacheable_InvalidCurrency() {
+        given()
+            .queryParam("from", TestConstants.USD)
+            .queryParam("to", "XYZ")
+            .queryParam("amount", "100")
+        .when()
+            .get("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(400)
+            .header("Cache-Control", equalTo("no-store"))
+            .body("message", containsString("no son válidas"));
+
+        verify(exchangeRateService, never()).getBestExchangeRate(any(ExchangeRateRequest.class));
+    }
+
+    @Test
+    void testGetBestExchangeRateCacheable_NoProvidersIsNotCached() {
+        ExchangeRateResponse unavailable = new ExchangeRateResponse(
+            null, null, TestConstants.NO_PROVIDER, TestConstants.RESPONSE_TIME,
+            TestConstants.SUCCESSFUL_PROVIDERS_NONE, TestConstants.TOTAL_PROVIDERS
+        );
+        when(exchangeRateService.getBestExchangeRate(any(ExchangeRateRequest.class)))
+            .thenReturn(Uni.createFrom().item(unavailable));
+
+        for (int i = 0; i < 2; i++) {
+            given()
+                .queryParam("from", TestConstants.EUR)
+                .queryParam("to", TestConstants.MXN)
+                .queryParam("amount", "103")
+            .when()
+                .get("/api/v1/exchange/best-rate")
+            .then()
+                .statusCode(503)
+                .header("Cache-Control", equalTo("no-store"));
+        }
+
+        verify(exchangeRateService, times(2)).getBestExchangeRate(any(ExchangeRateRequest.class));
+    }
+
+    private void assertBinaryJacksonResponse(String mediaType, ObjectMapper mapper) throws Exception {
+        byte[] body = given()
+            .contentType(ContentType.JSON)
+            .accept(mediaType)
+            .body(validRequest())
+        .when()
+            .post("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200)
+            .contentType(mediaType)
+            .extract().asByteArray();
+
+        JsonNode root = mapper.readTree(body);
+        assertEquals(200, root.get("code").asInt());
+        assertEquals(0, new BigDecimal("0.87").compareTo(root.get("data").get("bestRate").decimalValue()));
+        assertEquals(TestConstants.ADVANCED_PROVIDER, root.get("data").get("provider").asText());
+    }
+
+    private static ExchangeRateRequest validRequest() {
+        return new ExchangeRateRequest(TestConstants.USD, TestConstants.DOP, TestConstants.AMOUNT_100);
+    }
+}
@@ -0,0 +1,142 @@
+package com.exchangerate.resources;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.net.ConnectException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.jfr.ComparatorEvent;
+import com.exchangerate.jfr.FanOutEvent;
+import com.exchangerate.jfr.ProviderCallEvent;
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.services.implementations.AdvancedExchangeProvider;
+import com.exchangerate.services.implementations.SimpleExchangeProvider;
+import com.exchangerate.services.implementations.XmlExchangeProvider;
+import com.exchangerate.utils.TestConstants;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.mockito.InjectMock;
+import io.restassured.http.ContentType;
+import io.smallrye.mutiny.Uni;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@QuarkusTest
+class FlightRecorderTest {
+
+    @InjectMock
+    SimpleExchangeProvider simpleProvider;
+
+    @InjectMock
+    XmlExchangeProvider xmlProvider;
+
+    @InjectMock
+    AdvancedExchangeProvider advancedProvider;
+
+    @BeforeEach
+    void setUp() {
+        when(simpleProvider.getProviderName()).thenReturn(TestConstants.SIMPLE_PROVIDER);
+        when(xmlProvider.getProviderName()).thenReturn(TestConstants.XML_PROVIDER);
+        when(advancedProvider.getProviderName()).thenReturn(TestConstants.ADVANCED_PROVIDER);
+
+        when(simpleProvider.getExchangeRate(any(ExchangeRateRequest.class))).thenReturn(Uni.createFrom().item(
+            ApiResponse.success(TestConstants.SIMPLE_PROVIDER, TestConstants.RATE_USD_EUR, TestConstants.CONVERTED_USD_EUR, 100L)));
+        when(xmlProvider.getExchangeRate(any(ExchangeRateRequest.class)))
+            .thenReturn(Uni.createFrom().failure(new ConnectException("Connection refused")));
+        when(advancedProvider.getExchangeRate(any(ExchangeRateRequest.class))).thenReturn(Uni.createFrom().item(
+            ApiResponse.success(TestConstants.ADVANCED_PROVIDER, new BigDecimal("0.84"), new BigDecimal("84.00"), 120L)));
+    }
+
+    @Test
+    void testRecordingContainsServiceEvents() throws Exception {
+        CompletableFuture<byte[]> recording = CompletableFuture.supplyAsync(() -> given()
+            .when()
+                .post("/api/v1/admin/jfr?seconds=2")
+            .then()
+                .statusCode(200)
+                .contentType("application/octet-stream")
+                .header("Content-Disposition", containsString(".jfr"))
+                .extract().asByteArray());
+
+        // Esperar a que la grabación esté activa antes de generar tráfico
+        Thread.sleep(500);
+        given()
+            .contentType(ContentType.JSON)
+            .body(new ExchangeRateRequest(TestConstants.USD, TestConstants.EUR, TestConstants.AMOUNT_100))
+        .when()
+            .post("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200);
+
+        Path file = Files.createTempFile("exchange-rate-test-", ".jfr");
+        try {
+            Files.write(file, recording.get());
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            List<RecordedEvent> providerCalls = ofType(events, ProviderCallEvent.NAME);
+            assertEquals(3, providerCalls.size());
+            assertTrue(providerCalls.stream().allMatch(event -> "USD/EUR".equals(event.getString("pair"))));
+            RecordedEvent xml = providerCalls.stream()
+                .filter(event -> TestConstants.XML_PROVIDER.equals(event.getString("provider")))
+                .findFirst().orElseThrow();
+            assertEquals("error", xml.getString("outcome"));
+            assertEquals("CONNECT", xml.getString("failureType"));
+
+            RecordedEvent fanOut = ofType(events, FanOutEvent.NAME).get(0);
+            assertEquals(TestConstants.SIMPLE_PROVIDER, fanOut.getString("provider"));
+            assertEquals(2, fanOut.getInt("successfulProviders"));
+            assertEquals(1, ofType(events, ComparatorEvent.NAME).size());
+
+            // El entorno y las propiedades del sistema pueden contener secretos
+            assertTrue(ofType(events, "jdk.InitialEnvironmentVariable").isEmpty());
+            assertTrue(ofType(events, "jdk.InitialSystemProperty").isEmpty());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testRejectsInvalidDuration() {
+        given()
+        .when()
+            .post("/api/v1/admin/jfr?seconds=0")
+        .then()
+            .statusCode(400)
+            .body("code", equalTo(400));
+    }
+
+    @Test
+    void testRejectsConcurrentRecording() throws Exception {
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> given()
+            .when()
+                .post("/api/v1/admin/jfr?seconds=1")
+            .then()
+                .extract().statusCode());
+        Thread.sleep(300);
+
+        given()
+        .when()
+            .post("/api/v1/admin/jfr?seconds=1")
+        .then()
+            .statusCode(409)
+            .body("code", equalTo(409));
+
+        assertEquals(200, first.get());
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+}
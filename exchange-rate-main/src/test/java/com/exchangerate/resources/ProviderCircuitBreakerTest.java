@@ -0,0 +1,65 @@
+package com.exchangerate.resources;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.exceptions.ProviderFailureException;
+import com.exchangerate.exceptions.ProviderRejectedRequestException;
+import com.exchangerate.models.enums.ProviderFailureType;
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.utils.FaultTolerantProfile;
+import com.exchangerate.utils.ProviderStandIns;
+import com.exchangerate.utils.TestConstants;
+
+import io.quarkus.test.common.ResourceArg;
+import io.quarkus.test.common.WithTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.http.ContentType;
+
+/**
+ * Los circuit breakers de los proveedores con fault tolerance activo: un par que los
+ * proveedores rechazan (400) no debe abrirlos para el resto del tráfico.
+ */
+@QuarkusTest
+@TestProfile(FaultTolerantProfile.class)
+@WithTestResource(value = ProviderStandIns.class, initArgs = @ResourceArg(name = "unsupported-currency", value = "JPY"))
+class ProviderCircuitBreakerTest {
+
+    @Test
+    void testRejectedPairDoesNotOpenBreakers() {
+        // Más que requestVolumeThreshold: con los 400 contados, los tres circuitos quedarían abiertos
+        for (int i = 0; i < 4; i++) {
+            given()
+                .contentType(ContentType.JSON)
+                .body(new ExchangeRateRequest(TestConstants.USD, "JPY", TestConstants.AMOUNT_100))
+            .when()
+                .post("/api/v1/exchange/best-rate")
+            .then()
+                .statusCode(not(200));
+        }
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(new ExchangeRateRequest(TestConstants.USD, TestConstants.EUR, TestConstants.AMOUNT_100))
+        .when()
+            .post("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200)
+            .body("data.successfulProviders", equalTo(TestConstants.SUCCESSFUL_PROVIDERS_ALL));
+    }
+
+    @Test
+    void testOnlyClientErrorsAreRejections() {
+        assertInstanceOf(ProviderRejectedRequestException.class, ProviderFailureException.httpStatus("p", 400));
+        assertInstanceOf(ProviderRejectedRequestException.class, ProviderFailureException.httpStatus("p", 404));
+        assertFalse(ProviderFailureException.httpStatus("p", 429) instanceof ProviderRejectedRequestException);
+        assertFalse(ProviderFailureException.httpStatus("p", 408) instanceof ProviderRejectedRequestException);
+        assertFalse(ProviderFailureException.httpStatus("p", 503) instanceof ProviderRejectedRequestException);
+        assertEquals(ProviderFailureType.HTTP_STATUS,
+            ProviderFailureException.classify(ProviderFailureException.httpStatus("p", 400)));
+    }
+}
@@ -0,0 +1,178 @@
+package com.exchangerate.resources;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.models.logging.SlowRequestExemplar;
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.services.contracts.IExchangeRateProvider;
+import com.exchangerate.services.contracts.IExchangeRateService;
+import com.exchangerate.services.contracts.ISlowRequestRecorder;
+import com.exchangerate.services.implementations.AdvancedExchangeProvider;
+import com.exchangerate.services.implementations.SimpleExchangeProvider;
+import com.exchangerate.services.implementations.XmlExchangeProvider;
+import com.exchangerate.utils.TestConstants;
+import com.exchangerate.utils.VirtualClock;
+import com.exchangerate.utils.VirtualTimeProfile;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit.mockito.InjectMock;
+import io.restassured.response.ValidatableResponse;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+
+/**
+ * Pruebas de comportamiento temporal con {@link VirtualClock}: las latencias, la vigencia
+ * de la caché de cotizaciones y las ventanas de solicitudes lentas dependen solo de cuánto
+ * se avanza el reloj, no de la velocidad de la máquina.
+ *
+ * El reloj es compartido por todas las pruebas de la clase, por eso cada una avanza en
+ * forma relativa y usa su propio par o monto.
+ */
+@QuarkusTest
+@TestProfile(VirtualTimeProfile.class)
+class VirtualTimeTest {
+
+    private static final Duration SLOW_REQUEST_WINDOW = Duration.ofMinutes(1);
+    private static final int SLOW_REQUEST_CAPACITY = 10;
+
+    @Inject
+    VirtualClock clock;
+
+    @Inject
+    IExchangeRateService exchangeRateService;
+
+    @Inject
+    ISlowRequestRecorder slowRequests;
+
+    @InjectMock
+    SimpleExchangeProvider simpleProvider;
+
+    @InjectMock
+    XmlExchangeProvider xmlProvider;
+
+    @InjectMock
+    AdvancedExchangeProvider advancedProvider;
+
+    @BeforeEach
+    void setUp() {
+        when(simpleProvider.getProviderName()).thenReturn(TestConstants.SIMPLE_PROVIDER);
+        when(simpleProvider.getCircuitBreakerName()).thenReturn("simple-exchange-provider");
+        when(xmlProvider.getProviderName()).thenReturn(TestConstants.XML_PROVIDER);
+        when(xmlProvider.getCircuitBreakerName()).thenReturn("xml-exchange-provider");
+        when(advancedProvider.getProviderName()).thenReturn(TestConstants.ADVANCED_PROVIDER);
+        when(advancedProvider.getCircuitBreakerName()).thenReturn("advanced-exchange-provider");
+
+        respondAfter(simpleProvider, "0.85", Duration.ZERO);
+        respondAfter(xmlProvider, "0.84", Duration.ZERO);
+        respondAfter(advancedProvider, "0.86", Duration.ZERO);
+    }
+
+    @Test
+    void testResponseTimeIsTheSlowestProviderInVirtualTime() {
+        respondAfter(simpleProvider, "0.85", Duration.ofMillis(200));
+        respondAfter(xmlProvider, "0.84", Duration.ofMillis(800));
+        respondAfter(advancedProvider, "0.86", Duration.ofMillis(1500));
+
+        CompletableFuture<ExchangeRateResponse> result = exchangeRateService
+            .getBestExchangeRate(new ExchangeRateRequest(TestConstants.USD, TestConstants.EUR, TestConstants.AMOUNT_100))
+            .subscribeAsCompletionStage();
+
+        clock.advance(Duration.ofMillis(1499));
+        assertFalse(result.isDone());
+        assertEquals(1, clock.pendingTasks());
+
+        clock.advance(Duration.ofMillis(1));
+        ExchangeRateResponse response = result.join();
+        assertEquals(1500L, response.responseTimeMs());
+        assertEquals(TestConstants.ADVANCED_PROVIDER, response.provider());
+        assertEquals(3, response.successfulProviders());
+    }
+
+    @Test
+    void testQuoteCacheExpiresAfterTtlInVirtualTime() {
+        getBestRate("250.00")
+            .header("Cache-Control", equalTo("public, max-age=5"));
+        verify(advancedProvider, times(1)).getExchangeRate(any());
+
+        clock.advance(Duration.ofMillis(4000));
+        getBestRate("250.00")
+            .header("Cache-Control", equalTo("public, max-age=1"));
+        verify(advancedProvider, times(1)).getExchangeRate(any());
+
+        clock.advance(Duration.ofMillis(1000));
+        getBestRate("250.00")
+            .header("Cache-Control", equalTo("public, max-age=5"));
+        verify(advancedProvider, times(2)).getExchangeRate(any());
+    }
+
+    @Test
+    void testSlowRequestWindowsRotateOverSimulatedMinutes() {
+        ExchangeRateRequest request = new ExchangeRateRequest(TestConstants.USD, TestConstants.DOP, TestConstants.AMOUNT_50);
+        ExchangeRateResponse result = new ExchangeRateResponse(
+            new BigDecimal("58.9"), new BigDecimal("2945.00"), TestConstants.ADVANCED_PROVIDER, 100L, 3, 3);
+
+        // Vence la ventana actual para que la siguiente empiece con esta solicitud
+        clock.advance(SLOW_REQUEST_WINDOW.multipliedBy(2));
+        recordRequest(request, result, Duration.ofSeconds(45));
+        assertEquals(45_000.0, slowRequests.slowest().get(0).totalMs());
+
+        // Diez minutos de tráfico a una solicitud por segundo, cada una de 100 ms
+        for (int second = 0; second < 600; second++) {
+            recordRequest(request, result, Duration.ofMillis(100));
+            clock.advance(Duration.ofMillis(900));
+        }
+
+        // Solo quedan la ventana actual y la anterior, ambas llenas de solicitudes de 100 ms
+        List<SlowRequestExemplar> slowest = slowRequests.slowest();
+        assertEquals(2 * SLOW_REQUEST_CAPACITY, slowest.size());
+        assertTrue(slowest.stream().allMatch(exemplar -> exemplar.totalMs() == 100.0));
+    }
+
+    private void recordRequest(ExchangeRateRequest request, ExchangeRateResponse result, Duration elapsed) {
+        long startNanos = clock.nanoTime();
+        clock.advance(elapsed);
+        slowRequests.record(request, List.of(), result, startNanos);
+    }
+
+    private ValidatableResponse getBestRate(String amount) {
+        return given()
+            .queryParam("from", TestConstants.EUR)
+            .queryParam("to", TestConstants.MXN)
+            .queryParam("amount", amount)
+        .when()
+            .get("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200)
+            .body("data.provider", equalTo(TestConstants.ADVANCED_PROVIDER));
+    }
+
+    /**
+     * Responde con la tasa indicada tras la demora, programada en el reloj virtual.
+     */
+    private void respondAfter(IExchangeRateProvider provider, String rate, Duration delay) {
+        String providerName = provider.getProviderName();
+        when(provider.getExchangeRate(any(ExchangeRateRequest.class))).thenAnswer(invocation -> {
+            ExchangeRateRequest request = invocation.getArgument(0);
+            BigDecimal parsedRate = new BigDecimal(rate);
+            ApiResponse response = ApiResponse.success(providerName, parsedRate,
+                request.amount().multiply(parsedRate), delay.toMillis());
+            Uni<ApiResponse> item = Uni.createFrom().item(response);
+            return delay.isZero() ? item : item.onItem().delayIt().onExecutor(clock.scheduler()).by(delay);
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package com.exchangerate.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.models.enums.ProviderFailureType;
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.services.contracts.IExchangeMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+@QuarkusTest
+class ExchangeMetricsTest {
+
+    private static final String PROVIDER = "METRICS_TEST_PROVIDER";
+
+    @Inject
+    IExchangeMetrics metrics;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Test
+    void testRecordsProviderLatencyByPairAndOutcome() {
+        CurrencyPair pair = CurrencyPair.lookup("GBP", "JPY");
+
+        long start = metrics.providerCallStarted(PROVIDER);
+        assertEquals(1.0, registry.get("exchange.provider.in.flight").tag("provider", PROVIDER).gauge().value());
+        metrics.providerCallCompleted(PROVIDER, pair,
+            ApiResponse.success(PROVIDER, new BigDecimal("150.25"), new BigDecimal("15025.00"), 10L), start);
+
+        start = metrics.providerCallStarted(PROVIDER);
+        metrics.providerCallCompleted(PROVIDER, pair,
+            ApiResponse.failure(PROVIDER, ProviderFailureType.TIMEOUT, 1000L), start);
+
+        start = metrics.providerCallStarted(PROVIDER);
+        metrics.providerCallCompleted(PROVIDER, pair,
+            ApiResponse.failure(PROVIDER, ProviderFailureType.HTTP_STATUS, 5L), start);
+
+        assertEquals(1, providerTimer(pair, "success").count());
+        assertEquals(1, providerTimer(pair, "timeout").count());
+        assertEquals(1, providerTimer(pair, "error").count());
+        assertTrue(providerTimer(pair, "success").totalTime(TimeUnit.NANOSECONDS) > 0);
+        assertEquals(0.0, registry.get("exchange.provider.in.flight").tag("provider", PROVIDER).gauge().value());
+    }
+
+    @Test
+    void testCountsWinningProviderPerPair() {
+        CurrencyPair pair = CurrencyPair.lookup("CHF", "CAD");
+        ExchangeRateResponse won = new ExchangeRateResponse(
+            new BigDecimal("1.55"), new BigDecimal("155.00"), PROVIDER, 12L, 3, 3);
+        ExchangeRateResponse none = new ExchangeRateResponse(null, null, "NINGUNO", 12L, 0, 3);
+
+        metrics.requestCompleted(pair, won, metrics.requestStarted());
+        metrics.requestCompleted(pair, won, metrics.requestStarted());
+        metrics.requestCompleted(pair, none, metrics.requestStarted());
+
+        assertEquals(2.0, registry.get("exchange.best.rate.wins")
+            .tags("provider", PROVIDER, "pair", pair.toString()).functionCounter().count());
+        assertEquals(2, registry.get("exchange.best.rate.latency")
+            .tags("pair", pair.toString(), "outcome", "success").timer().count());
+        assertEquals(1, registry.get("exchange.best.rate.latency")
+            .tags("pair", pair.toString(), "outcome", "no-provider").timer().count());
+    }
+
+    private Timer providerTimer(CurrencyPair pair, String outcome) {
+        return registry.get("exchange.provider.latency")
+            .tags("provider", PROVIDER, "pair", pair.toString(), "outcome", outcome)
+            .timer();
+    }
+}
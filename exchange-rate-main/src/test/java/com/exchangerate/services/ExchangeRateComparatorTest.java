@@ -9,6 +9,8 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.exchangerate.exceptions.InvalidRankingException;
+import com.exchangerate.models.money.FixedDecimal;
 import com.exchangerate.models.request.ExchangeRateRequest;
 import com.exchangerate.models.response.ApiResponse;
 import com.exchangerate.models.response.ExchangeRateResponse;
@@ -16,10 +18,14 @@ import com.exchangerate.services.implementations.ExchangeRateComparator;
 import com.exchangerate.utils.TestConstants;
 
 import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
 
 @QuarkusTest
 class ExchangeRateComparatorTest {
 
+    @Inject
+    ExchangeRateComparator injectedComparator;
+
     private ExchangeRateComparator comparator;
     private ExchangeRateRequest request;
 
@@ -152,4 +158,99 @@ class ExchangeRateComparatorTest {
         assertEquals(2, result.successfulProviders());
         assertEquals(2, result.totalProviders());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testSelectBestRate_LatencyWeightedPrefersFastProviderOnCloseOffers() {
+        // Arrange - API2 offers slightly more but takes 3 seconds
+        List<ApiResponse> responses = List.of(
+            ApiResponse.success("API1", new BigDecimal("0.85"), new BigDecimal("85.00"), 100L),
+            ApiResponse.success("API2", new BigDecimal("0.86"), new BigDecimal("86.00"), 3000L)
+        );
+        ExchangeRateRequest latencyRequest = rankingRequest("latency-weighted");
+
+        // Act
+        ExchangeRateResponse result = injectedComparator.selectBestRate(latencyRequest, responses, 3000L);
+
+        // Assert
+        assertEquals("API1", result.provider());
+        assertEquals(2, result.successfulProviders());
+    }
+    
+    @Test
+    void testSelectBestRate_FreshnessWeightedPrefersRecentQuote() {
+        // Arrange - API2 offers more but its quote is five minutes old
+        long now = System.currentTimeMillis();
+        List<ApiResponse> responses = List.of(
+            ApiResponse.success("API1", FixedDecimal.parse("0.85"), FixedDecimal.parse("85.00"), 100L, now),
+            ApiResponse.success("API2", FixedDecimal.parse("0.86"), FixedDecimal.parse("86.00"), 100L, now - 300_000L)
+        );
+
+        // Act
+        ExchangeRateResponse fresh = injectedComparator.selectBestRate(rankingRequest("freshness-weighted"), responses, 100L);
+        ExchangeRateResponse highest = injectedComparator.selectBestRate(request, responses, 100L);
+
+        // Assert
+        assertEquals("API1", fresh.provider());
+        assertEquals("API2", highest.provider());
+    }
+    
+    @Test
+    void testSelectBestRate_ManyProvidersSinglePass() {
+        // Arrange - 24 providers, the best one in the middle and a failure every fifth
+        List<ApiResponse> responses = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            if (i % 5 == 0) {
+                responses.add(ApiResponse.failure("API" + i, "Service unavailable", 100L));
+            } else {
+                BigDecimal converted = i == 12 ? new BigDecimal("99.00") : new BigDecimal("80.00").add(BigDecimal.valueOf(i, 2));
+                responses.add(ApiResponse.success("API" + i, converted.movePointLeft(2), converted, 100L));
+            }
+        }
+
+        // Act
+        ExchangeRateResponse result = injectedComparator.selectBestRate(request, responses, 200L);
+
+        // Assert
+        assertEquals("API12", result.provider());
+        assertEquals(new BigDecimal("99.00"), result.convertedAmount());
+        assertEquals(19, result.successfulProviders());
+        assertEquals(24, result.totalProviders());
+    }
+    
+    @Test
+    void testSupportsRanking_KnownAndUnknownStrategies() {
+        assertTrue(injectedComparator.supportsRanking(null));
+        assertTrue(injectedComparator.supportsRanking("highest-amount"));
+        assertTrue(injectedComparator.supportsRanking("latency-weighted"));
+        assertTrue(injectedComparator.supportsRanking("freshness-weighted"));
+        assertFalse(injectedComparator.supportsRanking("cheapest"));
+
+        // Sin CDI solo está disponible la estrategia por defecto
+        assertTrue(comparator.supportsRanking("highest-amount"));
+        assertFalse(comparator.supportsRanking("latency-weighted"));
+    }
+    
+    @Test
+    void testSelectBestRate_UnknownRankingFails() {
+        List<ApiResponse> responses = List.of(
+            ApiResponse.success("API1", new BigDecimal("0.85"), new BigDecimal("85.00"), 100L)
+        );
+
+        InvalidRankingException exception = assertThrows(InvalidRankingException.class,
+            () -> injectedComparator.selectBestRate(rankingRequest("cheapest"), responses, 100L));
+        assertEquals(injectedComparator.rankingNames(), exception.getAvailableStrategies());
+    }
+    
+    @Test
+    void testRankingNames_ListsRegisteredStrategies() {
+        assertEquals(List.of("freshness-weighted", "highest-amount", "latency-weighted"),
+            injectedComparator.rankingNames());
+
+        // Sin CDI solo está disponible la estrategia por defecto
+        assertEquals(List.of("highest-amount"), comparator.rankingNames());
+    }
+    
+    private static ExchangeRateRequest rankingRequest(String ranking) {
+        return new ExchangeRateRequest(TestConstants.USD, TestConstants.EUR, TestConstants.AMOUNT_100, ranking);
+    }
+}
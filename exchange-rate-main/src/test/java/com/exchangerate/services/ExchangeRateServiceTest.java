@@ -9,14 +9,23 @@ import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import com.exchangerate.models.enums.ProviderFailureType;
+import com.exchangerate.models.money.CurrencyPair;
 import com.exchangerate.models.request.ExchangeRateRequest;
 import com.exchangerate.models.response.ApiResponse;
 import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.services.contracts.IClock;
+import com.exchangerate.services.contracts.IExchangeMetrics;
 import com.exchangerate.services.contracts.IExchangeRateComparator;
+import com.exchangerate.services.contracts.IExchangeTracing;
+import com.exchangerate.services.contracts.IProviderFailureTracker;
+import com.exchangerate.services.contracts.IRequestLogger;
+import com.exchangerate.services.contracts.ISlowRequestRecorder;
 import com.exchangerate.services.implementations.SimpleExchangeProvider;
 import com.exchangerate.services.implementations.XmlExchangeProvider;
 import com.exchangerate.services.implementations.AdvancedExchangeProvider;
@@ -41,6 +50,24 @@ class ExchangeRateServiceTest {
     @Mock
     IExchangeRateComparator comparator;
 
+    @Mock
+    IRequestLogger requestLogger;
+
+    @Mock
+    IProviderFailureTracker failureTracker;
+
+    @Mock
+    IExchangeMetrics metrics;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    IExchangeTracing tracing;
+
+    @Mock
+    ISlowRequestRecorder slowRequests;
+
+    @Mock
+    IClock clock;
+
     @InjectMocks
     ExchangeRateService exchangeRateService;
 
@@ -128,6 +155,13 @@ class ExchangeRateServiceTest {
         verify(api2Provider, times(1)).getExchangeRate(validRequest);
         verify(api3Provider, times(1)).getExchangeRate(validRequest);
         verify(comparator, times(1)).selectBestRate(eq(validRequest), any(), anyLong());
+        verify(requestLogger, times(1)).logRequest(eq(validRequest), argThat(responses -> responses.size() == 3),
+            eq(expectedResponse), anyLong());
+        verify(metrics, times(3)).providerCallCompleted(any(), eq(CurrencyPair.lookup(TestConstants.USD, TestConstants.EUR)),
+            argThat(ApiResponse::successful), anyLong());
+        verify(metrics, times(1)).requestCompleted(any(), eq(expectedResponse), anyLong());
+        verify(slowRequests, times(1)).record(eq(validRequest), argThat(responses -> responses.size() == 3),
+            eq(expectedResponse), anyLong());
     }
 
     @Test
@@ -144,6 +178,29 @@ class ExchangeRateServiceTest {
         verify(api3Provider, never()).getExchangeRate(any());
     }
     
+    @Test
+    void testGetBestExchangeRate_UnknownRankingStrategy() {
+        // Arrange
+        ExchangeRateRequest rankingRequest = new ExchangeRateRequest(
+            TestConstants.USD, 
+            TestConstants.EUR, 
+            TestConstants.AMOUNT_100,
+            "cheapest"
+        );
+        when(comparator.supportsRanking("cheapest")).thenReturn(false);
+
+        // Act & Assert
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+            exchangeRateService.getBestExchangeRate(rankingRequest).await().indefinitely();
+        });
+        
+        assertTrue(exception.getMessage().contains("ranking"));
+        
+        verify(api1Provider, never()).getExchangeRate(any());
+        verify(api2Provider, never()).getExchangeRate(any());
+        verify(api3Provider, never()).getExchangeRate(any());
+    }
+    
     @Test
     void testGetBestExchangeRate_SameCurrency() {
         // Act & Assert
@@ -290,6 +347,10 @@ class ExchangeRateServiceTest {
         assertNotNull(result);
         assertEquals(TestConstants.XML_PROVIDER, result.provider());
         assertEquals(TestConstants.RATE_USD_MXN, result.bestRate());
+
+        verify(failureTracker, times(1)).record(any(), eq(ProviderFailureType.UNKNOWN), any(RuntimeException.class));
+        verify(comparator).selectBestRate(eq(validRequest), argThat(responses -> responses.stream()
+            .anyMatch(response -> response.failureType() == ProviderFailureType.UNKNOWN)), anyLong());
     }
     
     @Test
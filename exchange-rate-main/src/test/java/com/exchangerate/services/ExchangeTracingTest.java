@@ -0,0 +1,167 @@
+package com.exchangerate.services;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.services.contracts.IExchangeTracing;
+import com.exchangerate.services.implementations.AdvancedExchangeProvider;
+import com.exchangerate.services.implementations.SimpleExchangeProvider;
+import com.exchangerate.services.implementations.XmlExchangeProvider;
+import com.exchangerate.utils.TestConstants;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.mockito.InjectMock;
+import io.restassured.http.ContentType;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+
+@QuarkusTest
+class ExchangeTracingTest {
+
+    private static final AttributeKey<String> PAIR = AttributeKey.stringKey("exchange.pair");
+    private static final AttributeKey<String> AMOUNT_BUCKET = AttributeKey.stringKey("exchange.amount.bucket");
+    private static final AttributeKey<String> PROVIDER = AttributeKey.stringKey("exchange.provider");
+    private static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("exchange.outcome");
+    private static final AttributeKey<String> FAILURE_TYPE = AttributeKey.stringKey("exchange.failure.type");
+    private static final AttributeKey<Long> RETRY_ATTEMPT = AttributeKey.longKey("exchange.retry.attempt");
+    private static final AttributeKey<Long> RETRY_ATTEMPTS = AttributeKey.longKey("exchange.retry.attempts");
+
+    @Inject
+    InMemorySpanExporter exporter;
+
+    @Inject
+    IExchangeTracing tracing;
+
+    @InjectMock
+    SimpleExchangeProvider simpleProvider;
+
+    @InjectMock
+    XmlExchangeProvider xmlProvider;
+
+    @InjectMock
+    AdvancedExchangeProvider advancedProvider;
+
+    @BeforeEach
+    void setUp() {
+        exporter.reset();
+
+        when(simpleProvider.getProviderName()).thenReturn(TestConstants.SIMPLE_PROVIDER);
+        when(xmlProvider.getProviderName()).thenReturn(TestConstants.XML_PROVIDER);
+        when(advancedProvider.getProviderName()).thenReturn(TestConstants.ADVANCED_PROVIDER);
+
+        when(simpleProvider.getExchangeRate(any(ExchangeRateRequest.class))).thenReturn(Uni.createFrom().item(
+            ApiResponse.success(TestConstants.SIMPLE_PROVIDER, TestConstants.RATE_USD_EUR, TestConstants.CONVERTED_USD_EUR, 100L)));
+        when(xmlProvider.getExchangeRate(any(ExchangeRateRequest.class)))
+            .thenReturn(Uni.createFrom().failure(new ConnectException("Connection refused")));
+        when(advancedProvider.getExchangeRate(any(ExchangeRateRequest.class))).thenReturn(Uni.createFrom().item(
+            ApiResponse.success(TestConstants.ADVANCED_PROVIDER, new BigDecimal("0.84"), new BigDecimal("84.00"), 120L)));
+    }
+
+    @Test
+    void testBestRateRequestProducesOneTraceWithProviderAndComparatorSpans() throws InterruptedException {
+        given()
+            .contentType(ContentType.JSON)
+            .body(new ExchangeRateRequest(TestConstants.USD, TestConstants.EUR, TestConstants.AMOUNT_100))
+        .when()
+            .post("/api/v1/exchange/best-rate")
+        .then()
+            .statusCode(200);
+
+        List<SpanData> spans = awaitSpans(finished -> finished.stream().anyMatch(span -> span.getKind() == SpanKind.SERVER));
+
+        SpanData request = single(spans, "exchange.best-rate");
+        assertEquals("USD/EUR", request.getAttributes().get(PAIR));
+        assertEquals("100-999", request.getAttributes().get(AMOUNT_BUCKET));
+        assertEquals("success", request.getAttributes().get(OUTCOME));
+        assertEquals(TestConstants.SIMPLE_PROVIDER, request.getAttributes().get(PROVIDER));
+
+        SpanData server = spans.stream().filter(span -> span.getKind() == SpanKind.SERVER).findFirst().orElseThrow();
+        assertEquals(server.getSpanId(), request.getParentSpanId());
+
+        List<SpanData> providers = spans.stream().filter(span -> span.getName().equals("exchange.provider")).toList();
+        assertEquals(3, providers.size());
+        assertTrue(providers.stream().allMatch(span -> span.getParentSpanId().equals(request.getSpanId())));
+
+        SpanData xml = providers.stream()
+            .filter(span -> TestConstants.XML_PROVIDER.equals(span.getAttributes().get(PROVIDER)))
+            .findFirst().orElseThrow();
+        assertEquals("error", xml.getAttributes().get(OUTCOME));
+        assertEquals("CONNECT", xml.getAttributes().get(FAILURE_TYPE));
+
+        SpanData comparator = single(spans, "exchange.comparator");
+        assertEquals(request.getSpanId(), comparator.getParentSpanId());
+
+        assertTrue(spans.stream().allMatch(span -> span.getTraceId().equals(request.getTraceId())));
+    }
+
+    @Test
+    void testHttpAttemptsAreClientSpansThatPropagateTraceContext() throws InterruptedException {
+        Span request = tracing.startRequest(CurrencyPair.lookup(TestConstants.USD, TestConstants.DOP), new BigDecimal("25.50"));
+        Context providerContext = tracing.startProviderCall(request,
+            TestConstants.SIMPLE_PROVIDER, CurrencyPair.lookup(TestConstants.USD, TestConstants.DOP));
+
+        HttpRequest.Builder first = HttpRequest.newBuilder(URI.create("http://localhost:8081/convert"));
+        Span firstAttempt = tracing.startHttpAttempt(providerContext, TestConstants.SIMPLE_PROVIDER, first);
+        tracing.endHttpAttempt(firstAttempt, 0, new ConnectException());
+
+        HttpRequest.Builder second = HttpRequest.newBuilder(URI.create("http://localhost:8081/convert"));
+        Span secondAttempt = tracing.startHttpAttempt(providerContext, TestConstants.SIMPLE_PROVIDER, second);
+        tracing.endHttpAttempt(secondAttempt, 200, null);
+
+        tracing.endProviderCall(providerContext, null,
+            ApiResponse.success(TestConstants.SIMPLE_PROVIDER, new BigDecimal("58.5"), new BigDecimal("1491.75"), 15L));
+        request.end();
+
+        String traceparent = second.build().headers().firstValue("traceparent").orElseThrow();
+        assertTrue(traceparent.contains(secondAttempt.getSpanContext().getTraceId()));
+        assertTrue(traceparent.contains(secondAttempt.getSpanContext().getSpanId()));
+
+        List<SpanData> spans = awaitSpans(finished -> finished.stream().anyMatch(span -> span.getName().equals("exchange.best-rate")));
+        List<SpanData> attempts = spans.stream().filter(span -> span.getName().equals("exchange.provider.http")).toList();
+        assertEquals(2, attempts.size());
+        assertTrue(attempts.stream().allMatch(span -> span.getKind() == SpanKind.CLIENT));
+        assertEquals(List.of(1L, 2L), attempts.stream().map(span -> span.getAttributes().get(RETRY_ATTEMPT)).sorted().toList());
+
+        SpanData provider = single(spans, "exchange.provider");
+        assertEquals(2L, provider.getAttributes().get(RETRY_ATTEMPTS));
+        assertEquals("10-99", single(spans, "exchange.best-rate").getAttributes().get(AMOUNT_BUCKET));
+    }
+
+    private List<SpanData> awaitSpans(Predicate<List<SpanData>> done) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        while (!done.test(spans) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            spans = exporter.getFinishedSpanItems();
+        }
+        return spans;
+    }
+
+    private static SpanData single(List<SpanData> spans, String name) {
+        List<SpanData> matching = spans.stream().filter(span -> span.getName().equals(name)).toList();
+        assertEquals(1, matching.size(), "spans " + name);
+        return matching.get(0);
+    }
+}
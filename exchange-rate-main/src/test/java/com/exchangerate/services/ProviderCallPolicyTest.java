@@ -0,0 +1,97 @@
+package com.exchangerate.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.services.contracts.IProviderCallPolicy;
+import com.exchangerate.utils.VirtualClock;
+import com.exchangerate.utils.VirtualTimeProfile;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+
+/**
+ * Tiempo máximo por intento y reintentos de las llamadas a proveedores, sobre {@link VirtualClock}.
+ */
+@QuarkusTest
+@TestProfile(VirtualTimeProfile.class)
+class ProviderCallPolicyTest {
+
+    @Inject
+    VirtualClock clock;
+
+    @Inject
+    IProviderCallPolicy callPolicy;
+
+    @ConfigProperty(name = "exchange.provider.timeout-ms")
+    long timeoutMillis;
+
+    @ConfigProperty(name = "exchange.provider.retry.max-retries")
+    int maxRetries;
+
+    @ConfigProperty(name = "exchange.provider.retry.backoff-ms")
+    long backoffMillis;
+
+    @Test
+    void testSilentProviderTimesOutAfterEveryAttempt() {
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> result = callPolicy
+            .apply(Uni.createFrom().<String>nothing().onSubscription().invoke(subscription -> attempts.incrementAndGet()))
+            .subscribeAsCompletionStage();
+
+        // Cada intento vence y el siguiente espera el doble que el anterior
+        long totalMillis = timeoutMillis * (maxRetries + 1) + backoffMillis * ((1L << maxRetries) - 1);
+        clock.advance(Duration.ofMillis(totalMillis - 1));
+        assertFalse(result.isDone());
+
+        clock.advance(Duration.ofMillis(1));
+        CompletionException failure = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(TimeoutException.class, failure.getCause());
+        assertEquals(maxRetries + 1, attempts.get());
+    }
+
+    @Test
+    void testIoFailureIsRetriedAfterBackoff() {
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> result = callPolicy
+            .apply(Uni.createFrom().deferred(() -> attempts.incrementAndGet() == 1
+                ? Uni.createFrom().<String>failure(new IOException("conexión reiniciada"))
+                : Uni.createFrom().item("0.85")))
+            .subscribeAsCompletionStage();
+
+        assertEquals(1, attempts.get());
+        clock.advance(Duration.ofMillis(backoffMillis - 1));
+        assertFalse(result.isDone());
+
+        clock.advance(Duration.ofMillis(1));
+        assertEquals("0.85", result.join());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void testConnectionFailureIsNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> result = callPolicy
+            .apply(Uni.createFrom().deferred(() -> {
+                attempts.incrementAndGet();
+                return Uni.createFrom().<String>failure(new ConnectException("conexión rechazada"));
+            }))
+            .subscribeAsCompletionStage();
+
+        CompletionException failure = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(ConnectException.class, failure.getCause());
+        assertEquals(1, attempts.get());
+    }
+}
@@ -0,0 +1,81 @@
+package com.exchangerate.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.CompletionException;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.exceptions.ProviderFailureException;
+import com.exchangerate.models.enums.ProviderFailureType;
+import com.exchangerate.services.contracts.IProviderFailureTracker;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+@QuarkusTest
+class ProviderFailureTrackerTest {
+
+    @Inject
+    IProviderFailureTracker failureTracker;
+
+    @Test
+    void testClassifiesByExceptionType() {
+        assertEquals(ProviderFailureType.TIMEOUT,
+            ProviderFailureException.classify(new HttpTimeoutException("request timed out")));
+        assertEquals(ProviderFailureType.CONNECT,
+            ProviderFailureException.classify(new HttpConnectTimeoutException("HTTP connect timed out")));
+        assertEquals(ProviderFailureType.CONNECT,
+            ProviderFailureException.classify(new ConnectException()));
+        assertEquals(ProviderFailureType.CONNECT,
+            ProviderFailureException.classify(new UnknownHostException("mock-api")));
+        assertEquals(ProviderFailureType.BREAKER_OPEN,
+            ProviderFailureException.classify(new CircuitBreakerOpenException()));
+        assertEquals(ProviderFailureType.HTTP_STATUS,
+            ProviderFailureException.classify(ProviderFailureException.httpStatus("SIMPLE_JSON_PROVIDER", 502)));
+        assertEquals(ProviderFailureType.PARSE,
+            ProviderFailureException.classify(ProviderFailureException.parse("SIMPLE_JSON_PROVIDER", new NullPointerException())));
+    }
+
+    @Test
+    void testClassificationIgnoresMessagesAndFollowsCauses() {
+        // Un mensaje que antes coincidía con "timeout" ya no decide el tipo
+        assertEquals(ProviderFailureType.UNKNOWN,
+            ProviderFailureException.classify(new RuntimeException("timeout in connection")));
+        assertEquals(ProviderFailureType.UNKNOWN,
+            ProviderFailureException.classify(new IOException()));
+        assertEquals(ProviderFailureType.CONNECT,
+            ProviderFailureException.classify(new CompletionException(new IOException(new ConnectException()))));
+    }
+
+    @Test
+    void testProviderFailuresCarryNoStackTrace() {
+        ProviderFailureException failure = ProviderFailureException.httpStatus("XML_BANKING_PROVIDER", 503);
+
+        assertEquals(0, failure.getStackTrace().length);
+        assertEquals(503, failure.getHttpStatus());
+        assertEquals("XML_BANKING_PROVIDER", failure.getProvider());
+    }
+
+    @Test
+    void testCountsFailuresPerProviderAndType() {
+        String provider = "TRACKER_TEST_PROVIDER";
+        ProviderFailureException failure = ProviderFailureException.httpStatus(provider, 500);
+
+        for (int i = 0; i < 5; i++) {
+            failureTracker.record(provider, ProviderFailureType.HTTP_STATUS, failure);
+        }
+        failureTracker.record(provider, ProviderFailureType.TIMEOUT, new HttpTimeoutException("timed out"));
+
+        assertEquals(5, failureTracker.count(provider, ProviderFailureType.HTTP_STATUS));
+        assertEquals(1, failureTracker.count(provider, ProviderFailureType.TIMEOUT));
+        assertEquals(0, failureTracker.count(provider, ProviderFailureType.PARSE));
+        assertEquals(0, failureTracker.count("OTRO_PROVEEDOR", ProviderFailureType.HTTP_STATUS));
+    }
+}
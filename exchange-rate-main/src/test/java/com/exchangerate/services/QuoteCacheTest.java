@@ -0,0 +1,71 @@
+package com.exchangerate.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.models.enums.SupportedCurrency;
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.services.contracts.IQuoteCache;
+import com.exchangerate.utils.TestConstants;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+@QuarkusTest
+class QuoteCacheTest {
+
+    // Instantes muy anteriores al reloj real: las entradas de otras pruebas siguen vigentes y son más nuevas
+    private static final long BASE_MILLIS = 1_000_000L;
+
+    private static final ExchangeRateResponse RESPONSE = new ExchangeRateResponse(
+        new BigDecimal("0.0146"), new BigDecimal("1.46"), TestConstants.SIMPLE_PROVIDER, 10L, 3, 3);
+
+    @Inject
+    IQuoteCache quoteCache;
+
+    @ConfigProperty(name = "exchange.quote-cache.max-amounts-per-pair")
+    int maxAmountsPerPair;
+
+    @ConfigProperty(name = "exchange.quote-cache.ttl-ms")
+    long ttlMillis;
+
+    @Test
+    void testFullPairEvictsOnlyTheOldestQuote() {
+        CurrencyPair pair = CurrencyPair.of(SupportedCurrency.DOP, SupportedCurrency.EUR);
+        for (int amount = 1; amount <= maxAmountsPerPair; amount++) {
+            quoteCache.put(pair, BigDecimal.valueOf(amount), RESPONSE, BASE_MILLIS + amount);
+        }
+
+        long now = BASE_MILLIS + maxAmountsPerPair + 1;
+        quoteCache.put(pair, BigDecimal.valueOf(maxAmountsPerPair + 1), RESPONSE, now);
+
+        assertNull(quoteCache.get(pair, BigDecimal.ONE, now));
+        assertNotNull(quoteCache.get(pair, BigDecimal.valueOf(2), now));
+        assertNotNull(quoteCache.get(pair, BigDecimal.valueOf(maxAmountsPerPair), now));
+        assertNotNull(quoteCache.get(pair, BigDecimal.valueOf(maxAmountsPerPair + 1), now));
+    }
+
+    @Test
+    void testFullPairDropsExpiredQuotesFirst() {
+        CurrencyPair pair = CurrencyPair.of(SupportedCurrency.MXN, SupportedCurrency.EUR);
+        // La primera mitad vence antes que la segunda
+        for (int amount = 1; amount <= maxAmountsPerPair; amount++) {
+            long quotedAt = amount <= maxAmountsPerPair / 2 ? BASE_MILLIS : BASE_MILLIS + ttlMillis;
+            quoteCache.put(pair, BigDecimal.valueOf(amount), RESPONSE, quotedAt);
+        }
+
+        long now = BASE_MILLIS + ttlMillis + 1;
+        quoteCache.put(pair, BigDecimal.valueOf(maxAmountsPerPair + 1), RESPONSE, now);
+
+        // Ninguna vigente se descarta porque bastó con las vencidas
+        for (int amount = maxAmountsPerPair / 2 + 1; amount <= maxAmountsPerPair; amount++) {
+            assertNotNull(quoteCache.get(pair, BigDecimal.valueOf(amount), now));
+        }
+        assertNotNull(quoteCache.get(pair, BigDecimal.valueOf(maxAmountsPerPair + 1), now));
+    }
+}
@@ -0,0 +1,78 @@
+package com.exchangerate.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.models.enums.SupportedCurrency;
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.models.money.FixedDecimal;
+import com.exchangerate.models.response.CachedQuote;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.serialization.ResponseFormat;
+import com.exchangerate.services.implementations.ResponseByteCache;
+import com.exchangerate.utils.TestConstants;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+@QuarkusTest
+class ResponseByteCacheTest {
+
+    private static final ExchangeRateResponse RESPONSE = new ExchangeRateResponse(
+        new BigDecimal("0.0505"), new BigDecimal("5.05"), TestConstants.SIMPLE_PROVIDER, 10L, 3, 3);
+
+    @Inject
+    ResponseByteCache responseByteCache;
+
+    @ConfigProperty(name = "exchange.response-cache.max-entries")
+    int maxEntries;
+
+    @ConfigProperty(name = "exchange.response-cache.max-bytes")
+    long maxBytes;
+
+    @Test
+    void testEquivalentAmountsShareTheEntry() {
+        CurrencyPair pair = CurrencyPair.of(SupportedCurrency.EUR, SupportedCurrency.DOP);
+        CachedQuote quote = quote(1L);
+
+        byte[] first = responseByteCache.getOrEncode(pair, FixedDecimal.parse("100"), quote, ResponseFormat.JSON);
+        byte[] second = responseByteCache.getOrEncode(pair, FixedDecimal.parse("100.00"), quote, ResponseFormat.JSON);
+
+        assertSame(first, second);
+        assertNotSame(first, responseByteCache.getOrEncode(pair, FixedDecimal.parse("100"), quote, ResponseFormat.CBOR));
+    }
+
+    @Test
+    void testNewQuoteVersionReplacesTheEntry() {
+        CurrencyPair pair = CurrencyPair.of(SupportedCurrency.MXN, SupportedCurrency.DOP);
+        byte[] first = responseByteCache.getOrEncode(pair, FixedDecimal.parse("5"), quote(1L), ResponseFormat.JSON);
+        byte[] second = responseByteCache.getOrEncode(pair, FixedDecimal.parse("5"), quote(2L), ResponseFormat.JSON);
+
+        assertNotSame(first, second);
+        assertSame(second, responseByteCache.getOrEncode(pair, FixedDecimal.parse("5"), quote(2L), ResponseFormat.JSON));
+    }
+
+    @Test
+    void testEntriesAndBytesStayBounded() {
+        CurrencyPair pair = CurrencyPair.of(SupportedCurrency.DOP, SupportedCurrency.MXN);
+        CachedQuote quote = quote(1L);
+        byte[] hot = responseByteCache.getOrEncode(pair, FixedDecimal.parse("1"), quote, ResponseFormat.JSON);
+
+        for (int amount = 2; amount <= 4 * maxEntries; amount++) {
+            responseByteCache.getOrEncode(pair, FixedDecimal.of(amount, 0), quote, ResponseFormat.JSON);
+            // Una entrada leída entre vueltas de la manecilla no se descarta
+            assertSame(hot, responseByteCache.getOrEncode(pair, FixedDecimal.parse("1"), quote, ResponseFormat.JSON));
+        }
+
+        assertTrue(responseByteCache.size() <= maxEntries);
+        assertTrue(responseByteCache.totalBytes() <= maxBytes);
+    }
+
+    private static CachedQuote quote(long version) {
+        return new CachedQuote(RESPONSE, version, 0L, Long.MAX_VALUE, "\"TEST-" + version + "\"");
+    }
+}
@@ -0,0 +1,88 @@
+package com.exchangerate.services;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.models.enums.ProviderFailureType;
+import com.exchangerate.models.logging.ProviderExemplar;
+import com.exchangerate.models.logging.SlowRequestExemplar;
+import com.exchangerate.models.request.ExchangeRateRequest;
+import com.exchangerate.models.response.ApiResponse;
+import com.exchangerate.models.response.ExchangeRateResponse;
+import com.exchangerate.services.contracts.ISlowRequestRecorder;
+import com.exchangerate.utils.TestConstants;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+@QuarkusTest
+class SlowRequestRecorderTest {
+
+    private static final ExchangeRateRequest REQUEST =
+        new ExchangeRateRequest(TestConstants.USD, TestConstants.DOP, TestConstants.AMOUNT_100);
+
+    private static final List<ApiResponse> RESPONSES = List.of(
+        ApiResponse.success(TestConstants.SIMPLE_PROVIDER, new BigDecimal("58.5"), new BigDecimal("5850.00"), 40L),
+        ApiResponse.failure(TestConstants.XML_PROVIDER, ProviderFailureType.TIMEOUT, 1000L),
+        ApiResponse.success(TestConstants.ADVANCED_PROVIDER, new BigDecimal("58.9"), new BigDecimal("5890.00"), 45L));
+
+    private static final ExchangeRateResponse RESULT = new ExchangeRateResponse(
+        new BigDecimal("58.9"), new BigDecimal("5890.00"), TestConstants.ADVANCED_PROVIDER, 1000L, 2, 3);
+
+    @Inject
+    ISlowRequestRecorder recorder;
+
+    @Test
+    void testKeepsSlowestRequestsOfTheWindowWithProviderDetail() {
+        // Duraciones de miles de segundos: desplazan a cualquier otra solicitud de la ventana
+        for (int seconds = 1000; seconds < 1012; seconds++) {
+            recorder.record(REQUEST, RESPONSES, RESULT, startedSecondsAgo(seconds));
+        }
+        recorder.record(REQUEST, RESPONSES, RESULT, System.nanoTime());
+
+        List<SlowRequestExemplar> slowest = recorder.slowest();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(1011 - i, (long) slowest.get(i).totalMs() / 1000);
+        }
+        assertTrue(slowest.stream().noneMatch(exemplar -> exemplar.totalMs() >= 1_000_000 && exemplar.totalMs() < 1_002_000));
+
+        SlowRequestExemplar slowestRequest = slowest.get(0);
+        assertEquals(TestConstants.USD, slowestRequest.sourceCurrency());
+        assertEquals(TestConstants.DOP, slowestRequest.targetCurrency());
+        assertEquals("success", slowestRequest.outcome());
+        assertEquals(TestConstants.ADVANCED_PROVIDER, slowestRequest.provider());
+        assertEquals(3, slowestRequest.providers().size());
+
+        ProviderExemplar xml = slowestRequest.providers().get(1);
+        assertEquals(TestConstants.XML_PROVIDER, xml.provider());
+        assertEquals("timeout", xml.outcome());
+        assertEquals("TIMEOUT", xml.failureType());
+        assertNull(xml.rate());
+    }
+
+    @Test
+    void testAdminEndpointReturnsSlowRequests() {
+        recorder.record(REQUEST, RESPONSES, RESULT, startedSecondsAgo(500));
+
+        given()
+        .when()
+            .get("/api/v1/admin/slow-requests")
+        .then()
+            .statusCode(200)
+            .body("code", equalTo(200))
+            .body("data[0].totalMs", greaterThanOrEqualTo(500_000f))
+            .body("data[0].providers", hasSize(3))
+            .body("data[0].providers[1].failureType", equalTo("TIMEOUT"));
+    }
+
+    private static long startedSecondsAgo(int seconds) {
+        return System.nanoTime() - TimeUnit.SECONDS.toNanos(seconds);
+    }
+}
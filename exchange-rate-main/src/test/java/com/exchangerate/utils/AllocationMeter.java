@@ -0,0 +1,85 @@
+package com.exchangerate.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Mide los bytes asignados en el heap por los hilos cuyo nombre empieza con alguno de los
+ * prefijos indicados. Usa {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long[])}.
+ *
+ * {@link #SERVICE_THREADS} limita la medición a los hilos que atienden una solicitud, así que
+ * quedan fuera el cliente de la prueba, los servidores de prueba, el compilador JIT, el
+ * recolector de basura y las tareas periódicas (métricas, monitor de hilos de eventos).
+ * Queda un ruido de fondo que no depende de las solicitudes (las sondas del monitor que
+ * corren en los hilos de eventos y las tareas internas de Vert.x y Netty); quien mide puede
+ * estimarlo midiendo el servicio en reposo durante el mismo tiempo.
+ *
+ * Los hilos que terminan entre dos mediciones no se cuentan; los que nacen entre ellas
+ * cuentan completos.
+ */
+public final class AllocationMeter {
+
+    /**
+     * Hilos de eventos y workers de Vert.x, executor de Quarkus y hilos del
+     * {@code java.net.http.HttpClient} con que los proveedores llaman a sus APIs.
+     */
+    public static final String[] SERVICE_THREADS = {
+        "vert.x-eventloop-thread-",
+        "vert.x-worker-thread-",
+        "executor-thread-",
+        "HttpClient-"
+    };
+
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final String[] includedPrefixes;
+
+    public AllocationMeter(String... includedPrefixes) {
+        this.includedPrefixes = includedPrefixes;
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * Bytes asignados hasta ahora por cada hilo medido.
+     *
+     * @return bytes por id de hilo
+     */
+    public Map<Long, Long> snapshot() {
+        long[] ids = threads.getAllThreadIds();
+        ThreadInfo[] infos = threads.getThreadInfo(ids, 0);
+        long[] allocated = threads.getThreadAllocatedBytes(ids);
+
+        Map<Long, Long> snapshot = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            if (infos[i] != null && allocated[i] >= 0 && included(infos[i].getThreadName())) {
+                snapshot.put(ids[i], allocated[i]);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Bytes asignados por los hilos medidos desde una medición anterior.
+     *
+     * @param before medición anterior
+     * @return bytes asignados entre ambas mediciones
+     */
+    public long allocatedSince(Map<Long, Long> before) {
+        long total = 0L;
+        for (Map.Entry<Long, Long> entry : snapshot().entrySet()) {
+            total += entry.getValue() - before.getOrDefault(entry.getKey(), 0L);
+        }
+        return total;
+    }
+
+    private boolean included(String threadName) {
+        for (String prefix : includedPrefixes) {
+            if (threadName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
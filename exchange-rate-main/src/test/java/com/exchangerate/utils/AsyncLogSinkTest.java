@@ -0,0 +1,72 @@
+package com.exchangerate.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class AsyncLogSinkTest {
+
+    private static final Logger LOG = Logger.getLogger(AsyncLogSinkTest.class);
+
+    @Test
+    void testWritesEventsInOrderOffTheCallerThread() {
+        List<String> written = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        try (AsyncLogSink<String> sink = new AsyncLogSink<>("test-log-writer", 16, event -> {
+            written.add(event);
+            threads.add(Thread.currentThread().getName());
+        }, LOG)) {
+            assertTrue(sink.offer("a"));
+            assertTrue(sink.offer("b"));
+            assertTrue(sink.offer("c"));
+        }
+
+        assertEquals(List.of("a", "b", "c"), written);
+        assertTrue(threads.stream().allMatch("test-log-writer"::equals));
+    }
+
+    @Test
+    void testDropsAndCountsWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> written = new CopyOnWriteArrayList<>();
+
+        AsyncLogSink<Integer> sink = new AsyncLogSink<>("test-log-writer", 2, event -> {
+            writing.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            written.add(event);
+        }, LOG);
+
+        // El primer evento ocupa al hilo de escritura; los dos siguientes llenan la cola
+        assertTrue(sink.offer(0));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        assertTrue(sink.offer(1));
+        assertTrue(sink.offer(2));
+        assertFalse(sink.offer(3));
+        assertFalse(sink.offer(4));
+
+        assertEquals(2L, sink.droppedCount());
+        assertEquals(2, sink.pending());
+
+        release.countDown();
+        sink.close();
+
+        assertEquals(List.of(0, 1, 2), written);
+        assertFalse(sink.offer(5));
+        assertEquals(3L, sink.droppedCount());
+    }
+}
@@ -0,0 +1,104 @@
+package com.exchangerate.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.models.enums.SupportedCurrency;
+import com.exchangerate.models.money.CurrencyPair;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class CurrencyPairTest {
+
+    @Test
+    void testLookup_IsCaseInsensitiveAndInterned() {
+        CurrencyPair upper = CurrencyPair.lookup(TestConstants.USD, TestConstants.DOP);
+        CurrencyPair mixed = CurrencyPair.lookup("uSd", "dop");
+
+        assertNotNull(upper);
+        assertSame(upper, mixed);
+        assertSame(upper, CurrencyPair.of(SupportedCurrency.USD, SupportedCurrency.DOP));
+        assertEquals("USD/DOP", upper.toString());
+    }
+
+    @Test
+    void testLookup_RejectsInvalidCodes() {
+        assertNull(CurrencyPair.lookup(TestConstants.USD, TestConstants.USD));
+        assertNull(CurrencyPair.lookup("INVALID", TestConstants.EUR));
+        assertNull(CurrencyPair.lookup(TestConstants.USD, "U$D"));
+        assertNull(CurrencyPair.lookup(null, TestConstants.EUR));
+        assertNull(CurrencyPair.lookup(TestConstants.USD, ""));
+    }
+
+    @Test
+    void testIndex_IsDenseAndUnique() {
+        Set<Integer> indexes = new HashSet<>();
+
+        for (SupportedCurrency source : SupportedCurrency.values()) {
+            for (SupportedCurrency target : SupportedCurrency.values()) {
+                CurrencyPair pair = CurrencyPair.of(source, target);
+                if (source == target) {
+                    assertNull(pair);
+                    continue;
+                }
+                assertTrue(pair.index() >= 0 && pair.index() < CurrencyPair.INDEX_SPACE);
+                assertTrue(indexes.add(pair.index()));
+                assertSame(pair, CurrencyPair.fromIndex(pair.index()));
+                assertSame(pair, pair.inverse().inverse());
+            }
+        }
+    }
+
+    @Test
+    void testInterning_IsUniqueUnderConcurrency() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CompletableFuture<?>[] tasks = new CompletableFuture<?>[8];
+            CurrencyPair[][] seen = new CurrencyPair[8][];
+            for (int t = 0; t < tasks.length; t++) {
+                int worker = t;
+                tasks[t] = CompletableFuture.runAsync(() -> {
+                    seen[worker] = new CurrencyPair[CurrencyPair.INDEX_SPACE];
+                    for (int i = CurrencyPair.INDEX_SPACE - 1; i >= 0; i--) {
+                        seen[worker][i] = CurrencyPair.fromIndex(i);
+                    }
+                }, executor);
+            }
+            CompletableFuture.allOf(tasks).get();
+
+            for (int i = 0; i < CurrencyPair.INDEX_SPACE; i++) {
+                for (int t = 1; t < seen.length; t++) {
+                    assertSame(seen[0][i], seen[t][i]);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSupportedCurrency_CoversIso4217() {
+        assertTrue(SupportedCurrency.values().length > 150);
+        assertEquals("Libra Esterlina", SupportedCurrency.fromCode("GBP").getDescription());
+        assertEquals("¥", SupportedCurrency.lookup("jpy").getSymbol());
+        assertNotNull(CurrencyPair.lookup("GBP", "JPY"));
+        assertNull(SupportedCurrency.lookup("XAU"));
+    }
+
+    @Test
+    void testSupportedCurrency_LookupWithoutExceptions() {
+        assertTrue(SupportedCurrency.isSupported("eur"));
+        assertFalse(SupportedCurrency.isSupported("XYZ"));
+        assertFalse(SupportedCurrency.isSupported(null));
+        assertEquals(SupportedCurrency.MXN, SupportedCurrency.lookup("Mxn"));
+        assertThrows(IllegalArgumentException.class, () -> SupportedCurrency.fromCode("XYZ"));
+    }
+}
@@ -0,0 +1,19 @@
+package com.exchangerate.utils;
+
+import java.util.Map;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+/**
+ * Perfil de prueba con fault tolerance habilitado, como en producción.
+ * El perfil {@code test} lo deshabilita ({@code %test.mp.fault-tolerance.non-fallback.enabled=false});
+ * las pruebas que miden el servicio completo necesitan los {@code @CircuitBreaker} activos.
+ * Los tiempos máximos y reintentos de {@code IProviderCallPolicy} no dependen de este perfil.
+ */
+public class FaultTolerantProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of("mp.fault-tolerance.non-fallback.enabled", "true");
+    }
+}
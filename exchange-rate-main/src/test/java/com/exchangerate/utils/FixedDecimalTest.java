@@ -0,0 +1,205 @@
+package com.exchangerate.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.models.money.FixedDecimal;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+/**
+ * Pruebas basadas en propiedades: para entradas aleatorias con semilla fija,
+ * el punto fijo debe producir exactamente el mismo valor y escala que
+ * {@link BigDecimal} con {@link RoundingMode#HALF_UP}.
+ */
+@QuarkusTest
+class FixedDecimalTest {
+
+    private static final int ITERATIONS = 200_000;
+    private static final long SEED = 20240417L;
+
+    @Test
+    void testMultiply_MatchesBigDecimalHalfUp() {
+        Random random = new Random(SEED);
+        int compared = 0;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal amount = randomDecimal(random, 1_000_000_000L, 4);
+            BigDecimal rate = randomDecimal(random, 100_000_000L, 8);
+            int resultScale = random.nextInt(7);
+
+            BigDecimal expected = amount.multiply(rate).setScale(resultScale, RoundingMode.HALF_UP);
+            if (assertSameOrOverflow(expected,
+                    () -> FixedDecimal.of(amount).multiply(FixedDecimal.of(rate), resultScale))) {
+                compared++;
+            }
+        }
+
+        assertTrue(compared > ITERATIONS * 0.9, "Demasiados desbordamientos: " + compared);
+    }
+
+    @Test
+    void testDivide_MatchesBigDecimalHalfUp() {
+        Random random = new Random(SEED + 1);
+        int compared = 0;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal converted = randomDecimal(random, 100_000_000L, 4);
+            BigDecimal original = randomDecimal(random, 1_000_000L, 4);
+            if (original.signum() == 0) {
+                continue;
+            }
+            int resultScale = random.nextInt(7);
+
+            BigDecimal expected = converted.divide(original, resultScale, RoundingMode.HALF_UP);
+            if (assertSameOrOverflow(expected,
+                    () -> FixedDecimal.of(converted).divide(FixedDecimal.of(original), resultScale))) {
+                compared++;
+            }
+        }
+
+        assertTrue(compared > ITERATIONS * 0.9, "Demasiados desbordamientos: " + compared);
+    }
+
+    @Test
+    void testCurrencyUtils_MatchesPreviousSemantics() {
+        Random random = new Random(SEED + 2);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal amount = randomDecimal(random, 100_000_000L, 2).abs();
+            BigDecimal rate = randomDecimal(random, 10_000_000L, 6).abs();
+
+            assertEquals(amount.multiply(rate).setScale(2, RoundingMode.HALF_UP),
+                CurrencyUtils.calculateConvertedAmount(amount, rate));
+
+            if (amount.signum() != 0) {
+                assertEquals(rate.divide(amount, 4, RoundingMode.HALF_UP),
+                    CurrencyUtils.calculateRate(amount, rate));
+            }
+        }
+    }
+
+    @Test
+    void testHalfUp_TiesRoundAwayFromZero() {
+        assertEquals(new BigDecimal("0.01"), FixedDecimal.parse("0.005").setScale(2).toBigDecimal());
+        assertEquals(new BigDecimal("-0.01"), FixedDecimal.parse("-0.005").setScale(2).toBigDecimal());
+        assertEquals(new BigDecimal("0.00"), FixedDecimal.parse("0.0049").setScale(2).toBigDecimal());
+        assertEquals(new BigDecimal("2.50"),
+            FixedDecimal.parse("0.5").multiply(FixedDecimal.parse("4.999"), 2).toBigDecimal());
+    }
+
+    @Test
+    void testCompareTo_ConsistentWithBigDecimal() {
+        Random random = new Random(SEED + 3);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal left = randomDecimal(random, Long.MAX_VALUE / 10, 10);
+            BigDecimal right = randomDecimal(random, Long.MAX_VALUE / 10, 10);
+
+            assertEquals(Integer.signum(left.compareTo(right)),
+                Integer.signum(FixedDecimal.of(left).compareTo(FixedDecimal.of(right))),
+                () -> left + " <=> " + right);
+        }
+    }
+
+    @Test
+    void testParse_RoundTripsPlainAndScientificNotation() {
+        Random random = new Random(SEED + 4);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal value = randomDecimal(random, Long.MAX_VALUE, 18);
+            assertEquals(FixedDecimal.of(value), FixedDecimal.parse(value.toPlainString()));
+        }
+
+        assertEquals(new BigDecimal("0.00015"), FixedDecimal.parse("1.5E-4").toBigDecimal());
+        assertEquals(new BigDecimal("58.2000"), FixedDecimal.parse("58.2000").toBigDecimal());
+        assertThrows(NumberFormatException.class, () -> FixedDecimal.parse(""));
+        assertThrows(NumberFormatException.class, () -> FixedDecimal.parse("1.2.3"));
+        assertThrows(NumberFormatException.class, () -> FixedDecimal.parse("abc"));
+    }
+
+    @Test
+    void testParse_LongInputsThatFitAfterStrippingZeros() {
+        // Más dígitos de los que caben en un long, pero los sobrantes son ceros finales
+        assertEquals(0, FixedDecimal.parse("1.00000000000000000000").compareTo(FixedDecimal.of(1, 0)));
+        assertEquals(0, FixedDecimal.parse("10.000000000000000000").compareTo(FixedDecimal.of(10, 0)));
+        assertEquals(new BigDecimal("123456789012345678"), FixedDecimal.parse("123456789012345678").toBigDecimal());
+        assertThrows(ArithmeticException.class, () -> FixedDecimal.parse("123456789012345678901"));
+        assertThrows(NumberFormatException.class, () -> FixedDecimal.parse("1234567890123456789x"));
+    }
+
+    @Test
+    void testCurrencyUtils_MaxConvertibleRateConvertsMaxAmount() {
+        FixedDecimal rate = FixedDecimal.of(CurrencyUtils.MAX_CONVERTIBLE_RATE);
+
+        assertEquals(CurrencyUtils.MAX_AMOUNT.multiply(CurrencyUtils.MAX_CONVERTIBLE_RATE).setScale(2, RoundingMode.HALF_UP),
+            CurrencyUtils.calculateConvertedAmount(CurrencyUtils.MAX_AMOUNT, rate).toBigDecimal());
+    }
+
+    @Test
+    void testOverflow_IsChecked() {
+        FixedDecimal large = FixedDecimal.of(Long.MAX_VALUE / 2, 0);
+
+        assertThrows(ArithmeticException.class, () -> large.multiply(FixedDecimal.of(3, 0), 0));
+        assertThrows(ArithmeticException.class, () -> large.setScale(2));
+        assertThrows(ArithmeticException.class, () -> FixedDecimal.of(new BigDecimal("1e30")));
+        assertThrows(ArithmeticException.class, () -> large.divide(FixedDecimal.ZERO, 2));
+    }
+
+    @Test
+    void testCurrencyUtils_FallsBackToBigDecimalOnOverflow() {
+        BigDecimal amount = new BigDecimal("123456789012345678.90");
+        BigDecimal rate = new BigDecimal("58.1234");
+
+        assertEquals(amount.multiply(rate).setScale(2, RoundingMode.HALF_UP),
+            CurrencyUtils.calculateConvertedAmount(amount, rate));
+    }
+
+    @Test
+    void testCurrencyUtils_LargeRequestAmountFallsBackToBigDecimal() {
+        // El producto de valores sin escala (2e11 × 8.5e5) desborda un long aunque el resultado quepa
+        BigDecimal amount = new BigDecimal("2000000000.00");
+        FixedDecimal rate = FixedDecimal.parse("0.850123");
+        FixedDecimal converted = CurrencyUtils.calculateConvertedAmount(amount, rate);
+        assertEquals(new BigDecimal("1700246000.00"), converted.toBigDecimal());
+        assertEquals(new BigDecimal("0.8501"), CurrencyUtils.calculateRate(amount, converted).toBigDecimal());
+    }
+
+    @Test
+    void testCurrencyUtils_HighScaleRequestAmountFallsBackToBigDecimal() {
+        BigDecimal amount = new BigDecimal("100.1234567890123456789");
+        FixedDecimal rate = FixedDecimal.parse("17.512345");
+
+        assertEquals(amount.multiply(rate.toBigDecimal()).setScale(2, RoundingMode.HALF_UP),
+            CurrencyUtils.calculateConvertedAmount(amount, rate).toBigDecimal());
+        assertEquals(new BigDecimal("0.1749"),
+            CurrencyUtils.calculateRate(amount, FixedDecimal.parse("17.51")).toBigDecimal());
+    }
+
+    /**
+     * El resultado debe ser idéntico (valor y escala) o la operación debe fallar
+     * con ArithmeticException por desbordamiento comprobado, nunca con un valor distinto.
+     *
+     * @return true si se comparó el resultado, false si hubo desbordamiento
+     */
+    private static boolean assertSameOrOverflow(BigDecimal expected, Supplier<FixedDecimal> operation) {
+        FixedDecimal actual;
+        try {
+            actual = operation.get();
+        } catch (ArithmeticException overflow) {
+            return false;
+        }
+        assertEquals(expected, actual.toBigDecimal());
+        return true;
+    }
+
+    private static BigDecimal randomDecimal(Random random, long bound, int maxScale) {
+        return BigDecimal.valueOf(random.nextLong() % bound, random.nextInt(maxScale + 1));
+    }
+}
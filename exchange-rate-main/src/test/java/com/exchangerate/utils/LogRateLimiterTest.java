@@ -0,0 +1,22 @@
+package com.exchangerate.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class LogRateLimiterTest {
+
+    @Test
+    void testAllowsOneWritePerIntervalAndReportsSuppressed() {
+        LogRateLimiter limiter = new LogRateLimiter(1_000L);
+
+        assertEquals(0, limiter.tryAcquire(10_000L));
+        assertEquals(-1, limiter.tryAcquire(10_001L));
+        assertEquals(-1, limiter.tryAcquire(10_999L));
+        assertEquals(2, limiter.tryAcquire(11_000L));
+        assertEquals(0, limiter.tryAcquire(12_500L));
+    }
+}
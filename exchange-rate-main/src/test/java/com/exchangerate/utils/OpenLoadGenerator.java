@@ -0,0 +1,133 @@
+package com.exchangerate.utils;
+
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.TestReporter;
+
+/**
+ * Generador de carga de modelo abierto: envía solicitudes a una tasa fija sin esperar
+ * las respuestas anteriores, como llegan los clientes reales.
+ *
+ * La latencia corregida se mide desde el instante en que la solicitud debía enviarse según
+ * la tasa, no desde que se envió; así un servidor (o el propio generador) que se atrasa no
+ * oculta la espera de las solicitudes que no pudieron salir a tiempo (omisión coordinada).
+ * También se registra la latencia sin corregir para comparar.
+ */
+public final class OpenLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final HttpClient client;
+
+    public OpenLoadGenerator(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Resultado de una corrida a tasa fija. Las latencias están en nanosegundos.
+     */
+    public record Report(int ratePerSecond, long sent, long completed, long errors, double elapsedSeconds,
+                         Histogram corrected, Histogram uncorrected) {
+
+        public double throughput() {
+            return completed / elapsedSeconds;
+        }
+
+        public double errorRate() {
+            return sent == 0 ? 0.0 : (double) errors / sent;
+        }
+
+        public double correctedMillis(double percentile) {
+            return corrected.getValueAtPercentile(percentile) / 1_000_000.0;
+        }
+
+        public double uncorrectedMillis(double percentile) {
+            return uncorrected.getValueAtPercentile(percentile) / 1_000_000.0;
+        }
+
+        /**
+         * Publica el resumen de la corrida y los percentiles, corregidos y sin corregir, en ms.
+         */
+        public void publish(TestReporter reporter) {
+            String prefix = "rate-" + ratePerSecond + "/s.";
+            Map<String, String> entries = new LinkedHashMap<>();
+            entries.put(prefix + "resumen", String.format("sent=%d completed=%d errors=%d (%.2f%%) throughput=%.1f/s",
+                sent, completed, errors, errorRate() * 100, throughput()));
+            entries.put(prefix + "corregida", String.format("p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms",
+                correctedMillis(50), correctedMillis(90), correctedMillis(99), correctedMillis(99.9),
+                corrected.getMaxValue() / 1_000_000.0));
+            entries.put(prefix + "sin-corregir", String.format("p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms",
+                uncorrectedMillis(50), uncorrectedMillis(90), uncorrectedMillis(99), uncorrectedMillis(99.9),
+                uncorrected.getMaxValue() / 1_000_000.0));
+            reporter.publishEntry(entries);
+        }
+
+        public void printDistribution(PrintStream out) {
+            corrected.outputPercentileDistribution(out, 1_000_000.0);
+        }
+    }
+
+    /**
+     * Envía solicitudes a la tasa indicada durante el tiempo indicado y espera las respuestas.
+     *
+     * @param ratePerSecond solicitudes por segundo
+     * @param duration duración del envío
+     * @param requests solicitud a enviar según su número de secuencia
+     * @param drainTimeout espera máxima de las respuestas pendientes al terminar el envío
+     * @return resultado de la corrida
+     */
+    public Report run(int ratePerSecond, Duration duration, LongFunction<HttpRequest> requests, Duration drainTimeout)
+            throws InterruptedException {
+        long total = ratePerSecond * duration.toSeconds();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        Histogram corrected = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        Histogram uncorrected = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong lastCompletion = new AtomicLong();
+        CountDownLatch pending = new CountDownLatch((int) total);
+
+        long startNanos = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intendedNanos = startNanos + i * intervalNanos;
+            long waitNanos = intendedNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            HttpRequest request = requests.apply(i);
+            long sentNanos = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    long endNanos = System.nanoTime();
+                    corrected.recordValue(Math.min(endNanos - intendedNanos, HIGHEST_TRACKABLE_NANOS));
+                    uncorrected.recordValue(Math.min(endNanos - sentNanos, HIGHEST_TRACKABLE_NANOS));
+                    if (failure != null || response.statusCode() != 200) {
+                        errors.incrementAndGet();
+                    }
+                    completed.incrementAndGet();
+                    lastCompletion.accumulateAndGet(endNanos, Math::max);
+                    pending.countDown();
+                });
+        }
+
+        pending.await(drainTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        // Las solicitudes sin respuesta al vencer la espera cuentan como errores
+        long done = completed.get();
+        long elapsedNanos = (done == total ? lastCompletion.get() : System.nanoTime()) - startNanos;
+        return new Report(ratePerSecond, total, done, errors.get() + (total - done),
+            elapsedNanos / 1_000_000_000.0, corrected.copy(), uncorrected.copy());
+    }
+}
@@ -0,0 +1,86 @@
+package com.exchangerate.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.models.enums.SupportedCurrency;
+import com.exchangerate.models.money.CurrencyPair;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class PairStoreTest {
+
+    @Test
+    void testCounterTable_AllocatesPagesOnlyForUsedPairs() {
+        PairCounterTable table = new PairCounterTable();
+        CurrencyPair usdDop = CurrencyPair.lookup(TestConstants.USD, TestConstants.DOP);
+
+        assertEquals(0L, table.get(usdDop));
+        assertEquals(0, table.allocatedPages());
+
+        table.increment(usdDop);
+        table.increment(usdDop);
+        table.add(usdDop.inverse().index(), 5L);
+
+        assertEquals(2L, table.get(usdDop));
+        assertEquals(5L, table.get(usdDop.inverse()));
+        assertTrue(table.allocatedPages() <= 2);
+    }
+
+    @Test
+    void testSparseMap_MatchesHashMap() {
+        SparsePairMap<String> sparse = new SparsePairMap<>();
+        Map<Integer, String> reference = new HashMap<>();
+        Random random = new Random(42L);
+
+        for (int i = 0; i < 20_000; i++) {
+            CurrencyPair pair = randomPair(random);
+            String value = "v" + i;
+            sparse.put(pair, value);
+            reference.put(pair.index(), value);
+        }
+
+        assertEquals(reference.size(), sparse.size());
+        reference.forEach((index, value) -> assertEquals(value, sparse.get(index)));
+
+        AtomicInteger visited = new AtomicInteger();
+        sparse.forEach((pair, value) -> {
+            assertEquals(reference.get(pair.index()), value);
+            visited.incrementAndGet();
+        });
+        assertEquals(reference.size(), visited.get());
+    }
+
+    @Test
+    void testSparseMap_ComputeIfAbsentCreatesOnce() {
+        SparsePairMap<int[]> sparse = new SparsePairMap<>();
+        CurrencyPair pair = CurrencyPair.lookup(TestConstants.EUR, TestConstants.MXN);
+        AtomicInteger created = new AtomicInteger();
+
+        int[] first = sparse.computeIfAbsent(pair, p -> { created.incrementAndGet(); return new int[1]; });
+        int[] second = sparse.computeIfAbsent(pair, p -> { created.incrementAndGet(); return new int[1]; });
+
+        assertSame(first, second);
+        assertEquals(1, created.get());
+        assertNull(sparse.get(pair.inverse()));
+    }
+
+    private static CurrencyPair randomPair(Random random) {
+        SupportedCurrency[] currencies = SupportedCurrency.values();
+        while (true) {
+            CurrencyPair pair = CurrencyPair.of(
+                currencies[random.nextInt(currencies.length)],
+                currencies[random.nextInt(currencies.length)]);
+            if (pair != null) {
+                return pair;
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.exchangerate.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+
+/**
+ * Servidores HTTP del JDK que reemplazan a los tres servicios simulados en pruebas de
+ * integración. Responden con el formato de cada proveedor; la demora se cumple en los
+ * hilos del servidor.
+ *
+ * Argumentos (todos opcionales), comunes o con prefijo {@code simple.}, {@code xml.} o
+ * {@code advanced.} para un solo proveedor:
+ * <ul>
+ *   <li>{@code delay-ms}: demora fija (por defecto 0).</li>
+ *   <li>{@code median-ms} y {@code p99-ms}: demora log-normal con esa mediana y percentil 99.</li>
+ *   <li>{@code error-rate}: fracción de respuestas 500 (por defecto 0).</li>
+ *   <li>{@code failing-currency}: código de moneda cuyas solicitudes siempre reciben 500.</li>
+ *   <li>{@code unsupported-currency}: código de moneda que los proveedores no cotizan; sus
+ *       solicitudes reciben 400, como en los servicios simulados.</li>
+ * </ul>
+ */
+public class ProviderStandIns implements QuarkusTestResourceLifecycleManager {
+
+    /** Prefijo de los hilos de los servidores de prueba, para excluirlos de las mediciones. */
+    public static final String THREAD_PREFIX = "provider-stand-in-";
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private Behavior simple;
+    private Behavior xml;
+    private Behavior advanced;
+    private String failingCurrency;
+    private String unsupportedCurrency;
+
+    @Override
+    public void init(Map<String, String> initArgs) {
+        simple = Behavior.from(initArgs, "simple.");
+        xml = Behavior.from(initArgs, "xml.");
+        advanced = Behavior.from(initArgs, "advanced.");
+        failingCurrency = initArgs.get("failing-currency");
+        unsupportedCurrency = initArgs.get("unsupported-currency");
+    }
+
+    @Override
+    public Map<String, String> start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo iniciar el servidor de pruebas", e);
+        }
+        server.createContext("/exchange", exchange -> respond(exchange, simple, "application/json",
+            "{\"rate\":\"0.8500\"}"));
+        server.createContext("/convert", exchange -> respond(exchange, xml, "application/xml",
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?><XML><Result>84.0000</Result></XML>"));
+        server.createContext("/rate", exchange -> respond(exchange, advanced, "application/json",
+            "{\"statusCode\":200,\"message\":\"OK\",\"data\":{\"total\":\"84.5000\"}}"));
+        AtomicInteger threads = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, THREAD_PREFIX + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.start();
+
+        String url = "http://localhost:" + server.getAddress().getPort();
+        return Map.of(
+            "quarkus.rest-client.simple-exchange-client.url", url,
+            "quarkus.rest-client.xml-exchange-client.url", url,
+            "quarkus.rest-client.advanced-exchange-client.url", url);
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private void respond(HttpExchange exchange, Behavior behavior, String contentType, String body) throws IOException {
+        String requestBody;
+        try (InputStream request = exchange.getRequestBody()) {
+            requestBody = new String(request.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayMillis = behavior.sampleDelayMillis(random);
+        if (delayMillis > 0) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        boolean unsupported = unsupportedCurrency != null && requestBody.contains(unsupportedCurrency);
+        boolean fail = random.nextDouble() < behavior.errorRate()
+            || (failingCurrency != null && requestBody.contains(failingCurrency));
+        int status = unsupported ? 400 : fail ? 500 : 200;
+        byte[] bytes = (unsupported ? "{\"error\":\"Par de monedas no soportado\"}"
+            : fail ? "{\"error\":\"Service unavailable\"}" : body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", status == 200 ? contentType : "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream response = exchange.getResponseBody()) {
+            response.write(bytes);
+        }
+    }
+
+    /**
+     * Demora y tasa de error de un servidor de prueba.
+     *
+     * @param medianMillis mediana de la demora
+     * @param sigma desviación del logaritmo de la demora (0 para demora fija)
+     * @param errorRate fracción de respuestas con error
+     */
+    private record Behavior(double medianMillis, double sigma, double errorRate) {
+
+        /** Cuantil 0.99 de la normal estándar. */
+        private static final double Z_99 = 2.3263;
+
+        static Behavior from(Map<String, String> args, String prefix) {
+            double median = Double.parseDouble(arg(args, prefix, "median-ms", arg(args, prefix, "delay-ms", "0")));
+            double p99 = Double.parseDouble(arg(args, prefix, "p99-ms", String.valueOf(median)));
+            double errorRate = Double.parseDouble(arg(args, prefix, "error-rate", "0"));
+            double sigma = median > 0 && p99 > median ? Math.log(p99 / median) / Z_99 : 0.0;
+            return new Behavior(median, sigma, errorRate);
+        }
+
+        private static String arg(Map<String, String> args, String prefix, String name, String defaultValue) {
+            return args.getOrDefault(prefix + name, args.getOrDefault(name, defaultValue));
+        }
+
+        long sampleDelayMillis(ThreadLocalRandom random) {
+            if (sigma == 0.0) {
+                return Math.round(medianMillis);
+            }
+            return Math.round(medianMillis * Math.exp(sigma * random.nextGaussian()));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.exchangerate.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.exchangerate.models.enums.CapturedEndpoint;
+import com.exchangerate.models.logging.CapturedRequest;
+import com.exchangerate.models.money.CurrencyPair;
+import com.exchangerate.serialization.TrafficCaptureFormat;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class TrafficCaptureFormatTest {
+
+    @Test
+    void testRecordsRoundTripInOrder() throws IOException {
+        List<CapturedRequest> captured = List.of(
+            new CapturedRequest(1_760_000_000_000_000L, CapturedEndpoint.POST_BEST_RATE,
+                CurrencyPair.lookup(TestConstants.USD, TestConstants.DOP), new BigDecimal("100.00")),
+            new CapturedRequest(1_760_000_000_000_250L, CapturedEndpoint.GET_BEST_RATE,
+                CurrencyPair.lookup(TestConstants.EUR, TestConstants.MXN), new BigDecimal("2500")),
+            new CapturedRequest(1_760_000_000_001_000L, CapturedEndpoint.POST_BEST_RATE,
+                CurrencyPair.lookup("GBP", "JPY"), new BigDecimal("0.015")));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            TrafficCaptureFormat.writeHeader(out);
+            for (CapturedRequest request : captured) {
+                TrafficCaptureFormat.write(out, request);
+            }
+        }
+        assertEquals(TrafficCaptureFormat.HEADER_BYTES + captured.size() * TrafficCaptureFormat.RECORD_BYTES, bytes.size());
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        TrafficCaptureFormat.readHeader(in);
+        for (CapturedRequest expected : captured) {
+            assertEquals(expected, TrafficCaptureFormat.read(in));
+        }
+        assertNull(TrafficCaptureFormat.read(in));
+    }
+
+    @Test
+    void testRejectsFilesThatAreNotCaptures() {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream("{\"not\":\"a capture\"}".getBytes()));
+        assertThrows(IOException.class, () -> TrafficCaptureFormat.readHeader(in));
+    }
+
+    @Test
+    void testTruncatesPartialTrailingRecordBeforeAppending() throws IOException {
+        CapturedRequest request = new CapturedRequest(1_760_000_000_000_000L, CapturedEndpoint.POST_BEST_RATE,
+            CurrencyPair.lookup(TestConstants.USD, TestConstants.DOP), new BigDecimal("100.00"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            TrafficCaptureFormat.writeHeader(out);
+            TrafficCaptureFormat.write(out, request);
+            // Registro cortado a mitad de escritura
+            out.write(new byte[10]);
+        }
+
+        Path file = Files.createTempFile("exchange-traffic-", ".capture");
+        try {
+            Files.write(file, bytes.toByteArray());
+
+            assertEquals(10, TrafficCaptureFormat.truncateToLastRecord(file));
+            assertEquals(TrafficCaptureFormat.HEADER_BYTES + TrafficCaptureFormat.RECORD_BYTES, Files.size(file));
+            assertEquals(0, TrafficCaptureFormat.truncateToLastRecord(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testEmptiesFilesShorterThanTheHeader() throws IOException {
+        Path file = Files.createTempFile("exchange-traffic-", ".capture");
+        try {
+            // Corte a mitad del encabezado
+            Files.write(file, new byte[TrafficCaptureFormat.HEADER_BYTES - 2]);
+
+            assertEquals(TrafficCaptureFormat.HEADER_BYTES - 2, TrafficCaptureFormat.truncateToLastRecord(file));
+            assertEquals(0, Files.size(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testRefusesToAppendToFilesThatAreNotCaptures() throws IOException {
+        Path file = Files.createTempFile("exchange-traffic-", ".capture");
+        try {
+            Files.writeString(file, "{\"not\":\"a capture\"}");
+
+            assertThrows(IOException.class, () -> TrafficCaptureFormat.truncateToLastRecord(file));
+            assertEquals("{\"not\":\"a capture\"}", Files.readString(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testAmountsOutsideTheRecordRangeDoNotFit() {
+        assertTrue(TrafficCaptureFormat.fits(new BigDecimal("99999999.99")));
+        assertFalse(TrafficCaptureFormat.fits(new BigDecimal("1e400")));
+        assertFalse(TrafficCaptureFormat.fits(new BigDecimal("123456789012345678901234567890")));
+    }
+}
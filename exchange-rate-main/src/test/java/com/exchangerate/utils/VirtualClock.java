@@ -0,0 +1,207 @@
+package com.exchangerate.utils;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.exchangerate.services.contracts.IClock;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+
+/**
+ * Reloj virtual para pruebas: el tiempo solo avanza con {@link #advance(Duration)}.
+ *
+ * Las tareas de {@link #scheduler()} se ejecutan en el hilo que avanza el reloj, en orden
+ * de vencimiento (y de programación ante empates), con el reloj detenido en el vencimiento
+ * de cada una. Así una prueba simula minutos de tráfico en milisegundos y obtiene siempre
+ * el mismo resultado. {@code execute} corre la tarea de inmediato.
+ *
+ * Se activa con {@link VirtualTimeProfile}; fuera de ese perfil el servicio usa el reloj del sistema.
+ */
+@Alternative
+@ApplicationScoped
+public class VirtualClock implements IClock {
+
+    /** Hora inicial: 2025-01-01T00:00:00Z. */
+    public static final long START_EPOCH_MILLIS = 1_735_689_600_000L;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+    private final PriorityQueue<VirtualTask<?>> tasks = new PriorityQueue<>(
+        Comparator.<VirtualTask<?>>comparingLong(task -> task.deadlineNanos).thenComparingLong(task -> task.sequence));
+    private final Scheduler scheduler = new Scheduler();
+
+    @Override
+    public long nanoTime() {
+        return nanos.get();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return START_EPOCH_MILLIS + TimeUnit.NANOSECONDS.toMillis(nanos.get());
+    }
+
+    @Override
+    public ScheduledExecutorService scheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Avanza el reloj y ejecuta, en orden, las tareas que vencen hasta el nuevo instante,
+     * incluidas las que esas tareas programen dentro del intervalo.
+     *
+     * @param duration tiempo a avanzar (0 ejecuta solo las tareas ya vencidas)
+     */
+    public void advance(Duration duration) {
+        long target = nanos.get() + duration.toNanos();
+        VirtualTask<?> task;
+        while ((task = pollDue(target)) != null) {
+            nanos.set(task.deadlineNanos);
+            task.run();
+        }
+        nanos.set(target);
+    }
+
+    /**
+     * Tareas programadas que aún no se ejecutan.
+     *
+     * @return cantidad de tareas pendientes
+     */
+    public int pendingTasks() {
+        synchronized (tasks) {
+            return tasks.size();
+        }
+    }
+
+    private VirtualTask<?> pollDue(long target) {
+        synchronized (tasks) {
+            VirtualTask<?> next = tasks.peek();
+            return next != null && next.deadlineNanos <= target ? tasks.poll() : null;
+        }
+    }
+
+    private <V> VirtualTask<V> enqueue(VirtualTask<V> task) {
+        synchronized (tasks) {
+            tasks.add(task);
+        }
+        return task;
+    }
+
+    /**
+     * Tarea programada. {@code periodNanos} positivo repite a tasa fija, negativo con
+     * demora fija y 0 ejecuta una sola vez.
+     */
+    private final class VirtualTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+
+        private long deadlineNanos;
+        private long sequence;
+        private final long periodNanos;
+
+        VirtualTask(Callable<V> callable, long deadlineNanos, long periodNanos) {
+            super(callable);
+            this.deadlineNanos = deadlineNanos;
+            this.sequence = VirtualClock.this.sequence.incrementAndGet();
+            this.periodNanos = periodNanos;
+        }
+
+        @Override
+        public void run() {
+            if (periodNanos == 0) {
+                super.run();
+            } else if (runAndReset()) {
+                deadlineNanos = periodNanos > 0 ? deadlineNanos + periodNanos : nanos.get() - periodNanos;
+                sequence = VirtualClock.this.sequence.incrementAndGet();
+                enqueue(this);
+            }
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - nanos.get(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * Planificador sobre el tiempo virtual. Apagarlo no tiene efecto: el reloj es compartido.
+     */
+    private final class Scheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            return schedule(Executors.callable(command), delay, unit);
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            return enqueue(new VirtualTask<>(callable, deadline(delay, unit), 0L));
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            return enqueue(new VirtualTask<>(Executors.callable(command), deadline(initialDelay, unit),
+                positive(period, unit)));
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+            return enqueue(new VirtualTask<>(Executors.callable(command), deadline(initialDelay, unit),
+                -positive(delay, unit)));
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return false;
+        }
+
+        private long deadline(long delay, TimeUnit unit) {
+            return nanos.get() + Math.max(0L, unit.toNanos(delay));
+        }
+
+        private long positive(long period, TimeUnit unit) {
+            if (period <= 0) {
+                throw new IllegalArgumentException("El periodo debe ser mayor que 0");
+            }
+            return unit.toNanos(period);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.exchangerate.utils;
+
+import java.util.Set;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+/**
+ * Perfil de prueba que reemplaza el reloj del sistema por {@link VirtualClock}.
+ * El reloj arranca con la aplicación, así que todos los beans lo comparten desde su creación.
+ */
+public class VirtualTimeProfile implements QuarkusTestProfile {
+
+    @Override
+    public Set<Class<?>> getEnabledAlternatives() {
+        return Set.of(VirtualClock.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.exchangerate.models;
+
+import com.exchangerate.models.enums.SupportedCurrency;
+
+/**
+ * Par de monedas dirigido (origen → destino) internado.
+ * Cada par tiene un índice denso {@code origen.ordinal() * N + destino.ordinal()}
+ * para guardar estado por par en arreglos en lugar de mapas con claves String.
+ */
+public final class CurrencyPair {
+
+    private static final SupportedCurrency[] CURRENCIES = SupportedCurrency.values();
+    private static final int CURRENCY_COUNT = CURRENCIES.length;
+
+    /** Tamaño del espacio de índices (incluye la diagonal origen == destino). */
+    public static final int INDEX_SPACE = CURRENCY_COUNT * CURRENCY_COUNT;
+
+    private static final CurrencyPair[] PAIRS = new CurrencyPair[INDEX_SPACE];
+
+    static {
+        for (SupportedCurrency source : CURRENCIES) {
+            for (SupportedCurrency target : CURRENCIES) {
+                if (source != target) {
+                    int index = indexOf(source, target);
+                    PAIRS[index] = new CurrencyPair(source, target, index);
+                }
+            }
+        }
+    }
+
+    private final SupportedCurrency source;
+    private final SupportedCurrency target;
+    private final int index;
+
+    private CurrencyPair(SupportedCurrency source, SupportedCurrency target, int index) {
+        this.source = source;
+        this.target = target;
+        this.index = index;
+    }
+
+    public static CurrencyPair of(SupportedCurrency source, SupportedCurrency target) {
+        return PAIRS[indexOf(source, target)];
+    }
+
+    /**
+     * Resuelve un par a partir de códigos sin distinguir mayúsculas y sin asignar memoria.
+     *
+     * @param sourceCode código de moneda de origen
+     * @param targetCode código de moneda de destino
+     * @return par internado o null si algún código no es soportado o son iguales
+     */
+    public static CurrencyPair lookup(CharSequence sourceCode, CharSequence targetCode) {
+        SupportedCurrency source = SupportedCurrency.lookup(sourceCode);
+        SupportedCurrency target = SupportedCurrency.lookup(targetCode);
+        if (source == null || target == null) {
+            return null;
+        }
+        return PAIRS[indexOf(source, target)];
+    }
+
+    public static int indexOf(SupportedCurrency source, SupportedCurrency target) {
+        return source.ordinal() * CURRENCY_COUNT + target.ordinal();
+    }
+
+    public SupportedCurrency source() {
+        return source;
+    }
+
+    public SupportedCurrency target() {
+        return target;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return source.name() + "/" + target.name();
+    }
+}
@@ -0,0 +1,108 @@
+package com.exchangerate.models;
+
+import com.exchangerate.models.enums.LatencyDistribution;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Comportamiento simulado del proveedor durante una fase de un {@link UpstreamScript}.
+ * Los campos omitidos en JSON valen 0 (desactivados).
+ *
+ * @param durationMs duración de la fase; 0 la mantiene indefinidamente (solo en la última fase)
+ * @param latency distribución de la demora
+ * @param minMs demora mínima (UNIFORM)
+ * @param maxMs demora máxima (UNIFORM)
+ * @param medianMs mediana de la demora (LOG_NORMAL y modo rápido de BIMODAL)
+ * @param p99Ms percentil 99 de la demora; fija la dispersión (LOG_NORMAL y BIMODAL)
+ * @param slowFraction fracción de solicitudes en el modo lento (BIMODAL)
+ * @param slowMedianMs mediana del modo lento (BIMODAL)
+ * @param stallEveryMs periodo de las pausas; cada periodo empieza con una pausa
+ * @param stallMs duración de cada pausa: las solicitudes que llegan durante ella esperan a que termine
+ * @param burstEveryMs periodo de las ráfagas de error; cada periodo empieza con una ráfaga
+ * @param burstMs duración de cada ráfaga: toda solicitud que llega durante ella recibe 503
+ * @param errorRate fracción de respuestas 500
+ * @param throttleRate fracción de respuestas 429
+ * @param retryAfterSeconds valor del encabezado {@code Retry-After} de las respuestas 429
+ * @param trickleRate fracción de respuestas exitosas cuyo cuerpo se envía por partes
+ * @param trickleChunkBytes bytes de cada parte del cuerpo
+ * @param trickleIntervalMs pausa entre partes del cuerpo
+ */
+@RegisterForReflection
+public record UpstreamProfile(
+    @JsonProperty("durationMs") long durationMs,
+    @JsonProperty("latency") LatencyDistribution latency,
+    @JsonProperty("minMs") double minMs,
+    @JsonProperty("maxMs") double maxMs,
+    @JsonProperty("medianMs") double medianMs,
+    @JsonProperty("p99Ms") double p99Ms,
+    @JsonProperty("slowFraction") double slowFraction,
+    @JsonProperty("slowMedianMs") double slowMedianMs,
+    @JsonProperty("stallEveryMs") long stallEveryMs,
+    @JsonProperty("stallMs") long stallMs,
+    @JsonProperty("burstEveryMs") long burstEveryMs,
+    @JsonProperty("burstMs") long burstMs,
+    @JsonProperty("errorRate") double errorRate,
+    @JsonProperty("throttleRate") double throttleRate,
+    @JsonProperty("retryAfterSeconds") int retryAfterSeconds,
+    @JsonProperty("trickleRate") double trickleRate,
+    @JsonProperty("trickleChunkBytes") int trickleChunkBytes,
+    @JsonProperty("trickleIntervalMs") long trickleIntervalMs
+) {
+
+    /** Cuantil 0.99 de la normal estándar. */
+    private static final double Z_99 = 2.3263;
+
+    /**
+     * Perfil sin fallos con demora uniforme, equivalente a {@code provider.response.delay.min/max}.
+     */
+    public static UpstreamProfile uniform(double minMs, double maxMs) {
+        return new UpstreamProfile(0, LatencyDistribution.UNIFORM, minMs, maxMs,
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Desviación del logaritmo de la demora que da el percentil 99 configurado.
+     */
+    public double sigma() {
+        return p99Ms > medianMs ? Math.log(p99Ms / medianMs) / Z_99 : 0.0;
+    }
+
+    /**
+     * Verifica que el perfil sea aplicable.
+     *
+     * @throws IllegalArgumentException con el primer problema encontrado
+     */
+    public void validate() {
+        require(latency != null, "latency es requerido (UNIFORM, LOG_NORMAL o BIMODAL)");
+        require(durationMs >= 0, "durationMs no puede ser negativo");
+        switch (latency) {
+            case UNIFORM -> require(minMs >= 0 && maxMs >= minMs, "UNIFORM requiere 0 <= minMs <= maxMs");
+            case LOG_NORMAL -> require(medianMs > 0 && p99Ms >= medianMs, "LOG_NORMAL requiere 0 < medianMs <= p99Ms");
+            case BIMODAL -> {
+                require(medianMs > 0 && p99Ms >= medianMs, "BIMODAL requiere 0 < medianMs <= p99Ms");
+                require(slowMedianMs >= medianMs, "BIMODAL requiere slowMedianMs >= medianMs");
+                require(isFraction(slowFraction), "slowFraction debe estar entre 0 y 1");
+            }
+        }
+        require(stallMs >= 0 && (stallEveryMs == 0 ? stallMs == 0 : stallMs <= stallEveryMs),
+            "stallMs debe estar entre 0 y stallEveryMs");
+        require(burstMs >= 0 && (burstEveryMs == 0 ? burstMs == 0 : burstMs <= burstEveryMs),
+            "burstMs debe estar entre 0 y burstEveryMs");
+        require(isFraction(errorRate) && isFraction(throttleRate) && errorRate + throttleRate <= 1.0,
+            "errorRate y throttleRate deben estar entre 0 y 1 y sumar a lo sumo 1");
+        require(retryAfterSeconds >= 0, "retryAfterSeconds no puede ser negativo");
+        require(isFraction(trickleRate), "trickleRate debe estar entre 0 y 1");
+        require(trickleRate == 0 || (trickleChunkBytes > 0 && trickleIntervalMs > 0),
+            "trickleRate requiere trickleChunkBytes y trickleIntervalMs mayores que 0");
+    }
+
+    private static boolean isFraction(double value) {
+        return value >= 0.0 && value <= 1.0;
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.exchangerate.models;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Secuencia de fases de comportamiento simulado. Las fases se recorren en orden según su
+ * {@code durationMs}, desde que se aplica el guion; al terminar la última se vuelve a la
+ * primera si {@code loop} es verdadero, o se mantiene la última.
+ *
+ * @param phases fases en orden
+ * @param loop si el guion se repite
+ * @param seed semilla de los sorteos; null usa {@code provider.profile.seed}
+ */
+@RegisterForReflection
+public record UpstreamScript(
+    @JsonProperty("phases") List<UpstreamProfile> phases,
+    @JsonProperty("loop") boolean loop,
+    @JsonProperty("seed") Long seed
+) {
+
+    /**
+     * Guion de una sola fase indefinida.
+     */
+    public static UpstreamScript of(UpstreamProfile profile, Long seed) {
+        return new UpstreamScript(List.of(profile), false, seed);
+    }
+
+    /**
+     * Verifica que el guion sea aplicable.
+     *
+     * @throws IllegalArgumentException con el primer problema encontrado
+     */
+    public void validate() {
+        if (phases == null || phases.isEmpty()) {
+            throw new IllegalArgumentException("El guion requiere al menos una fase");
+        }
+        for (int i = 0; i < phases.size(); i++) {
+            UpstreamProfile phase = phases.get(i);
+            if (phase == null) {
+                throw new IllegalArgumentException("Fase " + i + " vacía");
+            }
+            try {
+                phase.validate();
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Fase " + i + ": " + e.getMessage(), e);
+            }
+            boolean last = i == phases.size() - 1;
+            if (phase.durationMs() == 0 && (!last || loop)) {
+                throw new IllegalArgumentException("Fase " + i + ": solo la última fase sin repetición puede durar indefinidamente");
+            }
+        }
+    }
+
+    /**
+     * Duración total de una vuelta del guion, sin contar una última fase indefinida.
+     */
+    public long cycleMs() {
+        long total = 0L;
+        for (UpstreamProfile phase : phases) {
+            total += phase.durationMs();
+        }
+        return total;
+    }
+}
@@ -19,6 +19,15 @@ public enum SupportedCurrency {
         this.description = description;
         this.symbol = symbol;
     }
+
+    /** Tabla densa indexada por el código de tres letras (base 26). */
+    private static final SupportedCurrency[] BY_CODE = new SupportedCurrency[26 * 26 * 26];
+
+    static {
+        for (SupportedCurrency currency : values()) {
+            BY_CODE[codeIndex(currency.name())] = currency;
+        }
+    }
     
     public String getDescription() {
         return description;
@@ -35,14 +44,7 @@ public enum SupportedCurrency {
      * @return true si está soportado
      */
     public static boolean isSupported(String currencyCode) {
-        if (currencyCode == null) return false;
-        
-        try {
-            valueOf(currencyCode.toUpperCase());
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+        return lookup(currencyCode) != null;
     }
     
     /**
@@ -52,6 +54,40 @@ public enum SupportedCurrency {
      * @return instancia de SupportedCurrency
      */
     public static SupportedCurrency fromCode(String currencyCode) {
-        return valueOf(currencyCode.toUpperCase());
+        SupportedCurrency currency = lookup(currencyCode);
+        if (currency == null) {
+            throw new IllegalArgumentException("Moneda no soportada: " + currencyCode);
+        }
+        return currency;
+    }
+
+    /**
+     * Busca una moneda por código sin distinguir mayúsculas y sin asignar memoria.
+     * 
+     * @param currencyCode código de moneda (puede ser null)
+     * @return moneda encontrada o null si el código no está soportado
+     */
+    public static SupportedCurrency lookup(CharSequence currencyCode) {
+        if (currencyCode == null) {
+            return null;
+        }
+        int index = codeIndex(currencyCode);
+        return index < 0 ? null : BY_CODE[index];
+    }
+
+    private static int codeIndex(CharSequence code) {
+        if (code.length() != 3) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < 3; i++) {
+            char c = code.charAt(i);
+            int letter = c >= 'A' && c <= 'Z' ? c - 'A' : c >= 'a' && c <= 'z' ? c - 'a' : -1;
+            if (letter < 0) {
+                return -1;
+            }
+            index = index * 26 + letter;
+        }
+        return index;
     }
 }
\ No newline at end of file
@@ -2,16 +2,25 @@ package com.exchangerate.services;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Random;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
+import com.exchangerate.models.CurrencyPair;
+import com.exchangerate.utils.CounterRandom;
+
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
 /**
- * Generador de tasas de cambio aleatorias dentro de rangos configurados.
+ * Generador de tasas de cambio sobre el mercado simulado.
  * Simula variaciones reales del mercado de divisas.
+ * Cotiza la tasa media de {@link MarketSimulator} menos el margen del proveedor
+ * ({@code exchange.market.spread-bps}, en puntos básicos). Con {@code exchange.market.jitter-bps}
+ * mayor que 0 la cotización se desvía además de la media con ruido normal propio del proveedor
+ * ({@code exchange.market.jitter-seed}), para que el mejor proveedor no sea siempre el mismo.
+ * El sorteo depende solo del par y del paso del mercado: dentro de un paso el proveedor
+ * cotiza siempre lo mismo, sin importar cuántas solicitudes lleguen ni en qué orden.
  * 
  * @author Dev. Domingo J. Ruiz
  */
@@ -19,101 +28,40 @@ import jakarta.enterprise.context.ApplicationScoped;
 public class RandomRateGenerator {
     
     private static final Logger LOG = Logger.getLogger(RandomRateGenerator.class);
-    private final Random random = new Random();
-    
-    // USD a EUR
-    @ConfigProperty(name = "exchange.rates.usd.eur.min")
-    BigDecimal usdEurMin;
-    
-    @ConfigProperty(name = "exchange.rates.usd.eur.max") 
-    BigDecimal usdEurMax;
-    
-    // USD a MXN
-    @ConfigProperty(name = "exchange.rates.usd.mxn.min")
-    BigDecimal usdMxnMin;
-    
-    @ConfigProperty(name = "exchange.rates.usd.mxn.max")
-    BigDecimal usdMxnMax;
-    
-    // USD a DOP
-    @ConfigProperty(name = "exchange.rates.usd.dop.min")
-    BigDecimal usdDopMin;
-    
-    @ConfigProperty(name = "exchange.rates.usd.dop.max")
-    BigDecimal usdDopMax;
-    
-    // EUR a MXN
-    @ConfigProperty(name = "exchange.rates.eur.mxn.min")
-    BigDecimal eurMxnMin;
-    
-    @ConfigProperty(name = "exchange.rates.eur.mxn.max")
-    BigDecimal eurMxnMax;
     
-    // EUR a DOP
-    @ConfigProperty(name = "exchange.rates.eur.dop.min")
-    BigDecimal eurDopMin;
+    @Inject
+    MarketSimulator market;
     
-    @ConfigProperty(name = "exchange.rates.eur.dop.max")
-    BigDecimal eurDopMax;
+    @ConfigProperty(name = "exchange.market.spread-bps", defaultValue = "0")
+    double spreadBps;
     
-    // MXN a DOP
-    @ConfigProperty(name = "exchange.rates.mxn.dop.min")
-    BigDecimal mxnDopMin;
+    @ConfigProperty(name = "exchange.market.jitter-bps", defaultValue = "0")
+    double jitterBps;
     
-    @ConfigProperty(name = "exchange.rates.mxn.dop.max")
-    BigDecimal mxnDopMax;
+    @ConfigProperty(name = "exchange.market.jitter-seed", defaultValue = "0")
+    long jitterSeed;
     
     /**
-     * Genera una tasa aleatoria para un par de monedas.
+     * Cotiza la tasa actual de un par de monedas.
      * 
      * @param fromCurrency moneda origen
      * @param toCurrency moneda destino
-     * @return tasa aleatoria dentro del rango configurado
+     * @return tasa con el margen aplicado, o 1 si el par no es soportado
      */
     public BigDecimal generateRate(String fromCurrency, String toCurrency) {
-        String pair = fromCurrency.toUpperCase() + "_" + toCurrency.toUpperCase();
+        CurrencyPair pair = CurrencyPair.lookup(fromCurrency, toCurrency);
         
-        BigDecimal rate = switch (pair) {
-            case "USD_EUR" -> generateRandomInRange(usdEurMin, usdEurMax);
-            case "USD_MXN" -> generateRandomInRange(usdMxnMin, usdMxnMax);
-            case "USD_DOP" -> generateRandomInRange(usdDopMin, usdDopMax);
-            case "EUR_MXN" -> generateRandomInRange(eurMxnMin, eurMxnMax);
-            case "EUR_DOP" -> generateRandomInRange(eurDopMin, eurDopMax);
-            case "MXN_DOP" -> generateRandomInRange(mxnDopMin, mxnDopMax);
-            
-            // Pares inversos
-            case "EUR_USD" -> BigDecimal.ONE.divide(generateRandomInRange(usdEurMin, usdEurMax), 6, RoundingMode.HALF_UP);
-            case "MXN_USD" -> BigDecimal.ONE.divide(generateRandomInRange(usdMxnMin, usdMxnMax), 6, RoundingMode.HALF_UP);
-            case "DOP_USD" -> BigDecimal.ONE.divide(generateRandomInRange(usdDopMin, usdDopMax), 6, RoundingMode.HALF_UP);
-            case "MXN_EUR" -> BigDecimal.ONE.divide(generateRandomInRange(eurMxnMin, eurMxnMax), 6, RoundingMode.HALF_UP);
-            case "DOP_EUR" -> BigDecimal.ONE.divide(generateRandomInRange(eurDopMin, eurDopMax), 6, RoundingMode.HALF_UP);
-            case "DOP_MXN" -> BigDecimal.ONE.divide(generateRandomInRange(mxnDopMin, mxnDopMax), 6, RoundingMode.HALF_UP);
-            
-            default -> {
-                LOG.warnf("Par de monedas no configurado: %s", pair);
-                yield BigDecimal.ONE;
-            }
-        };
-        
-        return rate;
-    }
-    
-    /**
-     * Genera un número random entre min y max.
-     * 
-     * @param min valor mínimo
-     * @param max valor máximo
-     * @return valor aleatorio en el rango
-     */
-    private BigDecimal generateRandomInRange(BigDecimal min, BigDecimal max) {
-        if (min.compareTo(max) >= 0) {
-            return min;
+        if (pair == null) {
+            LOG.warnf("Par de monedas no configurado: %s_%s", fromCurrency, toCurrency);
+            return BigDecimal.ONE;
         }
         
-        BigDecimal range = max.subtract(min);
-        BigDecimal randomFactor = BigDecimal.valueOf(random.nextDouble());
-        BigDecimal randomValue = min.add(range.multiply(randomFactor));
-        
-        return randomValue.setScale(4, RoundingMode.HALF_UP);
+        double rate = market.midRate(pair) * (1.0 - spreadBps / 10_000.0);
+        if (jitterBps > 0) {
+            long draw = market.currentTick() * CurrencyPair.INDEX_SPACE + pair.index();
+            double z = CounterRandom.gaussian(jitterSeed, draw, 0, 1);
+            rate *= 1.0 + jitterBps / 10_000.0 * z;
+        }
+        return BigDecimal.valueOf(rate).setScale(6, RoundingMode.HALF_UP);
     }
 }
\ No newline at end of file
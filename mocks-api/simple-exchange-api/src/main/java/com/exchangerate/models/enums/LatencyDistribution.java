@@ -0,0 +1,16 @@
+package com.exchangerate.models.enums;
+
+/**
+ * Distribución de la demora simulada de una respuesta.
+ */
+public enum LatencyDistribution {
+    /** Uniforme entre {@code minMs} y {@code maxMs}. */
+    UNIFORM,
+    /** Log-normal con mediana {@code medianMs} y percentil 99 {@code p99Ms}. */
+    LOG_NORMAL,
+    /**
+     * Mezcla de dos log-normales con la misma dispersión: la rápida con mediana {@code medianMs}
+     * y, con probabilidad {@code slowFraction}, la lenta con mediana {@code slowMedianMs}.
+     */
+    BIMODAL
+}
@@ -1,27 +1,33 @@
 package com.exchangerate.resources;
 
-import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 import java.math.BigDecimal;
 
 import com.exchangerate.models.SimpleExchangeRequest;
 import com.exchangerate.models.SimpleExchangeResponse;
+import com.exchangerate.models.UpstreamOutcome;
 import com.exchangerate.models.enums.SupportedCurrency;
 import com.exchangerate.services.RandomRateGenerator;
+import com.exchangerate.services.UpstreamSimulator;
 
+import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Providers;
 import jakarta.annotation.security.RolesAllowed;
 
 /**
  * Recurso REST para Simple Exchange API.
  * Proporciona tasas de cambio en formato JSON simple.
+ * La demora y los fallos los decide {@link UpstreamSimulator}; la espera usa un temporizador
+ * de Mutiny, así que las solicitudes en espera no ocupan hilos.
  * 
  * @author Dev. Domingo J. Ruiz
  */
@@ -35,16 +41,13 @@ public class SimpleExchangeResource {
     @Inject
     RandomRateGenerator rateGenerator;
     
-    @ConfigProperty(name = "provider.response.delay.min")
-    int delayMin;
-    
-    @ConfigProperty(name = "provider.response.delay.max")
-    int delayMax;
+    @Inject
+    UpstreamSimulator upstream;
     
     @POST
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
-    public Response getExchangeRate(SimpleExchangeRequest request) {
+    public Uni<Response> getExchangeRate(SimpleExchangeRequest request, @Context Providers providers) {
         long startTime = System.currentTimeMillis();
         
         LOG.infof("Simple API - Solicitud recibida: %s a %s, monto: %s", 
@@ -55,39 +58,37 @@ public class SimpleExchangeResource {
             !SupportedCurrency.isSupported(request.to())) {
             
             LOG.warnf("Monedas no soportadas: %s -> %s", request.from(), request.to());
-            return Response.status(Response.Status.BAD_REQUEST)
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST)
                     .entity("{\"error\": \"Monedas no soportadas\"}")
-                    .build();
+                    .build());
         }
         
         // Validar que no sean la misma moneda
         if (request.from().equalsIgnoreCase(request.to())) {
             LOG.warn("Intento de conversión de la misma moneda");
-            return Response.status(Response.Status.BAD_REQUEST)
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST)
                     .entity("{\"error\": \"No se puede convertir la misma moneda\"}")
-                    .build();
+                    .build());
         }
         
-        // Simular delay de procesamiento realista
-        simulateProcessingDelay();
-        
-        // Generar tasa aleatoria
-        BigDecimal rate = rateGenerator.generateRate(request.from(), request.to());
-        
-        long processingTime = System.currentTimeMillis() - startTime;
-        LOG.infof("Simple API - Tasa generada: %s, tiempo: %dms", rate, processingTime);
-        
-        SimpleExchangeResponse response = new SimpleExchangeResponse(rate);
-        return Response.ok(response).build();
-    }
-    
-    private void simulateProcessingDelay() {
-        try {
-            int delay = delayMin + (int)(Math.random() * (delayMax - delayMin));
-            Thread.sleep(delay);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            LOG.warn("Delay simulado interrumpido");
-        }
+        // Simular delay de procesamiento y fallos según el perfil vigente
+        UpstreamOutcome outcome = upstream.next();
+        return upstream.await(outcome)
+                .map(ignored -> {
+                    if (!outcome.successful()) {
+                        LOG.infof("Simple API - Fallo simulado: %d", outcome.status());
+                        return upstream.failure(outcome,
+                                "{\"error\": \"" + UpstreamSimulator.reason(outcome) + "\"}");
+                    }
+                    
+                    // Generar tasa aleatoria
+                    BigDecimal rate = rateGenerator.generateRate(request.from(), request.to());
+                    
+                    long processingTime = System.currentTimeMillis() - startTime;
+                    LOG.infof("Simple API - Tasa generada: %s, tiempo: %dms", rate, processingTime);
+                    
+                    SimpleExchangeResponse response = new SimpleExchangeResponse(rate);
+                    return upstream.success(outcome, response, MediaType.APPLICATION_JSON_TYPE, providers);
+                });
     }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.exchangerate.resources;
+
+import java.util.Map;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.exchangerate.models.UpstreamProfile;
+import com.exchangerate.models.UpstreamScript;
+import com.exchangerate.services.UpstreamSimulator;
+
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Administración del comportamiento simulado del proveedor en tiempo de ejecución.
+ *
+ * <ul>
+ *   <li>{@code GET}: guion vigente.</li>
+ *   <li>{@code PUT}: aplica un solo perfil indefinido.</li>
+ *   <li>{@code PUT /script}: aplica un guion de varias fases.</li>
+ *   <li>{@code DELETE}: vuelve a la demora uniforme configurada.</li>
+ * </ul>
+ *
+ * Todos los clientes del proveedor comparten el rol {@code user}, así que los endpoints
+ * quedan deshabilitados salvo con {@code provider.admin.enabled=true} (activo en el perfil
+ * {@code dev}); mientras lo estén responden 404.
+ */
+@Path("/admin/upstream-profile")
+@ApplicationScoped
+@RolesAllowed("user")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public class UpstreamProfileResource {
+
+    @Inject
+    UpstreamSimulator upstream;
+
+    @ConfigProperty(name = "provider.admin.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @GET
+    public UpstreamScript current() {
+        requireEnabled();
+        return upstream.current();
+    }
+
+    @PUT
+    public Response applyProfile(UpstreamProfile profile) {
+        requireEnabled();
+        if (profile == null) {
+            return badRequest("El perfil es requerido");
+        }
+        return applyScript(UpstreamScript.of(profile, null));
+    }
+
+    @PUT
+    @Path("/script")
+    public Response applyScript(UpstreamScript script) {
+        requireEnabled();
+        if (script == null) {
+            return badRequest("El guion es requerido");
+        }
+        try {
+            upstream.apply(script);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e.getMessage());
+        }
+        return Response.ok(upstream.current()).build();
+    }
+
+    @DELETE
+    public UpstreamScript reset() {
+        requireEnabled();
+        upstream.reset();
+        return upstream.current();
+    }
+
+    private void requireEnabled() {
+        if (!enabled) {
+            throw new NotFoundException();
+        }
+    }
+
+    private static Response badRequest(String message) {
+        return Response.status(Response.Status.BAD_REQUEST)
+                .entity(Map.of("error", message))
+                .build();
+    }
+}
@@ -0,0 +1,193 @@
+package com.exchangerate.services;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.exchangerate.models.CurrencyPair;
+import com.exchangerate.models.enums.MarketModel;
+import com.exchangerate.models.enums.SupportedCurrency;
+import com.exchangerate.utils.CounterRandom;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Mercado simulado: un paseo aleatorio por moneda sobre el logaritmo de su precio en USD.
+ *
+ * Cada moneda parte de la media geométrica de {@code exchange.rates.usd.<moneda>.min/max}
+ * y avanza un paso por cada {@code exchange.market.tick-ms}. Con {@link MarketModel#MEAN_REVERTING}
+ * vuelve al centro con la vida media {@code exchange.market.half-life-seconds} y su dispersión
+ * estacionaria cubre el rango con dos desviaciones a cada lado; con {@link MarketModel#GBM} cada
+ * paso varía lo mismo, pero sin volver al centro, y el paseo se reinicia en el centro cada día UTC.
+ *
+ * Todas las tasas salen de los mismos precios, así que las inversas y cruzadas son consistentes:
+ * EUR→MXN = USD→MXN / USD→EUR y A→B = 1 / B→A.
+ *
+ * Los pasos se cuentan desde la época Unix ({@code currentTimeMillis / tick-ms}) y el paso k de
+ * cada moneda usa sorteos que dependen solo de la semilla, la moneda y k. Así la misma semilla y
+ * los mismos rangos dan la misma tasa media en todos los procesos, aunque arranquen en momentos
+ * distintos: con MEAN_REVERTING el estado se calcula desde {@value #BURN_IN_HALF_LIVES} vidas
+ * medias antes (el punto de partida pesa menos de una millonésima) y con GBM desde el inicio del
+ * día. La lectura no toma bloqueos; los hilos que encuentran el estado atrasado calculan el mismo
+ * avance y queda publicado el más reciente.
+ */
+@ApplicationScoped
+public class MarketSimulator {
+
+    private static final Logger LOG = Logger.getLogger(MarketSimulator.class);
+
+    private static final SupportedCurrency[] CURRENCIES = SupportedCurrency.values();
+    private static final SupportedCurrency NUMERAIRE = SupportedCurrency.USD;
+
+    private static final int DRAW_RADIUS = 0;
+    private static final int DRAW_ANGLE = 1;
+
+    /** Vidas medias de historia que se recalculan al arrancar o tras estar inactivo (2^-20 de memoria). */
+    private static final int BURN_IN_HALF_LIVES = 20;
+    private static final long DAY_MS = TimeUnit.DAYS.toMillis(1);
+
+    @ConfigProperty(name = "exchange.market.seed", defaultValue = "42")
+    long seed;
+
+    @ConfigProperty(name = "exchange.market.model", defaultValue = "MEAN_REVERTING")
+    MarketModel model;
+
+    @ConfigProperty(name = "exchange.market.tick-ms", defaultValue = "1000")
+    long tickMs;
+
+    @ConfigProperty(name = "exchange.market.half-life-seconds", defaultValue = "300")
+    double halfLifeSeconds;
+
+    @Inject
+    Config config;
+
+    /** Logaritmo del precio central por ordinal de moneda. */
+    private final double[] centers = new double[CURRENCIES.length];
+    /** Desviación del ruido de cada paso por ordinal de moneda. */
+    private final double[] noise = new double[CURRENCIES.length];
+    /** Deriva de cada paso en GBM, para que el precio esperado no cambie. */
+    private final double[] drifts = new double[CURRENCIES.length];
+    /** Fracción de la distancia al centro que queda tras un paso (MEAN_REVERTING). */
+    private double retention;
+    /** Pasos de historia que determinan el estado actual. */
+    private long memoryTicks;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * Logaritmos de los precios en USD tras el paso {@code tick}, indexados por ordinal de moneda.
+     */
+    private record Snapshot(long tick, double[] logPrices) {}
+
+    @PostConstruct
+    void init() {
+        if (tickMs <= 0 || halfLifeSeconds <= 0) {
+            throw new IllegalArgumentException(
+                "exchange.market.tick-ms y exchange.market.half-life-seconds deben ser mayores que 0");
+        }
+        // Tasa de reversión por paso: theta * dt, con theta = ln 2 / vida media
+        double reversionPerTick = Math.log(2) * tickMs / 1000.0 / halfLifeSeconds;
+        retention = Math.exp(-reversionPerTick);
+
+        for (SupportedCurrency currency : CURRENCIES) {
+            if (currency == NUMERAIRE) {
+                continue;
+            }
+            String prefix = "exchange.rates." + lower(NUMERAIRE) + "." + lower(currency);
+            double min = config.getValue(prefix + ".min", BigDecimal.class).doubleValue();
+            double max = config.getValue(prefix + ".max", BigDecimal.class).doubleValue();
+            if (min <= 0 || max < min) {
+                throw new IllegalArgumentException(prefix + " requiere 0 < min <= max");
+            }
+            int i = currency.ordinal();
+            double deviation = Math.log(max / min) / 4.0;
+            centers[i] = 0.5 * Math.log(min * max);
+            noise[i] = model == MarketModel.MEAN_REVERTING
+                ? deviation * Math.sqrt(1.0 - retention * retention)
+                : deviation * Math.sqrt(2.0 * reversionPerTick);
+            drifts[i] = -0.5 * noise[i] * noise[i];
+        }
+
+        memoryTicks = model == MarketModel.MEAN_REVERTING
+            ? (long) Math.ceil(BURN_IN_HALF_LIVES * halfLifeSeconds * 1000.0 / tickMs)
+            : Math.max(1L, DAY_MS / tickMs);
+        snapshot.set(advance(null, currentTick()));
+        LOG.infof("Mercado simulado: modelo=%s, paso=%dms, vida media=%ss, semilla=%d",
+            model, tickMs, halfLifeSeconds, seed);
+    }
+
+    /**
+     * Tasa media del par en el paso actual: unidades de destino por unidad de origen.
+     *
+     * @param pair par de monedas
+     * @return tasa sin margen
+     */
+    public double midRate(CurrencyPair pair) {
+        double[] logPrices = current().logPrices();
+        return Math.exp(logPrices[pair.target().ordinal()] - logPrices[pair.source().ordinal()]);
+    }
+
+    private Snapshot current() {
+        long tick = currentTick();
+        Snapshot latest = snapshot.get();
+        if (latest.tick() >= tick) {
+            return latest;
+        }
+        return snapshot.accumulateAndGet(advance(latest, tick),
+            (published, candidate) -> published.tick() >= candidate.tick() ? published : candidate);
+    }
+
+    /**
+     * Paso actual del mercado, contado desde la época Unix.
+     *
+     * @return número de paso
+     */
+    public long currentTick() {
+        return System.currentTimeMillis() / tickMs;
+    }
+
+    /**
+     * Primer paso de la historia que determina el paso {@code tick}: en ese paso los precios
+     * están en el centro.
+     */
+    private long anchor(long tick) {
+        return model == MarketModel.MEAN_REVERTING
+            ? tick - memoryTicks
+            : tick - Math.floorMod(tick, memoryTicks);
+    }
+
+    /**
+     * Avanza paso a paso hasta {@code toTick}; saltar pasos cambiaría la serie. Si el estado
+     * previo es anterior al ancla de {@code toTick} (o no hay), parte del centro en el ancla.
+     */
+    private Snapshot advance(Snapshot from, long toTick) {
+        long anchor = anchor(toTick);
+        boolean restart = from == null || from.tick() < anchor;
+        long fromTick = restart ? anchor : from.tick();
+        double[] logPrices = restart ? centers.clone() : from.logPrices().clone();
+        for (long k = fromTick + 1; k <= toTick; k++) {
+            for (SupportedCurrency currency : CURRENCIES) {
+                if (currency == NUMERAIRE) {
+                    continue;
+                }
+                int i = currency.ordinal();
+                double z = CounterRandom.gaussian(seed, k * CURRENCIES.length + i, DRAW_RADIUS, DRAW_ANGLE);
+                logPrices[i] = model == MarketModel.MEAN_REVERTING
+                    ? centers[i] + (logPrices[i] - centers[i]) * retention + noise[i] * z
+                    : logPrices[i] + drifts[i] + noise[i] * z;
+            }
+        }
+        return new Snapshot(toTick, logPrices);
+    }
+
+    private static String lower(SupportedCurrency currency) {
+        return currency.name().toLowerCase(Locale.ROOT);
+    }
+}
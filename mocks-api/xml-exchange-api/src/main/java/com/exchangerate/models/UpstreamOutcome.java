@@ -0,0 +1,24 @@
+package com.exchangerate.models;
+
+import java.time.Duration;
+
+/**
+ * Resultado sorteado para una solicitud: cuánto esperar y cómo responder.
+ *
+ * @param delay demora antes de responder
+ * @param status 200, 429, 500 o 503
+ * @param retryAfterSeconds valor de {@code Retry-After} para 429
+ * @param trickleChunkBytes bytes por parte si el cuerpo se envía por partes, 0 si se envía completo
+ * @param trickleIntervalMs pausa entre partes del cuerpo
+ */
+public record UpstreamOutcome(Duration delay, int status, int retryAfterSeconds,
+                              int trickleChunkBytes, long trickleIntervalMs) {
+
+    public boolean successful() {
+        return status == 200;
+    }
+
+    public boolean trickle() {
+        return trickleChunkBytes > 0;
+    }
+}
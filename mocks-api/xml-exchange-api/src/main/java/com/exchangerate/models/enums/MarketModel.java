@@ -0,0 +1,11 @@
+package com.exchangerate.models.enums;
+
+/**
+ * Modelo del paseo aleatorio de cada moneda en {@link com.exchangerate.services.MarketSimulator}.
+ */
+public enum MarketModel {
+    /** Ornstein-Uhlenbeck sobre el logaritmo del precio: vuelve al centro del rango configurado. */
+    MEAN_REVERTING,
+    /** Movimiento browniano geométrico: sin retorno, el precio se aleja libremente. */
+    GBM
+}
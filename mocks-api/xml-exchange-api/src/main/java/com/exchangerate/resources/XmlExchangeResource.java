@@ -2,28 +2,34 @@ package com.exchangerate.resources;
 
 import java.math.BigDecimal;
 
-import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
+import com.exchangerate.models.UpstreamOutcome;
 import com.exchangerate.models.XmlExchangeRequest;
 import com.exchangerate.models.XmlExchangeResponse;
 import com.exchangerate.models.enums.SupportedCurrency;
 import com.exchangerate.services.RandomRateGenerator;
+import com.exchangerate.services.UpstreamSimulator;
 import com.exchangerate.utils.CurrencyUtils;
 
+import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Providers;
 import jakarta.annotation.security.RolesAllowed;
 
 /**
  * Recurso REST para XML Exchange API.
  * Servicios bancarios tradicionales con formato XML.
+ * La demora y los fallos los decide {@link UpstreamSimulator}; la espera usa un temporizador
+ * de Mutiny, así que las solicitudes en espera no ocupan hilos.
  */
 @Path("/convert")
 @ApplicationScoped
@@ -35,22 +41,20 @@ public class XmlExchangeResource {
     @Inject
     RandomRateGenerator rateGenerator;
     
-    @ConfigProperty(name = "provider.response.delay.min", defaultValue = "100")
-    int delayMin;
-    
-    @ConfigProperty(name = "provider.response.delay.max", defaultValue = "250")
-    int delayMax;
+    @Inject
+    UpstreamSimulator upstream;
     
     /**
      * Endpoint para convertir monedas usando formato XML.
      * 
      * @param request solicitud XML con datos de conversión
-     * @return respuesta con el resultado de la conversión
+     * @param providers escritores de entidades, para los cuerpos enviados por partes
+     * @return respuesta con el resultado de la conversión, emitida al terminar la demora simulada
      */
     @POST
     @Consumes({"application/xml", "text/xml"})
     @Produces({"application/xml", "text/xml"})
-    public Response convertCurrency(XmlExchangeRequest request) {
+    public Uni<Response> convertCurrency(XmlExchangeRequest request, @Context Providers providers) {
         long startTime = System.currentTimeMillis();
         
         try {
@@ -60,54 +64,56 @@ public class XmlExchangeResource {
             // Validaciones
             if (request.getFrom() == null || request.getTo() == null || request.getAmount() == null) {
                 LOG.warn("Datos de solicitud incompletos");
-                return Response.status(Response.Status.BAD_REQUEST)
-                        .entity(new XmlExchangeResponse(null))
-                        .build();
+                return Uni.createFrom().item(badRequest());
             }
             
             if (!SupportedCurrency.isSupported(request.getFrom()) || 
                 !SupportedCurrency.isSupported(request.getTo())) {
                 
                 LOG.warnf("Monedas no soportadas: %s -> %s", request.getFrom(), request.getTo());
-                return Response.status(Response.Status.BAD_REQUEST)
-                        .entity(new XmlExchangeResponse(null))
-                        .build();
+                return Uni.createFrom().item(badRequest());
             }
             
             if (request.getFrom().equalsIgnoreCase(request.getTo())) {
-                return Response.status(Response.Status.BAD_REQUEST)
-                        .entity(new XmlExchangeResponse(null))
-                        .build();
+                return Uni.createFrom().item(badRequest());
             }
             
-            // Simular procesamiento bancario (más lento)
-            simulateProcessingDelay();
-            
-            // Generar tasa y calcular resultado
-            BigDecimal rate = rateGenerator.generateRate(request.getFrom(), request.getTo());
-            BigDecimal result = CurrencyUtils.calculateConvertedAmount(request.getAmount(), rate);
-            
-            long processingTime = System.currentTimeMillis() - startTime;
-            LOG.infof("XML API - Resultado: %s, tiempo: %dms", result, processingTime);
-            
-            XmlExchangeResponse response = new XmlExchangeResponse(result);
-            return Response.ok(response).build();
+            // Simular procesamiento bancario (más lento) y fallos según el perfil vigente
+            UpstreamOutcome outcome = upstream.next();
+            return upstream.await(outcome)
+                    .map(ignored -> {
+                        if (!outcome.successful()) {
+                            LOG.infof("XML API - Fallo simulado: %d", outcome.status());
+                            return upstream.failure(outcome, new XmlExchangeResponse(null));
+                        }
+                        
+                        // Generar tasa y calcular resultado
+                        BigDecimal rate = rateGenerator.generateRate(request.getFrom(), request.getTo());
+                        BigDecimal result = CurrencyUtils.calculateConvertedAmount(request.getAmount(), rate);
+                        
+                        long processingTime = System.currentTimeMillis() - startTime;
+                        LOG.infof("XML API - Resultado: %s, tiempo: %dms", result, processingTime);
+                        
+                        XmlExchangeResponse response = new XmlExchangeResponse(result);
+                        return upstream.success(outcome, response, MediaType.APPLICATION_XML_TYPE, providers);
+                    })
+                    .onFailure().recoverWithItem(XmlExchangeResource::serverError);
                     
         } catch (Exception e) {
-            LOG.errorf("Error procesando solicitud XML: %s", e.getMessage());
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                    .entity(new XmlExchangeResponse(null))
-                    .build();
+            return Uni.createFrom().item(serverError(e));
         }
     }
     
-    private void simulateProcessingDelay() {
-        try {
-            int delay = delayMin + (int)(Math.random() * (delayMax - delayMin));
-            Thread.sleep(delay);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            LOG.warn("Delay simulado interrumpido");
-        }
+    private static Response badRequest() {
+        return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new XmlExchangeResponse(null))
+                .build();
+    }
+    
+    private static Response serverError(Throwable e) {
+        LOG.errorf("Error procesando solicitud XML: %s", e.getMessage());
+        return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                .entity(new XmlExchangeResponse(null))
+                .build();
     }
 }
\ No newline at end of file
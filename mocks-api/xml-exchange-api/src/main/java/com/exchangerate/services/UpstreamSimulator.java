@@ -0,0 +1,237 @@
+package com.exchangerate.services;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.exchangerate.models.UpstreamOutcome;
+import com.exchangerate.models.UpstreamProfile;
+import com.exchangerate.models.UpstreamScript;
+import com.exchangerate.utils.CounterRandom;
+import com.exchangerate.utils.TrickleOutput;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Providers;
+
+/**
+ * Simula la latencia y los fallos del proveedor según un {@link UpstreamScript}
+ * intercambiable en tiempo de ejecución.
+ *
+ * Los sorteos de cada solicitud salen de un contador: la solicitud número n desde que se
+ * aplicó el guion obtiene siempre los mismos valores para la misma semilla, sin estado
+ * compartido entre hilos más allá del contador. Las pausas, las ráfagas y las fases del
+ * guion se miden desde el instante en que se aplicó.
+ *
+ * Sin guion explícito se usa una demora uniforme entre {@code provider.response.delay.min}
+ * y {@code provider.response.delay.max}, o el guion JSON de {@code provider.profile.file}.
+ */
+@ApplicationScoped
+public class UpstreamSimulator {
+
+    private static final Logger LOG = Logger.getLogger(UpstreamSimulator.class);
+
+    private static final int DRAW_LATENCY = 0;
+    private static final int DRAW_GAUSSIAN = 1;
+    private static final int DRAW_MODE = 2;
+    private static final int DRAW_STATUS = 3;
+    private static final int DRAW_TRICKLE = 4;
+
+    @ConfigProperty(name = "provider.response.delay.min", defaultValue = "100")
+    int delayMin;
+
+    @ConfigProperty(name = "provider.response.delay.max", defaultValue = "250")
+    int delayMax;
+
+    @ConfigProperty(name = "provider.profile.seed", defaultValue = "42")
+    long defaultSeed;
+
+    @ConfigProperty(name = "provider.profile.file")
+    Optional<String> scriptFile;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private final AtomicReference<State> state = new AtomicReference<>();
+
+    /**
+     * Guion aplicado, con su semilla, su origen de tiempo y el contador de solicitudes.
+     */
+    private static final class State {
+        final UpstreamScript script;
+        final long seed;
+        final long originNanos = System.nanoTime();
+        final long cycleMs;
+        final AtomicLong sequence = new AtomicLong();
+
+        State(UpstreamScript script, long seed) {
+            this.script = script;
+            this.seed = seed;
+            this.cycleMs = script.cycleMs();
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        apply(scriptFile.map(this::readScript).orElseGet(this::defaultScript));
+    }
+
+    /**
+     * Guion por defecto: demora uniforme configurada y sin fallos.
+     */
+    public UpstreamScript defaultScript() {
+        return UpstreamScript.of(UpstreamProfile.uniform(delayMin, delayMax), null);
+    }
+
+    public UpstreamScript current() {
+        return state.get().script;
+    }
+
+    /**
+     * Aplica un guion desde este instante y reinicia el contador de sorteos.
+     *
+     * @throws IllegalArgumentException si el guion no es válido
+     */
+    public void apply(UpstreamScript script) {
+        script.validate();
+        long seed = script.seed() != null ? script.seed() : defaultSeed;
+        state.set(new State(script, seed));
+        LOG.infof("Perfil del proveedor aplicado: %d fase(s), repetición=%s, semilla=%d",
+            script.phases().size(), script.loop(), seed);
+    }
+
+    public void reset() {
+        apply(defaultScript());
+    }
+
+    /**
+     * Sortea el resultado de la siguiente solicitud.
+     */
+    public UpstreamOutcome next() {
+        State current = state.get();
+        long n = current.sequence.getAndIncrement();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - current.originNanos);
+
+        // Fase activa y tiempo transcurrido dentro de ella; sin repetición, la última se prolonga
+        List<UpstreamProfile> phases = current.script.phases();
+        long phaseMs = current.script.loop() ? elapsedMs % current.cycleMs : elapsedMs;
+        int index = 0;
+        while (index < phases.size() - 1 && phaseMs >= phases.get(index).durationMs()) {
+            phaseMs -= phases.get(index).durationMs();
+            index++;
+        }
+        UpstreamProfile profile = phases.get(index);
+
+        double delayMs = sampleLatency(profile, current.seed, n);
+        if (profile.stallEveryMs() > 0) {
+            long offset = phaseMs % profile.stallEveryMs();
+            if (offset < profile.stallMs()) {
+                delayMs += profile.stallMs() - offset;
+            }
+        }
+        Duration delay = Duration.ofNanos(Math.max(0L, Math.round(delayMs * 1_000_000.0)));
+
+        if (profile.burstEveryMs() > 0 && phaseMs % profile.burstEveryMs() < profile.burstMs()) {
+            return new UpstreamOutcome(delay, 503, 0, 0, 0);
+        }
+        double status = CounterRandom.uniform(current.seed, n, DRAW_STATUS);
+        if (status < profile.errorRate()) {
+            return new UpstreamOutcome(delay, 500, 0, 0, 0);
+        }
+        if (status < profile.errorRate() + profile.throttleRate()) {
+            return new UpstreamOutcome(delay, 429, profile.retryAfterSeconds(), 0, 0);
+        }
+        if (CounterRandom.uniform(current.seed, n, DRAW_TRICKLE) < profile.trickleRate()) {
+            return new UpstreamOutcome(delay, 200, 0, profile.trickleChunkBytes(), profile.trickleIntervalMs());
+        }
+        return new UpstreamOutcome(delay, 200, 0, 0, 0);
+    }
+
+    /**
+     * Espera la demora sorteada sin ocupar hilos. Si el cuerpo se enviará por partes, la
+     * respuesta se emite en el pool de trabajadores, porque sus pausas bloquean el hilo.
+     */
+    public Uni<Void> await(UpstreamOutcome outcome) {
+        Uni<Void> delayed = Uni.createFrom().voidItem().onItem().delayIt().by(outcome.delay());
+        return outcome.trickle() ? delayed.emitOn(Infrastructure.getDefaultWorkerPool()) : delayed;
+    }
+
+    /**
+     * Respuesta exitosa, con el cuerpo completo o por partes según el resultado.
+     */
+    public Response success(UpstreamOutcome outcome, Object entity, MediaType mediaType, Providers providers) {
+        if (!outcome.trickle()) {
+            return Response.ok(entity, mediaType).build();
+        }
+        return Response.ok(new TrickleOutput(entity, mediaType, providers,
+            outcome.trickleChunkBytes(), outcome.trickleIntervalMs()), mediaType).build();
+    }
+
+    /**
+     * Respuesta de error simulado con el cuerpo en el formato del proveedor.
+     */
+    public Response failure(UpstreamOutcome outcome, Object entity) {
+        Response.ResponseBuilder builder = Response.status(outcome.status()).entity(entity);
+        if (outcome.status() == 429) {
+            builder.header(HttpHeaders.RETRY_AFTER, outcome.retryAfterSeconds());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Mensaje del error simulado.
+     */
+    public static String reason(UpstreamOutcome outcome) {
+        return switch (outcome.status()) {
+            case 429 -> "Demasiadas solicitudes";
+            case 503 -> "Servicio no disponible";
+            default -> "Error interno del proveedor";
+        };
+    }
+
+    private static double sampleLatency(UpstreamProfile profile, long seed, long n) {
+        return switch (profile.latency()) {
+            case UNIFORM -> profile.minMs()
+                + CounterRandom.uniform(seed, n, DRAW_LATENCY) * (profile.maxMs() - profile.minMs());
+            case LOG_NORMAL -> profile.medianMs() * Math.exp(profile.sigma() * gaussian(seed, n));
+            case BIMODAL -> {
+                double median = CounterRandom.uniform(seed, n, DRAW_MODE) < profile.slowFraction()
+                    ? profile.slowMedianMs()
+                    : profile.medianMs();
+                yield median * Math.exp(profile.sigma() * gaussian(seed, n));
+            }
+        };
+    }
+
+    /**
+     * Normal estándar de la solicitud n.
+     */
+    private static double gaussian(long seed, long n) {
+        return CounterRandom.gaussian(seed, n, DRAW_GAUSSIAN, DRAW_LATENCY);
+    }
+
+    private UpstreamScript readScript(String file) {
+        try {
+            return objectMapper.readValue(Files.readAllBytes(Path.of(file)), UpstreamScript.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el guion del proveedor: " + file, e);
+        }
+    }
+}
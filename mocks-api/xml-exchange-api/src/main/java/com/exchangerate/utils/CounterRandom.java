@@ -0,0 +1,41 @@
+package com.exchangerate.utils;
+
+/**
+ * Sorteos pseudoaleatorios sin estado: cada valor depende solo de la semilla, un contador y
+ * un número de sorteo (mezcla de SplitMix64). Varios hilos pueden sortear a la vez sin
+ * compartir un generador, y la misma semilla reproduce siempre la misma secuencia.
+ */
+public final class CounterRandom {
+
+    private CounterRandom() {
+    }
+
+    /**
+     * Sorteo uniforme en [0, 1).
+     *
+     * @param seed semilla
+     * @param n contador (número de solicitud, de paso, etc.)
+     * @param draw número de sorteo dentro del mismo contador
+     */
+    public static double uniform(long seed, long n, int draw) {
+        long z = seed + n * 0x9E3779B97F4A7C15L + (draw + 1) * 0xD1B54A32D192ED03L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (z >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Normal estándar por Box-Muller a partir de dos sorteos uniformes.
+     *
+     * @param seed semilla
+     * @param n contador
+     * @param radiusDraw sorteo para el radio
+     * @param angleDraw sorteo para el ángulo
+     */
+    public static double gaussian(long seed, long n, int radiusDraw, int angleDraw) {
+        double u1 = 1.0 - uniform(seed, n, radiusDraw);
+        double u2 = uniform(seed, n, angleDraw);
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+}
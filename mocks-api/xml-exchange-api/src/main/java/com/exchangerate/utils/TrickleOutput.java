@@ -0,0 +1,64 @@
+package com.exchangerate.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Providers;
+
+/**
+ * Cuerpo de respuesta enviado por partes con pausas entre ellas, para simular un proveedor
+ * que entrega los encabezados a tiempo y el cuerpo lentamente.
+ *
+ * La entidad se serializa con el mismo escritor que usaría el recurso. Las pausas bloquean
+ * el hilo que escribe: solo debe usarse fuera del event loop.
+ */
+public final class TrickleOutput implements StreamingOutput {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    private final Object entity;
+    private final MediaType mediaType;
+    private final Providers providers;
+    private final int chunkBytes;
+    private final long intervalMs;
+
+    public TrickleOutput(Object entity, MediaType mediaType, Providers providers, int chunkBytes, long intervalMs) {
+        this.entity = entity;
+        this.mediaType = mediaType;
+        this.providers = providers;
+        this.chunkBytes = chunkBytes;
+        this.intervalMs = intervalMs;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        byte[] body = serialize();
+        for (int offset = 0; offset < body.length; offset += chunkBytes) {
+            if (offset > 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(intervalMs));
+            }
+            output.write(body, offset, Math.min(chunkBytes, body.length - offset));
+            output.flush();
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private byte[] serialize() throws IOException {
+        Class type = entity.getClass();
+        MessageBodyWriter writer = providers.getMessageBodyWriter(type, type, NO_ANNOTATIONS, mediaType);
+        if (writer == null) {
+            throw new IOException("Sin escritor para " + type.getName() + " como " + mediaType);
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        writer.writeTo(entity, type, type, NO_ANNOTATIONS, mediaType, new MultivaluedHashMap<>(), buffer);
+        return buffer.toByteArray();
+    }
+}